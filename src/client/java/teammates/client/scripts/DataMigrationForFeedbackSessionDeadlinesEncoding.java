@@ -0,0 +1,45 @@
+package teammates.client.scripts;
+
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.util.Config;
+import teammates.storage.entity.FeedbackSession;
+
+/**
+ * Script to encode the deadline extensions of feedback sessions which are only stored
+ * in the legacy Java serialization format.
+ *
+ * <p>Once {@link Config#WRITE_LEGACY_DEADLINES} is turned off, it also removes the legacy format.
+ */
+public class DataMigrationForFeedbackSessionDeadlinesEncoding
+        extends DataMigrationEntitiesBaseScript<FeedbackSession> {
+
+    public static void main(String[] args) {
+        new DataMigrationForFeedbackSessionDeadlinesEncoding().doOperationRemotely();
+    }
+
+    @Override
+    protected Query<FeedbackSession> getFilterQuery() {
+        return ofy().load().type(FeedbackSession.class);
+    }
+
+    @Override
+    protected boolean isPreview() {
+        return true;
+    }
+
+    @Override
+    protected boolean isMigrationNeeded(FeedbackSession session) {
+        return session.hasUnencodedDeadlines() || !Config.WRITE_LEGACY_DEADLINES && session.hasLegacyDeadlines();
+    }
+
+    @Override
+    protected void migrateEntity(FeedbackSession session) {
+        // the setters store the deadlines in the encoded format, and in the legacy format only if it is still written
+        session.setStudentDeadlines(session.getStudentDeadlines());
+        session.setInstructorDeadlines(session.getInstructorDeadlines());
+
+        saveEntityDeferred(session);
+    }
+
+}
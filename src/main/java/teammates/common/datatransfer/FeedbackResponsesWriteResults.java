@@ -0,0 +1,66 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+
+/**
+ * Represents the results of writing a batch of feedback responses.
+ *
+ * <p>A response which cannot be written does not prevent the other responses from being written;
+ * the error is reported for that response instead.
+ */
+public class FeedbackResponsesWriteResults {
+    private final List<FeedbackResponseAttributes> writtenResponses = new ArrayList<>();
+    private final Map<String, FeedbackResponseAttributes> previousResponses = new HashMap<>();
+    private final Map<String, Exception> errors = new LinkedHashMap<>();
+
+    /**
+     * Records a response that is created.
+     */
+    public void addCreatedResponse(FeedbackResponseAttributes createdResponse) {
+        writtenResponses.add(createdResponse);
+    }
+
+    /**
+     * Records a response that is updated, together with the response before the update.
+     */
+    public void addUpdatedResponse(FeedbackResponseAttributes previousResponse,
+                                   FeedbackResponseAttributes updatedResponse) {
+        writtenResponses.add(updatedResponse);
+        previousResponses.put(updatedResponse.getId(), previousResponse);
+    }
+
+    /**
+     * Records the error that prevents the response with the given ID from being written.
+     */
+    public void addError(String feedbackResponseId, Exception error) {
+        errors.put(feedbackResponseId, error);
+    }
+
+    /**
+     * Gets the responses that are written, in the order they are recorded.
+     */
+    public List<FeedbackResponseAttributes> getWrittenResponses() {
+        return Collections.unmodifiableList(writtenResponses);
+    }
+
+    /**
+     * Gets the version of a response before it is updated, or {@code null} if the response is newly created.
+     */
+    public FeedbackResponseAttributes getPreviousResponse(String feedbackResponseId) {
+        return previousResponses.get(feedbackResponseId);
+    }
+
+    /**
+     * Gets the errors of the responses that are not written, keyed by the response ID.
+     */
+    public Map<String, Exception> getErrors() {
+        return Collections.unmodifiableMap(errors);
+    }
+}
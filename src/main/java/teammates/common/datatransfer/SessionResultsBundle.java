@@ -1,6 +1,8 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,7 +23,7 @@ public class SessionResultsBundle {
     private final Map<String, FeedbackQuestionAttributes> questionsNotVisibleForPreviewMap;
     private final Set<String> questionsWithCommentNotVisibleForPreview;
     private final Map<String, List<FeedbackResponseAttributes>> questionResponseMap;
-    private final Map<String, List<FeedbackResponseAttributes>> questionMissingResponseMap;
+    private final MissingResponses missingResponses;
     private final Map<String, List<FeedbackResponseCommentAttributes>> responseCommentsMap;
     private final Map<String, Boolean> responseGiverVisibilityTable;
     private final Map<String, Boolean> responseRecipientVisibilityTable;
@@ -32,7 +34,7 @@ public class SessionResultsBundle {
                                 Map<String, FeedbackQuestionAttributes> questionsNotVisibleForPreviewMap,
                                 Set<String> questionsWithCommentNotVisibleForPreview,
                                 List<FeedbackResponseAttributes> responses,
-                                List<FeedbackResponseAttributes> missingResponses,
+                                MissingResponses missingResponses,
                                 Map<String, Boolean> responseGiverVisibilityTable,
                                 Map<String, Boolean> responseRecipientVisibilityTable,
                                 Map<String, List<FeedbackResponseCommentAttributes>> responseCommentsMap,
@@ -48,7 +50,7 @@ public class SessionResultsBundle {
         this.commentGiverVisibilityTable = commentGiverVisibilityTable;
         this.roster = roster;
         this.questionResponseMap = buildQuestionToResponseMap(responses);
-        this.questionMissingResponseMap = buildQuestionToResponseMap(missingResponses);
+        this.missingResponses = missingResponses;
     }
 
     private Map<String, List<FeedbackResponseAttributes>> buildQuestionToResponseMap(
@@ -91,7 +93,7 @@ public class SessionResultsBundle {
         FeedbackParticipantType participantType;
         String responseId = response.getId();
 
-        boolean isVisible;
+        Boolean isVisible;
         if (isGiver) {
             isVisible = responseGiverVisibilityTable.get(responseId);
             participantType = question.getGiverType();
@@ -99,6 +101,10 @@ public class SessionResultsBundle {
             isVisible = responseRecipientVisibilityTable.get(responseId);
             participantType = question.getRecipientType();
         }
+        if (isVisible == null) {
+            // missing responses are generated on demand, hence they are not in the visibility tables
+            isVisible = missingResponses.isNameVisible(response, isGiver);
+        }
         boolean isTypeNone = participantType == FeedbackParticipantType.NONE;
 
         return isVisible || isTypeNone;
@@ -128,8 +134,14 @@ public class SessionResultsBundle {
         return questionResponseMap;
     }
 
-    public Map<String, List<FeedbackResponseAttributes>> getQuestionMissingResponseMap() {
-        return questionMissingResponseMap;
+    /**
+     * Gets the missing responses of a question.
+     *
+     * <p>The missing responses are not kept in the bundle; they are generated afresh on every iteration.
+     */
+    public Iterable<FeedbackResponseAttributes> getMissingResponses(String questionId) {
+        FeedbackQuestionAttributes question = questionsMap.get(questionId);
+        return () -> missingResponses.iterator(question);
     }
 
     private static String getEncryptedName(String name) {
@@ -171,4 +183,39 @@ public class SessionResultsBundle {
     public Map<Long, Boolean> getCommentGiverVisibilityTable() {
         return commentGiverVisibilityTable;
     }
+
+    /**
+     * Generates the missing responses of the questions, i.e. dummy responses for the giver-recipient pairs
+     * which could have been answered but are not, together with the visibility of their giver and recipient.
+     */
+    public interface MissingResponses {
+
+        /**
+         * Returns missing responses which are never generated.
+         */
+        static MissingResponses none() {
+            return new MissingResponses() {
+                @Override
+                public Iterator<FeedbackResponseAttributes> iterator(FeedbackQuestionAttributes question) {
+                    return Collections.emptyIterator();
+                }
+
+                @Override
+                public boolean isNameVisible(FeedbackResponseAttributes missingResponse, boolean isGiver) {
+                    throw new IllegalArgumentException("No missing response is generated: " + missingResponse.getId());
+                }
+            };
+        }
+
+        /**
+         * Generates the viewable missing responses of the question one at a time.
+         */
+        Iterator<FeedbackResponseAttributes> iterator(FeedbackQuestionAttributes question);
+
+        /**
+         * Checks whether the giver or recipient of a generated missing response is visible to the current user.
+         */
+        boolean isNameVisible(FeedbackResponseAttributes missingResponse, boolean isGiver);
+
+    }
 }
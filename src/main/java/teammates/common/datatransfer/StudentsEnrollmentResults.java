@@ -0,0 +1,123 @@
+package teammates.common.datatransfer;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+
+/**
+ * Represents the results of enrolling a list of students into a course, one row per student to enroll.
+ */
+public class StudentsEnrollmentResults {
+    private final List<Row> rows;
+
+    public StudentsEnrollmentResults(List<Row> rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * Gets the results of all students to enroll, in the order of the enrollment list.
+     */
+    public List<Row> getRows() {
+        return Collections.unmodifiableList(rows);
+    }
+
+    /**
+     * Gets the students who are successfully enrolled, in the order of the enrollment list.
+     */
+    public List<StudentAttributes> getEnrolledStudents() {
+        return rows.stream()
+                .filter(row -> row.getStatus() != Status.FAILED)
+                .map(Row::getStudent)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the results of students who fail to be enrolled, in the order of the enrollment list.
+     */
+    public List<Row> getFailedRows() {
+        return rows.stream()
+                .filter(row -> row.getStatus() == Status.FAILED)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * The outcome of enrolling a student.
+     */
+    public enum Status {
+        /**
+         * The student is new to the course and is created.
+         */
+        CREATED,
+
+        /**
+         * The student already exists in the course and is updated.
+         */
+        UPDATED,
+
+        /**
+         * The student already exists in the course with the same details, hence nothing is written.
+         */
+        UNCHANGED,
+
+        /**
+         * The student cannot be enrolled.
+         */
+        FAILED,
+    }
+
+    /**
+     * The result of enrolling a single student.
+     */
+    public static class Row {
+        private final String email;
+        private final Status status;
+        private final StudentAttributes student;
+        private final String errorMessage;
+
+        private Row(String email, Status status, StudentAttributes student, String errorMessage) {
+            this.email = email;
+            this.status = status;
+            this.student = student;
+            this.errorMessage = errorMessage;
+        }
+
+        /**
+         * Creates the result of a student who is successfully enrolled.
+         */
+        public static Row enrolled(StudentAttributes student, Status status) {
+            assert status != Status.FAILED;
+            return new Row(student.getEmail(), status, student, null);
+        }
+
+        /**
+         * Creates the result of a student who fails to be enrolled.
+         */
+        public static Row failed(String email, String errorMessage) {
+            return new Row(email, Status.FAILED, null, errorMessage);
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        /**
+         * Gets the student as saved in the database, or {@code null} if the student fails to be enrolled.
+         */
+        public StudentAttributes getStudent() {
+            return student;
+        }
+
+        /**
+         * Gets the reason why the student fails to be enrolled, or {@code null} if the student is enrolled.
+         */
+        public String getErrorMessage() {
+            return errorMessage;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package teammates.common.datatransfer.attributes;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import teammates.common.util.Const;
+import teammates.common.util.FieldValidator;
+import teammates.common.util.SanitizationHelper;
+import teammates.storage.entity.FeedbackSessionSubmissionSummary;
+
+/**
+ * The data transfer object for {@link FeedbackSessionSubmissionSummary} entities.
+ */
+public final class FeedbackSessionSubmissionSummaryAttributes
+        extends EntityAttributes<FeedbackSessionSubmissionSummary> {
+
+    private String courseId;
+    private String feedbackSessionName;
+    private Set<String> giverSet;
+    private transient Instant updatedAt;
+
+    private FeedbackSessionSubmissionSummaryAttributes(String courseId, String feedbackSessionName) {
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.giverSet = new HashSet<>();
+        this.updatedAt = Const.TIME_REPRESENTS_DEFAULT_TIMESTAMP;
+    }
+
+    /**
+     * Gets the {@link FeedbackSessionSubmissionSummaryAttributes} instance of the given
+     * {@link FeedbackSessionSubmissionSummary}.
+     */
+    public static FeedbackSessionSubmissionSummaryAttributes valueOf(FeedbackSessionSubmissionSummary summary) {
+        FeedbackSessionSubmissionSummaryAttributes summaryAttributes = new FeedbackSessionSubmissionSummaryAttributes(
+                summary.getCourseId(), summary.getFeedbackSessionName());
+
+        summaryAttributes.giverSet = new HashSet<>(summary.getGiverSet());
+        summaryAttributes.updatedAt = summary.getUpdatedAt();
+
+        return summaryAttributes;
+    }
+
+    /**
+     * Returns a builder for {@link FeedbackSessionSubmissionSummaryAttributes}.
+     */
+    public static Builder builder(String courseId, String feedbackSessionName) {
+        return new Builder(courseId, feedbackSessionName);
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public Set<String> getGiverSet() {
+        return giverSet;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        List<String> errors = new ArrayList<>();
+
+        addNonEmptyError(FieldValidator.getInvalidityInfoForCourseId(getCourseId()), errors);
+        addNonEmptyError(FieldValidator.getInvalidityInfoForFeedbackSessionName(getFeedbackSessionName()), errors);
+
+        return errors;
+    }
+
+    @Override
+    public FeedbackSessionSubmissionSummary toEntity() {
+        return new FeedbackSessionSubmissionSummary(getCourseId(), getFeedbackSessionName(), new HashSet<>(giverSet));
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackSessionSubmissionSummaryAttributes ["
+                + "courseId = " + courseId
+                + ", feedbackSessionName = " + feedbackSessionName
+                + ", giverSet = " + giverSet
+                + "]";
+    }
+
+    @Override
+    public int hashCode() {
+        return (this.courseId + this.feedbackSessionName).hashCode();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == null) {
+            return false;
+        } else if (this == other) {
+            return true;
+        } else if (this.getClass() == other.getClass()) {
+            FeedbackSessionSubmissionSummaryAttributes otherSummary = (FeedbackSessionSubmissionSummaryAttributes) other;
+            return Objects.equals(this.courseId, otherSummary.courseId)
+                    && Objects.equals(this.feedbackSessionName, otherSummary.feedbackSessionName)
+                    && Objects.equals(this.giverSet, otherSummary.giverSet);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        this.courseId = SanitizationHelper.sanitizeTitle(courseId);
+        this.feedbackSessionName = SanitizationHelper.sanitizeTitle(feedbackSessionName);
+    }
+
+    /**
+     * A builder for {@link FeedbackSessionSubmissionSummaryAttributes}.
+     */
+    public static class Builder {
+
+        private final FeedbackSessionSubmissionSummaryAttributes summaryAttributes;
+
+        private Builder(String courseId, String feedbackSessionName) {
+            assert courseId != null;
+            assert feedbackSessionName != null;
+
+            summaryAttributes = new FeedbackSessionSubmissionSummaryAttributes(courseId, feedbackSessionName);
+        }
+
+        public Builder withGiverSet(Set<String> giverSet) {
+            assert giverSet != null;
+
+            summaryAttributes.giverSet = new HashSet<>(giverSet);
+            return this;
+        }
+
+        public FeedbackSessionSubmissionSummaryAttributes build() {
+            return summaryAttributes;
+        }
+
+    }
+
+}
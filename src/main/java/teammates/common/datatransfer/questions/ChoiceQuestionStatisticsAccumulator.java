@@ -0,0 +1,176 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the statistics of the responses to a question where options are chosen, i.e. MCQ and MSQ questions.
+ *
+ * @param <D> the type of the response details of the question
+ */
+abstract class ChoiceQuestionStatisticsAccumulator<D extends FeedbackResponseDetails>
+        extends QuestionStatisticsAccumulator<D> {
+
+    static final String OTHER_OPTION = "Other";
+
+    private final Map<String, Integer> answerFrequency = new LinkedHashMap<>();
+    private final Map<String, Double> weightPerOption = new LinkedHashMap<>();
+    private final boolean hasAssignedWeights;
+    private final Map<String, Map<String, Integer>> perRecipientAnswerFrequency = new LinkedHashMap<>();
+    private final boolean isPercentageOfAnswers;
+    private int numberOfAnswers;
+
+    /**
+     * Creates the accumulator.
+     *
+     * @param isPercentageOfAnswers true if the percentage of an option is out of all the options chosen,
+     *                              false if it is out of all the responses
+     */
+    ChoiceQuestionStatisticsAccumulator(List<String> choices, boolean isOtherEnabled, boolean hasAssignedWeights,
+            List<Double> weights, double otherWeight, boolean isPercentageOfAnswers) {
+        this.hasAssignedWeights = hasAssignedWeights;
+        this.isPercentageOfAnswers = isPercentageOfAnswers;
+        for (String choice : choices) {
+            answerFrequency.put(choice, 0);
+        }
+        if (isOtherEnabled) {
+            answerFrequency.put(OTHER_OPTION, 0);
+        }
+        if (hasAssignedWeights) {
+            for (int i = 0; i < choices.size() && i < weights.size(); i++) {
+                weightPerOption.put(choices.get(i), weights.get(i));
+            }
+            if (isOtherEnabled) {
+                weightPerOption.put(OTHER_OPTION, otherWeight);
+            }
+        }
+    }
+
+    /**
+     * Counts an option chosen for the recipient.
+     */
+    void countAnswer(String recipient, String option) {
+        numberOfAnswers++;
+        answerFrequency.merge(option, 1, Integer::sum);
+        if (hasAssignedWeights) {
+            getRecipientAnswerFrequency(recipient).merge(option, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Makes sure the recipient is in the per recipient statistics even if no option is chosen for it.
+     */
+    void countRecipient(String recipient) {
+        if (hasAssignedWeights) {
+            getRecipientAnswerFrequency(recipient);
+        }
+    }
+
+    private Map<String, Integer> getRecipientAnswerFrequency(String recipient) {
+        return perRecipientAnswerFrequency.computeIfAbsent(recipient, key -> {
+            Map<String, Integer> frequency = new LinkedHashMap<>();
+            weightPerOption.keySet().forEach(option -> frequency.put(option, 0));
+            return frequency;
+        });
+    }
+
+    @Override
+    protected ChoiceQuestionStatistics getStatistics() {
+        ChoiceQuestionStatistics statistics = new ChoiceQuestionStatistics(new LinkedHashMap<>(answerFrequency));
+        int percentageBase = isPercentageOfAnswers ? numberOfAnswers : getNumberOfResponses();
+        answerFrequency.forEach((option, frequency) -> statistics.percentagePerOption.put(option,
+                percentageBase == 0 ? 0 : round(100.0 * frequency / percentageBase)));
+
+        if (!hasAssignedWeights) {
+            return statistics;
+        }
+
+        statistics.weightPerOption.putAll(weightPerOption);
+        double totalWeightedResponseCount = getWeightedTotal(answerFrequency);
+        weightPerOption.forEach((option, weight) -> statistics.weightedPercentagePerOption.put(option,
+                totalWeightedResponseCount == 0 ? 0
+                        : round(100 * answerFrequency.getOrDefault(option, 0) * weight / totalWeightedResponseCount)));
+
+        perRecipientAnswerFrequency.forEach((recipient, frequency) -> {
+            int numberOfRecipientAnswers = frequency.values().stream().mapToInt(Integer::intValue).sum();
+            double total = getWeightedTotal(frequency);
+            statistics.perRecipientResponses.put(recipient, new PerRecipientStatistics(
+                    total, numberOfRecipientAnswers == 0 ? 0 : round(total / numberOfRecipientAnswers), frequency));
+        });
+        return statistics;
+    }
+
+    private double getWeightedTotal(Map<String, Integer> frequency) {
+        double total = 0;
+        for (Map.Entry<String, Integer> entry : frequency.entrySet()) {
+            // options outside of the choices, e.g. generated options, have no weight
+            total += weightPerOption.getOrDefault(entry.getKey(), 0.0) * entry.getValue();
+        }
+        return total;
+    }
+
+    /**
+     * The statistics of the options chosen in the responses to a question.
+     */
+    public static class ChoiceQuestionStatistics {
+        private final Map<String, Integer> answerFrequency;
+        private final Map<String, Double> percentagePerOption = new LinkedHashMap<>();
+        private final Map<String, Double> weightPerOption = new LinkedHashMap<>();
+        private final Map<String, Double> weightedPercentagePerOption = new LinkedHashMap<>();
+        private final Map<String, PerRecipientStatistics> perRecipientResponses = new HashMap<>();
+
+        ChoiceQuestionStatistics(Map<String, Integer> answerFrequency) {
+            this.answerFrequency = answerFrequency;
+        }
+
+        public Map<String, Integer> getAnswerFrequency() {
+            return answerFrequency;
+        }
+
+        public Map<String, Double> getPercentagePerOption() {
+            return percentagePerOption;
+        }
+
+        public Map<String, Double> getWeightPerOption() {
+            return weightPerOption;
+        }
+
+        public Map<String, Double> getWeightedPercentagePerOption() {
+            return weightedPercentagePerOption;
+        }
+
+        public Map<String, PerRecipientStatistics> getPerRecipientResponses() {
+            return perRecipientResponses;
+        }
+    }
+
+    /**
+     * The statistics of the options chosen for one recipient, only available when the options have weights.
+     */
+    public static class PerRecipientStatistics {
+        private final double total;
+        private final double average;
+        private final Map<String, Integer> responses;
+
+        PerRecipientStatistics(double total, double average, Map<String, Integer> responses) {
+            this.total = total;
+            this.average = average;
+            this.responses = responses;
+        }
+
+        public double getTotal() {
+            return total;
+        }
+
+        public double getAverage() {
+            return average;
+        }
+
+        public Map<String, Integer> getResponses() {
+            return responses;
+        }
+    }
+
+}
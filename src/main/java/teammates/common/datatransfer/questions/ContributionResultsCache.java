@@ -0,0 +1,114 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import teammates.common.datatransfer.TeamEvalResult;
+
+/**
+ * Caches the {@link TeamEvalResult} of each team for contribution questions, so that the results of a team
+ * are not computed again on every results request.
+ *
+ * <p>An entry is keyed by the question, the team and the points submitted within the team.
+ * The submitted points act as the version of the team's responses: any change to the responses of the team,
+ * or to its members, gives a different key, so that stale results are never returned and are eventually
+ * evicted as the least recently used entries.
+ *
+ * <p>The cache is shared by all requests in the same instance. The submitted points are copied, so that neither
+ * the key nor the {@link TeamEvalResult#claimed} values of a cached result are affected by changes to the array
+ * of the caller. The cached results themselves are shared by all callers and must not be modified.
+ */
+final class ContributionResultsCache {
+
+    static final int MAX_ENTRIES = 1000;
+
+    private static final ContributionResultsCache instance = new ContributionResultsCache();
+
+    private final Map<TeamKey, TeamEvalResult> teamResults = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<TeamKey, TeamEvalResult> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private ContributionResultsCache() {
+        // prevent initialization
+    }
+
+    static ContributionResultsCache inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the result of the team for the submitted points, computing it only if it is not cached.
+     *
+     * @param submissions the points submitted within the team
+     */
+    TeamEvalResult getTeamEvalResult(String questionId, String team, int[][] submissions) {
+        TeamKey key = new TeamKey(questionId, team, deepCopy(submissions));
+        synchronized (teamResults) {
+            TeamEvalResult cached = teamResults.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // the result keeps the array it is computed from as its claimed values, hence it is given its own copy
+        TeamEvalResult result = new TeamEvalResult(deepCopy(submissions));
+        synchronized (teamResults) {
+            teamResults.put(key, result);
+        }
+        return result;
+    }
+
+    private static int[][] deepCopy(int[][] values) {
+        int[][] copy = new int[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            copy[i] = values[i].clone();
+        }
+        return copy;
+    }
+
+    int size() {
+        synchronized (teamResults) {
+            return teamResults.size();
+        }
+    }
+
+    private static final class TeamKey {
+        private final String questionId;
+        private final String team;
+        private final int[][] submissions;
+        private final int hashCode;
+
+        TeamKey(String questionId, String team, int[][] submissions) {
+            this.questionId = questionId;
+            this.team = team;
+            this.submissions = submissions;
+            this.hashCode = Objects.hash(questionId, team, Arrays.deepHashCode(submissions));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof TeamKey)) {
+                return false;
+            }
+            TeamKey otherKey = (TeamKey) other;
+            return hashCode == otherKey.hashCode
+                    && Objects.equals(questionId, otherKey.questionId)
+                    && Objects.equals(team, otherKey.team)
+                    && Arrays.deepEquals(submissions, otherKey.submissions);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+}
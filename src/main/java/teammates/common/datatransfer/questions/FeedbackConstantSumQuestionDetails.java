@@ -1,8 +1,11 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -312,6 +315,11 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
         return "";
     }
 
+    @Override
+    public QuestionStatisticsAccumulator<?> createStatisticsAccumulator(FeedbackQuestionAttributes question) {
+        return new ConstantSumStatisticsAccumulator(distributeToRecipients, constSumOptions);
+    }
+
     public int getNumOfConstSumOptions() {
         return constSumOptions.size();
     }
@@ -379,4 +387,88 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
     public void setMaxPoint(int maxPoint) {
         this.maxPoint = maxPoint;
     }
+
+    /**
+     * Computes the points received by each option, or by each recipient if the points are distributed to recipients.
+     */
+    private static class ConstantSumStatisticsAccumulator
+            extends QuestionStatisticsAccumulator<FeedbackConstantSumResponseDetails> {
+
+        private final boolean isDistributeToRecipients;
+        private final List<String> options;
+        private final Map<String, RunningAverage> pointsReceived = new LinkedHashMap<>();
+        private final Map<String, RunningAverage> pointsReceivedExcludingSelf = new HashMap<>();
+
+        ConstantSumStatisticsAccumulator(boolean isDistributeToRecipients, List<String> options) {
+            this.isDistributeToRecipients = isDistributeToRecipients;
+            this.options = options;
+            if (!isDistributeToRecipients) {
+                options.forEach(option -> pointsReceived.put(option, new RunningAverage()));
+            }
+        }
+
+        @Override
+        protected void accumulate(String giver, String recipient, FeedbackConstantSumResponseDetails responseDetails) {
+            List<Integer> answers = responseDetails.getAnswers();
+            if (!isDistributeToRecipients) {
+                for (int i = 0; i < answers.size() && i < options.size(); i++) {
+                    pointsReceived.get(options.get(i)).add(answers.get(i));
+                }
+                return;
+            }
+            if (answers.isEmpty()) {
+                return;
+            }
+            pointsReceived.computeIfAbsent(recipient, key -> new RunningAverage()).add(answers.get(0));
+            RunningAverage excludingSelf =
+                    pointsReceivedExcludingSelf.computeIfAbsent(recipient, key -> new RunningAverage());
+            if (!giver.equals(recipient)) {
+                excludingSelf.add(answers.get(0));
+            }
+        }
+
+        @Override
+        protected Map<String, ConstantSumStatistics> getStatistics() {
+            Map<String, ConstantSumStatistics> statistics = new LinkedHashMap<>();
+            pointsReceived.forEach((optionOrRecipient, points) -> {
+                RunningAverage excludingSelf = pointsReceivedExcludingSelf.get(optionOrRecipient);
+                statistics.put(optionOrRecipient, new ConstantSumStatistics(points.getSum(),
+                        round(points.getAverage()), excludingSelf == null ? null : round(excludingSelf.getAverage())));
+            });
+            return statistics;
+        }
+    }
+
+    /**
+     * The statistics of the points received by an option or a recipient.
+     */
+    public static class ConstantSumStatistics {
+        private final double total;
+        private final double average;
+        @Nullable
+        private final Double averageExcludingSelf;
+
+        ConstantSumStatistics(double total, double average, @Nullable Double averageExcludingSelf) {
+            this.total = total;
+            this.average = average;
+            this.averageExcludingSelf = averageExcludingSelf;
+        }
+
+        public double getTotal() {
+            return total;
+        }
+
+        public double getAverage() {
+            return average;
+        }
+
+        /**
+         * Gets the average points received excluding those given by the recipient itself,
+         * or null if the points are distributed to options.
+         */
+        @Nullable
+        public Double getAverageExcludingSelf() {
+            return averageExcludingSelf;
+        }
+    }
 }
@@ -2,15 +2,15 @@ package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.TeamEvalResult;
@@ -73,33 +73,30 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
     public String getQuestionResultStatisticsJson(
             FeedbackQuestionAttributes question, String studentEmail, SessionResultsBundle bundle) {
         List<FeedbackResponseAttributes> responses = bundle.getQuestionResponseMap().get(question.getId());
+        CourseRoster roster = bundle.getRoster();
 
         boolean isStudent = studentEmail != null;
+        String currentUserTeam = isStudent ? roster.getInfoForIdentifier(studentEmail).getTeamName() : null;
 
         List<String> teamNames;
         if (isStudent) {
-            teamNames = getTeamsWithAtLeastOneResponse(responses, bundle);
+            // only the student's own team is shown to the student
+            teamNames = hasResponseFromTeam(responses, roster, currentUserTeam)
+                    ? Collections.singletonList(currentUserTeam)
+                    : Collections.emptyList();
         } else {
-            teamNames = new ArrayList<>(bundle.getRoster().getTeamToMembersTable().keySet());
+            teamNames = new ArrayList<>(roster.getTeamToMembersTable().keySet());
         }
 
         // Each team's member (email) list
-        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(bundle, teamNames);
-
-        // Each team's responses
-        Map<String, List<FeedbackResponseAttributes>> teamResponses = getTeamResponses(responses, bundle, teamNames);
-
-        // Get each team's submission array. -> int[teamSize][teamSize]
-        // Where int[0][1] refers points from student 0 to student 1
-        // Where student 0 is the 0th student in the list in teamMembersEmail
-        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(teamNames, teamMembersEmail, teamResponses);
+        Map<String, List<String>> teamMembersEmail = getTeamMembersEmail(roster, teamNames);
 
         // Each team's contribution question results.
-        Map<String, TeamEvalResult> teamResults = getTeamResults(teamNames, teamSubmissionArray);
+        Map<String, TeamEvalResult> teamResults =
+                getTeamResults(question, teamNames, teamMembersEmail, getTeamResponses(responses, roster, teamNames));
         ContributionStatistics output = new ContributionStatistics();
 
         if (isStudent) {
-            String currentUserTeam = bundle.getRoster().getInfoForIdentifier(studentEmail).getTeamName();
             TeamEvalResult currentUserTeamResults = teamResults.get(currentUserTeam);
             if (currentUserTeamResults != null) {
                 List<String> teamEmails = teamMembersEmail.get(currentUserTeam);
@@ -139,7 +136,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             for (Map.Entry<String, int[]> entry : studentResults.entrySet()) {
                 int[] summary = entry.getValue();
                 String email = entry.getKey();
-                String team = bundle.getRoster().getStudentForEmail(email).getTeam();
+                String team = roster.getStudentForEmail(email).getTeam();
                 List<String> teamEmails = teamMembersEmail.get(team);
                 TeamEvalResult teamResult = teamResults.get(team);
                 int studentIndex = teamEmails.indexOf(email);
@@ -180,11 +177,17 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         return studentResults;
     }
 
-    private Map<String, TeamEvalResult> getTeamResults(List<String> teamNames,
-            Map<String, int[][]> teamSubmissionArray) {
+    private Map<String, TeamEvalResult> getTeamResults(FeedbackQuestionAttributes question, List<String> teamNames,
+            Map<String, List<String>> teamMembersEmail, Map<String, List<FeedbackResponseAttributes>> teamResponses) {
+        // Get each team's submission array. -> int[teamSize][teamSize]
+        // Where int[0][1] refers points from student 0 to student 1
+        // Where student 0 is the 0th student in the list in teamMembersEmail
+        Map<String, int[][]> teamSubmissionArray = getTeamSubmissionArray(teamNames, teamMembersEmail, teamResponses);
+
         Map<String, TeamEvalResult> teamResults = new LinkedHashMap<>();
         for (String team : teamNames) {
-            TeamEvalResult teamEvalResult = new TeamEvalResult(teamSubmissionArray.get(team));
+            TeamEvalResult teamEvalResult = ContributionResultsCache.inst()
+                    .getTeamEvalResult(question.getId(), team, teamSubmissionArray.get(team));
             teamResults.put(team, teamEvalResult);
         }
         return teamResults;
@@ -212,7 +215,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
                 if (giverIndx == -1 || recipientIndx == -1) {
                     continue;
                 }
-                int points = ((FeedbackContributionResponseDetails) response.getResponseDetailsCopy()).getAnswer();
+                int points = ((FeedbackContributionResponseDetails) response.getResponseDetails()).getAnswer();
                 teamSubmissionArray.get(team)[giverIndx][recipientIndx] = points;
             }
         }
@@ -220,13 +223,13 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
     }
 
     private Map<String, List<FeedbackResponseAttributes>> getTeamResponses(
-            List<FeedbackResponseAttributes> responses, SessionResultsBundle bundle, List<String> teamNames) {
+            List<FeedbackResponseAttributes> responses, CourseRoster roster, List<String> teamNames) {
         Map<String, List<FeedbackResponseAttributes>> teamResponses = new LinkedHashMap<>();
         for (String teamName : teamNames) {
             teamResponses.put(teamName, new ArrayList<>());
         }
         for (FeedbackResponseAttributes response : responses) {
-            String team = bundle.getRoster().getInfoForIdentifier(response.getGiver()).getTeamName();
+            String team = roster.getInfoForIdentifier(response.getGiver()).getTeamName();
             if (teamResponses.containsKey(team)) {
                 teamResponses.get(team).add(response);
             }
@@ -235,10 +238,10 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
     }
 
     private Map<String, List<String>> getTeamMembersEmail(
-            SessionResultsBundle bundle, List<String> teamNames) {
+            CourseRoster roster, List<String> teamNames) {
         Map<String, List<String>> teamMembersEmail = new LinkedHashMap<>();
         for (String teamName : teamNames) {
-            List<String> memberEmails = bundle.getRoster().getTeamToMembersTable().get(teamName)
+            List<String> memberEmails = roster.getTeamToMembersTable().get(teamName)
                     .stream().map(StudentAttributes::getEmail)
                     .collect(Collectors.toList());
             teamMembersEmail.put(teamName, memberEmails);
@@ -246,14 +249,15 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
         return teamMembersEmail;
     }
 
-    private List<String> getTeamsWithAtLeastOneResponse(
-            List<FeedbackResponseAttributes> responses, SessionResultsBundle bundle) {
-        Set<String> teamNames = new HashSet<>();
+    private boolean hasResponseFromTeam(
+            List<FeedbackResponseAttributes> responses, CourseRoster roster, String teamName) {
         for (FeedbackResponseAttributes response : responses) {
-            String teamNameOfResponseGiver = bundle.getRoster().getInfoForIdentifier(response.getGiver()).getTeamName();
-            teamNames.add(teamNameOfResponseGiver);
+            String teamNameOfResponseGiver = roster.getInfoForIdentifier(response.getGiver()).getTeamName();
+            if (teamName.equals(teamNameOfResponseGiver)) {
+                return true;
+            }
         }
-        return new ArrayList<>(teamNames);
+        return false;
     }
 
     @Override
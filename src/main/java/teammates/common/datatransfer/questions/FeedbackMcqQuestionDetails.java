@@ -151,6 +151,17 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         return "";
     }
 
+    @Override
+    public QuestionStatisticsAccumulator<?> createStatisticsAccumulator(FeedbackQuestionAttributes question) {
+        return new ChoiceQuestionStatisticsAccumulator<FeedbackMcqResponseDetails>(
+                mcqChoices, otherEnabled, hasAssignedWeights, mcqWeights, mcqOtherWeight, false) {
+            @Override
+            protected void accumulate(String giver, String recipient, FeedbackMcqResponseDetails responseDetails) {
+                countAnswer(recipient, responseDetails.isOther() ? OTHER_OPTION : responseDetails.getAnswer());
+            }
+        };
+    }
+
     public boolean isHasAssignedWeights() {
         return hasAssignedWeights;
     }
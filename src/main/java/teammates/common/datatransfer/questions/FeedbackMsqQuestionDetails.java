@@ -1,7 +1,9 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -271,6 +273,30 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         return "";
     }
 
+    @Override
+    public QuestionStatisticsAccumulator<?> createStatisticsAccumulator(FeedbackQuestionAttributes question) {
+        Set<String> choices = new HashSet<>(msqChoices);
+        boolean isGeneratedOptions = generateOptionsFor != FeedbackParticipantType.NONE;
+        return new ChoiceQuestionStatisticsAccumulator<FeedbackMsqResponseDetails>(
+                msqChoices, otherEnabled, hasAssignedWeights, msqWeights, msqOtherWeight, true) {
+            @Override
+            protected void accumulate(String giver, String recipient, FeedbackMsqResponseDetails responseDetails) {
+                countRecipient(recipient);
+                if (responseDetails.isOther()) {
+                    countAnswer(recipient, OTHER_OPTION);
+                }
+                for (String answer : responseDetails.getAnswers()) {
+                    // the text of the other option is counted as "Other" above
+                    boolean isCounted = !MSQ_ANSWER_NONE_OF_THE_ABOVE.equals(answer)
+                            && (isGeneratedOptions || choices.contains(answer));
+                    if (isCounted) {
+                        countAnswer(recipient, answer);
+                    }
+                }
+            }
+        };
+    }
+
     public List<String> getMsqChoices() {
         return msqChoices;
     }
@@ -3,7 +3,10 @@ package teammates.common.datatransfer.questions;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 
@@ -92,6 +95,11 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
         return "";
     }
 
+    @Override
+    public QuestionStatisticsAccumulator<?> createStatisticsAccumulator(FeedbackQuestionAttributes question) {
+        return new NumericalScaleStatisticsAccumulator();
+    }
+
     public int getMinScale() {
         return minScale;
     }
@@ -115,4 +123,65 @@ public class FeedbackNumericalScaleQuestionDetails extends FeedbackQuestionDetai
     public void setStep(double step) {
         this.step = step;
     }
+
+    /**
+     * Computes the minimum, maximum and average answers received by each recipient.
+     */
+    private static class NumericalScaleStatisticsAccumulator
+            extends QuestionStatisticsAccumulator<FeedbackNumericalScaleResponseDetails> {
+
+        private final Map<String, RunningAverage> answers = new LinkedHashMap<>();
+        private final Map<String, RunningAverage> answersExcludingSelf = new HashMap<>();
+
+        @Override
+        protected void accumulate(String giver, String recipient, FeedbackNumericalScaleResponseDetails responseDetails) {
+            answers.computeIfAbsent(recipient, key -> new RunningAverage()).add(responseDetails.getAnswer());
+            RunningAverage excludingSelf = answersExcludingSelf.computeIfAbsent(recipient, key -> new RunningAverage());
+            if (!giver.equals(recipient)) {
+                excludingSelf.add(responseDetails.getAnswer());
+            }
+        }
+
+        @Override
+        protected Map<String, NumericalScaleStatistics> getStatistics() {
+            Map<String, NumericalScaleStatistics> statistics = new LinkedHashMap<>();
+            answers.forEach((recipient, answer) -> statistics.put(recipient, new NumericalScaleStatistics(
+                    answer.getMin(), answer.getMax(), round(answer.getAverage()),
+                    round(answersExcludingSelf.get(recipient).getAverage()))));
+            return statistics;
+        }
+    }
+
+    /**
+     * The statistics of the answers received by a recipient.
+     */
+    public static class NumericalScaleStatistics {
+        private final double min;
+        private final double max;
+        private final double average;
+        private final double averageExcludingSelf;
+
+        NumericalScaleStatistics(double min, double max, double average, double averageExcludingSelf) {
+            this.min = min;
+            this.max = max;
+            this.average = average;
+            this.averageExcludingSelf = averageExcludingSelf;
+        }
+
+        public double getMin() {
+            return min;
+        }
+
+        public double getMax() {
+            return max;
+        }
+
+        public double getAverage() {
+            return average;
+        }
+
+        public double getAverageExcludingSelf() {
+            return averageExcludingSelf;
+        }
+    }
 }
@@ -40,6 +40,16 @@ public abstract class FeedbackQuestionDetails {
         return "";
     }
 
+    /**
+     * Creates an accumulator which computes the statistics of the responses to the question in a single pass,
+     * or returns null if the statistics of the question type are not computed this way.
+     *
+     * <p>Override in Feedback*QuestionDetails if necessary.
+     */
+    public QuestionStatisticsAccumulator<?> createStatisticsAccumulator(FeedbackQuestionAttributes question) {
+        return null;
+    }
+
     /**
      * Checks whether the changes to the question details require deletion of corresponding responses.
      */
@@ -2,7 +2,9 @@ package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -129,6 +131,11 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
         return "";
     }
 
+    @Override
+    public QuestionStatisticsAccumulator<?> createStatisticsAccumulator(FeedbackQuestionAttributes question) {
+        return new RankOptionsStatisticsAccumulator(options);
+    }
+
     public List<String> getOptions() {
         return options;
     }
@@ -136,4 +143,63 @@ public class FeedbackRankOptionsQuestionDetails extends FeedbackRankQuestionDeta
     public void setOptions(List<String> options) {
         this.options = options;
     }
+
+    /**
+     * Computes the average rank received by each option, and ranks the options by their average rank.
+     */
+    private static class RankOptionsStatisticsAccumulator
+            extends QuestionStatisticsAccumulator<FeedbackRankOptionsResponseDetails> {
+
+        private final List<String> options;
+        private final Map<String, RunningAverage> ranksReceived = new LinkedHashMap<>();
+
+        RankOptionsStatisticsAccumulator(List<String> options) {
+            this.options = options;
+            options.forEach(option -> ranksReceived.put(option, new RunningAverage()));
+        }
+
+        @Override
+        protected void accumulate(String giver, String recipient, FeedbackRankOptionsResponseDetails responseDetails) {
+            // the ranks are normalised so that skipped ranks do not lower the average, e.g. 1, 3, 3 becomes 1, 2, 2
+            List<Integer> sortedRanks = responseDetails.getFilteredSortedAnswerList();
+            List<Integer> answers = responseDetails.getAnswers();
+            for (int i = 0; i < answers.size() && i < options.size(); i++) {
+                int rank = answers.get(i);
+                if (rank != Const.POINTS_NOT_SUBMITTED) {
+                    ranksReceived.get(options.get(i)).add(sortedRanks.indexOf(rank) + 1);
+                }
+            }
+        }
+
+        @Override
+        protected RankOptionsStatistics getStatistics() {
+            RankOptionsStatistics statistics = new RankOptionsStatistics(rankByAverage(ranksReceived));
+            ranksReceived.forEach((option, ranks) -> {
+                if (ranks.getCount() > 0) {
+                    statistics.averageRankPerOption.put(option, round(ranks.getAverage()));
+                }
+            });
+            return statistics;
+        }
+    }
+
+    /**
+     * The statistics of the ranks received by the options.
+     */
+    public static class RankOptionsStatistics {
+        private final Map<String, Double> averageRankPerOption = new LinkedHashMap<>();
+        private final Map<String, Integer> rankPerOption;
+
+        RankOptionsStatistics(Map<String, Integer> rankPerOption) {
+            this.rankPerOption = rankPerOption;
+        }
+
+        public Map<String, Double> getAverageRankPerOption() {
+            return averageRankPerOption;
+        }
+
+        public Map<String, Integer> getRankPerOption() {
+            return rankPerOption;
+        }
+    }
 }
@@ -1,10 +1,15 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.util.Const;
 
@@ -65,4 +70,94 @@ public class FeedbackRankRecipientsQuestionDetails extends FeedbackRankQuestionD
     public String validateGiverRecipientVisibility(FeedbackQuestionAttributes feedbackQuestionAttributes) {
         return "";
     }
+
+    @Override
+    public QuestionStatisticsAccumulator<?> createStatisticsAccumulator(FeedbackQuestionAttributes question) {
+        return new RankRecipientsStatisticsAccumulator();
+    }
+
+    /**
+     * Computes the average rank received by each recipient, and ranks the recipients by their average rank.
+     *
+     * <p>The ranks given by a giver are already normalised when the responses are saved.
+     */
+    private static class RankRecipientsStatisticsAccumulator
+            extends QuestionStatisticsAccumulator<FeedbackRankRecipientsResponseDetails> {
+
+        private final Map<String, RunningAverage> ranksReceived = new LinkedHashMap<>();
+        private final Map<String, RunningAverage> ranksReceivedExcludingSelf = new LinkedHashMap<>();
+        private final Map<String, Integer> selfRanks = new HashMap<>();
+
+        @Override
+        protected void accumulate(String giver, String recipient, FeedbackRankRecipientsResponseDetails responseDetails) {
+            int rank = responseDetails.getAnswer();
+            if (rank == Const.POINTS_NOT_SUBMITTED) {
+                return;
+            }
+            ranksReceived.computeIfAbsent(recipient, key -> new RunningAverage()).add(rank);
+            RunningAverage excludingSelf =
+                    ranksReceivedExcludingSelf.computeIfAbsent(recipient, key -> new RunningAverage());
+            if (giver.equals(recipient)) {
+                selfRanks.put(recipient, rank);
+            } else {
+                excludingSelf.add(rank);
+            }
+        }
+
+        @Override
+        protected Map<String, RankRecipientStatistics> getStatistics() {
+            Map<String, Integer> rankPerRecipient = rankByAverage(ranksReceived);
+            Map<String, Integer> rankPerRecipientExcludingSelf = rankByAverage(ranksReceivedExcludingSelf);
+            Map<String, RankRecipientStatistics> statistics = new LinkedHashMap<>();
+            ranksReceived.forEach((recipient, ranks) -> statistics.put(recipient, new RankRecipientStatistics(
+                    round(ranks.getAverage()), round(ranksReceivedExcludingSelf.get(recipient).getAverage()),
+                    selfRanks.get(recipient), rankPerRecipient.get(recipient),
+                    rankPerRecipientExcludingSelf.get(recipient))));
+            return statistics;
+        }
+    }
+
+    /**
+     * The statistics of the ranks received by a recipient.
+     */
+    public static class RankRecipientStatistics {
+        private final double averageRank;
+        private final double averageRankExcludingSelf;
+        @Nullable
+        private final Integer selfRank;
+        private final int overallRank;
+        @Nullable
+        private final Integer overallRankExcludingSelf;
+
+        RankRecipientStatistics(double averageRank, double averageRankExcludingSelf, @Nullable Integer selfRank,
+                int overallRank, @Nullable Integer overallRankExcludingSelf) {
+            this.averageRank = averageRank;
+            this.averageRankExcludingSelf = averageRankExcludingSelf;
+            this.selfRank = selfRank;
+            this.overallRank = overallRank;
+            this.overallRankExcludingSelf = overallRankExcludingSelf;
+        }
+
+        public double getAverageRank() {
+            return averageRank;
+        }
+
+        public double getAverageRankExcludingSelf() {
+            return averageRankExcludingSelf;
+        }
+
+        @Nullable
+        public Integer getSelfRank() {
+            return selfRank;
+        }
+
+        public int getOverallRank() {
+            return overallRank;
+        }
+
+        @Nullable
+        public Integer getOverallRankExcludingSelf() {
+            return overallRankExcludingSelf;
+        }
+    }
 }
@@ -1,7 +1,10 @@
 package teammates.common.datatransfer.questions;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 
@@ -176,6 +179,11 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         return "";
     }
 
+    @Override
+    public QuestionStatisticsAccumulator<?> createStatisticsAccumulator(FeedbackQuestionAttributes question) {
+        return new RubricStatisticsAccumulator(rubricSubQuestions.size(), rubricChoices.size(), getRubricWeights());
+    }
+
     /**
      * Returns a list of rubric weights if the weights are assigned,
      * otherwise returns an empty list.
@@ -235,4 +243,191 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
     public void setRubricDescriptions(List<List<String>> rubricDescriptions) {
         this.rubricDescriptions = rubricDescriptions;
     }
+
+    /**
+     * Computes the number of times each choice is chosen for each sub-question,
+     * and the weights chosen for each recipient if the weights are assigned.
+     */
+    private static class RubricStatisticsAccumulator
+            extends QuestionStatisticsAccumulator<FeedbackRubricResponseDetails> {
+
+        private final int numOfSubQuestions;
+        private final int numOfChoices;
+        private final List<List<Double>> weights;
+        private final int[][] answers;
+        private final int[][] answersExcludeSelf;
+        private final Map<String, int[][]> perRecipientAnswers = new LinkedHashMap<>();
+
+        RubricStatisticsAccumulator(int numOfSubQuestions, int numOfChoices, List<List<Double>> weights) {
+            this.numOfSubQuestions = numOfSubQuestions;
+            this.numOfChoices = numOfChoices;
+            this.weights = weights;
+            this.answers = new int[numOfSubQuestions][numOfChoices];
+            this.answersExcludeSelf = new int[numOfSubQuestions][numOfChoices];
+        }
+
+        @Override
+        protected void accumulate(String giver, String recipient, FeedbackRubricResponseDetails responseDetails) {
+            int[][] recipientAnswers = weights.isEmpty() ? null
+                    : perRecipientAnswers.computeIfAbsent(recipient, key -> new int[numOfSubQuestions][numOfChoices]);
+            List<Integer> chosen = responseDetails.getAnswer();
+            for (int subQuestion = 0; subQuestion < chosen.size() && subQuestion < numOfSubQuestions; subQuestion++) {
+                int choice = chosen.get(subQuestion);
+                // includes RUBRIC_ANSWER_NOT_CHOSEN
+                if (choice < 0 || choice >= numOfChoices) {
+                    continue;
+                }
+                answers[subQuestion][choice]++;
+                if (!giver.equals(recipient)) {
+                    answersExcludeSelf[subQuestion][choice]++;
+                }
+                if (recipientAnswers != null) {
+                    recipientAnswers[subQuestion][choice]++;
+                }
+            }
+        }
+
+        @Override
+        protected RubricStatistics getStatistics() {
+            RubricStatistics statistics = new RubricStatistics(answers, answersExcludeSelf,
+                    getPercentages(answers), getPercentages(answersExcludeSelf), getWeightAverages(answers));
+            perRecipientAnswers.forEach((recipient, recipientAnswers) -> {
+                double[] subQuestionTotalChosenWeight = new double[numOfSubQuestions];
+                int numOfRecipientAnswers = 0;
+                double overallWeightedSum = 0;
+                for (int subQuestion = 0; subQuestion < numOfSubQuestions; subQuestion++) {
+                    for (int choice = 0; choice < numOfChoices; choice++) {
+                        double weight = getWeight(subQuestion, choice) * recipientAnswers[subQuestion][choice];
+                        subQuestionTotalChosenWeight[subQuestion] += weight;
+                        numOfRecipientAnswers += recipientAnswers[subQuestion][choice];
+                        overallWeightedSum += weight;
+                    }
+                    subQuestionTotalChosenWeight[subQuestion] = round(subQuestionTotalChosenWeight[subQuestion]);
+                }
+                statistics.perRecipientStatistics.put(recipient, new RubricRecipientStatistics(recipientAnswers,
+                        subQuestionTotalChosenWeight, getWeightAverages(recipientAnswers), round(overallWeightedSum),
+                        numOfRecipientAnswers == 0 ? 0 : round(overallWeightedSum / numOfRecipientAnswers)));
+            });
+            return statistics;
+        }
+
+        private double getWeight(int subQuestion, int choice) {
+            Double weight = weights.get(subQuestion).get(choice);
+            return weight == null ? 0 : weight;
+        }
+
+        private double[][] getPercentages(int[][] counts) {
+            double[][] percentages = new double[numOfSubQuestions][numOfChoices];
+            for (int subQuestion = 0; subQuestion < numOfSubQuestions; subQuestion++) {
+                int total = Arrays.stream(counts[subQuestion]).sum();
+                for (int choice = 0; choice < numOfChoices; choice++) {
+                    percentages[subQuestion][choice] =
+                            total == 0 ? 0 : round(100.0 * counts[subQuestion][choice] / total);
+                }
+            }
+            return percentages;
+        }
+
+        private double[] getWeightAverages(int[][] counts) {
+            if (weights.isEmpty()) {
+                return new double[0];
+            }
+            double[] averages = new double[numOfSubQuestions];
+            for (int subQuestion = 0; subQuestion < numOfSubQuestions; subQuestion++) {
+                int total = 0;
+                double weightedSum = 0;
+                for (int choice = 0; choice < numOfChoices; choice++) {
+                    total += counts[subQuestion][choice];
+                    weightedSum += getWeight(subQuestion, choice) * counts[subQuestion][choice];
+                }
+                averages[subQuestion] = total == 0 ? 0 : round(weightedSum / total);
+            }
+            return averages;
+        }
+    }
+
+    /**
+     * The statistics of the choices chosen for each sub-question.
+     */
+    public static class RubricStatistics {
+        private final int[][] answers;
+        private final int[][] answersExcludeSelf;
+        private final double[][] percentages;
+        private final double[][] percentagesExcludeSelf;
+        private final double[] subQuestionWeightAverage;
+        private final Map<String, RubricRecipientStatistics> perRecipientStatistics = new LinkedHashMap<>();
+
+        RubricStatistics(int[][] answers, int[][] answersExcludeSelf, double[][] percentages,
+                double[][] percentagesExcludeSelf, double[] subQuestionWeightAverage) {
+            this.answers = answers;
+            this.answersExcludeSelf = answersExcludeSelf;
+            this.percentages = percentages;
+            this.percentagesExcludeSelf = percentagesExcludeSelf;
+            this.subQuestionWeightAverage = subQuestionWeightAverage;
+        }
+
+        public int[][] getAnswers() {
+            return answers;
+        }
+
+        public int[][] getAnswersExcludeSelf() {
+            return answersExcludeSelf;
+        }
+
+        public double[][] getPercentages() {
+            return percentages;
+        }
+
+        public double[][] getPercentagesExcludeSelf() {
+            return percentagesExcludeSelf;
+        }
+
+        public double[] getSubQuestionWeightAverage() {
+            return subQuestionWeightAverage;
+        }
+
+        public Map<String, RubricRecipientStatistics> getPerRecipientStatistics() {
+            return perRecipientStatistics;
+        }
+    }
+
+    /**
+     * The statistics of the choices chosen for a recipient, only available when the weights are assigned.
+     */
+    public static class RubricRecipientStatistics {
+        private final int[][] answers;
+        private final double[] subQuestionTotalChosenWeight;
+        private final double[] subQuestionWeightAverage;
+        private final double overallWeightedSum;
+        private final double overallWeightAverage;
+
+        RubricRecipientStatistics(int[][] answers, double[] subQuestionTotalChosenWeight,
+                double[] subQuestionWeightAverage, double overallWeightedSum, double overallWeightAverage) {
+            this.answers = answers;
+            this.subQuestionTotalChosenWeight = subQuestionTotalChosenWeight;
+            this.subQuestionWeightAverage = subQuestionWeightAverage;
+            this.overallWeightedSum = overallWeightedSum;
+            this.overallWeightAverage = overallWeightAverage;
+        }
+
+        public int[][] getAnswers() {
+            return answers;
+        }
+
+        public double[] getSubQuestionTotalChosenWeight() {
+            return subQuestionTotalChosenWeight;
+        }
+
+        public double[] getSubQuestionWeightAverage() {
+            return subQuestionWeightAverage;
+        }
+
+        public double getOverallWeightedSum() {
+            return overallWeightedSum;
+        }
+
+        public double getOverallWeightAverage() {
+            return overallWeightAverage;
+        }
+    }
 }
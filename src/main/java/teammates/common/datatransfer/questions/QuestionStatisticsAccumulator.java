@@ -0,0 +1,140 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.JsonUtils;
+
+/**
+ * Computes the statistics of the responses to a question in a single pass over the responses.
+ *
+ * <p>Responses are added one at a time and are not kept, so the memory used grows with the number of
+ * options and recipients in the statistics only, and not with the number of responses.
+ *
+ * @param <D> the type of the response details of the question
+ * @see FeedbackQuestionDetails#createStatisticsAccumulator
+ */
+public abstract class QuestionStatisticsAccumulator<D extends FeedbackResponseDetails> {
+
+    private int numberOfResponses;
+
+    /**
+     * Adds a response to the statistics.
+     */
+    public void add(FeedbackResponseAttributes response) {
+        add(response, response.getRecipient());
+    }
+
+    /**
+     * Adds a response to the statistics, with the statistics of its recipient keyed by {@code recipientKey},
+     * e.g. an anonymised name if the name of the recipient is not visible to the user.
+     */
+    @SuppressWarnings("unchecked")
+    public void add(FeedbackResponseAttributes response, String recipientKey) {
+        numberOfResponses++;
+        // the giver is only compared with the recipient to tell self responses apart, and is never shown
+        String giver = response.getGiver().equals(response.getRecipient()) ? recipientKey : response.getGiver();
+        accumulate(giver, recipientKey, (D) response.getResponseDetails());
+    }
+
+    /**
+     * Gets the number of responses added.
+     */
+    public int getNumberOfResponses() {
+        return numberOfResponses;
+    }
+
+    /**
+     * Gets the statistics of the responses added so far, as a JSON string.
+     */
+    public String getStatisticsJson() {
+        return JsonUtils.toJson(getStatistics());
+    }
+
+    /**
+     * Adds the details of a response to the statistics.
+     */
+    protected abstract void accumulate(String giver, String recipient, D responseDetails);
+
+    /**
+     * Gets the statistics of the responses added so far, to be serialized as JSON.
+     */
+    protected abstract Object getStatistics();
+
+    /**
+     * Rounds the value to 2 decimal places, the precision shown for all statistics.
+     */
+    static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    /**
+     * Ranks the keys by their average received, with the smallest average ranked first.
+     *
+     * <p>Keys with the same average are given the same rank, and the key after them is given the rank
+     * according to its position, e.g. 1, 1, 3.
+     */
+    static Map<String, Integer> rankByAverage(Map<String, RunningAverage> averages) {
+        List<Map.Entry<String, RunningAverage>> entries = new ArrayList<>();
+        for (Map.Entry<String, RunningAverage> entry : averages.entrySet()) {
+            if (entry.getValue().getCount() > 0) {
+                entries.add(entry);
+            }
+        }
+        entries.sort(Map.Entry.comparingByValue(
+                (a, b) -> Double.compare(a.getAverage(), b.getAverage())));
+
+        Map<String, Integer> ranks = new LinkedHashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            Map.Entry<String, RunningAverage> entry = entries.get(i);
+            boolean isSameAsPrevious = i > 0
+                    && entry.getValue().getAverage() == entries.get(i - 1).getValue().getAverage();
+            ranks.put(entry.getKey(), isSameAsPrevious ? ranks.get(entries.get(i - 1).getKey()) : i + 1);
+        }
+        return ranks;
+    }
+
+    /**
+     * The count, sum, minimum and maximum of some values, without keeping the values.
+     */
+    static class RunningAverage {
+        private int count;
+        private double sum;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        void add(double value) {
+            count++;
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        double getSum() {
+            return sum;
+        }
+
+        double getMin() {
+            return min;
+        }
+
+        double getMax() {
+            return max;
+        }
+
+        /**
+         * Gets the average of the values, or 0 if there is no value.
+         */
+        double getAverage() {
+            return count == 0 ? 0 : sum / count;
+        }
+    }
+
+}
@@ -91,9 +91,24 @@ public final class Config {
     /** The value of the "app.search.service.host" in build.properties file. */
     public static final String SEARCH_SERVICE_HOST;
 
+    /** The value of the "app.taskqueue.service" in build.properties file. */
+    public static final String TASKQUEUE_SERVICE;
+
+    /** The value of the "app.http.maxconnections" in build.properties file. */
+    public static final int HTTP_MAX_CONNECTIONS;
+
+    /** The value of the "app.http.maxconnectionsperroute" in build.properties file. */
+    public static final int HTTP_MAX_CONNECTIONS_PER_ROUTE;
+
+    /** The value of the "app.http.timeout" in build.properties file. */
+    public static final int HTTP_TIMEOUT_IN_MS;
+
     /** The value of the "app.enable.datastore.backup" in build.properties file. */
     public static final boolean ENABLE_DATASTORE_BACKUP;
 
+    /** The value of the "app.write.legacy.deadlines" in build.properties file. */
+    public static final boolean WRITE_LEGACY_DEADLINES;
+
     /** The value of the "app.maintenance" in build.properties file. */
     public static final boolean MAINTENANCE;
 
@@ -167,8 +182,16 @@ public final class Config {
         MAILJET_APIKEY = getProperty(properties, devProperties, "app.mailjet.apikey");
         MAILJET_SECRETKEY = getProperty(properties, devProperties, "app.mailjet.secretkey");
         SEARCH_SERVICE_HOST = getProperty(properties, devProperties, "app.search.service.host");
+        TASKQUEUE_SERVICE = getProperty(properties, devProperties, "app.taskqueue.service");
+        HTTP_MAX_CONNECTIONS = Integer.parseInt(
+                getProperty(properties, devProperties, "app.http.maxconnections", "50"));
+        HTTP_MAX_CONNECTIONS_PER_ROUTE = Integer.parseInt(
+                getProperty(properties, devProperties, "app.http.maxconnectionsperroute", "20"));
+        HTTP_TIMEOUT_IN_MS = Integer.parseInt(getProperty(properties, devProperties, "app.http.timeout", "30000"));
         ENABLE_DATASTORE_BACKUP = Boolean.parseBoolean(
                 getProperty(properties, devProperties, "app.enable.datastore.backup", "false"));
+        WRITE_LEGACY_DEADLINES = Boolean.parseBoolean(
+                getProperty(properties, devProperties, "app.write.legacy.deadlines", "true"));
         MAINTENANCE = Boolean.parseBoolean(getProperty(properties, devProperties, "app.maintenance", "false"));
 
         // The following properties are not used in production server.
@@ -296,4 +319,12 @@ public final class Config {
                 && MAILJET_SECRETKEY != null && !MAILJET_SECRETKEY.isEmpty();
     }
 
+    public static boolean isUsingCloudTasks() {
+        return "cloudtasks".equalsIgnoreCase(TASKQUEUE_SERVICE);
+    }
+
+    public static boolean isUsingInProcessTaskQueue() {
+        return "inprocess".equalsIgnoreCase(TASKQUEUE_SERVICE);
+    }
+
 }
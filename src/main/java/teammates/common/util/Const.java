@@ -336,6 +336,7 @@ public final class Const {
         public static final String INSTRUCTOR_PRIVILEGE = URI_PREFIX + "/instructor/privilege";
         public static final String INSTRUCTOR_KEY = URI_PREFIX + "/instructor/key";
         public static final String RESULT = URI_PREFIX + "/result";
+        public static final String RESULT_STATISTICS = URI_PREFIX + "/result/statistics";
         public static final String STUDENTS = URI_PREFIX + "/students";
         public static final String STUDENT = URI_PREFIX + "/student";
         public static final String STUDENT_KEY = URI_PREFIX + "/student/key";
@@ -392,6 +393,8 @@ public final class Const {
                 URI_PREFIX + "/feedbackSessionPublishedReminders";
         public static final String AUTOMATED_USAGE_STATISTICS_COLLECTION =
                 URI_PREFIX + "/calculateUsageStatistics";
+        public static final String AUTOMATED_SUBMISSION_SUMMARIES_REBUILD =
+                URI_PREFIX + "/rebuildSubmissionSummaries";
     }
 
     /**
@@ -400,6 +403,15 @@ public final class Const {
     public static class TaskQueue {
         public static final String URI_PREFIX = "/worker";
 
+        public static final String FEEDBACK_SESSION_OPENING_EMAIL_QUEUE_NAME = "feedback-session-opening-email-queue";
+        public static final String FEEDBACK_SESSION_OPENING_EMAIL_WORKER_URL = URI_PREFIX + "/feedbackSessionOpeningEmail";
+
+        public static final String FEEDBACK_SESSION_CLOSING_EMAIL_QUEUE_NAME = "feedback-session-closing-email-queue";
+        public static final String FEEDBACK_SESSION_CLOSING_EMAIL_WORKER_URL = URI_PREFIX + "/feedbackSessionClosingEmail";
+
+        public static final String FEEDBACK_SESSION_CLOSED_EMAIL_QUEUE_NAME = "feedback-session-closed-email-queue";
+        public static final String FEEDBACK_SESSION_CLOSED_EMAIL_WORKER_URL = URI_PREFIX + "/feedbackSessionClosedEmail";
+
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME =
                 "feedback-session-published-email-queue";
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL =
@@ -428,6 +440,7 @@ public final class Const {
 
         public static final String SEND_EMAIL_QUEUE_NAME = "send-email-queue";
         public static final String SEND_EMAIL_WORKER_URL = URI_PREFIX + "/sendEmail";
+        public static final String SEND_EMAIL_BATCH_WORKER_URL = URI_PREFIX + "/sendEmailBatch";
 
         public static final String STUDENT_COURSE_JOIN_EMAIL_QUEUE_NAME = "student-course-join-email-queue";
         public static final String STUDENT_COURSE_JOIN_EMAIL_WORKER_URL = URI_PREFIX + "/studentCourseJoinEmail";
@@ -437,6 +450,7 @@ public final class Const {
         public static final String ACCOUNT_REQUEST_SEARCH_INDEXING_WORKER_URL =
                 URI_PREFIX + "/accountRequestSearchIndexing";
         public static final String STUDENT_SEARCH_INDEXING_WORKER_URL = URI_PREFIX + "/studentSearchIndexing";
+        public static final String STUDENTS_SEARCH_INDEXING_WORKER_URL = URI_PREFIX + "/studentsSearchIndexing";
     }
 
 }
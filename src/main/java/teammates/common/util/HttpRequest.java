@@ -2,23 +2,55 @@ package teammates.common.util;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.http.HttpEntity;
-import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.HttpResponseException;
+import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.methods.HttpUriRequest;
-import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
 import org.apache.http.util.EntityUtils;
 
 /**
  * A utility class to execute an HTTP request and return the response.
+ *
+ * <p>All requests are executed with a single HTTP client whose connections are pooled and kept alive,
+ * so that consecutive requests to the same host do not need a new TCP connection and TLS handshake.
+ * The pool sizes and timeouts are configured in build.properties.
  */
 public final class HttpRequest {
 
-    private static final int TIMEOUT_IN_MS = 30000;
+    private static final long IDLE_CONNECTION_TIMEOUT_IN_SECONDS = 30;
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final PoolingHttpClientConnectionManager CONNECTION_MANAGER;
+    private static final CloseableHttpClient HTTP_CLIENT;
+
+    static {
+        CONNECTION_MANAGER = new PoolingHttpClientConnectionManager();
+        CONNECTION_MANAGER.setMaxTotal(Config.HTTP_MAX_CONNECTIONS);
+        CONNECTION_MANAGER.setDefaultMaxPerRoute(Config.HTTP_MAX_CONNECTIONS_PER_ROUTE);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(Config.HTTP_TIMEOUT_IN_MS)
+                .setConnectionRequestTimeout(Config.HTTP_TIMEOUT_IN_MS)
+                .setSocketTimeout(Config.HTTP_TIMEOUT_IN_MS)
+                .build();
+
+        HTTP_CLIENT = HttpClients.custom()
+                .setConnectionManager(CONNECTION_MANAGER)
+                .setDefaultRequestConfig(requestConfig)
+                .evictExpiredConnections()
+                .evictIdleConnections(IDLE_CONNECTION_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)
+                .build();
+    }
 
     private HttpRequest() {
         // Utility class
@@ -31,20 +63,40 @@ public final class HttpRequest {
      * @return the HTTP response string after executing the GET request
      */
     public static String executeGetRequest(URI uri) throws IOException {
-        HttpUriRequest request = new HttpGet(uri);
-        RequestConfig requestConfig = RequestConfig.custom().setConnectTimeout(TIMEOUT_IN_MS).build();
-
-        HttpResponse httpResponse = HttpClientBuilder.create()
-                                                     .setDefaultRequestConfig(requestConfig)
-                                                     .build()
-                                                     .execute(request);
-        HttpEntity entity = httpResponse.getEntity();
-        String response = EntityUtils.toString(entity, Const.ENCODING);
-
-        if (httpResponse.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
-            return response;
-        } else {
-            throw new HttpResponseException(httpResponse.getStatusLine().getStatusCode(), response);
+        return execute(new HttpGet(uri), httpResponse -> {
+            HttpEntity entity = httpResponse.getEntity();
+            String response = EntityUtils.toString(entity, Const.ENCODING);
+
+            if (httpResponse.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
+                return response;
+            } else {
+                throw new HttpResponseException(httpResponse.getStatusLine().getStatusCode(), response);
+            }
+        });
+    }
+
+    /**
+     * Executes a HTTP request with the shared HTTP client and processes the response with the given handler.
+     *
+     * <p>The response is fully consumed after the handler returns, so that the connection can be reused.
+     */
+    public static <T> T execute(HttpUriRequest request, ResponseHandler<? extends T> responseHandler)
+            throws IOException {
+        PoolStats poolStats = CONNECTION_MANAGER.getTotalStats();
+        if (poolStats.getLeased() >= poolStats.getMax()) {
+            log.warning("HTTP connection pool is saturated; request to " + request.getURI().getHost()
+                    + " has to wait for a connection (leased: " + poolStats.getLeased()
+                    + ", pending: " + poolStats.getPending() + ", max: " + poolStats.getMax() + ")");
         }
+        return HTTP_CLIENT.execute(request, responseHandler);
+    }
+
+    /**
+     * Returns the usage statistics of the shared HTTP connection pool,
+     * i.e. the number of leased, pending and available connections.
+     */
+    public static PoolStats getConnectionPoolStats() {
+        return CONNECTION_MANAGER.getTotalStats();
     }
+
 }
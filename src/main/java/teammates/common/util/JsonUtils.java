@@ -1,10 +1,17 @@
 package teammates.common.util;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.lang.reflect.Type;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
@@ -15,7 +22,12 @@ import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
 
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.logs.LogDetails;
 import teammates.common.datatransfer.logs.LogEvent;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
@@ -27,6 +39,15 @@ import teammates.common.datatransfer.questions.FeedbackResponseDetails;
  */
 public final class JsonUtils {
 
+    private static final Gson PRETTY_GSON = createGsonInstance(true);
+    private static final Gson COMPACT_GSON = createGsonInstance(false);
+
+    /**
+     * Type adapters of the types which are (de)serialized most frequently, resolved once at class loading
+     * so that the first requests served by an instance need not pay for the reflective resolution.
+     */
+    private static final Map<Type, TypeAdapter<?>> HOT_TYPE_ADAPTERS = createHotTypeAdapters();
+
     private JsonUtils() {
         // utility class
     }
@@ -34,8 +55,10 @@ public final class JsonUtils {
     /**
      * This creates a Gson object that can handle the Date format we use in the
      * Json file and also reformat the Json string in pretty-print format.
+     *
+     * <p>Gson objects are immutable and thread-safe, hence the created objects are shared by all callers.
      */
-    private static Gson getGsonInstance(boolean prettyPrint) {
+    private static Gson createGsonInstance(boolean prettyPrint) {
         GsonBuilder builder = new GsonBuilder()
                 .registerTypeAdapter(Instant.class, new InstantAdapter())
                 .registerTypeAdapter(ZoneId.class, new ZoneIdAdapter())
@@ -50,6 +73,46 @@ public final class JsonUtils {
         return builder.create();
     }
 
+    private static Gson getGsonInstance(boolean prettyPrint) {
+        return prettyPrint ? PRETTY_GSON : COMPACT_GSON;
+    }
+
+    private static Map<Type, TypeAdapter<?>> createHotTypeAdapters() {
+        List<Class<?>> hotTypes = new ArrayList<>();
+        hotTypes.add(FeedbackQuestionAttributes.class);
+        hotTypes.add(FeedbackResponseAttributes.class);
+        hotTypes.add(FeedbackQuestionDetails.class);
+        hotTypes.add(FeedbackResponseDetails.class);
+        hotTypes.add(LogDetails.class);
+        for (FeedbackQuestionType questionType : FeedbackQuestionType.values()) {
+            hotTypes.add(questionType.getQuestionDetailsClass());
+            hotTypes.add(questionType.getResponseDetailsClass());
+        }
+
+        Map<Type, TypeAdapter<?>> adapters = new HashMap<>();
+        for (Class<?> hotType : hotTypes) {
+            // type adapters are independent of the output format, hence resolving them from either instance suffices
+            adapters.put(hotType, COMPACT_GSON.getAdapter(hotType));
+        }
+        return Collections.unmodifiableMap(adapters);
+    }
+
+    /**
+     * Gets the type adapter used to (de)serialize objects of the specified type.
+     *
+     * <p>Adapters of frequently used types are pre-resolved; the others are resolved and cached on first use.
+     *
+     * @see Gson#getAdapter(TypeToken)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TypeAdapter<T> getTypeAdapter(Type type) {
+        TypeAdapter<?> adapter = HOT_TYPE_ADAPTERS.get(type);
+        if (adapter == null) {
+            adapter = COMPACT_GSON.getAdapter(TypeToken.get(type));
+        }
+        return (TypeAdapter<T>) adapter;
+    }
+
     /**
      * Serializes and pretty-prints the specified object into its equivalent JSON string.
      *
@@ -87,6 +150,28 @@ public final class JsonUtils {
         getGsonInstance(false).toJson(src, writer);
     }
 
+    /**
+     * Serializes the specified object as the next value of a JSON writer created by
+     * {@link #newCompactJsonWriter(Writer)}.
+     *
+     * @see TypeAdapter#write(JsonWriter, Object)
+     */
+    public static void toCompactJson(Object src, Type typeOfSrc, JsonWriter writer) throws IOException {
+        // the writer is expected to come from newCompactJsonWriter, which is already configured like COMPACT_GSON
+        JsonUtils.<Object>getTypeAdapter(typeOfSrc).write(writer, src);
+    }
+
+    /**
+     * Creates a {@link JsonWriter} which writes into the writer in the same compact format
+     * as {@link #toCompactJson(Object, Appendable)}.
+     * This allows a large JSON document to be written piece by piece.
+     *
+     * @see Gson#newJsonWriter(Writer)
+     */
+    public static JsonWriter newCompactJsonWriter(Writer writer) throws IOException {
+        return getGsonInstance(false).newJsonWriter(writer);
+    }
+
     /**
      * Deserializes the specified JSON string into an object of the specified type.
      *
@@ -118,16 +203,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(Instant instant, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
-            }
+            return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
         }
 
         @Override
         public Instant deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Instant.parse(element.getAsString());
-            }
+            return Instant.parse(element.getAsString());
         }
     }
 
@@ -135,16 +216,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(ZoneId zoneId, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(zoneId.getId());
-            }
+            return new JsonPrimitive(zoneId.getId());
         }
 
         @Override
         public ZoneId deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return ZoneId.of(element.getAsString());
-            }
+            return ZoneId.of(element.getAsString());
         }
     }
 
@@ -152,16 +229,12 @@ public final class JsonUtils {
 
         @Override
         public JsonElement serialize(Duration duration, Type type, JsonSerializationContext context) {
-            synchronized (this) {
-                return new JsonPrimitive(duration.toMinutes());
-            }
+            return new JsonPrimitive(duration.toMinutes());
         }
 
         @Override
         public Duration deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
-            synchronized (this) {
-                return Duration.ofMinutes(element.getAsLong());
-            }
+            return Duration.ofMinutes(element.getAsLong());
         }
     }
 
@@ -2,6 +2,9 @@ package teammates.common.util;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import teammates.common.exception.DeadlineExceededException;
 
@@ -71,6 +74,36 @@ public final class RequestTracer {
         return Instant.now().toEpochMilli() - trace.initTimestamp;
     }
 
+    /**
+     * Returns the attribute stored under {@code key} for the current request,
+     * computing and storing it with {@code supplier} if it is not present yet.
+     *
+     * <p>If there is no request being served by the current thread, the value is computed but not stored.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getOrComputeAttribute(String key, Supplier<T> supplier) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return supplier.get();
+        }
+        Object value = trace.attributes.get(key);
+        if (value == null) {
+            value = supplier.get();
+            trace.attributes.put(key, value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Removes the attribute stored under {@code key} for the current request, if any.
+     */
+    public static void removeAttribute(String key) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace != null) {
+            trace.attributes.remove(key);
+        }
+    }
+
     /**
      * Initializes the request with an ID and the timeout value (in seconds).
      */
@@ -78,11 +111,39 @@ public final class RequestTracer {
         THREAD_LOCAL.set(new RequestTrace(traceId, spanId, timeoutInSeconds));
     }
 
+    /**
+     * Returns a supplier which runs {@code supplier} under the trace of the current request,
+     * so that the IDs and the deadline of the request also apply when it is run by another thread.
+     *
+     * <p>Attributes of the current request are not visible to the returned supplier.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> supplier) {
+        RequestTrace trace = THREAD_LOCAL.get();
+        if (trace == null) {
+            return supplier;
+        }
+        RequestTrace propagatedTrace = new RequestTrace(trace);
+        return () -> {
+            RequestTrace previousTrace = THREAD_LOCAL.get();
+            THREAD_LOCAL.set(propagatedTrace);
+            try {
+                return supplier.get();
+            } finally {
+                if (previousTrace == null) {
+                    THREAD_LOCAL.remove();
+                } else {
+                    THREAD_LOCAL.set(previousTrace);
+                }
+            }
+        };
+    }
+
     private static class RequestTrace {
         private final String traceId;
         private final String spanId;
         private final long initTimestamp;
         private final long timeoutTimestamp;
+        private final Map<String, Object> attributes = new HashMap<>();
 
         private RequestTrace(String traceId, String spanId, int timeoutInSeconds) {
             this.traceId = traceId;
@@ -90,6 +151,13 @@ public final class RequestTracer {
             this.initTimestamp = Instant.now().toEpochMilli();
             this.timeoutTimestamp = Instant.now().plus(timeoutInSeconds, ChronoUnit.SECONDS).toEpochMilli();
         }
+
+        private RequestTrace(RequestTrace trace) {
+            this.traceId = trace.traceId;
+            this.spanId = trace.spanId;
+            this.initTimestamp = trace.initTimestamp;
+            this.timeoutTimestamp = trace.timeoutTimestamp;
+        }
     }
 
 }
@@ -1,6 +1,8 @@
 package teammates.common.util;
 
+import java.security.GeneralSecurityException;
 import java.text.DecimalFormat;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -85,11 +87,7 @@ public final class StringHelper {
      */
     public static String generateSignature(String data) {
         try {
-            SecretKeySpec signingKey =
-                    new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "HmacSHA1");
-            Mac mac = Mac.getInstance("HmacSHA1");
-            mac.init(signingKey);
-            byte[] value = mac.doFinal(data.getBytes(Const.ENCODING));
+            byte[] value = Crypto.MAC.get().doFinal(data.getBytes(Const.ENCODING));
             return byteArrayToHexString(value);
         } catch (Exception e) {
             assert false;
@@ -120,17 +118,31 @@ public final class StringHelper {
      */
     public static String encrypt(String value) {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
-            byte[] encrypted = cipher.doFinal(value.getBytes(Const.ENCODING));
+            byte[] encrypted = Crypto.ENCRYPT_CIPHER.get().doFinal(value.getBytes(Const.ENCODING));
             return byteArrayToHexString(encrypted);
         } catch (Exception e) {
+            // the cipher may be left in an unknown state; a new one will be created for the next use
+            Crypto.ENCRYPT_CIPHER.remove();
             assert false;
             return null;
         }
     }
 
+    /**
+     * Encrypts each of the supplied strings.
+     *
+     * @param values the plaintexts as strings
+     * @return the ciphertexts, in the same order as the plaintexts
+     * @throws RuntimeException if the encryption fails for some reason, such as {@code Cipher} initialization failure.
+     */
+    public static List<String> encryptAll(List<String> values) {
+        List<String> encryptedValues = new ArrayList<>(values.size());
+        for (String value : values) {
+            encryptedValues.add(encrypt(value));
+        }
+        return encryptedValues;
+    }
+
     /**
      * Decrypts the supplied string.
      *
@@ -141,15 +153,18 @@ public final class StringHelper {
      */
     public static String decrypt(String message) throws InvalidParametersException {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, sks);
-            byte[] decrypted = cipher.doFinal(hexStringToByteArray(message));
+            byte[] decrypted = Crypto.DECRYPT_CIPHER.get().doFinal(hexStringToByteArray(message));
             return new String(decrypted, Const.ENCODING);
-        } catch (NumberFormatException | IllegalBlockSizeException | BadPaddingException e) {
+        } catch (NumberFormatException e) {
+            log.warning("Attempted to decrypt invalid ciphertext: " + message);
+            throw new InvalidParametersException(e);
+        } catch (IllegalBlockSizeException | BadPaddingException e) {
+            // the cipher may be left in an unknown state; a new one will be created for the next use
+            Crypto.DECRYPT_CIPHER.remove();
             log.warning("Attempted to decrypt invalid ciphertext: " + message);
             throw new InvalidParametersException(e);
         } catch (Exception e) {
+            Crypto.DECRYPT_CIPHER.remove();
             assert false;
             return null;
         }
@@ -262,4 +277,63 @@ public final class StringHelper {
         return str == null ? "" : str;
     }
 
+    /**
+     * Holds the keys parsed from {@link Config#ENCRYPTION_KEY} and the {@link Cipher} and {@link Mac} instances
+     * initialized with them.
+     *
+     * <p>Looking up the algorithm providers and expanding the keys are costly compared to encrypting a short string,
+     * hence they are done once per thread instead of once per use. The instances are not thread-safe,
+     * hence they are not shared across threads.
+     */
+    private static final class Crypto {
+
+        private static final SecretKeySpec AES_KEY =
+                new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+        private static final SecretKeySpec HMAC_KEY =
+                new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "HmacSHA1");
+
+        static final ThreadLocal<Cipher> ENCRYPT_CIPHER = ThreadLocal.withInitial(() -> {
+            Cipher cipher = getAesCipher();
+            try {
+                cipher.init(Cipher.ENCRYPT_MODE, AES_KEY, cipher.getParameters());
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+            return cipher;
+        });
+
+        static final ThreadLocal<Cipher> DECRYPT_CIPHER = ThreadLocal.withInitial(() -> {
+            Cipher cipher = getAesCipher();
+            try {
+                cipher.init(Cipher.DECRYPT_MODE, AES_KEY);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+            return cipher;
+        });
+
+        static final ThreadLocal<Mac> MAC = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA1");
+                mac.init(HMAC_KEY);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        private Crypto() {
+            // holder class
+        }
+
+        private static Cipher getAesCipher() {
+            try {
+                return Cipher.getInstance("AES/ECB/PKCS5Padding");
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
 }
@@ -1,5 +1,9 @@
 package teammates.common.util;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Contains utility methods for creating strings from given templates.
  */
@@ -28,6 +32,92 @@ public final class Templates {
         return populatedTemplate;
     }
 
+    /**
+     * Compiles the given template, so that it can be populated many times without being parsed again.
+     *
+     * <p>Only variables of the form <code>${name}</code> are recognized.
+     *
+     * @see CompiledTemplate#render(Map)
+     */
+    public static CompiledTemplate compile(String template) {
+        return new CompiledTemplate(template);
+    }
+
+    /**
+     * A template which has been split into its literal text and its variables.
+     */
+    public static final class CompiledTemplate {
+
+        private static final String VARIABLE_START = "${";
+        private static final String VARIABLE_END = "}";
+
+        /**
+         * The literal text around the variables; there is one more literal than there are variables.
+         */
+        private final String[] literals;
+        private final String[] variables;
+        private final int literalsLength;
+
+        private CompiledTemplate(String template) {
+            List<String> literalList = new ArrayList<>();
+            List<String> variableList = new ArrayList<>();
+            int literalStart = 0;
+            int variableStart = template.indexOf(VARIABLE_START);
+            while (variableStart != -1) {
+                int variableEnd = template.indexOf(VARIABLE_END, variableStart + VARIABLE_START.length());
+                if (variableEnd == -1) {
+                    break;
+                }
+                String variableName = template.substring(variableStart + VARIABLE_START.length(), variableEnd);
+                if (!isValidVariableName(variableName)) {
+                    // not a variable; keep it as part of the literal text
+                    variableStart = template.indexOf(VARIABLE_START, variableStart + VARIABLE_START.length());
+                    continue;
+                }
+                literalList.add(template.substring(literalStart, variableStart));
+                variableList.add(template.substring(variableStart, variableEnd + VARIABLE_END.length()));
+                literalStart = variableEnd + VARIABLE_END.length();
+                variableStart = template.indexOf(VARIABLE_START, literalStart);
+            }
+            literalList.add(template.substring(literalStart));
+
+            this.literals = literalList.toArray(new String[0]);
+            this.variables = variableList.toArray(new String[0]);
+            this.literalsLength = literalList.stream().mapToInt(String::length).sum();
+        }
+
+        private static boolean isValidVariableName(String name) {
+            return !name.isEmpty() && name.chars().allMatch(Character::isLetterOrDigit);
+        }
+
+        /**
+         * Populates the template by replacing its variables with the given values in a single pass.
+         *
+         * <p>Unlike {@link Templates#populateTemplate(String, String...)}, variables appearing in the values
+         * are not replaced. Variables without a value are left as they are.
+         *
+         * @param values Map of a variable, e.g. <code>${name}</code>, to its value
+         * @return The populated template
+         */
+        public String render(Map<String, String> values) {
+            String[] variableValues = new String[variables.length];
+            int length = literalsLength;
+            for (int i = 0; i < variables.length; i++) {
+                String value = values.get(variables[i]);
+                variableValues[i] = value == null ? variables[i] : value;
+                length += variableValues[i].length();
+            }
+
+            StringBuilder populatedTemplate = new StringBuilder(length);
+            for (int i = 0; i < variables.length; i++) {
+                populatedTemplate.append(literals[i]).append(variableValues[i]);
+            }
+            populatedTemplate.append(literals[variables.length]);
+            return populatedTemplate.toString();
+        }
+
+    }
+
     /**
      * Collection of templates of emails to be sent by the system.
      */
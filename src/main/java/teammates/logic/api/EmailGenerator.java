@@ -22,6 +22,7 @@ import teammates.common.util.EmailWrapper;
 import teammates.common.util.RequestTracer;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.Templates;
+import teammates.common.util.Templates.CompiledTemplate;
 import teammates.common.util.Templates.EmailTemplates;
 import teammates.common.util.TimeHelper;
 import teammates.logic.core.CoursesLogic;
@@ -676,22 +677,24 @@ public final class EmailGenerator {
                         TimeHelper.formatInstant(oldEndTimeFormatted, session.getTimeZone(), DATETIME_DISPLAY_FORMAT)))
                 .replace("${newEndTime}", SanitizationHelper.sanitizeForHtml(
                         TimeHelper.formatInstant(newEndTimeFormatted, session.getTimeZone(), DATETIME_DISPLAY_FORMAT)));
-        String feedbackAction = FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW;
+        CompiledTemplate compiledTemplate = Templates.compile(template);
+        Map<String, String> sessionValues =
+                getFeedbackSessionTemplateValues(course, session, FEEDBACK_ACTION_SUBMIT_EDIT_OR_VIEW);
 
         if (isInstructor) {
             InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(course.getId(), userEmail);
             if (instructor == null) {
                 return null;
             }
-            return generateFeedbackSessionEmailBaseForInstructors(
-                    course, session, instructor, template, emailType, feedbackAction, additionalContactInformation);
+            return generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
+                    compiledTemplate, sessionValues, emailType, additionalContactInformation);
         } else {
             StudentAttributes student = studentsLogic.getStudentForEmail(course.getId(), userEmail);
             if (student == null) {
                 return null;
             }
-            return generateFeedbackSessionEmailBaseForStudents(
-                    course, session, student, template, emailType, feedbackAction, additionalContactInformation);
+            return generateFeedbackSessionEmailBaseForStudents(course, session, student,
+                    compiledTemplate, sessionValues, emailType, additionalContactInformation);
         }
     }
 
@@ -699,30 +702,61 @@ public final class EmailGenerator {
             CourseAttributes course, FeedbackSessionAttributes session, List<StudentAttributes> students,
             List<InstructorAttributes> instructors, List<InstructorAttributes> instructorsToNotify, String template,
             EmailType type, String feedbackAction) {
-        StringBuilder studentAdditionalContactBuilder = new StringBuilder();
-        StringBuilder instructorAdditionalContactBuilder = new StringBuilder();
-        studentAdditionalContactBuilder.append(getAdditionalContactInformationFragment(course, false));
-        instructorAdditionalContactBuilder.append(getAdditionalContactInformationFragment(course, true));
+        // the template and the values common to all recipients are prepared once for all the emails
+        CompiledTemplate compiledTemplate = Templates.compile(template);
+        Map<String, String> sessionValues = getFeedbackSessionTemplateValues(course, session, feedbackAction);
+        String studentAdditionalContactInformation = getAdditionalContactInformationFragment(course, false);
+        String instructorAdditionalContactInformation = getAdditionalContactInformationFragment(course, true);
 
         List<EmailWrapper> emails = new ArrayList<>();
         for (StudentAttributes student : students) {
             emails.add(generateFeedbackSessionEmailBaseForStudents(course, session, student,
-                    template, type, feedbackAction, studentAdditionalContactBuilder.toString()));
+                    compiledTemplate, sessionValues, type, studentAdditionalContactInformation));
         }
         for (InstructorAttributes instructor : instructors) {
             emails.add(generateFeedbackSessionEmailBaseForInstructors(course, session, instructor,
-                    template, type, feedbackAction, instructorAdditionalContactBuilder.toString()));
+                    compiledTemplate, sessionValues, type, instructorAdditionalContactInformation));
         }
-        for (InstructorAttributes instructor : instructorsToNotify) {
-            emails.add(generateFeedbackSessionEmailBaseForNotifiedInstructors(course, session, instructor,
-                    template, type, feedbackAction, studentAdditionalContactBuilder.toString()));
+        if (!instructorsToNotify.isEmpty()) {
+            Map<String, String> notifiedInstructorValues = new HashMap<>(sessionValues);
+            Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
+                    session.getEndTime(), session.getTimeZone(), false);
+            notifiedInstructorValues.put("${deadline}", SanitizationHelper.sanitizeForHtml(
+                    TimeHelper.formatInstant(endTime, session.getTimeZone(), DATETIME_DISPLAY_FORMAT)));
+            notifiedInstructorValues.put("${instructorPreamble}", fillUpInstructorPreamble(course));
+            for (InstructorAttributes instructor : instructorsToNotify) {
+                emails.add(generateFeedbackSessionEmailBaseForNotifiedInstructors(course, session, instructor,
+                        compiledTemplate, notifiedInstructorValues, type, studentAdditionalContactInformation));
+            }
         }
         return emails;
     }
 
+    /**
+     * Gets the values of the feedback session email template variables which are the same for all recipients.
+     */
+    private Map<String, String> getFeedbackSessionTemplateValues(
+            CourseAttributes course, FeedbackSessionAttributes session, String feedbackAction) {
+        Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
+                session.getDeadline(), session.getTimeZone(), false);
+
+        Map<String, String> values = new HashMap<>();
+        values.put("${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()));
+        values.put("${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()));
+        values.put("${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()));
+        values.put("${deadline}", SanitizationHelper.sanitizeForHtml(
+                TimeHelper.formatInstant(endTime, session.getTimeZone(), DATETIME_DISPLAY_FORMAT))
+                + (session.getUserEmail() == null ? "" : " (after extension)"));
+        values.put("${instructorPreamble}", "");
+        values.put("${sessionInstructions}", session.getInstructionsString());
+        values.put("${feedbackAction}", feedbackAction);
+        return values;
+    }
+
     private EmailWrapper generateFeedbackSessionEmailBaseForStudents(
-            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student, String template,
-            EmailType type, String feedbackAction, String additionalContactInformation) {
+            CourseAttributes course, FeedbackSessionAttributes session, StudentAttributes student,
+            CompiledTemplate template, Map<String, String> sessionValues, EmailType type,
+            String additionalContactInformation) {
         String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
                 .withSessionName(session.getFeedbackSessionName())
@@ -735,22 +769,12 @@ public final class EmailGenerator {
                 .withRegistrationKey(student.getKey())
                 .toAbsoluteString();
 
-        Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
-                session.getDeadline(), session.getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(student.getName()),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(
-                        TimeHelper.formatInstant(endTime, session.getTimeZone(), DATETIME_DISPLAY_FORMAT))
-                        + (session.getUserEmail() == null ? "" : " (after extension)"),
-                "${instructorPreamble}", "",
-                "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
-                "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
+        Map<String, String> values = new HashMap<>(sessionValues);
+        values.put("${userName}", SanitizationHelper.sanitizeForHtml(student.getName()));
+        values.put("${submitUrl}", submitUrl);
+        values.put("${reportUrl}", reportUrl);
+        values.put("${additionalContactInformation}", additionalContactInformation);
+        String emailBody = template.render(values);
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(student.getEmail());
         email.setType(type);
@@ -761,7 +785,8 @@ public final class EmailGenerator {
 
     private EmailWrapper generateFeedbackSessionEmailBaseForInstructors(
             CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, EmailType type, String feedbackAction, String additionalContactInformation) {
+            CompiledTemplate template, Map<String, String> sessionValues, EmailType type,
+            String additionalContactInformation) {
         String submitUrl = Config.getFrontEndAppUrl(Const.WebPageURIs.SESSION_SUBMISSION_PAGE)
                 .withCourseId(course.getId())
                 .withSessionName(session.getFeedbackSessionName())
@@ -776,22 +801,12 @@ public final class EmailGenerator {
                 .withEntityType(Const.EntityType.INSTRUCTOR)
                 .toAbsoluteString();
 
-        Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
-                session.getDeadline(), session.getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(
-                        TimeHelper.formatInstant(endTime, session.getTimeZone(), DATETIME_DISPLAY_FORMAT))
-                        + (session.getUserEmail() == null ? "" : " (after extension)"),
-                "${instructorPreamble}", "",
-                "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", submitUrl,
-                "${reportUrl}", reportUrl,
-                "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
+        Map<String, String> values = new HashMap<>(sessionValues);
+        values.put("${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()));
+        values.put("${submitUrl}", submitUrl);
+        values.put("${reportUrl}", reportUrl);
+        values.put("${additionalContactInformation}", additionalContactInformation);
+        String emailBody = template.render(values);
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.getEmail());
         email.setType(type);
@@ -802,22 +817,14 @@ public final class EmailGenerator {
 
     private EmailWrapper generateFeedbackSessionEmailBaseForNotifiedInstructors(
             CourseAttributes course, FeedbackSessionAttributes session, InstructorAttributes instructor,
-            String template, EmailType type, String feedbackAction, String additionalContactInformation) {
-        Instant endTime = TimeHelper.getMidnightAdjustedInstantBasedOnZone(
-                session.getEndTime(), session.getTimeZone(), false);
-        String emailBody = Templates.populateTemplate(template,
-                "${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()),
-                "${courseName}", SanitizationHelper.sanitizeForHtml(course.getName()),
-                "${courseId}", SanitizationHelper.sanitizeForHtml(course.getId()),
-                "${feedbackSessionName}", SanitizationHelper.sanitizeForHtml(session.getFeedbackSessionName()),
-                "${deadline}", SanitizationHelper.sanitizeForHtml(
-                        TimeHelper.formatInstant(endTime, session.getTimeZone(), DATETIME_DISPLAY_FORMAT)),
-                "${instructorPreamble}", fillUpInstructorPreamble(course),
-                "${sessionInstructions}", session.getInstructionsString(),
-                "${submitUrl}", "{in the actual email sent to the students, this will be the unique link}",
-                "${reportUrl}", "{in the actual email sent to the students, this will be the unique link}",
-                "${feedbackAction}", feedbackAction,
-                "${additionalContactInformation}", additionalContactInformation);
+            CompiledTemplate template, Map<String, String> sessionValues, EmailType type,
+            String additionalContactInformation) {
+        Map<String, String> values = new HashMap<>(sessionValues);
+        values.put("${userName}", SanitizationHelper.sanitizeForHtml(instructor.getName()));
+        values.put("${submitUrl}", "{in the actual email sent to the students, this will be the unique link}");
+        values.put("${reportUrl}", "{in the actual email sent to the students, this will be the unique link}");
+        values.put("${additionalContactInformation}", additionalContactInformation);
+        String emailBody = template.render(values);
 
         EmailWrapper email = getEmptyEmailAddressedToEmail(instructor.getEmail());
         email.setType(type);
@@ -1,5 +1,9 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import org.apache.http.HttpStatus;
 
 import teammates.common.datatransfer.logs.EmailSentLogDetails;
@@ -63,6 +67,39 @@ public class EmailSender {
             caughtE = e;
             status = new EmailSendingStatus(e.getStatusCode(), e.getMessage());
         }
+        logEmailSent(message, status, caughtE);
+
+        return status;
+    }
+
+    /**
+     * Sends the given {@code messages} together and generates a log report for each of them.
+     *
+     * @return The HTTP status of the email request of each message, in the same order as the messages.
+     */
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> messages) {
+        List<EmailWrapper> messagesToSend = new ArrayList<>();
+        for (EmailWrapper message : messages) {
+            if (!isTestingAccount(message.getRecipient())) {
+                messagesToSend.add(message);
+            }
+        }
+
+        Iterator<EmailSendingStatus> sentStatuses = service.sendEmails(messagesToSend).iterator();
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (EmailWrapper message : messages) {
+            if (isTestingAccount(message.getRecipient())) {
+                statuses.add(new EmailSendingStatus(HttpStatus.SC_OK, "Not sending email to test account"));
+                continue;
+            }
+            EmailSendingStatus status = sentStatuses.next();
+            logEmailSent(message, status, null);
+            statuses.add(status);
+        }
+        return statuses;
+    }
+
+    private void logEmailSent(EmailWrapper message, EmailSendingStatus status, EmailSendingException caughtE) {
         if (!status.isSuccess()) {
             if (caughtE == null) {
                 log.severe("Email failed to send: " + status.getMessage());
@@ -82,8 +119,6 @@ public class EmailSender {
             details.setEmailStatusMessage(status.getMessage());
         }
         log.event("Email sent: " + message.getType(), details);
-
-        return status;
     }
 
     private boolean isTestingAccount(String email) {
@@ -8,11 +8,14 @@ import java.util.Set;
 
 import javax.annotation.Nullable;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackQuestionRecipient;
+import teammates.common.datatransfer.FeedbackResponsesWriteResults;
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.datatransfer.NotificationTargetUser;
 import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.StudentsEnrollmentResults;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.AccountRequestAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -33,6 +36,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.logic.core.AccountRequestsLogic;
 import teammates.logic.core.AccountsLogic;
+import teammates.logic.core.CourseRosterCache;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.DataBundleLogic;
 import teammates.logic.core.DeadlineExtensionsLogic;
@@ -67,6 +71,7 @@ public class Logic {
     final FeedbackResponseCommentsLogic feedbackResponseCommentsLogic = FeedbackResponseCommentsLogic.inst();
     final UsageStatisticsLogic usageStatisticsLogic = UsageStatisticsLogic.inst();
     final DataBundleLogic dataBundleLogic = DataBundleLogic.inst();
+    final CourseRosterCache courseRosterCache = CourseRosterCache.inst();
 
     Logic() {
         // prevent initialization
@@ -118,6 +123,16 @@ public class Logic {
         return coursesLogic.getCourseInstitute(courseId);
     }
 
+    /**
+     * Gets the institutes of the given courses.
+     *
+     * @return a map from course ID to institute; courses which do not exist are not in the map
+     */
+    public Map<String, String> getCourseInstitutes(List<String> courseIds) {
+        assert courseIds != null;
+        return coursesLogic.getCourseInstitutes(courseIds);
+    }
+
     /**
      * Returns active notification for general users and the specified {@code targetUser}.
      */
@@ -825,6 +840,22 @@ public class Logic {
         return feedbackSessionsLogic.isFeedbackSessionAttemptedByStudent(fsa, userEmail, userTeam);
     }
 
+    /**
+     * Gets the names of the feedback sessions which have been attempted by a student, out of some sessions of a course.
+     *
+     * <p>If there is no question for students, the feedback session is considered as attempted.</p>
+     *
+     * @see #isFeedbackSessionAttemptedByStudent(FeedbackSessionAttributes, String, String)
+     */
+    public Set<String> getFeedbackSessionsAttemptedByStudent(String courseId,
+            Collection<FeedbackSessionAttributes> sessions, String userEmail, String userTeam) {
+        assert courseId != null;
+        assert sessions != null;
+        assert userEmail != null;
+        assert userTeam != null;
+        return feedbackSessionsLogic.getFeedbackSessionsAttemptedByStudent(courseId, sessions, userEmail, userTeam);
+    }
+
     /**
      * Deletes a student cascade its associated feedback responses, deadline extensions and comments.
      *
@@ -868,6 +899,22 @@ public class Logic {
         studentsLogic.validateSectionsAndTeams(studentList, courseId);
     }
 
+    /**
+     * Enrolls a list of students into a course in bulk.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see StudentsLogic#enrollStudents(String, List)
+     */
+    public StudentsEnrollmentResults enrollStudents(String courseId, List<StudentAttributes> studentsToEnroll)
+            throws EnrollException {
+        assert courseId != null;
+        assert studentsToEnroll != null;
+
+        return studentsLogic.enrollStudents(courseId, studentsToEnroll);
+    }
+
     /**
      * Gets all students of a team.
      */
@@ -887,6 +934,15 @@ public class Logic {
         studentsLogic.putDocument(student);
     }
 
+    /**
+     * Creates or updates search documents for the given students in a single batch.
+     *
+     * @see StudentsLogic#putDocuments(Collection)
+     */
+    public void putStudentDocuments(Collection<StudentAttributes> students) throws SearchServiceException {
+        studentsLogic.putDocuments(students);
+    }
+
     /**
      * Creates a feedback session.
      *
@@ -944,6 +1000,19 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Gets the feedback sessions of each of the courses, with the courses loaded concurrently.
+     *
+     * <br>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the feedback sessions by the course ID, in the order of the courses
+     */
+    public Map<String, List<FeedbackSessionAttributes>> getFeedbackSessionsForCourses(List<String> courseIds) {
+        assert courseIds != null;
+        return feedbackSessionsLogic.getFeedbackSessionsForCourses(courseIds);
+    }
+
     /**
      * Gets the expected number of submissions for a feedback session.
      *
@@ -1214,6 +1283,18 @@ public class Logic {
         return feedbackResponsesLogic.getGiverSetThatAnswerFeedbackSession(courseId, feedbackSessionName);
     }
 
+    /**
+     * Rebuilds the submission summary of a feedback session from its responses.
+     *
+     * @see FeedbackResponsesLogic#rebuildSubmissionSummary(String, String)
+     */
+    public void rebuildSubmissionSummary(String courseId, String feedbackSessionName) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+
+        feedbackResponsesLogic.rebuildSubmissionSummary(courseId, feedbackSessionName);
+    }
+
     /**
      * Gets the session result for a feedback session.
      *
@@ -1231,6 +1312,23 @@ public class Logic {
                 feedbackSessionName, courseId, userEmail, questionId, section, fetchType);
     }
 
+    /**
+     * Gets the statistics of the responses to the questions of a feedback session, as viewed by an instructor.
+     *
+     * @see FeedbackResponsesLogic#getSessionResultStatisticsForCourse(
+     * String, String, String, String, String, FeedbackResultFetchType)
+     */
+    public Map<String, String> getSessionResultStatisticsForCourse(
+            String feedbackSessionName, String courseId, String instructorEmail,
+            @Nullable String questionId, @Nullable String section, @Nullable FeedbackResultFetchType fetchType) {
+        assert feedbackSessionName != null;
+        assert courseId != null;
+        assert instructorEmail != null;
+
+        return feedbackResponsesLogic.getSessionResultStatisticsForCourse(
+                feedbackSessionName, courseId, instructorEmail, questionId, section, fetchType);
+    }
+
     /**
      * Gets the session result for a feedback session for the given user.
      *
@@ -1332,6 +1430,24 @@ public class Logic {
         feedbackResponsesLogic.deleteFeedbackResponseCascade(responseId);
     }
 
+    /**
+     * Creates and updates feedback responses in a batch.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @return the responses written and the errors of the responses not written
+     * @see FeedbackResponsesLogic#putFeedbackResponsesCascade(List, List)
+     */
+    public FeedbackResponsesWriteResults putFeedbackResponsesCascade(
+            List<FeedbackResponseAttributes> responsesToCreate,
+            List<FeedbackResponseAttributes.UpdateOptions> responsesToUpdate) {
+        assert responsesToCreate != null;
+        assert responsesToUpdate != null;
+
+        return feedbackResponsesLogic.putFeedbackResponsesCascade(responsesToCreate, responsesToUpdate);
+    }
+
     /**
      * Create a feedback response comment, and return the created comment.
      *
@@ -1426,6 +1542,32 @@ public class Logic {
         return studentsLogic.getSectionForTeam(courseId, teamName);
     }
 
+    /**
+     * Gets the roster of a course, which may be served from a cache.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @see CourseRosterCache#getCourseRoster(String)
+     */
+    public CourseRoster getCourseRoster(String courseId) {
+        assert courseId != null;
+        return courseRosterCache.getCourseRoster(courseId);
+    }
+
+    /**
+     * Gets the roster of a course as read from the database, for use when the roster decides what is written.
+     *
+     * <br/>Preconditions: <br/>
+     * * All parameters are non-null.
+     *
+     * @see CourseRosterCache#getFreshCourseRoster(String)
+     */
+    public CourseRoster getFreshCourseRoster(String courseId) {
+        assert courseId != null;
+        return courseRosterCache.getFreshCourseRoster(courseId);
+    }
+
     /**
      * Persists the given data bundle to the database.
      *
@@ -1,5 +1,7 @@
 package teammates.logic.api;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -8,32 +10,57 @@ import teammates.common.util.Config;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.Logger;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.TaskWrapper;
+import teammates.logic.core.DatastoreSessions;
 import teammates.logic.external.GoogleCloudTasksService;
+import teammates.logic.external.InProcessTaskQueueService;
 import teammates.logic.external.LocalTaskQueueService;
 import teammates.logic.external.TaskQueueService;
 import teammates.ui.request.FeedbackSessionRemindRequest;
+import teammates.ui.request.SendEmailBatchRequest;
 import teammates.ui.request.SendEmailRequest;
+import teammates.ui.request.StudentsSearchIndexingRequest;
 
 /**
  * Allows for adding specific type of tasks to the task queue.
  */
 public class TaskQueuer {
 
-    private static final Logger log = Logger.getLogger();
+    /**
+     * Maximum number of students to be search indexed by a single task.
+     */
+    static final int SEARCH_INDEXING_BATCH_SIZE = 100;
+
+    /**
+     * Maximum number of emails to be sent by a single task.
+     */
+    static final int SEND_EMAIL_BATCH_SIZE = 50;
+
+    /**
+     * Maximum size in bytes of the serialized emails to be sent by a single task.
+     *
+     * <p>This is well below the 1MB limit of the task size in Cloud Tasks, leaving room for the rest of the task.
+     */
+    static final int SEND_EMAIL_BATCH_MAX_BYTES = 512 * 1024;
 
     private static final TaskQueuer instance = new TaskQueuer();
     private final TaskQueueService service;
 
     TaskQueuer() {
-        if (Config.IS_DEV_SERVER) {
+        if (Config.isUsingInProcessTaskQueue()) {
+            service = new InProcessTaskQueueService();
+        } else if (Config.IS_DEV_SERVER && !Config.isUsingCloudTasks()) {
             service = new LocalTaskQueueService();
         } else {
             service = new GoogleCloudTasksService();
         }
     }
 
+    TaskQueuer(TaskQueueService service) {
+        this.service = service;
+    }
+
     public static TaskQueuer inst() {
         return instance;
     }
@@ -52,6 +79,29 @@ public class TaskQueuer {
         service.addDeferredTask(task, countdownTime);
     }
 
+    void addDeferredTasks(List<TaskWrapper> tasks, List<Long> countdownTimes) {
+        service.addDeferredTasks(tasks, countdownTimes);
+    }
+
+    /**
+     * Sets the handler which runs the tasks, if the tasks are run within the application itself.
+     */
+    public void setInProcessTaskHandler(InProcessTaskQueueService.TaskHandler handler) {
+        if (service instanceof InProcessTaskQueueService) {
+            // tasks are run outside of any request, hence each task needs a new datastore session
+            ((InProcessTaskQueueService) service).setHandler(
+                    task -> DatastoreSessions.getInNewSession(() -> handler.handle(task)));
+        }
+    }
+
+    /**
+     * Releases the resources held by the task queue service, e.g. waits for the tasks running within
+     * the application itself to finish, or closes the connection to the external task queue service.
+     */
+    public void shutdown() {
+        service.shutdown();
+    }
+
     // The following methods are the actual API methods to be used by the client classes
 
     /**
@@ -94,6 +144,51 @@ public class TaskQueuer {
                 TaskQueue.FEEDBACK_SESSION_REMIND_PARTICULAR_USERS_EMAIL_WORKER_URL, new HashMap<>(), remindRequest);
     }
 
+    /**
+     * Schedules for feedback session opening emails to be sent.
+     *
+     * @param courseId the course ID of the feedback session
+     * @param feedbackSessionName the name of the feedback session
+     */
+    public void scheduleFeedbackSessionOpeningEmail(String courseId, String feedbackSessionName) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+
+        addTask(TaskQueue.FEEDBACK_SESSION_OPENING_EMAIL_QUEUE_NAME,
+                TaskQueue.FEEDBACK_SESSION_OPENING_EMAIL_WORKER_URL, paramMap, null);
+    }
+
+    /**
+     * Schedules for feedback session closing emails to be sent.
+     *
+     * @param courseId the course ID of the feedback session
+     * @param feedbackSessionName the name of the feedback session
+     */
+    public void scheduleFeedbackSessionClosingEmail(String courseId, String feedbackSessionName) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+
+        addTask(TaskQueue.FEEDBACK_SESSION_CLOSING_EMAIL_QUEUE_NAME,
+                TaskQueue.FEEDBACK_SESSION_CLOSING_EMAIL_WORKER_URL, paramMap, null);
+    }
+
+    /**
+     * Schedules for feedback session closed emails to be sent.
+     *
+     * @param courseId the course ID of the feedback session
+     * @param feedbackSessionName the name of the feedback session
+     */
+    public void scheduleFeedbackSessionClosedEmail(String courseId, String feedbackSessionName) {
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, courseId);
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, feedbackSessionName);
+
+        addTask(TaskQueue.FEEDBACK_SESSION_CLOSED_EMAIL_QUEUE_NAME,
+                TaskQueue.FEEDBACK_SESSION_CLOSED_EMAIL_WORKER_URL, paramMap, null);
+    }
+
     /**
      * Schedules for feedback session published email to be sent.
      *
@@ -182,6 +277,12 @@ public class TaskQueuer {
     /**
      * Schedules for the given list of emails to be sent.
      *
+     * <p>The emails are sent in batches of up to {@value #SEND_EMAIL_BATCH_SIZE} emails per task, as long as
+     * the serialized emails of a batch are within {@value #SEND_EMAIL_BATCH_MAX_BYTES} bytes.
+     * An email larger than that is sent by a task of its own.
+     *
+     * <p>A failure to add the tasks is thrown, so that the caller does not mark the emails as sent.
+     *
      * @param emails the list of emails to be sent
      */
     public void scheduleEmailsForSending(List<EmailWrapper> emails) {
@@ -194,12 +295,48 @@ public class TaskQueuer {
         int oneHourInMillis = 60 * 60 * 1000;
         int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
 
-        int numberOfEmailsSent = 0;
+        List<TaskWrapper> tasks = new ArrayList<>();
+        List<Long> countdownTimes = new ArrayList<>();
+        int start = 0;
+        while (start < emails.size()) {
+            int end = start;
+            int batchBytes = 0;
+            while (end < emails.size() && end - start < SEND_EMAIL_BATCH_SIZE) {
+                int emailBytes = JsonUtils.toCompactJson(emails.get(end)).getBytes(StandardCharsets.UTF_8).length;
+                if (end > start && batchBytes + emailBytes > SEND_EMAIL_BATCH_MAX_BYTES) {
+                    break;
+                }
+                batchBytes += emailBytes;
+                end++;
+            }
+            long batchDelayTimer = (long) start * (long) emailIntervalMillis;
+            tasks.add(new TaskWrapper(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_BATCH_WORKER_URL,
+                    new HashMap<>(), new SendEmailBatchRequest(new ArrayList<>(emails.subList(start, end)))));
+            countdownTimes.add(batchDelayTimer);
+            start = end;
+        }
+
+        addDeferredTasks(tasks, countdownTimes);
+    }
+
+    /**
+     * Schedules for each of the given emails to be sent by a task of its own,
+     * so that a failure to send one email does not cause the other emails to be sent again.
+     *
+     * <p>A failure to add the tasks is thrown, so that the emails are not lost silently.
+     *
+     * @param emails the list of emails to be sent
+     */
+    public void scheduleEmailsForRetry(List<EmailWrapper> emails) {
+        List<TaskWrapper> tasks = new ArrayList<>();
+        List<Long> countdownTimes = new ArrayList<>();
         for (EmailWrapper email : emails) {
-            long emailDelayTimer = (long) numberOfEmailsSent * (long) emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
-            numberOfEmailsSent++;
+            tasks.add(new TaskWrapper(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                    new HashMap<>(), new SendEmailRequest(email)));
+            countdownTimes.add(0L);
         }
+
+        addDeferredTasks(tasks, countdownTimes);
     }
 
     /**
@@ -247,25 +384,22 @@ public class TaskQueuer {
                 paramMap, null);
     }
 
-    private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
-        try {
-            SendEmailRequest request = new SendEmailRequest(email);
-
-            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
-                            new HashMap<>(), request, emailDelayTimer);
-        } catch (Exception e) {
-            String emailSubject = email.getSubject();
-            String emailSenderName = email.getSenderName();
-            String emailSender = email.getSenderEmail();
-            String emailReceiver = email.getRecipient();
-            String emailReplyToAddress = email.getReplyTo();
-
-            log.severe("Error when adding email to task queue: " + e.getMessage() + "\n"
-                       + "Email sender: " + emailSender + "\n"
-                       + "Email sender name: " + emailSenderName + "\n"
-                       + "Email receiver: " + emailReceiver + "\n"
-                       + "Email subject: " + emailSubject + "\n"
-                       + "Email reply-to address: " + emailReplyToAddress);
+    /**
+     * Schedules for the search indexing of the students of a course identified by {@code emails}.
+     *
+     * <p>The students are indexed in batches of {@link #SEARCH_INDEXING_BATCH_SIZE}, one task per batch.
+     *
+     * @param courseId the course ID of the students
+     * @param emails the emails of the students
+     */
+    public void scheduleStudentsForSearchIndexing(String courseId, List<String> emails) {
+        for (int start = 0; start < emails.size(); start += SEARCH_INDEXING_BATCH_SIZE) {
+            List<String> batch = emails.subList(start, Math.min(start + SEARCH_INDEXING_BATCH_SIZE, emails.size()));
+            StudentsSearchIndexingRequest request =
+                    new StudentsSearchIndexingRequest(courseId, batch.toArray(new String[0]));
+
+            addTask(TaskQueue.SEARCH_INDEXING_QUEUE_NAME, TaskQueue.STUDENTS_SEARCH_INDEXING_WORKER_URL,
+                    new HashMap<>(), request);
         }
     }
 
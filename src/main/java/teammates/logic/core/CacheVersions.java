@@ -0,0 +1,63 @@
+package teammates.logic.core;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tracks the versions of the keys of a cache, so that a cached value can be checked against
+ * the invalidations made after it is computed.
+ *
+ * <p>Only the versions of the most recently invalidated keys are kept. Any other key has the highest
+ * version evicted so far, hence the version of a key never decreases and every invalidation gives
+ * the key a version higher than any it had before.
+ */
+final class CacheVersions {
+
+    private final int maxEntries;
+    // in order of invalidation, hence also in order of version
+    private final Map<String, Long> versions = new LinkedHashMap<>();
+
+    private long latestVersion;
+    private long evictedVersion;
+
+    CacheVersions(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Gets the current version of a key.
+     */
+    synchronized long get(String key) {
+        return versions.getOrDefault(key, evictedVersion);
+    }
+
+    /**
+     * Gives a key a new version.
+     */
+    synchronized void bump(String key) {
+        versions.remove(key);
+        versions.put(key, ++latestVersion);
+        if (versions.size() > maxEntries) {
+            Iterator<Long> eldest = versions.values().iterator();
+            evictedVersion = eldest.next();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Gives all keys a new version.
+     */
+    synchronized void bumpAll() {
+        versions.clear();
+        evictedVersion = ++latestVersion;
+    }
+
+    /**
+     * Gets the number of keys whose versions are kept.
+     */
+    synchronized int size() {
+        return versions.size();
+    }
+
+}
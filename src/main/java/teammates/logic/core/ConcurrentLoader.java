@@ -0,0 +1,99 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import teammates.common.util.RequestTracer;
+import teammates.storage.api.OfyHelper;
+
+/**
+ * Runs independent loads of a single request concurrently.
+ *
+ * <p>Each load is run in its own datastore session under the trace of the current request,
+ * so that the deadline of the request still applies.
+ */
+final class ConcurrentLoader {
+
+    /**
+     * Maximum number of loads run at the same time by a single instance.
+     */
+    private static final int MAX_CONCURRENT_LOADS = 8;
+
+    private static final ExecutorService LOAD_EXECUTOR =
+            Executors.newFixedThreadPool(MAX_CONCURRENT_LOADS, new LoadThreadFactory());
+
+    private ConcurrentLoader() {
+        // utility class
+    }
+
+    /**
+     * Loads the result for each of the items, with the loads of different items run concurrently.
+     *
+     * <p>A single item is loaded in the calling thread. Items are also loaded one by one in the calling thread
+     * if it is itself running a load, so that nested loads cannot exhaust the pool and wait on each other forever.
+     *
+     * @return the loaded results, in the order of the items
+     */
+    static <T, R> List<R> loadEach(List<T> items, Function<T, R> loader) {
+        List<R> results = new ArrayList<>();
+        if (items.size() <= 1 || Thread.currentThread() instanceof LoadThread) {
+            for (T item : items) {
+                results.add(loader.apply(item));
+            }
+            return results;
+        }
+
+        List<Future<R>> futures = new ArrayList<>();
+        for (T item : items) {
+            Supplier<R> load = RequestTracer.propagate(
+                    () -> OfyHelper.getInNewSession(() -> {
+                        RequestTracer.checkRemainingTime();
+                        return loader.apply(item);
+                    }));
+            futures.add(LOAD_EXECUTOR.submit(load::get));
+        }
+
+        try {
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading", e);
+        }
+        return results;
+    }
+
+    private static class LoadThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new LoadThread(runnable, "concurrent-load-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    private static class LoadThread extends Thread {
+        LoadThread(Runnable runnable, String name) {
+            super(runnable, name);
+        }
+    }
+
+}
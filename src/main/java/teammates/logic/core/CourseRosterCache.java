@@ -0,0 +1,193 @@
+package teammates.logic.core;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.util.RequestTracer;
+
+/**
+ * Caches the {@link CourseRoster} of courses so that the students and instructors of a course
+ * need not be read from the database multiple times.
+ *
+ * <p>The cache has two tiers:
+ * <ul>
+ *     <li>a request-scoped tier, which lives as long as the request being served by the current thread;</li>
+ *     <li>a bounded tier shared by all requests in the same instance, keyed by course ID and roster version.</li>
+ * </ul>
+ *
+ * <p>The roster version of a course is bumped whenever a student or instructor of the course is
+ * created, updated or deleted, which invalidates the cached rosters of that course.
+ * As the shared tier is not synchronized across instances, its entries also expire after
+ * {@link #SHARED_ENTRY_TTL_MILLIS} so that changes made via other instances are picked up eventually.
+ */
+public final class CourseRosterCache {
+
+    static final int MAX_SHARED_ENTRIES = 100;
+    static final long SHARED_ENTRY_TTL_MILLIS = 60 * 1000L;
+    static final int MAX_TRACKED_VERSIONS = 10 * MAX_SHARED_ENTRIES;
+
+    private static final String REQUEST_ATTRIBUTE_PREFIX = "courseRoster:";
+
+    private static final CourseRosterCache instance = new CourseRosterCache();
+
+    private final CacheVersions rosterVersions = new CacheVersions(MAX_TRACKED_VERSIONS);
+    private final Map<String, VersionedRoster> sharedRosters =
+            new LinkedHashMap<>(MAX_SHARED_ENTRIES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, VersionedRoster> eldest) {
+                    return size() > MAX_SHARED_ENTRIES;
+                }
+            };
+
+    private final AtomicLong lookupCount = new AtomicLong();
+    private final AtomicLong sharedHitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    private StudentsLogic studentsLogic;
+    private InstructorsLogic instructorsLogic;
+
+    private CourseRosterCache() {
+        // prevent initialization
+    }
+
+    public static CourseRosterCache inst() {
+        return instance;
+    }
+
+    void initLogicDependencies() {
+        studentsLogic = StudentsLogic.inst();
+        instructorsLogic = InstructorsLogic.inst();
+    }
+
+    /**
+     * Gets the roster of a course, reading it from the database only if there is no valid cached copy.
+     *
+     * <p>The returned roster is shared with other callers and must not be modified.
+     */
+    public CourseRoster getCourseRoster(String courseId) {
+        lookupCount.incrementAndGet();
+        return RequestTracer.getOrComputeAttribute(REQUEST_ATTRIBUTE_PREFIX + courseId,
+                () -> loadCourseRoster(courseId, true));
+    }
+
+    /**
+     * Gets the roster of a course as read from the database, ignoring the shared tier.
+     *
+     * <p>This should be used when the roster decides what is written to the database, e.g. the sections
+     * of responses, as the shared tier may miss changes made via other instances until its entries expire.
+     * The roster read replaces the cached copies, so later reads in the same request see the same roster.
+     *
+     * <p>The returned roster is shared with other callers and must not be modified.
+     */
+    public CourseRoster getFreshCourseRoster(String courseId) {
+        lookupCount.incrementAndGet();
+        RequestTracer.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + courseId);
+        return RequestTracer.getOrComputeAttribute(REQUEST_ATTRIBUTE_PREFIX + courseId,
+                () -> loadCourseRoster(courseId, false));
+    }
+
+    private CourseRoster loadCourseRoster(String courseId, boolean isSharedTierAllowed) {
+        long version = getRosterVersion(courseId);
+        long now = Instant.now().toEpochMilli();
+
+        if (isSharedTierAllowed) {
+            synchronized (sharedRosters) {
+                VersionedRoster cached = sharedRosters.get(courseId);
+                if (cached != null && cached.version == version && now - cached.loadedAt < SHARED_ENTRY_TTL_MILLIS) {
+                    sharedHitCount.incrementAndGet();
+                    return cached.roster;
+                }
+            }
+        }
+
+        missCount.incrementAndGet();
+        CourseRoster roster = new CourseRoster(
+                studentsLogic.getStudentsForCourse(courseId),
+                instructorsLogic.getInstructorsForCourse(courseId));
+
+        synchronized (sharedRosters) {
+            // the roster is only cached if no invalidation happened while it was being read
+            if (getRosterVersion(courseId) == version) {
+                sharedRosters.put(courseId, new VersionedRoster(roster, version, now));
+            }
+        }
+        return roster;
+    }
+
+    long getRosterVersion(String courseId) {
+        return rosterVersions.get(courseId);
+    }
+
+    /**
+     * Invalidates the cached rosters of a course.
+     *
+     * <p>This should be called whenever a student or instructor of the course is created, updated or deleted.
+     */
+    public void invalidate(String courseId) {
+        invalidationCount.incrementAndGet();
+        rosterVersions.bump(courseId);
+        synchronized (sharedRosters) {
+            sharedRosters.remove(courseId);
+        }
+        RequestTracer.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + courseId);
+    }
+
+    /**
+     * Invalidates the cached rosters of all courses.
+     *
+     * <p>Rosters already cached in the request-scoped tier of an ongoing request are not affected.
+     */
+    public void invalidateAll() {
+        invalidationCount.incrementAndGet();
+        rosterVersions.bumpAll();
+        synchronized (sharedRosters) {
+            sharedRosters.clear();
+        }
+    }
+
+    /**
+     * Gets the number of lookups served by the request-scoped tier.
+     */
+    public long getRequestHitCount() {
+        // lookups that reach the shared tier are either shared hits or misses
+        return Math.max(0, lookupCount.get() - sharedHitCount.get() - missCount.get());
+    }
+
+    /**
+     * Gets the number of lookups served by the shared tier.
+     */
+    public long getSharedHitCount() {
+        return sharedHitCount.get();
+    }
+
+    /**
+     * Gets the number of lookups which had to read the roster from the database.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets the number of invalidations performed.
+     */
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    private static class VersionedRoster {
+        private final CourseRoster roster;
+        private final long version;
+        private final long loadedAt;
+
+        VersionedRoster(CourseRoster roster, long version, long loadedAt) {
+            this.roster = roster;
+            this.version = version;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+}
@@ -2,8 +2,10 @@ package teammates.logic.core;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -79,6 +81,19 @@ public final class CoursesLogic {
         return cd.getInstitute();
     }
 
+    /**
+     * Gets the institutes associated with the courses, reading all the courses in a batch.
+     *
+     * @return a map from course ID to institute; courses which do not exist are not in the map
+     */
+    public Map<String, String> getCourseInstitutes(List<String> courseIds) {
+        Map<String, String> courseInstitutes = new HashMap<>();
+        for (CourseAttributes course : coursesDb.getCourses(courseIds)) {
+            courseInstitutes.put(course.getId(), course.getInstitute());
+        }
+        return courseInstitutes;
+    }
+
     /**
      * Creates a course.
      *
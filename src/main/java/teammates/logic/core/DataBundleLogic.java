@@ -33,6 +33,7 @@ import teammates.storage.api.DeadlineExtensionsDb;
 import teammates.storage.api.FeedbackQuestionsDb;
 import teammates.storage.api.FeedbackResponseCommentsDb;
 import teammates.storage.api.FeedbackResponsesDb;
+import teammates.storage.api.FeedbackSessionSubmissionSummariesDb;
 import teammates.storage.api.FeedbackSessionsDb;
 import teammates.storage.api.InstructorsDb;
 import teammates.storage.api.NotificationsDb;
@@ -57,6 +58,7 @@ public final class DataBundleLogic {
     private final FeedbackQuestionsDb fqDb = FeedbackQuestionsDb.inst();
     private final FeedbackResponsesDb frDb = FeedbackResponsesDb.inst();
     private final FeedbackResponseCommentsDb fcDb = FeedbackResponseCommentsDb.inst();
+    private final FeedbackSessionSubmissionSummariesDb fsssDb = FeedbackSessionSubmissionSummariesDb.inst();
     private final NotificationsDb nfDb = NotificationsDb.inst();
 
     private DataBundleLogic() {
@@ -112,6 +114,7 @@ public final class DataBundleLogic {
         List<CourseAttributes> newCourses = coursesDb.putEntities(courses);
         List<InstructorAttributes> newInstructors = instructorsDb.putEntities(instructors);
         List<StudentAttributes> newStudents = studentsDb.putEntities(students);
+        CourseRosterCache.inst().invalidateAll();
         List<FeedbackSessionAttributes> newFeedbackSessions = fbDb.putEntities(sessions);
         List<DeadlineExtensionAttributes> newDeadlineExtensions = deadlineExtensionsDb.putEntities(deadlineExtensions);
 
@@ -119,6 +122,12 @@ public final class DataBundleLogic {
         injectRealIds(responses, responseComments, createdQuestions);
 
         List<FeedbackResponseAttributes> newFeedbackResponses = frDb.putEntities(responses);
+        // summaries are rebuilt from the responses when they are next read
+        newFeedbackResponses.stream()
+                .map(FeedbackResponseAttributes::getCourseId)
+                .distinct()
+                .forEach(courseId -> fsssDb.deleteSubmissionSummaries(
+                        AttributesDeletionQuery.builder().withCourseId(courseId).build()));
         List<FeedbackResponseCommentAttributes> newFeedbackResponseComments = fcDb.putEntities(responseComments);
         List<NotificationAttributes> newNotifications = nfDb.putEntities(notifications);
 
@@ -167,24 +176,26 @@ public final class DataBundleLogic {
         // query the entity in db first to get the actual data and create document for actual entity
 
         Map<String, StudentAttributes> students = dataBundle.students;
+        List<StudentAttributes> studentsInDb = new ArrayList<>();
         for (StudentAttributes student : students.values()) {
-            StudentAttributes studentInDb = studentsDb.getStudentForEmail(student.getCourse(), student.getEmail());
-            studentsDb.putDocument(studentInDb);
+            studentsInDb.add(studentsDb.getStudentForEmail(student.getCourse(), student.getEmail()));
         }
+        studentsDb.putDocuments(studentsInDb);
 
         Map<String, InstructorAttributes> instructors = dataBundle.instructors;
+        List<InstructorAttributes> instructorsInDb = new ArrayList<>();
         for (InstructorAttributes instructor : instructors.values()) {
-            InstructorAttributes instructorInDb =
-                    instructorsDb.getInstructorForEmail(instructor.getCourseId(), instructor.getEmail());
-            instructorsDb.putDocument(instructorInDb);
+            instructorsInDb.add(instructorsDb.getInstructorForEmail(instructor.getCourseId(), instructor.getEmail()));
         }
+        instructorsDb.putDocuments(instructorsInDb);
 
         Map<String, AccountRequestAttributes> accountRequests = dataBundle.accountRequests;
+        List<AccountRequestAttributes> accountRequestsInDb = new ArrayList<>();
         for (AccountRequestAttributes accountRequest : accountRequests.values()) {
-            AccountRequestAttributes accountRequestInDb =
-                    accountRequestsDb.getAccountRequest(accountRequest.getEmail(), accountRequest.getInstitute());
-            accountRequestsDb.putDocument(accountRequestInDb);
+            accountRequestsInDb.add(
+                    accountRequestsDb.getAccountRequest(accountRequest.getEmail(), accountRequest.getInstitute()));
         }
+        accountRequestsDb.putDocuments(accountRequestsInDb);
     }
 
     private void processInstructors(
@@ -372,6 +383,7 @@ public final class DataBundleLogic {
         // Questions, responses and deadline extensions will be deleted automatically.
         // We don't attempt to delete them again, to save time.
         deleteCourses(dataBundle.courses.values());
+        CourseRosterCache.inst().invalidateAll();
 
         dataBundle.accounts.values().forEach(account -> {
             accountsDb.deleteAccount(account.getGoogleId());
@@ -396,6 +408,7 @@ public final class DataBundleLogic {
                         .build();
                 fcDb.deleteFeedbackResponseComments(query);
                 frDb.deleteFeedbackResponses(query);
+                fsssDb.deleteSubmissionSummaries(query);
                 fqDb.deleteFeedbackQuestions(query);
                 fbDb.deleteFeedbackSessions(query);
                 studentsDb.deleteStudents(query);
@@ -0,0 +1,23 @@
+package teammates.logic.core;
+
+import java.util.function.Supplier;
+
+import teammates.storage.api.OfyHelper;
+
+/**
+ * Runs work outside of any request, e.g. in a background thread, in its own datastore session.
+ */
+public final class DatastoreSessions {
+
+    private DatastoreSessions() {
+        // utility class
+    }
+
+    /**
+     * Gets the result of the given work run in a new datastore session.
+     */
+    public static <T> T getInNewSession(Supplier<T> work) {
+        return OfyHelper.getInNewSession(work);
+    }
+
+}
@@ -0,0 +1,150 @@
+package teammates.logic.core;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Caches the expected number of submissions of feedback sessions, so that the session stats
+ * need not query the questions and the roster of the course every time.
+ *
+ * <p>The cache is bounded and shared by all requests in the same instance. Each entry is keyed by
+ * course ID and session name, and is only valid for the question version of the session and
+ * the roster version of the course at the time it is computed:
+ * <ul>
+ *     <li>the question version of a session is bumped whenever a question of the session is
+ *     created, updated or deleted;</li>
+ *     <li>the roster version of a course is kept by {@link CourseRosterCache}.</li>
+ * </ul>
+ *
+ * <p>As the cache is not synchronized across instances, its entries also expire after
+ * {@link #ENTRY_TTL_MILLIS} so that changes made via other instances are picked up eventually.
+ */
+public final class ExpectedSubmissionCountCache {
+
+    static final int MAX_ENTRIES = 1000;
+    static final long ENTRY_TTL_MILLIS = 60 * 1000L;
+    static final int MAX_TRACKED_VERSIONS = 10 * MAX_ENTRIES;
+
+    private static final ExpectedSubmissionCountCache instance = new ExpectedSubmissionCountCache();
+
+    private final CacheVersions questionVersions = new CacheVersions(MAX_TRACKED_VERSIONS);
+    private final Map<String, VersionedCount> counts =
+            new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, VersionedCount> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            };
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    private CourseRosterCache courseRosterCache;
+
+    private ExpectedSubmissionCountCache() {
+        // prevent initialization
+    }
+
+    public static ExpectedSubmissionCountCache inst() {
+        return instance;
+    }
+
+    void initLogicDependencies() {
+        courseRosterCache = CourseRosterCache.inst();
+    }
+
+    /**
+     * Gets the expected number of submissions of a session, computing it with {@code counter}
+     * only if there is no valid cached count.
+     */
+    public int getExpectedTotalSubmission(String courseId, String feedbackSessionName, IntSupplier counter) {
+        String key = getKey(courseId, feedbackSessionName);
+        long rosterVersion = courseRosterCache.getRosterVersion(courseId);
+        long questionVersion = questionVersions.get(key);
+        long now = Instant.now().toEpochMilli();
+
+        synchronized (counts) {
+            VersionedCount cached = counts.get(key);
+            if (cached != null && cached.isValid(rosterVersion, questionVersion)
+                    && now - cached.computedAt < ENTRY_TTL_MILLIS) {
+                hitCount.incrementAndGet();
+                return cached.count;
+            }
+        }
+
+        missCount.incrementAndGet();
+        int count = counter.getAsInt();
+
+        synchronized (counts) {
+            // the count is only cached if no invalidation happened while it was being computed
+            if (courseRosterCache.getRosterVersion(courseId) == rosterVersion
+                    && questionVersions.get(key) == questionVersion) {
+                counts.put(key, new VersionedCount(count, rosterVersion, questionVersion, now));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Invalidates the cached count of a session.
+     *
+     * <p>This should be called whenever a question of the session is created, updated or deleted.
+     * Changes to the roster of the course are picked up via {@link CourseRosterCache}.
+     */
+    public void invalidate(String courseId, String feedbackSessionName) {
+        invalidationCount.incrementAndGet();
+        String key = getKey(courseId, feedbackSessionName);
+        questionVersions.bump(key);
+        synchronized (counts) {
+            counts.remove(key);
+        }
+    }
+
+    /**
+     * Gets the number of lookups served by the cache.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of lookups which had to compute the count.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Gets the number of invalidations performed.
+     */
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    private static String getKey(String courseId, String feedbackSessionName) {
+        return courseId + "%" + feedbackSessionName;
+    }
+
+    private static class VersionedCount {
+        private final int count;
+        private final long rosterVersion;
+        private final long questionVersion;
+        private final long computedAt;
+
+        VersionedCount(int count, long rosterVersion, long questionVersion, long computedAt) {
+            this.count = count;
+            this.rosterVersion = rosterVersion;
+            this.questionVersion = questionVersion;
+            this.computedAt = computedAt;
+        }
+
+        boolean isValid(long currentRosterVersion, long currentQuestionVersion) {
+            return rosterVersion == currentRosterVersion && questionVersion == currentQuestionVersion;
+        }
+    }
+
+}
@@ -44,7 +44,9 @@ public final class FeedbackQuestionsLogic {
 
     private final FeedbackQuestionsDb fqDb = FeedbackQuestionsDb.inst();
 
+    private CourseRosterCache courseRosterCache;
     private CoursesLogic coursesLogic;
+    private ExpectedSubmissionCountCache expectedSubmissionCountCache;
     private FeedbackResponsesLogic frLogic;
     private FeedbackSessionsLogic fsLogic;
     private InstructorsLogic instructorsLogic;
@@ -59,7 +61,9 @@ public final class FeedbackQuestionsLogic {
     }
 
     void initLogicDependencies() {
+        courseRosterCache = CourseRosterCache.inst();
         coursesLogic = CoursesLogic.inst();
+        expectedSubmissionCountCache = ExpectedSubmissionCountCache.inst();
         frLogic = FeedbackResponsesLogic.inst();
         fsLogic = FeedbackSessionsLogic.inst();
         instructorsLogic = InstructorsLogic.inst();
@@ -79,6 +83,7 @@ public final class FeedbackQuestionsLogic {
                 getFeedbackQuestionsForSession(fqa.getFeedbackSessionName(), fqa.getCourseId());
 
         FeedbackQuestionAttributes createdQuestion = fqDb.putEntity(fqa);
+        expectedSubmissionCountCache.invalidate(createdQuestion.getCourseId(), createdQuestion.getFeedbackSessionName());
 
         adjustQuestionNumbers(questionsBefore.size() + 1, createdQuestion.getQuestionNumber(), questionsBefore);
         return createdQuestion;
@@ -279,13 +284,22 @@ public final class FeedbackQuestionsLogic {
         return fqDb.hasFeedbackQuestionsForGiverType(feedbackSessionName, courseId, giverType);
     }
 
+    /**
+     * Gets the names of the sessions in a course which have any question in a specific giverType.
+     */
+    public Set<String> getFeedbackSessionNamesWithQuestionsForGiverType(
+            String courseId, FeedbackParticipantType giverType) {
+        return fqDb.getFeedbackSessionNamesWithQuestionsForGiverType(courseId, giverType);
+    }
+
     /**
      * Gets the recipients of a feedback question including recipient section and team.
      *
      * @param question the feedback question
      * @param instructorGiver can be null for student giver
      * @param studentGiver can be null for instructor giver
-     * @param courseRoster if provided, the function can be completed without touching database
+     * @param courseRoster if provided, the function can be completed without touching database;
+     *                     otherwise the cached roster of the course is used where possible
      * @return a Map of {@code FeedbackQuestionRecipient} as the value and identifier as the key.
      */
     public Map<String, FeedbackQuestionRecipient> getRecipientsOfQuestion(
@@ -333,7 +347,7 @@ public final class FeedbackQuestionsLogic {
                 if (generateOptionsFor == FeedbackParticipantType.STUDENTS_IN_SAME_SECTION) {
                     studentList = studentsLogic.getStudentsForSection(giverSection, question.getCourseId());
                 } else {
-                    studentList = studentsLogic.getStudentsForCourse(question.getCourseId());
+                    studentList = courseRosterCache.getCourseRoster(question.getCourseId()).getStudents();
                 }
             } else {
                 if (generateOptionsFor == FeedbackParticipantType.STUDENTS_IN_SAME_SECTION) {
@@ -364,7 +378,7 @@ public final class FeedbackQuestionsLogic {
         case INSTRUCTORS:
             List<InstructorAttributes> instructorsInCourse;
             if (courseRoster == null) {
-                instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.getCourseId());
+                instructorsInCourse = courseRosterCache.getCourseRoster(question.getCourseId()).getInstructors();
             } else {
                 instructorsInCourse = courseRoster.getInstructors();
             }
@@ -389,7 +403,7 @@ public final class FeedbackQuestionsLogic {
                 if (generateOptionsFor == FeedbackParticipantType.TEAMS_IN_SAME_SECTION) {
                     teamStudents = studentsLogic.getStudentsForSection(giverSection, question.getCourseId());
                 } else {
-                    teamStudents = studentsLogic.getStudentsForCourse(question.getCourseId());
+                    teamStudents = courseRosterCache.getCourseRoster(question.getCourseId()).getStudents();
                 }
                 teamToTeamMembersTable = CourseRoster.buildTeamToMembersTable(teamStudents);
             } else {
@@ -473,48 +487,51 @@ public final class FeedbackQuestionsLogic {
 
         List<String> possibleGivers = getPossibleGivers(relatedQuestion, courseRoster);
         for (String possibleGiver : possibleGivers) {
-            switch (relatedQuestion.getGiverType()) {
-            case STUDENTS:
-                StudentAttributes studentGiver = courseRoster.getStudentForEmail(possibleGiver);
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiver, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, null, studentGiver, courseRoster).keySet());
-                break;
-            case TEAMS:
-                StudentAttributes oneTeamMember =
-                        courseRoster.getTeamToMembersTable().get(possibleGiver).iterator().next();
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiver, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, null, oneTeamMember, courseRoster).keySet());
-                break;
-            case INSTRUCTORS:
-            case SELF:
-                InstructorAttributes instructorGiver = courseRoster.getInstructorForEmail(possibleGiver);
-
-                // only happens when a session creator quits their course
-                if (instructorGiver == null) {
-                    instructorGiver =
-                            InstructorAttributes
-                                    .builder(relatedQuestion.getCourseId(), possibleGiver)
-                                    .build();
-                }
-
-                completeGiverRecipientMap
-                        .computeIfAbsent(possibleGiver, key -> new HashSet<>())
-                        .addAll(getRecipientsOfQuestion(
-                                relatedQuestion, instructorGiver, null, courseRoster).keySet());
-                break;
-            default:
-                log.severe("Invalid giver type specified");
-                break;
-            }
+            completeGiverRecipientMap
+                    .computeIfAbsent(possibleGiver, key -> new HashSet<>())
+                    .addAll(getPossibleRecipientsOfGiver(relatedQuestion, possibleGiver, courseRoster));
         }
 
         return completeGiverRecipientMap;
     }
 
+    /**
+     * Gets possible recipient identifiers of a giver for a feedback question.
+     *
+     * @param relatedQuestion the feedback question
+     * @param possibleGiver a giver identifier as returned by {@link #getPossibleGivers}
+     * @param courseRoster roster of all students and instructors
+     * @return a set of recipient identifiers
+     */
+    Set<String> getPossibleRecipientsOfGiver(
+            FeedbackQuestionAttributes relatedQuestion, String possibleGiver, CourseRoster courseRoster) {
+        switch (relatedQuestion.getGiverType()) {
+        case STUDENTS:
+            StudentAttributes studentGiver = courseRoster.getStudentForEmail(possibleGiver);
+            return getRecipientsOfQuestion(relatedQuestion, null, studentGiver, courseRoster).keySet();
+        case TEAMS:
+            StudentAttributes oneTeamMember =
+                    courseRoster.getTeamToMembersTable().get(possibleGiver).iterator().next();
+            return getRecipientsOfQuestion(relatedQuestion, null, oneTeamMember, courseRoster).keySet();
+        case INSTRUCTORS:
+        case SELF:
+            InstructorAttributes instructorGiver = courseRoster.getInstructorForEmail(possibleGiver);
+
+            // only happens when a session creator quits their course
+            if (instructorGiver == null) {
+                instructorGiver =
+                        InstructorAttributes
+                                .builder(relatedQuestion.getCourseId(), possibleGiver)
+                                .build();
+            }
+
+            return getRecipientsOfQuestion(relatedQuestion, instructorGiver, null, courseRoster).keySet();
+        default:
+            log.severe("Invalid giver type specified");
+            return Collections.emptySet();
+        }
+    }
+
     /**
      * Gets possible giver identifiers for a feedback question.
      *
@@ -522,7 +539,7 @@ public final class FeedbackQuestionsLogic {
      * @param courseRoster roster of all students and instructors
      * @return a list of giver identifier
      */
-    private List<String> getPossibleGivers(
+    List<String> getPossibleGivers(
             FeedbackQuestionAttributes fqa, CourseRoster courseRoster) {
         FeedbackParticipantType giverType = fqa.getGiverType();
         List<String> possibleGivers = new ArrayList<>();
@@ -716,6 +733,7 @@ public final class FeedbackQuestionsLogic {
 
         // update question
         FeedbackQuestionAttributes updatedQuestion = fqDb.updateFeedbackQuestion(updateOptions);
+        expectedSubmissionCountCache.invalidate(updatedQuestion.getCourseId(), updatedQuestion.getFeedbackSessionName());
 
         if (oldQuestionNumber != newQuestionNumber) {
             // shift other feedback questions (generate an empty "slot")
@@ -781,6 +799,8 @@ public final class FeedbackQuestionsLogic {
 
         // delete question
         fqDb.deleteFeedbackQuestion(feedbackQuestionId);
+        expectedSubmissionCountCache.invalidate(
+                questionToDelete.getCourseId(), questionToDelete.getFeedbackSessionName());
 
         // adjust question numbers
         if (questionToDelete.getQuestionNumber() < questionsToShiftQnNumber.size()) {
@@ -793,6 +813,9 @@ public final class FeedbackQuestionsLogic {
      */
     public void deleteFeedbackQuestions(AttributesDeletionQuery query) {
         fqDb.deleteFeedbackQuestions(query);
+        if (query.isFeedbackSessionNamePresent()) {
+            expectedSubmissionCountCache.invalidate(query.getCourseId(), query.getFeedbackSessionName());
+        }
     }
 
     // Shifts all question numbers after questionNumberToShiftFrom down by one.
@@ -205,71 +205,8 @@ public final class FeedbackResponseCommentsLogic {
      */
     public boolean isNameVisibleToUser(FeedbackResponseCommentAttributes comment, FeedbackResponseAttributes response,
                                    String userEmail, CourseRoster roster) {
-        List<FeedbackParticipantType> showNameTo = comment.getShowGiverNameTo();
-        //in the old ver, name is always visible
-        if (showNameTo == null || comment.isVisibilityFollowingFeedbackQuestion()) {
-            return true;
-        }
-
-        //comment giver can always see
-        if (userEmail.equals(comment.getCommentGiver())) {
-            return true;
-        }
-
-        return isFeedbackParticipantNameVisibleToUser(response, userEmail, roster, showNameTo);
-    }
-
-    private boolean isFeedbackParticipantNameVisibleToUser(FeedbackResponseAttributes response,
-            String userEmail, CourseRoster roster, List<FeedbackParticipantType> showNameTo) {
-        String responseGiverTeam = "giverTeam";
-        if (roster.getStudentForEmail(response.getGiver()) != null) {
-            responseGiverTeam = roster.getStudentForEmail(response.getGiver()).getTeam();
-        }
-        String responseRecipientTeam = "recipientTeam";
-        if (roster.getStudentForEmail(response.getRecipient()) != null) {
-            responseRecipientTeam = roster.getStudentForEmail(response.getRecipient()).getTeam();
-        }
-        String currentUserTeam = "currentUserTeam";
-        if (roster.getStudentForEmail(userEmail) != null) {
-            currentUserTeam = roster.getStudentForEmail(userEmail).getTeam();
-        }
-        for (FeedbackParticipantType type : showNameTo) {
-            switch (type) {
-            case INSTRUCTORS:
-                if (roster.getInstructorForEmail(userEmail) != null) {
-                    return true;
-                }
-                break;
-            case OWN_TEAM_MEMBERS:
-                if (responseGiverTeam.equals(currentUserTeam)) {
-                    return true;
-                }
-                break;
-            case RECEIVER:
-                if (userEmail.equals(response.getRecipient())) {
-                    return true;
-                }
-                break;
-            case RECEIVER_TEAM_MEMBERS:
-                if (responseRecipientTeam.equals(currentUserTeam)) {
-                    return true;
-                }
-                break;
-            case STUDENTS:
-                if (roster.getStudentForEmail(userEmail) != null) {
-                    return true;
-                }
-                break;
-            case GIVER:
-                if (userEmail.equals(response.getGiver())) {
-                    return true;
-                }
-                break;
-            default:
-                break;
-            }
-        }
-        return false;
+        return ResultsVisibilityPolicy.forUser(userEmail, false, null, null, null, roster)
+                .isCommentGiverNameVisible(comment, response);
     }
 
     /**
@@ -284,82 +221,9 @@ public final class FeedbackResponseCommentsLogic {
             return false;
         }
 
-        boolean isVisibilityFollowingFeedbackQuestion = relatedComment.isVisibilityFollowingFeedbackQuestion();
-        boolean isVisibleToGiver = isVisibilityFollowingFeedbackQuestion
-                                 || relatedComment.isVisibleTo(FeedbackParticipantType.GIVER);
-
-        boolean isVisibleToUser = isVisibleToUser(userEmail, response, relatedQuestion, relatedComment,
-                isVisibleToGiver, isInstructor, !isInstructor);
-
-        boolean isVisibleToUserTeam = isVisibleToUserTeam(student, studentsEmailInTeam, response,
-                relatedQuestion, relatedComment, !isInstructor);
-
-        return isVisibleToUser || isVisibleToUserTeam;
-    }
-
-    private boolean isVisibleToUserTeam(StudentAttributes student, Set<String> studentsEmailInTeam,
-            FeedbackResponseAttributes response, FeedbackQuestionAttributes relatedQuestion,
-            FeedbackResponseCommentAttributes relatedComment, boolean isUserStudent) {
-
-        boolean isUserInResponseRecipientTeamAndRelatedResponseCommentVisibleToRecipients =
-                isUserStudent
-                && relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS
-                && isResponseCommentVisibleTo(relatedQuestion, relatedComment,
-                                              FeedbackParticipantType.RECEIVER)
-                && response.getRecipient().equals(student.getTeam());
-
-        boolean isUserInResponseGiverTeamAndRelatedResponseCommentVisibleToGiversTeamMembers =
-                (relatedQuestion.getGiverType() == FeedbackParticipantType.TEAMS
-                || isResponseCommentVisibleTo(relatedQuestion, relatedComment,
-                                              FeedbackParticipantType.OWN_TEAM_MEMBERS))
-                && (studentsEmailInTeam.contains(response.getGiver())
-                        || isUserStudent && student.getTeam().equals(response.getGiver()));
-
-        boolean isUserInResponseRecipientTeamAndRelatedResponseCommentVisibleToRecipientsTeamMembers =
-                isResponseCommentVisibleTo(relatedQuestion, relatedComment,
-                                           FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
-                && studentsEmailInTeam.contains(response.getRecipient());
-
-        return isUserInResponseRecipientTeamAndRelatedResponseCommentVisibleToRecipients
-                || isUserInResponseGiverTeamAndRelatedResponseCommentVisibleToGiversTeamMembers
-                || isUserInResponseRecipientTeamAndRelatedResponseCommentVisibleToRecipientsTeamMembers;
-    }
-
-    private boolean isVisibleToUser(String userEmail, FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes relatedQuestion, FeedbackResponseCommentAttributes relatedComment,
-            boolean isVisibleToGiver, boolean isUserInstructor, boolean isUserStudent) {
-
-        boolean isUserInstructorAndRelatedResponseCommentVisibleToInstructors =
-                isUserInstructor && isResponseCommentVisibleTo(relatedQuestion, relatedComment,
-                                                               FeedbackParticipantType.INSTRUCTORS);
-
-        boolean isUserResponseRecipientAndRelatedResponseCommentVisibleToRecipients =
-                response.getRecipient().equals(userEmail) && isResponseCommentVisibleTo(relatedQuestion,
-                        relatedComment, FeedbackParticipantType.RECEIVER);
-
-        boolean isUserResponseGiverAndRelatedResponseCommentVisibleToGivers =
-                response.getGiver().equals(userEmail) && isVisibleToGiver;
-
-        boolean isUserRelatedResponseCommentGiver = relatedComment.getCommentGiver().equals(userEmail);
-
-        boolean isUserStudentAndRelatedResponseCommentVisibleToStudents =
-                isUserStudent && isResponseCommentVisibleTo(relatedQuestion,
-                        relatedComment, FeedbackParticipantType.STUDENTS);
-
-        return isUserInstructorAndRelatedResponseCommentVisibleToInstructors
-                || isUserResponseRecipientAndRelatedResponseCommentVisibleToRecipients
-                || isUserResponseGiverAndRelatedResponseCommentVisibleToGivers
-                || isUserRelatedResponseCommentGiver
-                || isUserStudentAndRelatedResponseCommentVisibleToStudents;
-    }
-
-    private boolean isResponseCommentVisibleTo(FeedbackQuestionAttributes relatedQuestion,
-                                               FeedbackResponseCommentAttributes relatedComment,
-                                               FeedbackParticipantType viewerType) {
-        boolean isVisibilityFollowingFeedbackQuestion = relatedComment.isVisibilityFollowingFeedbackQuestion();
-        return isVisibilityFollowingFeedbackQuestion
-                ? relatedQuestion.isResponseVisibleTo(viewerType)
-                : relatedComment.isVisibleTo(viewerType);
+        return ResultsVisibilityPolicy.forUser(userEmail, isInstructor, null, student, studentsEmailInTeam, null)
+                .forQuestion(relatedQuestion)
+                .isCommentVisible(response, relatedComment);
     }
 
     private void verifyIsCoursePresent(String courseId) throws EntityDoesNotExistException {
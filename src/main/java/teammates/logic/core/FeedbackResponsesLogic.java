@@ -6,31 +6,37 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.FeedbackResponsesWriteResults;
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.datatransfer.SessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionSubmissionSummaryAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackRankRecipientsResponseDetails;
-import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.datatransfer.questions.QuestionStatisticsAccumulator;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
-import teammates.common.util.Const;
+import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
 import teammates.storage.api.FeedbackResponsesDb;
+import teammates.storage.api.FeedbackSessionSubmissionSummariesDb;
 
 /**
  * Handles operations related to feedback responses.
@@ -40,10 +46,14 @@ import teammates.storage.api.FeedbackResponsesDb;
  */
 public final class FeedbackResponsesLogic {
 
+    private static final Logger log = Logger.getLogger();
+
     private static final FeedbackResponsesLogic instance = new FeedbackResponsesLogic();
 
     private final FeedbackResponsesDb frDb = FeedbackResponsesDb.inst();
+    private final FeedbackSessionSubmissionSummariesDb fsssDb = FeedbackSessionSubmissionSummariesDb.inst();
 
+    private CourseRosterCache courseRosterCache;
     private FeedbackQuestionsLogic fqLogic;
     private FeedbackResponseCommentsLogic frcLogic;
     private InstructorsLogic instructorsLogic;
@@ -58,6 +68,7 @@ public final class FeedbackResponsesLogic {
     }
 
     void initLogicDependencies() {
+        courseRosterCache = CourseRosterCache.inst();
         fqLogic = FeedbackQuestionsLogic.inst();
         frcLogic = FeedbackResponseCommentsLogic.inst();
         instructorsLogic = InstructorsLogic.inst();
@@ -66,9 +77,122 @@ public final class FeedbackResponsesLogic {
 
     /**
      * Gets a set of giver identifiers that has at least one response under a feedback session.
+     *
+     * <p>The set is read from the submission summary of the session, which is built from the responses
+     * if the session does not have one yet.
      */
     public Set<String> getGiverSetThatAnswerFeedbackSession(String courseId, String feedbackSessionName) {
-        return frDb.getGiverSetThatAnswerFeedbackSession(courseId, feedbackSessionName);
+        FeedbackSessionSubmissionSummaryAttributes summary =
+                fsssDb.getSubmissionSummary(courseId, feedbackSessionName);
+        if (summary != null) {
+            return summary.getGiverSet();
+        }
+        return rebuildSubmissionSummary(courseId, feedbackSessionName);
+    }
+
+    /**
+     * Gets the sets of giver identifiers that has at least one response under each of some feedback sessions of a course.
+     *
+     * <p>The submission summaries of the sessions are read in a single batch;
+     * the ones which do not exist yet are built from the responses.
+     *
+     * @return the giver sets by the feedback session name
+     */
+    public Map<String, Set<String>> getGiverSetsThatAnswerFeedbackSessions(
+            String courseId, Collection<String> feedbackSessionNames) {
+        Map<String, FeedbackSessionSubmissionSummaryAttributes> summaries =
+                fsssDb.getSubmissionSummaries(courseId, feedbackSessionNames);
+        Map<String, Set<String>> giverSets = new HashMap<>();
+        for (String feedbackSessionName : feedbackSessionNames) {
+            FeedbackSessionSubmissionSummaryAttributes summary = summaries.get(feedbackSessionName);
+            giverSets.put(feedbackSessionName, summary == null
+                    ? rebuildSubmissionSummary(courseId, feedbackSessionName)
+                    : summary.getGiverSet());
+        }
+        return giverSets;
+    }
+
+    /**
+     * Rebuilds the submission summary of a feedback session from its responses.
+     *
+     * <p>The givers found in the responses are added to the stored summary, which is created if there is none.
+     * This corrects the summary if it has missed any giver, e.g. one whose response is written while
+     * the summary is being built.
+     *
+     * @return the set of giver identifiers that has at least one response under the session
+     */
+    public Set<String> rebuildSubmissionSummary(String courseId, String feedbackSessionName) {
+        Set<String> giverSet = frDb.getGiverSetThatAnswerFeedbackSession(courseId, feedbackSessionName);
+        try {
+            if (fsssDb.mergeSubmissionSummary(buildSubmissionSummary(courseId, feedbackSessionName, giverSet))) {
+                // givers whose first response was written after the read above could not be added to the summary
+                // as it did not exist yet; reading the responses again now that it exists picks them up
+                giverSet = frDb.getGiverSetThatAnswerFeedbackSession(courseId, feedbackSessionName);
+                fsssDb.mergeSubmissionSummary(buildSubmissionSummary(courseId, feedbackSessionName, giverSet));
+            }
+        } catch (InvalidParametersException e) {
+            log.severe("Cannot save submission summary of session " + feedbackSessionName
+                    + " in course " + courseId, e);
+        }
+        return giverSet;
+    }
+
+    private FeedbackSessionSubmissionSummaryAttributes buildSubmissionSummary(
+            String courseId, String feedbackSessionName, Set<String> giverSet) {
+        return FeedbackSessionSubmissionSummaryAttributes.builder(courseId, feedbackSessionName)
+                .withGiverSet(giverSet)
+                .build();
+    }
+
+    private void addGiversToSubmissionSummaries(Collection<FeedbackResponseAttributes> responses) {
+        Map<String, Map<String, Set<String>>> courseToSessionToGivers = new HashMap<>();
+        for (FeedbackResponseAttributes response : responses) {
+            courseToSessionToGivers.computeIfAbsent(response.getCourseId(), k -> new HashMap<>())
+                    .computeIfAbsent(response.getFeedbackSessionName(), k -> new HashSet<>())
+                    .add(response.getGiver());
+        }
+
+        courseToSessionToGivers.forEach((courseId, sessionToGivers) ->
+                sessionToGivers.forEach((feedbackSessionName, givers) ->
+                        updateSubmissionSummary(courseId, feedbackSessionName,
+                                () -> fsssDb.addGiversToSubmissionSummary(courseId, feedbackSessionName, givers))));
+    }
+
+    private void removeGiverFromSubmissionSummaryIfNoResponses(FeedbackResponseAttributes response) {
+        String courseId = response.getCourseId();
+        String feedbackSessionName = response.getFeedbackSessionName();
+        FeedbackSessionSubmissionSummaryAttributes summary =
+                fsssDb.getSubmissionSummary(courseId, feedbackSessionName);
+        if (summary == null || !summary.getGiverSet().contains(response.getGiver())) {
+            return;
+        }
+
+        if (!frDb.hasResponsesFromGiverInSession(response.getGiver(), feedbackSessionName, courseId)) {
+            updateSubmissionSummary(courseId, feedbackSessionName,
+                    () -> fsssDb.removeGiverFromSubmissionSummary(courseId, feedbackSessionName, response.getGiver()));
+        }
+    }
+
+    /**
+     * Applies an update to the submission summary of a feedback session after its responses are written.
+     *
+     * <p>The update is a transaction on an entity shared by the whole session, which can fail under contention.
+     * As the responses are already written by then, a failed update does not fail the write; the summary is
+     * deleted instead, so that it is rebuilt from the responses when it is next read.
+     */
+    private void updateSubmissionSummary(String courseId, String feedbackSessionName, Runnable update) {
+        try {
+            update.run();
+        } catch (RuntimeException e) {
+            log.warning("Failed to update submission summary of session " + feedbackSessionName
+                    + " in course " + courseId + "; it will be rebuilt when it is next read", e);
+            try {
+                fsssDb.deleteSubmissionSummary(courseId, feedbackSessionName);
+            } catch (RuntimeException deleteException) {
+                log.severe("Failed to delete outdated submission summary of session " + feedbackSessionName
+                        + " in course " + courseId, deleteException);
+            }
+        }
     }
 
     /**
@@ -80,7 +204,9 @@ public final class FeedbackResponsesLogic {
      */
     public FeedbackResponseAttributes createFeedbackResponse(FeedbackResponseAttributes fra)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return frDb.createEntity(fra);
+        FeedbackResponseAttributes createdResponse = frDb.createEntity(fra);
+        addGiversToSubmissionSummaries(Collections.singletonList(createdResponse));
+        return createdResponse;
     }
 
     /**
@@ -220,81 +346,9 @@ public final class FeedbackResponsesLogic {
             return false;
         }
 
-        // Early return if user is giver
-        if (question.getGiverType() == FeedbackParticipantType.TEAMS) {
-            // if response is given by team, then anyone in the team can see the response
-            if (roster.isStudentInTeam(userEmail, response.getGiver())) {
-                return true;
-            }
-        } else {
-            if (response.getGiver().equals(userEmail)) {
-                return true;
-            }
-        }
-
-        return isFeedbackParticipantNameVisibleToUser(question, response,
-                userEmail, isInstructor, isGiverName, roster);
-    }
-
-    private boolean isFeedbackParticipantNameVisibleToUser(
-            FeedbackQuestionAttributes question, FeedbackResponseAttributes response,
-            String userEmail, boolean isInstructor, boolean isGiverName, CourseRoster roster) {
-        List<FeedbackParticipantType> showNameTo = isGiverName
-                                                 ? question.getShowGiverNameTo()
-                                                 : question.getShowRecipientNameTo();
-        for (FeedbackParticipantType type : showNameTo) {
-            switch (type) {
-            case INSTRUCTORS:
-                if (roster.getInstructorForEmail(userEmail) != null && isInstructor) {
-                    return true;
-                }
-                break;
-            case OWN_TEAM_MEMBERS:
-            case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-                // Refers to Giver's Team Members
-                if (roster.isStudentsInSameTeam(response.getGiver(), userEmail)) {
-                    return true;
-                }
-                break;
-            case RECEIVER:
-                // Response to team
-                if (question.getRecipientType().isTeam()) {
-                    if (roster.isStudentInTeam(userEmail, response.getRecipient())) {
-                        // this is a team name
-                        return true;
-                    }
-                    break;
-                    // Response to individual
-                } else if (response.getRecipient().equals(userEmail)) {
-                    return true;
-                } else {
-                    break;
-                }
-            case RECEIVER_TEAM_MEMBERS:
-                // Response to team; recipient = teamName
-                if (question.getRecipientType().isTeam()) {
-                    if (roster.isStudentInTeam(userEmail, response.getRecipient())) {
-                        // this is a team name
-                        return true;
-                    }
-                    break;
-                } else if (roster.isStudentsInSameTeam(response.getRecipient(), userEmail)) {
-                    // Response to individual
-                    return true;
-                }
-                break;
-            case STUDENTS:
-                if (roster.isStudentInCourse(userEmail)) {
-                    return true;
-                }
-                break;
-            default:
-                assert false : "Invalid FeedbackParticipantType for showNameTo in "
-                        + "FeedbackResponseLogic.isFeedbackParticipantNameVisibleToUser()";
-                break;
-            }
-        }
-        return false;
+        return ResultsVisibilityPolicy.forUser(userEmail, isInstructor, null, null, null, roster)
+                .forQuestion(question)
+                .isNameVisible(response, isGiverName);
     }
 
     /**
@@ -386,6 +440,9 @@ public final class FeedbackResponsesLogic {
             }
         }
 
+        ResultsVisibilityPolicy visibilityPolicy = ResultsVisibilityPolicy.forUser(
+                userEmail, isInstructor, instructor, student, studentsEmailInTeam, roster);
+
         // visibility table for each response and comment
         Map<String, Boolean> responseGiverVisibilityTable = new HashMap<>();
         Map<String, Boolean> responseRecipientVisibilityTable = new HashMap<>();
@@ -405,8 +462,8 @@ public final class FeedbackResponsesLogic {
                 continue;
             }
             // check visibility of response
-            boolean isVisibleResponse = isResponseVisibleForUser(
-                    userEmail, isInstructor, student, studentsEmailInTeam, response, correspondingQuestion, instructor);
+            ResultsVisibilityPolicy.QuestionPolicy questionPolicy = visibilityPolicy.forQuestion(correspondingQuestion);
+            boolean isVisibleResponse = questionPolicy.isResponseVisible(response);
             if (!isVisibleResponse) {
                 continue;
             }
@@ -422,10 +479,8 @@ public final class FeedbackResponsesLogic {
             relatedQuestionsMap.put(response.getFeedbackQuestionId(), correspondingQuestion);
             relatedResponsesMap.put(response.getId(), response);
             // generate giver/recipient name visibility table
-            responseGiverVisibilityTable.put(response.getId(),
-                    isNameVisibleToUser(correspondingQuestion, response, userEmail, isInstructor, true, roster));
-            responseRecipientVisibilityTable.put(response.getId(),
-                    isNameVisibleToUser(correspondingQuestion, response, userEmail, isInstructor, false, roster));
+            responseGiverVisibilityTable.put(response.getId(), questionPolicy.isNameVisible(response, true));
+            responseRecipientVisibilityTable.put(response.getId(), questionPolicy.isNameVisible(response, false));
         }
         RequestTracer.checkRemainingTime();
 
@@ -438,8 +493,8 @@ public final class FeedbackResponsesLogic {
                 continue;
             }
             // check visibility of comment
-            boolean isVisibleResponseComment = frcLogic.isResponseCommentVisibleForUser(
-                    userEmail, isInstructor, student, studentsEmailInTeam, relatedResponse, relatedQuestion, frc);
+            boolean isVisibleResponseComment =
+                    visibilityPolicy.forQuestion(relatedQuestion).isCommentVisible(relatedResponse, frc);
             if (!isVisibleResponseComment) {
                 continue;
             }
@@ -453,16 +508,15 @@ public final class FeedbackResponsesLogic {
 
             relatedCommentsMap.computeIfAbsent(relatedResponse.getId(), key -> new ArrayList<>()).add(frc);
             // generate comment giver name visibility table
-            commentVisibilityTable.put(frc.getId(), frcLogic.isNameVisibleToUser(frc, relatedResponse, userEmail, roster));
+            commentVisibilityTable.put(frc.getId(), visibilityPolicy.isCommentGiverNameVisible(frc, relatedResponse));
         }
         RequestTracer.checkRemainingTime();
 
         List<FeedbackResponseAttributes> existingResponses = new ArrayList<>(relatedResponsesMap.values());
-        List<FeedbackResponseAttributes> missingResponses = Collections.emptyList();
+        SessionResultsBundle.MissingResponses missingResponses = SessionResultsBundle.MissingResponses.none();
         if (isCourseWide) {
-            missingResponses = buildMissingResponses(
-                    courseId, feedbackSessionName, instructor, responseGiverVisibilityTable,
-                    responseRecipientVisibilityTable, relatedQuestionsMap, existingResponses, roster, section);
+            missingResponses = buildMissingResponses(courseId, feedbackSessionName, visibilityPolicy,
+                    relatedQuestionsMap, existingResponses, roster, section);
         }
         RequestTracer.checkRemainingTime();
 
@@ -486,9 +540,7 @@ public final class FeedbackResponsesLogic {
     public SessionResultsBundle getSessionResultsForCourse(
             String feedbackSessionName, String courseId, String instructorEmail,
             @Nullable String questionId, @Nullable String section, @Nullable FeedbackResultFetchType fetchType) {
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = courseRosterCache.getCourseRoster(courseId);
 
         // load question(s)
         List<FeedbackQuestionAttributes> allQuestions = getQuestionsForSession(feedbackSessionName, courseId, questionId);
@@ -525,9 +577,7 @@ public final class FeedbackResponsesLogic {
     public SessionResultsBundle getSessionResultsForUser(
             String feedbackSessionName, String courseId, String userEmail, boolean isInstructor,
             @Nullable String questionId, boolean isPreviewResults) {
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = courseRosterCache.getCourseRoster(courseId);
 
         // load question(s)
         List<FeedbackQuestionAttributes> allQuestions = getQuestionsForSession(feedbackSessionName, courseId, questionId);
@@ -536,168 +586,145 @@ public final class FeedbackResponsesLogic {
         // load response(s)
         StudentAttributes student = isInstructor ? null : studentsLogic.getStudentForEmail(courseId, userEmail);
         InstructorAttributes instructor = isInstructor ? instructorsLogic.getInstructorForEmail(courseId, userEmail) : null;
-        List<FeedbackResponseAttributes> allResponses = new ArrayList<>();
-        for (FeedbackQuestionAttributes question : allQuestions) {
-            // load viewable responses for students/instructors proactively
-            // this is cost-effective as in most of time responses for the whole session will not be viewable to individuals
-            List<FeedbackResponseAttributes> viewableResponses = isInstructor
-                    ? getFeedbackResponsesToOrFromInstructorForQuestion(question, instructor)
-                    : getViewableFeedbackResponsesForStudentForQuestion(question, student, roster);
-            allResponses.addAll(viewableResponses);
-        }
+        // load viewable responses for students/instructors proactively
+        // this is cost-effective as in most of time responses for the whole session will not be viewable to individuals
+        List<FeedbackResponseAttributes> allResponses = loadForEachQuestion(allQuestions, question -> isInstructor
+                ? getFeedbackResponsesToOrFromInstructorForQuestion(question, instructor)
+                : getViewableFeedbackResponsesForStudentForQuestion(question, student, roster));
         RequestTracer.checkRemainingTime();
 
         return buildResultsBundle(false, feedbackSessionName, courseId, null, questionId, isInstructor, userEmail,
                 instructor, student, roster, allQuestions, allResponses, isPreviewResults);
     }
 
+    /**
+     * Gets the statistics of the responses to the questions of a feedback session, as viewed by an instructor.
+     *
+     * <p>The responses of each question are counted towards the statistics of the question one at a time,
+     * without building the results bundle or the missing responses of the session.
+     * Recipients whose names are not visible to the instructor are anonymised in the per recipient statistics.
+     *
+     * @param feedbackSessionName the feedback session name
+     * @param courseId the ID of the course
+     * @param instructorEmail the instructor viewing the feedback session
+     * @param questionId if not null, will only return the statistics of the question
+     * @param section if not null, will only count the responses in the section
+     * @param fetchType if not null, will count responses by giver, receiver sections, or both
+     * @return the statistics of each question as a JSON string, keyed by question ID in the order of the questions;
+     *         questions without statistics, e.g. text questions, are not included
+     */
+    public Map<String, String> getSessionResultStatisticsForCourse(
+            String feedbackSessionName, String courseId, String instructorEmail,
+            @Nullable String questionId, @Nullable String section, @Nullable FeedbackResultFetchType fetchType) {
+        Map<String, QuestionStatisticsAccumulator<?>> accumulators = new HashMap<>();
+        List<FeedbackQuestionAttributes> questions = new ArrayList<>();
+        for (FeedbackQuestionAttributes question : getQuestionsForSession(feedbackSessionName, courseId, questionId)) {
+            QuestionStatisticsAccumulator<?> accumulator =
+                    question.getQuestionDetails().createStatisticsAccumulator(question);
+            if (accumulator != null) {
+                accumulators.put(question.getId(), accumulator);
+                questions.add(question);
+            }
+        }
+        RequestTracer.checkRemainingTime();
+
+        // the roster is needed for the visibility of names, as statistics are given per recipient
+        CourseRoster roster = courseRosterCache.getCourseRoster(courseId);
+        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, instructorEmail);
+        ResultsVisibilityPolicy visibilityPolicy = ResultsVisibilityPolicy.forUser(
+                instructorEmail, true, instructor, null, Collections.emptySet(), roster);
+        // the policies are compiled before the concurrent loads as the policy itself is not thread-safe
+        Map<String, ResultsVisibilityPolicy.QuestionPolicy> questionPolicies = new HashMap<>();
+        questions.forEach(question -> questionPolicies.put(question.getId(), visibilityPolicy.forQuestion(question)));
+
+        List<String> statistics = ConcurrentLoader.loadEach(questions, question -> {
+            QuestionStatisticsAccumulator<?> accumulator = accumulators.get(question.getId());
+            ResultsVisibilityPolicy.QuestionPolicy questionPolicy = questionPolicies.get(question.getId());
+            for (FeedbackResponseAttributes response
+                    : getFeedbackResponsesForQuestionInSection(question.getId(), section, fetchType)) {
+                if (questionPolicy.isResponseVisible(response)) {
+                    accumulator.add(response, getRecipientKeyForStatistics(question, questionPolicy, response));
+                }
+            }
+            return accumulator.getStatisticsJson();
+        });
+
+        Map<String, String> statisticsPerQuestion = new LinkedHashMap<>();
+        for (int i = 0; i < questions.size(); i++) {
+            statisticsPerQuestion.put(questions.get(i).getId(), statistics.get(i));
+        }
+        return statisticsPerQuestion;
+    }
+
+    /**
+     * Gets the key of the recipient of the response in the per recipient statistics.
+     *
+     * <p>The recipient is anonymised in the same way as in the results if its name is not visible to the user.
+     */
+    private static String getRecipientKeyForStatistics(FeedbackQuestionAttributes question,
+            ResultsVisibilityPolicy.QuestionPolicy questionPolicy, FeedbackResponseAttributes response) {
+        if (questionPolicy.isNameVisible(response, false)) {
+            return response.getRecipient();
+        }
+        FeedbackParticipantType recipientType = question.getRecipientType();
+        if (recipientType == FeedbackParticipantType.SELF) {
+            // recipient type for self-feedback is the same as the giver type
+            recipientType = question.getGiverType();
+        }
+        return SessionResultsBundle.getAnonName(recipientType, response.getRecipient());
+    }
+
+    /**
+     * Loads the responses of each of the questions, with the loads of different questions run concurrently.
+     *
+     * @return the loaded responses, in the order of the questions
+     */
+    private List<FeedbackResponseAttributes> loadForEachQuestion(List<FeedbackQuestionAttributes> questions,
+            Function<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> loader) {
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        ConcurrentLoader.loadEach(questions, loader).forEach(responses::addAll);
+        return responses;
+    }
+
     /**
      * Builds viewable missing responses for the session for instructor.
      *
-     * @param instructor the instructor
-     * @param responseGiverVisibilityTable
-     *         the giver visibility table which will be updated with the visibility of missing responses
-     * @param responseRecipientVisibilityTable
-     *         the recipient visibility table which will be updated with the visibility of missing responses
+     * <p>The missing responses of a question are only generated when they are iterated over,
+     * so that those of the whole session need not be held in memory at once.
+     *
+     * @param visibilityPolicy the visibility policy for the instructor
      * @param relatedQuestionsMap the relevant questions
      * @param existingResponses existing responses
      * @param courseRoster the course roster
      * @param section if not null, will only build missing responses for the section
-     * @return a list of missing responses for the session.
+     * @return the missing responses for the session.
      */
-    private List<FeedbackResponseAttributes> buildMissingResponses(
-            String courseId, String feedbackSessionName, InstructorAttributes instructor,
-            Map<String, Boolean> responseGiverVisibilityTable, Map<String, Boolean> responseRecipientVisibilityTable,
+    private SessionResultsBundle.MissingResponses buildMissingResponses(
+            String courseId, String feedbackSessionName, ResultsVisibilityPolicy visibilityPolicy,
             Map<String, FeedbackQuestionAttributes> relatedQuestionsMap,
             List<FeedbackResponseAttributes> existingResponses, CourseRoster courseRoster, @Nullable String section) {
 
-        // first get all possible giver recipient pairs
-        Map<String, Map<String, Set<String>>> questionCompleteGiverRecipientMap = new HashMap<>();
-        for (FeedbackQuestionAttributes feedbackQuestion : relatedQuestionsMap.values()) {
-            if (feedbackQuestion.getQuestionDetailsCopy().shouldGenerateMissingResponses(feedbackQuestion)) {
-                questionCompleteGiverRecipientMap.put(feedbackQuestion.getId(),
-                        fqLogic.buildCompleteGiverRecipientMap(feedbackQuestion, courseRoster));
-            } else {
-                questionCompleteGiverRecipientMap.put(feedbackQuestion.getId(), new HashMap<>());
-            }
-        }
-
-        // remove the existing responses in those pairs
+        Map<String, List<FeedbackResponseAttributes>> existingResponsesByQuestion = new HashMap<>();
         for (FeedbackResponseAttributes existingResponse : existingResponses) {
-            Map<String, Set<String>> currGiverRecipientMap =
-                    questionCompleteGiverRecipientMap.get(existingResponse.getFeedbackQuestionId());
-            if (!currGiverRecipientMap.containsKey(existingResponse.getGiver())) {
-                continue;
-            }
-            currGiverRecipientMap.get(existingResponse.getGiver()).remove(existingResponse.getRecipient());
+            existingResponsesByQuestion
+                    .computeIfAbsent(existingResponse.getFeedbackQuestionId(), key -> new ArrayList<>())
+                    .add(existingResponse);
         }
 
-        List<FeedbackResponseAttributes> missingResponses = new ArrayList<>();
-        // build dummy responses
-        for (Map.Entry<String, Map<String, Set<String>>> currGiverRecipientMapEntry
-                : questionCompleteGiverRecipientMap.entrySet()) {
-            FeedbackQuestionAttributes correspondingQuestion =
-                    relatedQuestionsMap.get(currGiverRecipientMapEntry.getKey());
-            String questionId = correspondingQuestion.getId();
-
-            for (Map.Entry<String, Set<String>> giverRecipientEntry
-                    : currGiverRecipientMapEntry.getValue().entrySet()) {
-                // giver
-                String giverIdentifier = giverRecipientEntry.getKey();
-                CourseRoster.ParticipantInfo giverInfo = courseRoster.getInfoForIdentifier(giverIdentifier);
-
-                for (String recipientIdentifier : giverRecipientEntry.getValue()) {
-                    // recipient
-                    CourseRoster.ParticipantInfo recipientInfo = courseRoster.getInfoForIdentifier(recipientIdentifier);
-
-                    // skip responses not in current section
-                    if (section != null
-                            && !giverInfo.getSectionName().equals(section)
-                            && !recipientInfo.getSectionName().equals(section)) {
-                        continue;
-                    }
-
-                    FeedbackResponseAttributes missingResponse =
-                            FeedbackResponseAttributes.builder(questionId, giverIdentifier, recipientIdentifier)
-                                    .withCourseId(courseId)
-                                    .withFeedbackSessionName(feedbackSessionName)
-                                    .withGiverSection(giverInfo.getSectionName())
-                                    .withRecipientSection(recipientInfo.getSectionName())
-                                    .withResponseDetails(new FeedbackTextResponseDetails("No Response"))
-                                    .build();
-
-                    // check visibility of the missing response
-                    boolean isVisibleResponse = isResponseVisibleForUser(
-                            instructor.getEmail(), true, null, Collections.emptySet(),
-                            missingResponse, correspondingQuestion, instructor);
-                    if (!isVisibleResponse) {
-                        continue;
-                    }
-
-                    // generate giver/recipient name visibility table
-                    responseGiverVisibilityTable.put(missingResponse.getId(),
-                            isNameVisibleToUser(correspondingQuestion, missingResponse,
-                                    instructor.getEmail(), true, true, courseRoster));
-                    responseRecipientVisibilityTable.put(missingResponse.getId(),
-                            isNameVisibleToUser(correspondingQuestion, missingResponse,
-                                    instructor.getEmail(), true, false, courseRoster));
-                    missingResponses.add(missingResponse);
-                }
+        return new SessionResultsBundle.MissingResponses() {
+            @Override
+            public Iterator<FeedbackResponseAttributes> iterator(FeedbackQuestionAttributes question) {
+                return new MissingResponsesIterator(fqLogic, courseId, feedbackSessionName, visibilityPolicy,
+                        courseRoster, section, Collections.singletonList(question),
+                        existingResponsesByQuestion.getOrDefault(question.getId(), Collections.emptyList()));
             }
-        }
-
-        return missingResponses;
-    }
 
-    boolean isResponseVisibleForUser(
-            String userEmail, boolean isInstructor, StudentAttributes student,
-            Set<String> studentsEmailInTeam, FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes relatedQuestion, InstructorAttributes instructor) {
-
-        boolean isVisibleResponse = false;
-        if (isInstructor && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
-                || response.getRecipient().equals(userEmail)
-                && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                || response.getGiver().equals(userEmail)
-                || !isInstructor && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
-            isVisibleResponse = true;
-        } else if (studentsEmailInTeam != null && !isInstructor) {
-            if ((relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS
-                    || relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS_IN_SAME_SECTION
-                    || relatedQuestion.getRecipientType() == FeedbackParticipantType.TEAMS_EXCLUDING_SELF)
-                    && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                    && response.getRecipient().equals(student.getTeam())) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.getGiverType() == FeedbackParticipantType.TEAMS
-                    && response.getGiver().equals(student.getTeam())) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
-                    && studentsEmailInTeam.contains(response.getGiver())) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
-                    && studentsEmailInTeam.contains(response.getRecipient())) {
-                isVisibleResponse = true;
-            }
-        }
-        if (isVisibleResponse && instructor != null) {
-            boolean isGiverSectionRestricted =
-                    !instructor.isAllowedForPrivilege(response.getGiverSection(),
-                            response.getFeedbackSessionName(),
-                            Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
-            // If instructors are not restricted to view the giver's section,
-            // they are allowed to view responses to GENERAL, subject to visibility options
-            boolean isRecipientSectionRestricted =
-                    relatedQuestion.getRecipientType() != FeedbackParticipantType.NONE
-                            && !instructor.isAllowedForPrivilege(response.getRecipientSection(),
-                            response.getFeedbackSessionName(),
-                            Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
-
-            boolean isNotAllowedForInstructor = isGiverSectionRestricted || isRecipientSectionRestricted;
-            if (isNotAllowedForInstructor) {
-                isVisibleResponse = false;
+            @Override
+            public boolean isNameVisible(FeedbackResponseAttributes missingResponse, boolean isGiver) {
+                return visibilityPolicy.forQuestion(relatedQuestionsMap.get(missingResponse.getFeedbackQuestionId()))
+                        .isNameVisible(missingResponse, isGiver);
             }
-        }
-        return isVisibleResponse;
+        };
     }
 
     /**
@@ -728,6 +755,62 @@ public final class FeedbackResponsesLogic {
         FeedbackResponseAttributes oldResponse = frDb.getFeedbackResponse(updateOptions.getFeedbackResponseId());
         FeedbackResponseAttributes newResponse = frDb.updateFeedbackResponse(updateOptions);
 
+        updateSubmissionSummaryForUpdatedResponse(oldResponse, newResponse);
+        updateFeedbackResponseCommentsForUpdatedResponse(oldResponse, newResponse);
+
+        return newResponse;
+    }
+
+    /**
+     * Creates and updates feedback responses in a batch.
+     *
+     * <p>The database is read and written in batches rather than once per response, in a single transaction
+     * if the batch is small enough. A response which cannot be written is reported in the results
+     * and does not prevent the other responses from being written.
+     *
+     * <p>Updated responses are cascaded to their associated feedback response comments
+     * as in {@link #updateFeedbackResponseCascade(FeedbackResponseAttributes.UpdateOptions)}.
+     *
+     * @return the responses written and the errors of the responses not written
+     */
+    public FeedbackResponsesWriteResults putFeedbackResponsesCascade(
+            List<FeedbackResponseAttributes> responsesToCreate,
+            List<FeedbackResponseAttributes.UpdateOptions> responsesToUpdate) {
+        FeedbackResponsesWriteResults results = frDb.putFeedbackResponses(responsesToCreate, responsesToUpdate, true);
+
+        addGiversToSubmissionSummaries(results.getWrittenResponses());
+
+        for (FeedbackResponseAttributes newResponse : results.getWrittenResponses()) {
+            FeedbackResponseAttributes oldResponse = results.getPreviousResponse(newResponse.getId());
+            if (oldResponse == null) {
+                continue;
+            }
+            if (!oldResponse.getGiver().equals(newResponse.getGiver())) {
+                removeGiverFromSubmissionSummaryIfNoResponses(oldResponse);
+            }
+            try {
+                updateFeedbackResponseCommentsForUpdatedResponse(oldResponse, newResponse);
+            } catch (InvalidParametersException | EntityDoesNotExistException e) {
+                // the response itself is already written; only its comments are left inconsistent
+                log.severe("Encountered exception when updating comments of response: " + e.getMessage(), e);
+            }
+        }
+
+        return results;
+    }
+
+    private void updateSubmissionSummaryForUpdatedResponse(
+            FeedbackResponseAttributes oldResponse, FeedbackResponseAttributes newResponse) {
+        if (oldResponse.getGiver().equals(newResponse.getGiver())) {
+            return;
+        }
+        addGiversToSubmissionSummaries(Collections.singletonList(newResponse));
+        removeGiverFromSubmissionSummaryIfNoResponses(oldResponse);
+    }
+
+    private void updateFeedbackResponseCommentsForUpdatedResponse(
+            FeedbackResponseAttributes oldResponse, FeedbackResponseAttributes newResponse)
+            throws InvalidParametersException, EntityDoesNotExistException {
         boolean isResponseIdChanged = !oldResponse.getId().equals(newResponse.getId());
         boolean isGiverSectionChanged = !oldResponse.getGiverSection().equals(newResponse.getGiverSection());
         boolean isRecipientSectionChanged = !oldResponse.getRecipientSection().equals(newResponse.getRecipientSection());
@@ -754,8 +837,6 @@ public final class FeedbackResponsesLogic {
                 frcLogic.updateFeedbackResponseComment(updateOptionsBuilder.build());
             }
         }
-
-        return newResponse;
     }
 
     /**
@@ -819,9 +900,7 @@ public final class FeedbackResponsesLogic {
     private void updateRankRecipientQuestionResponsesAfterDeletingStudent(String courseId) {
         List<FeedbackQuestionAttributes> filteredQuestions =
                 fqLogic.getFeedbackQuestionForCourseWithType(courseId, FeedbackQuestionType.RANK_RECIPIENTS);
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = courseRosterCache.getCourseRoster(courseId);
         for (FeedbackQuestionAttributes question : filteredQuestions) {
             makeRankRecipientQuestionResponsesConsistent(question, roster);
         }
@@ -973,20 +1052,40 @@ public final class FeedbackResponsesLogic {
 
     /**
      * Deletes responses using {@link AttributesDeletionQuery}.
+     *
+     * <p>Submission summaries of the affected sessions are deleted as well,
+     * to be rebuilt from the remaining responses when they are next read.
      */
     public void deleteFeedbackResponses(AttributesDeletionQuery query) {
         frDb.deleteFeedbackResponses(query);
+
+        if (query.isCourseIdPresent()) {
+            fsssDb.deleteSubmissionSummaries(query);
+        } else if (query.isQuestionIdPresent()) {
+            FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(query.getQuestionId());
+            if (question != null) {
+                fsssDb.deleteSubmissionSummaries(AttributesDeletionQuery.builder()
+                        .withCourseId(question.getCourseId())
+                        .withFeedbackSessionName(question.getFeedbackSessionName())
+                        .build());
+            }
+        }
     }
 
     /**
      * Deletes a feedback response cascade its associated comments.
      */
     public void deleteFeedbackResponseCascade(String responseId) {
+        FeedbackResponseAttributes response = frDb.getFeedbackResponse(responseId);
         frcLogic.deleteFeedbackResponseComments(
                 AttributesDeletionQuery.builder()
                         .withResponseId(responseId)
                         .build());
         frDb.deleteFeedbackResponse(responseId);
+
+        if (response != null) {
+            removeGiverFromSubmissionSummaryIfNoResponses(response);
+        }
     }
 
     /**
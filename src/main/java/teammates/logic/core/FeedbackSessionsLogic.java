@@ -2,9 +2,13 @@ package teammates.logic.core;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -46,6 +50,7 @@ public final class FeedbackSessionsLogic {
     private final FeedbackSessionsDb fsDb = FeedbackSessionsDb.inst();
 
     private CoursesLogic coursesLogic;
+    private ExpectedSubmissionCountCache expectedSubmissionCountCache;
     private FeedbackQuestionsLogic fqLogic;
     private FeedbackResponsesLogic frLogic;
     private FeedbackResponseCommentsLogic frcLogic;
@@ -63,6 +68,7 @@ public final class FeedbackSessionsLogic {
 
     void initLogicDependencies() {
         coursesLogic = CoursesLogic.inst();
+        expectedSubmissionCountCache = ExpectedSubmissionCountCache.inst();
         fqLogic = FeedbackQuestionsLogic.inst();
         frLogic = FeedbackResponsesLogic.inst();
         frcLogic = FeedbackResponseCommentsLogic.inst();
@@ -115,6 +121,23 @@ public final class FeedbackSessionsLogic {
         return fsDb.getFeedbackSessionsForCourse(courseId);
     }
 
+    /**
+     * Gets the feedback sessions of each of the courses.
+     *
+     * <p>The sessions of different courses are loaded concurrently.
+     *
+     * @return the feedback sessions by the course ID, in the order of the courses
+     */
+    public Map<String, List<FeedbackSessionAttributes>> getFeedbackSessionsForCourses(List<String> courseIds) {
+        List<List<FeedbackSessionAttributes>> sessionsOfCourses =
+                ConcurrentLoader.loadEach(courseIds, fsDb::getFeedbackSessionsForCourse);
+        Map<String, List<FeedbackSessionAttributes>> courseIdToSessions = new LinkedHashMap<>();
+        for (int i = 0; i < courseIds.size(); i++) {
+            courseIdToSessions.put(courseIds.get(i), sessionsOfCourses.get(i));
+        }
+        return courseIdToSessions;
+    }
+
     /**
      * Gets all feedback sessions of a course started after time.
      */
@@ -243,6 +266,43 @@ public final class FeedbackSessionsLogic {
         }
     }
 
+    /**
+     * Gets the names of the feedback sessions which have been attempted by a student, out of some sessions of a course.
+     *
+     * <p>This gives the same result as {@link #isFeedbackSessionAttemptedByStudent} for each of the sessions,
+     * but the questions and the submissions of all the sessions are checked together.
+     */
+    public Set<String> getFeedbackSessionsAttemptedByStudent(String courseId,
+            Collection<FeedbackSessionAttributes> sessions, String userEmail, String userTeam) {
+        Set<String> sessionsWithStudentQuestions =
+                fqLogic.getFeedbackSessionNamesWithQuestionsForGiverType(courseId, FeedbackParticipantType.STUDENTS);
+        Set<String> sessionsWithTeamQuestions =
+                fqLogic.getFeedbackSessionNamesWithQuestionsForGiverType(courseId, FeedbackParticipantType.TEAMS);
+
+        Set<String> attemptedSessions = new HashSet<>();
+        List<String> sessionsToCheck = new ArrayList<>();
+        for (FeedbackSessionAttributes session : sessions) {
+            assert session.getCourseId().equals(courseId);
+            String feedbackSessionName = session.getFeedbackSessionName();
+            if (sessionsWithStudentQuestions.contains(feedbackSessionName)
+                    || sessionsWithTeamQuestions.contains(feedbackSessionName)) {
+                sessionsToCheck.add(feedbackSessionName);
+            } else {
+                // if there are no questions for student, session is attempted
+                attemptedSessions.add(feedbackSessionName);
+            }
+        }
+
+        frLogic.getGiverSetsThatAnswerFeedbackSessions(courseId, sessionsToCheck).forEach((feedbackSessionName, givers) -> {
+            // the student answers as themselves if there are some individual questions, otherwise as their team
+            String giver = sessionsWithStudentQuestions.contains(feedbackSessionName) ? userEmail : userTeam;
+            if (givers.contains(giver)) {
+                attemptedSessions.add(feedbackSessionName);
+            }
+        });
+        return attemptedSessions;
+    }
+
     /**
      * Checks whether an instructor has attempted a feedback session.
      *
@@ -521,8 +581,15 @@ public final class FeedbackSessionsLogic {
 
     /**
      * Gets the expected number of submissions for a feedback session.
+     *
+     * <p>The number is cached until a question of the session or the roster of the course changes.
      */
     public int getExpectedTotalSubmission(FeedbackSessionAttributes fsa) {
+        return expectedSubmissionCountCache.getExpectedTotalSubmission(fsa.getCourseId(), fsa.getFeedbackSessionName(),
+                () -> countExpectedTotalSubmission(fsa));
+    }
+
+    private int countExpectedTotalSubmission(FeedbackSessionAttributes fsa) {
         int expectedTotal = 0;
 
         if (fqLogic.hasFeedbackQuestionsForStudents(fsa)) {
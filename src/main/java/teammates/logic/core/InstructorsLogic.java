@@ -34,6 +34,7 @@ public final class InstructorsLogic {
 
     private final InstructorsDb instructorsDb = InstructorsDb.inst();
 
+    private CourseRosterCache courseRosterCache;
     private FeedbackResponsesLogic frLogic;
     private FeedbackResponseCommentsLogic frcLogic;
     private FeedbackQuestionsLogic fqLogic;
@@ -49,6 +50,7 @@ public final class InstructorsLogic {
     }
 
     void initLogicDependencies() {
+        courseRosterCache = CourseRosterCache.inst();
         fqLogic = FeedbackQuestionsLogic.inst();
         frLogic = FeedbackResponsesLogic.inst();
         frcLogic = FeedbackResponseCommentsLogic.inst();
@@ -85,7 +87,9 @@ public final class InstructorsLogic {
      */
     public InstructorAttributes createInstructor(InstructorAttributes instructorToAdd)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return instructorsDb.createEntity(instructorToAdd);
+        InstructorAttributes createdInstructor = instructorsDb.createEntity(instructorToAdd);
+        courseRosterCache.invalidate(createdInstructor.getCourseId());
+        return createdInstructor;
     }
 
     /**
@@ -99,6 +103,7 @@ public final class InstructorsLogic {
                         .withIsArchived(archiveStatus)
                         .build()
         );
+        courseRosterCache.invalidate(courseId);
     }
 
     /**
@@ -224,6 +229,7 @@ public final class InstructorsLogic {
                 newInstructor.isDisplayedToStudents());
 
         InstructorAttributes updatedInstructor = instructorsDb.updateInstructorByGoogleId(updateOptions);
+        courseRosterCache.invalidate(updatedInstructor.getCourseId());
 
         if (!originalInstructor.getEmail().equals(updatedInstructor.getEmail())) {
             // cascade responses
@@ -300,7 +306,9 @@ public final class InstructorsLogic {
         verifyAtLeastOneInstructorIsDisplayed(originalInstructor.getCourseId(), isOriginalInstructorDisplayed,
                 newInstructor.isDisplayedToStudents());
 
-        return instructorsDb.updateInstructorByEmail(updateOptions);
+        InstructorAttributes updatedInstructor = instructorsDb.updateInstructorByEmail(updateOptions);
+        courseRosterCache.invalidate(updatedInstructor.getCourseId());
+        return updatedInstructor;
     }
 
     /**
@@ -308,6 +316,11 @@ public final class InstructorsLogic {
      */
     public void deleteInstructors(AttributesDeletionQuery query) {
         instructorsDb.deleteInstructors(query);
+        if (query.isCourseIdPresent()) {
+            courseRosterCache.invalidate(query.getCourseId());
+        } else {
+            courseRosterCache.invalidateAll();
+        }
     }
 
     /**
@@ -323,6 +336,7 @@ public final class InstructorsLogic {
 
         frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(courseId, email);
         instructorsDb.deleteInstructor(courseId, email);
+        courseRosterCache.invalidate(courseId);
         fsLogic.deleteFeedbackSessionsDeadlinesForInstructor(courseId, email);
         deLogic.deleteDeadlineExtensions(courseId, email, true);
     }
@@ -367,6 +381,7 @@ public final class InstructorsLogic {
         } catch (InvalidParametersException e) {
             assert false : "Unexpected invalid parameter.";
         }
+        courseRosterCache.invalidate(courseId);
     }
 
     /**
@@ -416,7 +431,9 @@ public final class InstructorsLogic {
             throw new EntityDoesNotExistException(errorMessage);
         }
 
-        return instructorsDb.regenerateEntityKey(originalInstructor);
+        InstructorAttributes updatedInstructor = instructorsDb.regenerateEntityKey(originalInstructor);
+        courseRosterCache.invalidate(courseId);
+        return updatedInstructor;
     }
 
     /**
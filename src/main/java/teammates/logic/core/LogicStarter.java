@@ -19,6 +19,8 @@ public class LogicStarter implements ServletContextListener {
         AccountRequestsLogic accountRequestsLogic = AccountRequestsLogic.inst();
         AccountsLogic accountsLogic = AccountsLogic.inst();
         CoursesLogic coursesLogic = CoursesLogic.inst();
+        CourseRosterCache courseRosterCache = CourseRosterCache.inst();
+        ExpectedSubmissionCountCache expectedSubmissionCountCache = ExpectedSubmissionCountCache.inst();
         FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
         FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
         FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
@@ -31,6 +33,8 @@ public class LogicStarter implements ServletContextListener {
         accountRequestsLogic.initLogicDependencies();
         accountsLogic.initLogicDependencies();
         coursesLogic.initLogicDependencies();
+        courseRosterCache.initLogicDependencies();
+        expectedSubmissionCountCache.initLogicDependencies();
         fqLogic.initLogicDependencies();
         frLogic.initLogicDependencies();
         frcLogic.initLogicDependencies();
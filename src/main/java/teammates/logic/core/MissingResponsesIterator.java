@@ -0,0 +1,149 @@
+package teammates.logic.core;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
+import teammates.common.util.RequestTracer;
+
+/**
+ * Iterates over the viewable missing responses of some questions, i.e. the giver-recipient pairs
+ * which could have been answered but are not, as dummy responses.
+ *
+ * <p>The pairs are generated lazily, one giver at a time, instead of building every possible
+ * giver-recipient pair of the questions up front. Pairs outside of the section and pairs which are not
+ * visible to the user are skipped before any dummy response is kept, so the memory used is proportional
+ * to the number of recipients of a single giver and the number of missing responses actually consumed.
+ * Callers may also stop consuming early, e.g. to return a page of missing responses only.
+ */
+final class MissingResponsesIterator implements Iterator<FeedbackResponseAttributes> {
+
+    private final FeedbackQuestionsLogic fqLogic;
+    private final String courseId;
+    private final String feedbackSessionName;
+    private final ResultsVisibilityPolicy visibilityPolicy;
+    private final CourseRoster courseRoster;
+    private final String section;
+    private final Iterator<FeedbackQuestionAttributes> questions;
+    private final Map<String, Map<String, Set<String>>> existingGiverRecipientMaps = new HashMap<>();
+
+    private FeedbackQuestionAttributes question;
+    private ResultsVisibilityPolicy.QuestionPolicy questionPolicy;
+    private Map<String, Set<String>> existingGiverRecipientMap = Collections.emptyMap();
+    private Iterator<String> givers = Collections.emptyIterator();
+    private CourseRoster.ParticipantInfo giverInfo;
+    private String giver;
+    private boolean isGiverInSection;
+    private Set<String> existingRecipients = Collections.emptySet();
+    private Iterator<String> recipients = Collections.emptyIterator();
+    private FeedbackResponseAttributes nextMissingResponse;
+
+    /**
+     * Creates the iterator.
+     *
+     * @param questions the questions to generate missing responses for
+     * @param existingResponses existing responses of the questions
+     * @param section if not null, only missing responses with the giver or the recipient in the section are generated
+     */
+    MissingResponsesIterator(FeedbackQuestionsLogic fqLogic, String courseId, String feedbackSessionName,
+            ResultsVisibilityPolicy visibilityPolicy, CourseRoster courseRoster, @Nullable String section,
+            Collection<FeedbackQuestionAttributes> questions, List<FeedbackResponseAttributes> existingResponses) {
+        this.fqLogic = fqLogic;
+        this.courseId = courseId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.visibilityPolicy = visibilityPolicy;
+        this.courseRoster = courseRoster;
+        this.section = section;
+        this.questions = questions.iterator();
+
+        for (FeedbackResponseAttributes existingResponse : existingResponses) {
+            existingGiverRecipientMaps
+                    .computeIfAbsent(existingResponse.getFeedbackQuestionId(), key -> new HashMap<>())
+                    .computeIfAbsent(existingResponse.getGiver(), key -> new HashSet<>())
+                    .add(existingResponse.getRecipient());
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextMissingResponse == null) {
+            nextMissingResponse = findNextMissingResponse();
+        }
+        return nextMissingResponse != null;
+    }
+
+    @Override
+    public FeedbackResponseAttributes next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        FeedbackResponseAttributes missingResponse = nextMissingResponse;
+        nextMissingResponse = null;
+        return missingResponse;
+    }
+
+    private FeedbackResponseAttributes findNextMissingResponse() {
+        while (true) {
+            while (recipients.hasNext()) {
+                String recipient = recipients.next();
+                if (existingRecipients.contains(recipient)) {
+                    continue;
+                }
+
+                CourseRoster.ParticipantInfo recipientInfo = courseRoster.getInfoForIdentifier(recipient);
+                // skip responses not in current section
+                if (!isGiverInSection && !recipientInfo.getSectionName().equals(section)) {
+                    continue;
+                }
+
+                FeedbackResponseAttributes missingResponse =
+                        FeedbackResponseAttributes.builder(question.getId(), giver, recipient)
+                                .withCourseId(courseId)
+                                .withFeedbackSessionName(feedbackSessionName)
+                                .withGiverSection(giverInfo.getSectionName())
+                                .withRecipientSection(recipientInfo.getSectionName())
+                                .withResponseDetails(new FeedbackTextResponseDetails("No Response"))
+                                .build();
+                if (questionPolicy.isResponseVisible(missingResponse)) {
+                    return missingResponse;
+                }
+            }
+
+            if (givers.hasNext()) {
+                giver = givers.next();
+                giverInfo = courseRoster.getInfoForIdentifier(giver);
+                isGiverInSection = section == null || giverInfo.getSectionName().equals(section);
+                existingRecipients = existingGiverRecipientMap.getOrDefault(giver, Collections.emptySet());
+                recipients = fqLogic.getPossibleRecipientsOfGiver(question, giver, courseRoster).iterator();
+                continue;
+            }
+
+            if (!questions.hasNext()) {
+                return null;
+            }
+            RequestTracer.checkRemainingTime();
+            question = questions.next();
+            if (!question.getQuestionDetailsCopy().shouldGenerateMissingResponses(question)) {
+                givers = Collections.emptyIterator();
+                continue;
+            }
+            questionPolicy = visibilityPolicy.forQuestion(question);
+            existingGiverRecipientMap =
+                    existingGiverRecipientMaps.getOrDefault(question.getId(), Collections.emptyMap());
+            givers = fqLogic.getPossibleGivers(question, courseRoster).iterator();
+        }
+    }
+
+}
@@ -0,0 +1,271 @@
+package teammates.logic.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+
+/**
+ * Decides which responses and comments of a session, and which of their participants' names,
+ * are visible to a user viewing the session results.
+ *
+ * <p>Most of the visibility depends only on the visibility settings of the question, the role of the user
+ * and how the user is related to the giver and recipient of a response. Hence, the visibility settings of each
+ * question are compiled into bitmasks of {@link FeedbackParticipantType} once per user, together with the checks
+ * which do not depend on any particular response. Checking a response then takes a constant number of
+ * bitmask and string checks, without going through the visibility settings again.
+ *
+ * <p>A policy is not thread-safe; it is meant to be used by a single request.
+ */
+final class ResultsVisibilityPolicy {
+
+    private static final int RECIPIENT_TEAM_TYPES = toMask(List.of(FeedbackParticipantType.TEAMS,
+            FeedbackParticipantType.TEAMS_IN_SAME_SECTION, FeedbackParticipantType.TEAMS_EXCLUDING_SELF));
+
+    private final String userEmail;
+    private final boolean isInstructor;
+    private final InstructorAttributes instructor;
+    private final String studentTeam;
+    private final Set<String> studentsEmailInTeam;
+    private final CourseRoster roster;
+    private final String rosterTeam;
+    private final boolean isRosterInstructor;
+    private final boolean isRosterStudent;
+    private final Map<String, QuestionPolicy> questionPolicies = new HashMap<>();
+
+    private ResultsVisibilityPolicy(String userEmail, boolean isInstructor, InstructorAttributes instructor,
+            StudentAttributes student, Set<String> studentsEmailInTeam, CourseRoster roster) {
+        this.userEmail = userEmail;
+        this.isInstructor = isInstructor;
+        this.instructor = instructor;
+        this.studentTeam = student == null ? null : student.getTeam();
+        this.studentsEmailInTeam = studentsEmailInTeam == null ? Collections.emptySet() : studentsEmailInTeam;
+        this.roster = roster;
+
+        StudentAttributes rosterStudent = roster == null ? null : roster.getStudentForEmail(userEmail);
+        this.rosterTeam = rosterStudent == null ? null : rosterStudent.getTeam();
+        this.isRosterInstructor = roster != null && roster.getInstructorForEmail(userEmail) != null;
+        this.isRosterStudent = rosterStudent != null;
+    }
+
+    /**
+     * Creates the policy for the given user.
+     *
+     * @param instructor if not null, responses in sections which the instructor cannot view are not visible
+     * @param student the student viewing the results, or null if the user is an instructor
+     * @param studentsEmailInTeam the emails of the students in the same team as the student
+     * @param roster the roster of the course; if null, the user is treated as neither a student nor an instructor
+     *               of the course, which only affects the visibility of names
+     */
+    static ResultsVisibilityPolicy forUser(String userEmail, boolean isInstructor, InstructorAttributes instructor,
+            StudentAttributes student, Set<String> studentsEmailInTeam, CourseRoster roster) {
+        return new ResultsVisibilityPolicy(userEmail, isInstructor, instructor, student, studentsEmailInTeam, roster);
+    }
+
+    /**
+     * Gets the policy of the question, compiling it for the user if it has not been compiled yet.
+     */
+    QuestionPolicy forQuestion(FeedbackQuestionAttributes question) {
+        QuestionPolicy policy = questionPolicies.get(question.getId());
+        if (policy == null) {
+            policy = new QuestionPolicy(question);
+            questionPolicies.put(question.getId(), policy);
+        }
+        return policy;
+    }
+
+    /**
+     * Checks whether the giver name of the comment is visible to the user.
+     */
+    boolean isCommentGiverNameVisible(FeedbackResponseCommentAttributes comment, FeedbackResponseAttributes response) {
+        List<FeedbackParticipantType> showNameTo = comment.getShowGiverNameTo();
+        // in the old version, name is always visible
+        if (showNameTo == null || comment.isVisibilityFollowingFeedbackQuestion()) {
+            return true;
+        }
+        // comment giver can always see
+        if (userEmail.equals(comment.getCommentGiver())) {
+            return true;
+        }
+
+        int mask = toMask(showNameTo);
+        return has(mask, FeedbackParticipantType.INSTRUCTORS) && isRosterInstructor
+                || has(mask, FeedbackParticipantType.STUDENTS) && isRosterStudent
+                || has(mask, FeedbackParticipantType.OWN_TEAM_MEMBERS) && isInRosterTeamOf(response.getGiver())
+                || has(mask, FeedbackParticipantType.RECEIVER) && userEmail.equals(response.getRecipient())
+                || has(mask, FeedbackParticipantType.RECEIVER_TEAM_MEMBERS) && isInRosterTeamOf(response.getRecipient())
+                || has(mask, FeedbackParticipantType.GIVER) && userEmail.equals(response.getGiver());
+    }
+
+    private boolean isInRosterTeam(String teamName) {
+        return rosterTeam != null && rosterTeam.equals(teamName);
+    }
+
+    private boolean isInRosterTeamOf(String email) {
+        StudentAttributes student = roster == null ? null : roster.getStudentForEmail(email);
+        return student != null && isInRosterTeam(student.getTeam());
+    }
+
+    private boolean isAllowedToViewSections(FeedbackResponseAttributes response, boolean hasRecipient) {
+        if (instructor == null) {
+            return true;
+        }
+        // if instructors are not restricted to view the giver's section,
+        // they are allowed to view responses to GENERAL, subject to visibility options
+        return instructor.isAllowedForPrivilege(response.getGiverSection(), response.getFeedbackSessionName(),
+                        Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS)
+                && (!hasRecipient
+                        || instructor.isAllowedForPrivilege(response.getRecipientSection(),
+                                response.getFeedbackSessionName(),
+                                Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS));
+    }
+
+    private static int toMask(List<FeedbackParticipantType> types) {
+        int mask = 0;
+        if (types != null) {
+            for (FeedbackParticipantType type : types) {
+                mask |= bit(type);
+            }
+        }
+        return mask;
+    }
+
+    private static int bit(FeedbackParticipantType type) {
+        return 1 << type.ordinal();
+    }
+
+    private static boolean has(int mask, FeedbackParticipantType type) {
+        return (mask & bit(type)) != 0;
+    }
+
+    /**
+     * The visibility settings of a question compiled for the user.
+     */
+    final class QuestionPolicy {
+
+        private final FeedbackQuestionAttributes question;
+        private final int responseMask;
+        private final int giverNameMask;
+        private final int recipientNameMask;
+        private final boolean isGiverTeam;
+        private final boolean isRecipientTeam;
+        private final boolean isRecipientTeamType;
+        private final boolean hasRecipient;
+        private final boolean isResponseVisibleToRole;
+        private final boolean isGiverNameVisibleToRole;
+        private final boolean isRecipientNameVisibleToRole;
+
+        private QuestionPolicy(FeedbackQuestionAttributes question) {
+            this.question = question;
+            this.responseMask = toMask(question.getShowResponsesTo());
+            this.giverNameMask = toMask(question.getShowGiverNameTo());
+            this.recipientNameMask = toMask(question.getShowRecipientNameTo());
+            this.isGiverTeam = question.getGiverType() == FeedbackParticipantType.TEAMS;
+            this.isRecipientTeam = question.getRecipientType().isTeam();
+            this.isRecipientTeamType = has(RECIPIENT_TEAM_TYPES, question.getRecipientType());
+            this.hasRecipient = question.getRecipientType() != FeedbackParticipantType.NONE;
+            this.isResponseVisibleToRole = isInstructor && has(responseMask, FeedbackParticipantType.INSTRUCTORS)
+                    || !isInstructor && has(responseMask, FeedbackParticipantType.STUDENTS);
+            this.isGiverNameVisibleToRole = isNameVisibleToRole(giverNameMask);
+            this.isRecipientNameVisibleToRole = isNameVisibleToRole(recipientNameMask);
+        }
+
+        private boolean isNameVisibleToRole(int nameMask) {
+            return has(nameMask, FeedbackParticipantType.INSTRUCTORS) && isRosterInstructor && isInstructor
+                    || has(nameMask, FeedbackParticipantType.STUDENTS) && isRosterStudent;
+        }
+
+        /**
+         * Checks whether the response is visible to the user.
+         */
+        boolean isResponseVisible(FeedbackResponseAttributes response) {
+            return isResponseVisibleIgnoringSections(response) && isAllowedToViewSections(response, hasRecipient);
+        }
+
+        private boolean isResponseVisibleIgnoringSections(FeedbackResponseAttributes response) {
+            if (isResponseVisibleToRole
+                    || has(responseMask, FeedbackParticipantType.RECEIVER) && response.getRecipient().equals(userEmail)
+                    || response.getGiver().equals(userEmail)) {
+                return true;
+            }
+            if (isInstructor) {
+                return false;
+            }
+            return isRecipientTeamType && has(responseMask, FeedbackParticipantType.RECEIVER)
+                            && response.getRecipient().equals(studentTeam)
+                    || isGiverTeam && response.getGiver().equals(studentTeam)
+                    || has(responseMask, FeedbackParticipantType.OWN_TEAM_MEMBERS)
+                            && studentsEmailInTeam.contains(response.getGiver())
+                    || has(responseMask, FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                            && studentsEmailInTeam.contains(response.getRecipient());
+        }
+
+        /**
+         * Checks whether the giver name or the recipient name of the response is visible to the user.
+         */
+        boolean isNameVisible(FeedbackResponseAttributes response, boolean isGiverName) {
+            // the giver can always see the names
+            if (isGiverTeam ? isInRosterTeam(response.getGiver()) : response.getGiver().equals(userEmail)) {
+                return true;
+            }
+
+            int nameMask = isGiverName ? giverNameMask : recipientNameMask;
+            if (isGiverName ? isGiverNameVisibleToRole : isRecipientNameVisibleToRole) {
+                return true;
+            }
+            if ((has(nameMask, FeedbackParticipantType.OWN_TEAM_MEMBERS)
+                    || has(nameMask, FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF))
+                    && isInRosterTeamOf(response.getGiver())) {
+                return true;
+            }
+            if (has(nameMask, FeedbackParticipantType.RECEIVER)
+                    && (isRecipientTeam ? isInRosterTeam(response.getRecipient())
+                            : response.getRecipient().equals(userEmail))) {
+                return true;
+            }
+            return has(nameMask, FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                    && (isRecipientTeam ? isInRosterTeam(response.getRecipient())
+                            : isInRosterTeamOf(response.getRecipient()));
+        }
+
+        /**
+         * Checks whether the comment on the response is visible to the user.
+         */
+        boolean isCommentVisible(FeedbackResponseAttributes response, FeedbackResponseCommentAttributes comment) {
+            boolean isFollowingQuestion = comment.isVisibilityFollowingFeedbackQuestion();
+            int commentMask = isFollowingQuestion ? responseMask : toMask(comment.getShowCommentTo());
+            boolean isVisibleToGiver = isFollowingQuestion || has(commentMask, FeedbackParticipantType.GIVER);
+
+            boolean isVisibleToUser =
+                    isInstructor && has(commentMask, FeedbackParticipantType.INSTRUCTORS)
+                    || response.getRecipient().equals(userEmail) && has(commentMask, FeedbackParticipantType.RECEIVER)
+                    || response.getGiver().equals(userEmail) && isVisibleToGiver
+                    || comment.getCommentGiver().equals(userEmail)
+                    || !isInstructor && has(commentMask, FeedbackParticipantType.STUDENTS);
+            if (isVisibleToUser) {
+                return true;
+            }
+
+            return !isInstructor && question.getRecipientType() == FeedbackParticipantType.TEAMS
+                            && has(commentMask, FeedbackParticipantType.RECEIVER)
+                            && response.getRecipient().equals(studentTeam)
+                    || (isGiverTeam || has(commentMask, FeedbackParticipantType.OWN_TEAM_MEMBERS))
+                            && (studentsEmailInTeam.contains(response.getGiver())
+                                    || !isInstructor && response.getGiver().equals(studentTeam))
+                    || has(commentMask, FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                            && studentsEmailInTeam.contains(response.getRecipient());
+        }
+
+    }
+
+}
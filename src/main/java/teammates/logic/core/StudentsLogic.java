@@ -2,11 +2,18 @@ package teammates.logic.core;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.StringJoiner;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.StudentsEnrollmentResults;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EnrollException;
@@ -16,6 +23,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.SearchServiceException;
 import teammates.common.util.Const;
 import teammates.common.util.RequestTracer;
+import teammates.common.util.StringHelper;
 import teammates.storage.api.StudentsDb;
 
 /**
@@ -34,11 +42,19 @@ public final class StudentsLogic {
             "You are trying enroll more than %s students in section \"%s\".";
     static final String ERROR_ENROLL_EXCEED_SECTION_LIMIT_INSTRUCTION =
             "To avoid performance problems, please do not enroll more than %s students in a single section.";
+    static final String ERROR_ENROLL_DUPLICATE_EMAIL =
+            "The email %s appears more than once in the list of students to enroll.";
+
+    /**
+     * Maximum number of new students created in a single batched write during enrollment.
+     */
+    static final int ENROLLMENT_BATCH_SIZE = 100;
 
     private static final StudentsLogic instance = new StudentsLogic();
 
     private final StudentsDb studentsDb = StudentsDb.inst();
 
+    private CourseRosterCache courseRosterCache;
     private FeedbackResponsesLogic frLogic;
     private FeedbackSessionsLogic fsLogic;
     private DeadlineExtensionsLogic deLogic;
@@ -52,6 +68,7 @@ public final class StudentsLogic {
     }
 
     void initLogicDependencies() {
+        courseRosterCache = CourseRosterCache.inst();
         frLogic = FeedbackResponsesLogic.inst();
         fsLogic = FeedbackSessionsLogic.inst();
         deLogic = DeadlineExtensionsLogic.inst();
@@ -66,7 +83,9 @@ public final class StudentsLogic {
      */
     public StudentAttributes createStudent(StudentAttributes studentData)
             throws InvalidParametersException, EntityAlreadyExistsException {
-        return studentsDb.createEntity(studentData);
+        StudentAttributes createdStudent = studentsDb.createEntity(studentData);
+        courseRosterCache.invalidate(createdStudent.getCourse());
+        return createdStudent;
     }
 
     /**
@@ -237,6 +256,7 @@ public final class StudentsLogic {
             throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
         StudentAttributes originalStudent = getStudentForEmail(updateOptions.getCourseId(), updateOptions.getEmail());
         StudentAttributes updatedStudent = studentsDb.updateStudent(updateOptions);
+        courseRosterCache.invalidate(updatedStudent.getCourse());
 
         // cascade email change, if any
         if (!originalStudent.getEmail().equals(updatedStudent.getEmail())) {
@@ -298,15 +318,146 @@ public final class StudentsLogic {
             throw new EntityDoesNotExistException(errorMessage);
         }
 
-        return studentsDb.regenerateEntityKey(originalStudent);
+        StudentAttributes updatedStudent = studentsDb.regenerateEntityKey(originalStudent);
+        courseRosterCache.invalidate(courseId);
+        return updatedStudent;
+    }
+
+    /**
+     * Enrolls a list of students into a course in bulk.
+     *
+     * <p>The whole list is validated with {@link #validateSectionsAndTeams(List, String)} first.
+     * Students who are new to the course are then created in batches of {@link #ENROLLMENT_BATCH_SIZE};
+     * students who already exist are updated with {@link #updateStudentCascade(StudentAttributes.UpdateOptions)}
+     * only if any of their details changes.
+     *
+     * <p>A student who cannot be enrolled does not prevent the other students from being enrolled.
+     *
+     * @return the result of enrolling each student, in the order of {@code studentsToEnroll}
+     * @throws EnrollException if the sections or teams of the students are not valid
+     */
+    public StudentsEnrollmentResults enrollStudents(String courseId, List<StudentAttributes> studentsToEnroll)
+            throws EnrollException {
+        List<StudentAttributes> existingStudents = getStudentsForCourse(courseId);
+        validateSectionsAndTeams(getMergedList(studentsToEnroll, existingStudents));
+
+        Map<String, StudentAttributes> existingStudentsByEmail = new HashMap<>();
+        existingStudents.forEach(student -> existingStudentsByEmail.put(student.getEmail(), student));
+
+        StudentsEnrollmentResults.Row[] rows = new StudentsEnrollmentResults.Row[studentsToEnroll.size()];
+        List<Integer> indicesToCreate = new ArrayList<>();
+        Set<String> emailsToCreate = new HashSet<>();
+
+        for (int i = 0; i < studentsToEnroll.size(); i++) {
+            RequestTracer.checkRemainingTime();
+            StudentAttributes student = studentsToEnroll.get(i);
+            student.sanitizeForSaving();
+
+            StudentAttributes existingStudent = existingStudentsByEmail.get(student.getEmail());
+            if (existingStudent == null) {
+                if (emailsToCreate.add(student.getEmail())) {
+                    indicesToCreate.add(i);
+                } else {
+                    rows[i] = StudentsEnrollmentResults.Row.failed(student.getEmail(),
+                            String.format(ERROR_ENROLL_DUPLICATE_EMAIL, student.getEmail()));
+                }
+            } else if (hasSameEnrollmentDetails(existingStudent, student)) {
+                rows[i] = StudentsEnrollmentResults.Row.enrolled(
+                        existingStudent, StudentsEnrollmentResults.Status.UNCHANGED);
+            } else {
+                rows[i] = updateEnrolledStudent(student);
+            }
+        }
+
+        for (int start = 0; start < indicesToCreate.size(); start += ENROLLMENT_BATCH_SIZE) {
+            RequestTracer.checkRemainingTime();
+            List<Integer> batch = indicesToCreate.subList(
+                    start, Math.min(start + ENROLLMENT_BATCH_SIZE, indicesToCreate.size()));
+            createEnrolledStudents(studentsToEnroll, batch, rows);
+        }
+        if (!indicesToCreate.isEmpty()) {
+            courseRosterCache.invalidate(courseId);
+        }
+
+        return new StudentsEnrollmentResults(Arrays.asList(rows));
+    }
+
+    private boolean hasSameEnrollmentDetails(StudentAttributes existingStudent, StudentAttributes student) {
+        return Objects.equals(existingStudent.getName(), student.getName())
+                && Objects.equals(existingStudent.getSection(), student.getSection())
+                && Objects.equals(existingStudent.getTeam(), student.getTeam())
+                && Objects.equals(existingStudent.getComments(), student.getComments());
+    }
+
+    private StudentsEnrollmentResults.Row updateEnrolledStudent(StudentAttributes student) {
+        StudentAttributes.UpdateOptions updateOptions =
+                StudentAttributes.updateOptionsBuilder(student.getCourse(), student.getEmail())
+                        .withName(student.getName())
+                        .withSectionName(student.getSection())
+                        .withTeamName(student.getTeam())
+                        .withComment(student.getComments())
+                        .build();
+        try {
+            // updates go through the cascade as changes of team or section affect the responses
+            StudentAttributes updatedStudent = updateStudentCascade(updateOptions);
+            return StudentsEnrollmentResults.Row.enrolled(updatedStudent, StudentsEnrollmentResults.Status.UPDATED);
+        } catch (InvalidParametersException | EntityDoesNotExistException | EntityAlreadyExistsException e) {
+            return StudentsEnrollmentResults.Row.failed(student.getEmail(), e.getMessage());
+        }
+    }
+
+    private void createEnrolledStudents(List<StudentAttributes> studentsToEnroll, List<Integer> batch,
+                                        StudentsEnrollmentResults.Row[] rows) {
+        List<Integer> validIndices = new ArrayList<>();
+        List<StudentAttributes> validStudents = new ArrayList<>();
+        for (int i : batch) {
+            StudentAttributes student = studentsToEnroll.get(i);
+            if (student.isValid()) {
+                validIndices.add(i);
+                validStudents.add(student);
+            } else {
+                rows[i] = StudentsEnrollmentResults.Row.failed(
+                        student.getEmail(), StringHelper.toString(student.getInvalidityInfo()));
+            }
+        }
+        if (validStudents.isEmpty()) {
+            return;
+        }
+
+        // The registration keys need not be checked for uniqueness one by one as in createStudent;
+        // the keys are derived from the student IDs, which are unique as the students are not in the course yet.
+        List<StudentAttributes> createdStudents;
+        try {
+            createdStudents = studentsDb.createStudentsIfAbsent(validStudents);
+        } catch (InvalidParametersException e) {
+            assert false : "The students have been validated: " + e.getMessage();
+            for (int i : validIndices) {
+                rows[i] = StudentsEnrollmentResults.Row.failed(studentsToEnroll.get(i).getEmail(), e.getMessage());
+            }
+            return;
+        }
+
+        Map<String, StudentAttributes> createdStudentsByEmail = new HashMap<>();
+        createdStudents.forEach(student -> createdStudentsByEmail.put(student.getEmail(), student));
+        for (int i : validIndices) {
+            StudentAttributes createdStudent = createdStudentsByEmail.get(studentsToEnroll.get(i).getEmail());
+            if (createdStudent == null) {
+                // the student has been added to the course since the roster was read; update it instead
+                rows[i] = updateEnrolledStudent(studentsToEnroll.get(i));
+            } else {
+                rows[i] = StudentsEnrollmentResults.Row.enrolled(createdStudent, StudentsEnrollmentResults.Status.CREATED);
+            }
+        }
     }
 
     /**
      * Validates sections for any limit violations and teams for any team name violations.
      */
     public void validateSectionsAndTeams(List<StudentAttributes> studentList, String courseId) throws EnrollException {
+        validateSectionsAndTeams(getMergedList(studentList, getStudentsForCourse(courseId)));
+    }
 
-        List<StudentAttributes> mergedList = getMergedList(studentList, courseId);
+    private void validateSectionsAndTeams(List<StudentAttributes> mergedList) throws EnrollException {
 
         if (mergedList.size() < 2) { // no conflicts
             return;
@@ -320,17 +471,19 @@ public final class StudentsLogic {
 
     }
 
-    private List<StudentAttributes> getMergedList(List<StudentAttributes> studentList, String courseId) {
+    private List<StudentAttributes> getMergedList(List<StudentAttributes> studentList,
+                                                  List<StudentAttributes> studentsInCourse) {
 
         List<StudentAttributes> mergedList = new ArrayList<>();
-        List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
+        Set<String> emailsInMergedList = new HashSet<>();
 
         for (StudentAttributes student : studentList) {
             mergedList.add(student);
+            emailsInMergedList.add(student.getEmail().toLowerCase());
         }
 
         for (StudentAttributes student : studentsInCourse) {
-            if (!isInEnrollList(student, mergedList)) {
+            if (!emailsInMergedList.contains(student.getEmail().toLowerCase())) {
                 mergedList.add(student);
             }
         }
@@ -445,6 +598,7 @@ public final class StudentsLogic {
             frLogic.deleteFeedbackResponsesInvolvedEntityOfCourseCascade(student.getCourse(), student.getTeam());
         }
         studentsDb.deleteStudent(courseId, studentEmail);
+        courseRosterCache.invalidate(courseId);
         fsLogic.deleteFeedbackSessionsDeadlinesForStudent(courseId, studentEmail);
         deLogic.deleteDeadlineExtensions(courseId, studentEmail, false);
 
@@ -473,6 +627,11 @@ public final class StudentsLogic {
      */
     public void deleteStudents(AttributesDeletionQuery query) {
         studentsDb.deleteStudents(query);
+        if (query.isCourseIdPresent()) {
+            courseRosterCache.invalidate(query.getCourseId());
+        } else {
+            courseRosterCache.invalidateAll();
+        }
         updateStudentResponsesAfterDeletion(query.getCourseId());
     }
 
@@ -485,14 +644,13 @@ public final class StudentsLogic {
         studentsDb.putDocument(student);
     }
 
-    private boolean isInEnrollList(StudentAttributes student,
-            List<StudentAttributes> studentInfoList) {
-        for (StudentAttributes studentInfo : studentInfoList) {
-            if (studentInfo.getEmail().equalsIgnoreCase(student.getEmail())) {
-                return true;
-            }
-        }
-        return false;
+    /**
+     * Creates or updates search documents for the given students in a single batch.
+     *
+     * @param students the students to be put into documents
+     */
+    public void putDocuments(Collection<StudentAttributes> students) throws SearchServiceException {
+        studentsDb.putDocuments(students);
     }
 
     private boolean isTeamChanged(String originalTeam, String newTeam) {
@@ -1,5 +1,10 @@
 package teammates.logic.external;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+
 import teammates.common.exception.EmailSendingException;
 import teammates.common.util.EmailSendingStatus;
 import teammates.common.util.EmailWrapper;
@@ -20,4 +25,25 @@ public interface EmailSenderService {
      */
     EmailSendingStatus sendEmail(EmailWrapper wrapper) throws EmailSendingException;
 
+    /**
+     * Sends the emails packaged as {@code wrappers}.
+     *
+     * <p>A failure to send one email does not stop the remaining emails from being sent.
+     *
+     * @return the sending status of each email, in the same order as the emails
+     */
+    default List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (EmailWrapper wrapper : wrappers) {
+            try {
+                statuses.add(sendEmail(wrapper));
+            } catch (EmailSendingException e) {
+                statuses.add(new EmailSendingStatus(e.getStatusCode(), e.getMessage()));
+            } catch (RuntimeException e) {
+                statuses.add(new EmailSendingStatus(HttpStatus.SC_BAD_GATEWAY, e.getMessage()));
+            }
+        }
+        return statuses;
+    }
+
 }
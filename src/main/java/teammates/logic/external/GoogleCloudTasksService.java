@@ -1,11 +1,19 @@
 package teammates.logic.external;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
+import com.google.api.core.ApiFuture;
 import com.google.cloud.tasks.v2.AppEngineHttpRequest;
 import com.google.cloud.tasks.v2.AppEngineRouting;
 import com.google.cloud.tasks.v2.CloudTasksClient;
+import com.google.cloud.tasks.v2.CreateTaskRequest;
 import com.google.cloud.tasks.v2.HttpMethod;
 import com.google.cloud.tasks.v2.QueueName;
 import com.google.cloud.tasks.v2.Task;
@@ -21,46 +29,145 @@ import teammates.common.util.TaskWrapper;
 
 /**
  * Holds functions for operations related to Google Cloud Tasks.
+ *
+ * <p>A single client is shared by all tasks, as creating a client sets up a new gRPC channel.
  */
 public class GoogleCloudTasksService implements TaskQueueService {
 
+    /**
+     * Maximum number of tasks being created at the same time by {@link #addDeferredTasks(List, List)}.
+     */
+    static final int MAX_CONCURRENT_TASK_CREATIONS = 20;
+
+    private static final long SHUTDOWN_TIMEOUT_IN_SECONDS = 10;
+
     private static final Logger log = Logger.getLogger();
 
+    private volatile CloudTasksClient client;
+
+    private CloudTasksClient getClient() throws IOException {
+        CloudTasksClient currentClient = client;
+        if (currentClient == null) {
+            synchronized (this) {
+                currentClient = client;
+                if (currentClient == null) {
+                    currentClient = CloudTasksClient.create();
+                    client = currentClient;
+                }
+            }
+        }
+        return currentClient;
+    }
+
     @Override
     public void addDeferredTask(TaskWrapper task, long countdownTime) {
-        try (CloudTasksClient client = CloudTasksClient.create()) {
-            String queuePath = QueueName.of(Config.APP_ID, Config.APP_REGION, task.getQueueName()).toString();
-
-            AppEngineHttpRequest.Builder requestBuilder =
-                    AppEngineHttpRequest.newBuilder()
-                            .setAppEngineRouting(AppEngineRouting.newBuilder()
-                                    .setVersion(Config.APP_VERSION)
-                                    .build())
-                            .setHttpMethod(HttpMethod.POST);
-
-            if (task.getRequestBody() == null) {
-                String relativeUrl = "http://place.holder"; // the value is not important
-                AppUrl url = new AppUrl(relativeUrl + task.getWorkerUrl());
-                task.getParamMap().forEach((key, value) -> url.withParam(key, value));
-
-                requestBuilder.setRelativeUri(url.toString());
-            } else {
-                String requestBody = JsonUtils.toCompactJson(task.getRequestBody());
-                requestBuilder.putHeaders("Content-Type", "application/json; charset=UTF-8")
-                        .setRelativeUri(task.getWorkerUrl())
-                        .setBody(ByteString.copyFrom(requestBody, Const.ENCODING));
+        addDeferredTasks(Collections.singletonList(task), Collections.singletonList(countdownTime));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The tasks are created concurrently, at most {@value #MAX_CONCURRENT_TASK_CREATIONS} at a time.
+     * If any task fails to be created, no more tasks are created after the current ones
+     * and the failure is thrown; the tasks created before it are not removed.
+     */
+    @Override
+    public void addDeferredTasks(List<TaskWrapper> tasks, List<Long> countdownTimes) {
+        assert tasks.size() == countdownTimes.size();
+
+        CloudTasksClient currentClient;
+        try {
+            currentClient = getClient();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create Cloud Tasks client", e);
+        }
+
+        for (int start = 0; start < tasks.size(); start += MAX_CONCURRENT_TASK_CREATIONS) {
+            int end = Math.min(start + MAX_CONCURRENT_TASK_CREATIONS, tasks.size());
+
+            List<ApiFuture<Task>> futures = new ArrayList<>();
+            for (int i = start; i < end; i++) {
+                CreateTaskRequest request = createTaskRequest(tasks.get(i), countdownTimes.get(i));
+                futures.add(currentClient.createTaskCallable().futureCall(request));
             }
 
-            Task.Builder taskBuilder = Task.newBuilder().setAppEngineHttpRequest(requestBuilder.build());
-            if (countdownTime > 0) {
-                taskBuilder.setScheduleTime(
-                        Timestamp.newBuilder()
-                                .setSeconds(Instant.now().plusMillis(countdownTime).getEpochSecond()));
+            RuntimeException failure = null;
+            for (int i = start; i < end; i++) {
+                try {
+                    futures.get(i - start).get();
+                } catch (ExecutionException e) {
+                    log.severe("Cannot create task to " + tasks.get(i).getWorkerUrl(), e);
+                    if (failure == null) {
+                        failure = e.getCause() instanceof RuntimeException
+                                ? (RuntimeException) e.getCause()
+                                : new IllegalStateException("Cannot create task to " + tasks.get(i).getWorkerUrl(), e);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while creating task to " + tasks.get(i).getWorkerUrl(), e);
+                }
             }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
 
-            client.createTask(queuePath, taskBuilder.build());
-        } catch (IOException e) {
-            log.severe("Cannot create Cloud Tasks client", e);
+    private static CreateTaskRequest createTaskRequest(TaskWrapper task, long countdownTime) {
+        String queuePath = QueueName.of(Config.APP_ID, Config.APP_REGION, task.getQueueName()).toString();
+
+        AppEngineHttpRequest.Builder requestBuilder =
+                AppEngineHttpRequest.newBuilder()
+                        .setAppEngineRouting(AppEngineRouting.newBuilder()
+                                .setVersion(Config.APP_VERSION)
+                                .build())
+                        .setHttpMethod(HttpMethod.POST);
+
+        if (task.getRequestBody() == null) {
+            String relativeUrl = "http://place.holder"; // the value is not important
+            AppUrl url = new AppUrl(relativeUrl + task.getWorkerUrl());
+            task.getParamMap().forEach((key, value) -> url.withParam(key, value));
+
+            requestBuilder.setRelativeUri(url.toString());
+        } else {
+            String requestBody = JsonUtils.toCompactJson(task.getRequestBody());
+            requestBuilder.putHeaders("Content-Type", "application/json; charset=UTF-8")
+                    .setRelativeUri(task.getWorkerUrl())
+                    .setBody(ByteString.copyFrom(requestBody, Const.ENCODING));
+        }
+
+        Task.Builder taskBuilder = Task.newBuilder().setAppEngineHttpRequest(requestBuilder.build());
+        if (countdownTime > 0) {
+            taskBuilder.setScheduleTime(
+                    Timestamp.newBuilder()
+                            .setSeconds(Instant.now().plusMillis(countdownTime).getEpochSecond()));
+        }
+
+        return CreateTaskRequest.newBuilder()
+                .setParent(queuePath)
+                .setTask(taskBuilder.build())
+                .build();
+    }
+
+    @Override
+    public void shutdown() {
+        CloudTasksClient currentClient;
+        synchronized (this) {
+            currentClient = client;
+            client = null;
+        }
+        if (currentClient == null) {
+            return;
+        }
+
+        currentClient.shutdown();
+        try {
+            if (!currentClient.awaitTermination(SHUTDOWN_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+                currentClient.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            currentClient.shutdownNow();
         }
     }
 
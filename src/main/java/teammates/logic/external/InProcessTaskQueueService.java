@@ -0,0 +1,246 @@
+package teammates.logic.external;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import teammates.common.util.FileHelper;
+import teammates.common.util.Logger;
+import teammates.common.util.TaskWrapper;
+
+/**
+ * Runs tasks within the application itself, without going through any external task queue service.
+ *
+ * <p>Each queue has its own bounded pool of threads, which limits the number of its tasks running at the same time.
+ * Deferred tasks and retries of failed tasks are held in memory until they are due;
+ * they are lost if the application is shut down before then.
+ *
+ * <p>The retry limits and concurrency limits of the queues are read from {@code queue.yaml},
+ * which is copied into the resources at build time.
+ */
+public class InProcessTaskQueueService implements TaskQueueService {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final long SHUTDOWN_TIMEOUT_IN_SECONDS = 30;
+
+    private static final String QUEUE_CONFIG_FILE = "queue.yaml";
+
+    private static final QueueConfig DEFAULT_QUEUE_CONFIG = new QueueConfig(5, 3, 1000, 60 * 1000);
+
+    private static final Map<String, QueueConfig> QUEUE_CONFIGS = loadQueueConfigs();
+
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, ExecutorService> queueExecutors = new ConcurrentHashMap<>();
+
+    private volatile TaskHandler handler;
+
+    public InProcessTaskQueueService() {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new TaskThreadFactory("scheduler"));
+    }
+
+    /**
+     * Sets the handler which runs the tasks.
+     *
+     * <p>Tasks which are due before the handler is set are retried later.
+     */
+    public void setHandler(TaskHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public void addDeferredTask(TaskWrapper task, long countdownTime) {
+        schedule(task, 1, countdownTime);
+    }
+
+    private void schedule(TaskWrapper task, int attempt, long delayInMillis) {
+        try {
+            if (delayInMillis > 0) {
+                scheduler.schedule(() -> schedule(task, attempt, 0), delayInMillis, TimeUnit.MILLISECONDS);
+            } else {
+                getQueueExecutor(task.getQueueName()).execute(() -> run(task, attempt));
+            }
+        } catch (RejectedExecutionException e) {
+            log.severe("Task to " + task.getWorkerUrl() + " is dropped as the task queue has been shut down");
+        }
+    }
+
+    private ExecutorService getQueueExecutor(String queueName) {
+        return queueExecutors.computeIfAbsent(queueName, name -> Executors.newFixedThreadPool(
+                getQueueConfig(name).maxConcurrentTasks, new TaskThreadFactory(name)));
+    }
+
+    private void run(TaskWrapper task, int attempt) {
+        boolean isSuccessful;
+        TaskHandler currentHandler = handler;
+        if (currentHandler == null) {
+            log.warning("No handler is set yet to run the task to " + task.getWorkerUrl());
+            isSuccessful = false;
+        } else {
+            try {
+                isSuccessful = currentHandler.handle(task);
+            } catch (RuntimeException e) {
+                log.severe("Task to " + task.getWorkerUrl() + " failed with " + e.getClass().getSimpleName(), e);
+                isSuccessful = false;
+            }
+        }
+
+        if (isSuccessful) {
+            return;
+        }
+
+        QueueConfig queueConfig = getQueueConfig(task.getQueueName());
+        if (attempt > queueConfig.maxRetries) {
+            log.severe("Task to " + task.getWorkerUrl() + " is dropped after " + attempt + " failed attempts");
+            return;
+        }
+        // the backoff is doubled after every failed attempt, up to the maximum
+        long backoffInMillis = Math.min(queueConfig.minBackoffInMillis << Math.min(attempt - 1, 16),
+                queueConfig.maxBackoffInMillis);
+        schedule(task, attempt + 1, backoffInMillis);
+    }
+
+    /**
+     * Loads the configuration of the queues from the same {@code queue.yaml} which configures the Cloud Tasks queues.
+     *
+     * <p>Only the few parameters used here are read, so the file is scanned line by line instead of being parsed
+     * as YAML in general: every {@code key: value} line after a {@code - name: ...} line belongs to that queue,
+     * including those nested under {@code retry_parameters}.
+     */
+    private static Map<String, QueueConfig> loadQueueConfigs() {
+        List<Map<String, String>> queues = new ArrayList<>();
+        try (InputStream queueConfigStream = FileHelper.getResourceAsStream(QUEUE_CONFIG_FILE)) {
+            if (queueConfigStream == null) {
+                log.warning(QUEUE_CONFIG_FILE + " is not found; the default configuration is used for all queues");
+                return Collections.emptyMap();
+            }
+            BufferedReader reader = new BufferedReader(new InputStreamReader(queueConfigStream, StandardCharsets.UTF_8));
+            String line = reader.readLine();
+            while (line != null) {
+                String content = line.replaceFirst("#.*", "").trim();
+                if (content.startsWith("- ")) {
+                    queues.add(new HashMap<>());
+                    content = content.substring(2).trim();
+                }
+                int separatorIndex = content.indexOf(':');
+                if (!queues.isEmpty() && separatorIndex > 0) {
+                    queues.get(queues.size() - 1).put(content.substring(0, separatorIndex).trim(),
+                            content.substring(separatorIndex + 1).trim());
+                }
+                line = reader.readLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        Map<String, QueueConfig> queueConfigs = new HashMap<>();
+        for (Map<String, String> queue : queues) {
+            queueConfigs.put(queue.get("name"), new QueueConfig(
+                    getInt(queue, "bucket_size", DEFAULT_QUEUE_CONFIG.maxConcurrentTasks),
+                    getInt(queue, "task_retry_limit", DEFAULT_QUEUE_CONFIG.maxRetries),
+                    getInt(queue, "min_backoff_seconds", (int) (DEFAULT_QUEUE_CONFIG.minBackoffInMillis / 1000)) * 1000L,
+                    getInt(queue, "max_backoff_seconds", (int) (DEFAULT_QUEUE_CONFIG.maxBackoffInMillis / 1000)) * 1000L));
+        }
+        return queueConfigs;
+    }
+
+    private static int getInt(Map<String, String> parameters, String name, int defaultValue) {
+        String value = parameters.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            log.warning("Invalid value of " + name + " in " + QUEUE_CONFIG_FILE + ": " + value);
+            return defaultValue;
+        }
+    }
+
+    private static QueueConfig getQueueConfig(String queueName) {
+        return QUEUE_CONFIGS.getOrDefault(queueName, DEFAULT_QUEUE_CONFIG);
+    }
+
+    /**
+     * Stops accepting tasks and waits for the running tasks to finish.
+     *
+     * <p>Deferred tasks and retries which are not due yet are discarded.
+     */
+    @Override
+    public void shutdown() {
+        scheduler.shutdownNow();
+        queueExecutors.values().forEach(ExecutorService::shutdown);
+        try {
+            for (ExecutorService executor : queueExecutors.values()) {
+                if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)) {
+                    log.warning("Timed out waiting for the running tasks to finish");
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Runs a task.
+     */
+    @FunctionalInterface
+    public interface TaskHandler {
+
+        /**
+         * Runs the given task.
+         *
+         * @return true if the task is done, false if it has failed and should be retried
+         */
+        boolean handle(TaskWrapper task);
+
+    }
+
+    private static class QueueConfig {
+        private final int maxConcurrentTasks;
+        private final int maxRetries;
+        private final long minBackoffInMillis;
+        private final long maxBackoffInMillis;
+
+        QueueConfig(int maxConcurrentTasks, int maxRetries, long minBackoffInMillis, long maxBackoffInMillis) {
+            this.maxConcurrentTasks = maxConcurrentTasks;
+            this.maxRetries = maxRetries;
+            this.minBackoffInMillis = minBackoffInMillis;
+            this.maxBackoffInMillis = maxBackoffInMillis;
+        }
+    }
+
+    private static class TaskThreadFactory implements ThreadFactory {
+        private final String name;
+        private final AtomicInteger count = new AtomicInteger();
+
+        TaskThreadFactory(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "task-queue-" + name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+}
@@ -11,12 +11,11 @@ import org.apache.http.NameValuePair;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.message.BasicNameValuePair;
 
 import teammates.common.util.Config;
 import teammates.common.util.Const;
+import teammates.common.util.HttpRequest;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 import teammates.common.util.TaskWrapper;
@@ -48,8 +47,9 @@ public class LocalTaskQueueService implements TaskQueueService {
         post.addHeader("X-AppEngine-QueueName", task.getQueueName());
         post.addHeader("X-Google-DevAppserver-SkipAdminCheck", "true");
 
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            httpClient.execute(post);
+        try {
+            // the response is irrelevant; it is consumed only to release the connection back to the pool
+            HttpRequest.execute(post, response -> null);
         } catch (IOException e) {
             log.severe("Error when executing HTTP request", e);
         }
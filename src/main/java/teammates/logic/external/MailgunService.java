@@ -1,6 +1,8 @@
 package teammates.logic.external;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.ws.rs.core.MediaType;
 
@@ -54,12 +56,41 @@ public class MailgunService implements EmailSenderService {
 
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) {
-        try (FormDataMultiPart email = parseToEmail(wrapper)) {
-            Client client = Client.create();
-            client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
-            WebResource webResource =
-                    client.resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
+        return sendEmail(wrapper, getMessagesResource(Client.create()));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>All the emails are sent through the same client.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        Client client = Client.create();
+        try {
+            WebResource webResource = getMessagesResource(client);
+            List<EmailSendingStatus> statuses = new ArrayList<>();
+            for (EmailWrapper wrapper : wrappers) {
+                try {
+                    statuses.add(sendEmail(wrapper, webResource));
+                } catch (RuntimeException e) {
+                    // e.g. the connection to Mailgun fails; this must not stop the remaining emails from being sent
+                    statuses.add(new EmailSendingStatus(HttpStatus.SC_BAD_GATEWAY, e.getMessage()));
+                }
+            }
+            return statuses;
+        } finally {
+            client.destroy();
+        }
+    }
 
+    private static WebResource getMessagesResource(Client client) {
+        client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
+        return client.resource("https://api.mailgun.net/v3/" + Config.MAILGUN_DOMAINNAME + "/messages");
+    }
+
+    private EmailSendingStatus sendEmail(EmailWrapper wrapper, WebResource webResource) {
+        try (FormDataMultiPart email = parseToEmail(wrapper)) {
             ClientResponse response = webResource.type(MediaType.MULTIPART_FORM_DATA_TYPE)
                     .post(ClientResponse.class, email);
 
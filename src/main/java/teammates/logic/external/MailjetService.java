@@ -1,5 +1,8 @@
 package teammates.logic.external;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.apache.http.HttpStatus;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -52,9 +55,37 @@ public class MailjetService implements EmailSenderService {
 
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) throws EmailSendingException {
-        MailjetRequest email = parseToEmail(wrapper);
-        MailjetClient mailjet = new MailjetClient(
+        return sendEmail(wrapper, createClient());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>All the emails are sent through the same client.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
+        MailjetClient mailjet = createClient();
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (EmailWrapper wrapper : wrappers) {
+            try {
+                statuses.add(sendEmail(wrapper, mailjet));
+            } catch (EmailSendingException e) {
+                statuses.add(new EmailSendingStatus(e.getStatusCode(), e.getMessage()));
+            } catch (RuntimeException e) {
+                statuses.add(new EmailSendingStatus(HttpStatus.SC_BAD_GATEWAY, e.getMessage()));
+            }
+        }
+        return statuses;
+    }
+
+    private static MailjetClient createClient() {
+        return new MailjetClient(
                 ClientOptions.builder().apiKey(Config.MAILJET_APIKEY).apiSecretKey(Config.MAILJET_SECRETKEY).build());
+    }
+
+    private EmailSendingStatus sendEmail(EmailWrapper wrapper, MailjetClient mailjet) throws EmailSendingException {
+        MailjetRequest email = parseToEmail(wrapper);
         try {
             MailjetResponse response = mailjet.post(email);
             return new EmailSendingStatus(response.getStatus(), response.getData().toString());
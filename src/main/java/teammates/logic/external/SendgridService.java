@@ -1,6 +1,8 @@
 package teammates.logic.external;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.http.HttpStatus;
 import org.jsoup.Jsoup;
@@ -55,8 +57,32 @@ public class SendgridService implements EmailSenderService {
 
     @Override
     public EmailSendingStatus sendEmail(EmailWrapper wrapper) throws EmailSendingException {
-        Mail email = parseToEmail(wrapper);
+        return sendEmail(wrapper, new SendGrid(Config.SENDGRID_APIKEY));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>All the emails are sent through the same client.
+     */
+    @Override
+    public List<EmailSendingStatus> sendEmails(List<EmailWrapper> wrappers) {
         SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
+        List<EmailSendingStatus> statuses = new ArrayList<>();
+        for (EmailWrapper wrapper : wrappers) {
+            try {
+                statuses.add(sendEmail(wrapper, sendgrid));
+            } catch (EmailSendingException e) {
+                statuses.add(new EmailSendingStatus(e.getStatusCode(), e.getMessage()));
+            } catch (RuntimeException e) {
+                statuses.add(new EmailSendingStatus(HttpStatus.SC_BAD_GATEWAY, e.getMessage()));
+            }
+        }
+        return statuses;
+    }
+
+    private EmailSendingStatus sendEmail(EmailWrapper wrapper, SendGrid sendgrid) throws EmailSendingException {
+        Mail email = parseToEmail(wrapper);
         Request request = new Request();
         request.setMethod(Method.POST);
         request.setEndpoint("mail/send");
@@ -1,5 +1,7 @@
 package teammates.logic.external;
 
+import java.util.List;
+
 import teammates.common.util.TaskWrapper;
 
 /**
@@ -12,7 +14,30 @@ public interface TaskQueueService {
      *
      * @param task the task object containing the details of task to be added
      * @param countdownTime the time delay for the task to be executed
+     * @throws RuntimeException if the task cannot be added
      */
     void addDeferredTask(TaskWrapper task, long countdownTime);
 
+    /**
+     * Adds the given tasks, each to be run after the corresponding specified time, to the specified queues.
+     *
+     * @param tasks the task objects containing the details of tasks to be added
+     * @param countdownTimes the time delays for the tasks to be executed, in the same order as the tasks
+     * @throws RuntimeException if any of the tasks cannot be added; some of the other tasks may have been added
+     */
+    default void addDeferredTasks(List<TaskWrapper> tasks, List<Long> countdownTimes) {
+        assert tasks.size() == countdownTimes.size();
+
+        for (int i = 0; i < tasks.size(); i++) {
+            addDeferredTask(tasks.get(i), countdownTimes.get(i));
+        }
+    }
+
+    /**
+     * Releases the resources held by the service, e.g. threads and connections.
+     */
+    default void shutdown() {
+        // nothing to release by default
+    }
+
 }
@@ -4,6 +4,7 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -48,6 +49,13 @@ public final class AccountRequestsDb extends EntitiesDb<AccountRequest, AccountR
         getSearchManager().putDocument(accountRequest);
     }
 
+    /**
+     * Creates or updates search documents for the given account requests in a single batch.
+     */
+    public void putDocuments(Collection<AccountRequestAttributes> accountRequests) throws SearchServiceException {
+        getSearchManager().putDocuments(accountRequests);
+    }
+
     /**
      * Searches all account requests in the system.
      *
@@ -75,7 +75,7 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
         E entity = convertToEntityForSaving(entityToAdd);
 
         ofy().save().entity(entity).now();
-        log.info("Entity created: " + JsonUtils.toJson(entityToAdd));
+        logEntityWrite("Entity created", entity, entityToAdd);
 
         return makeAttributes(entity);
     }
@@ -130,10 +130,11 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
             entities.add(entity);
         }
 
+        ofy().save().entities(entities).now();
+        int i = 0;
         for (A attributes : entitiesToAdd) {
-            log.info("Entity created: " + JsonUtils.toJson(attributes));
+            logEntityWrite("Entity created", entities.get(i++), attributes);
         }
-        ofy().save().entities(entities).now();
 
         return makeAttributes(entities);
     }
@@ -151,20 +152,31 @@ abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttributes<E>> {
     void saveEntity(E entityToSave) {
         assert entityToSave != null;
 
-        log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
-
         ofy().save().entity(entityToSave).now();
+        logEntityWrite("Entity saved", entityToSave, entityToSave);
     }
 
     /**
      * Saves a collection of entities.
      */
     void saveEntities(Collection<E> entitiesToSave) {
+        ofy().save().entities(entitiesToSave).now();
         for (E entityToSave : entitiesToSave) {
-            log.info("Entity saved: " + JsonUtils.toJson(entityToSave));
+            logEntityWrite("Entity saved", entityToSave, entityToSave);
         }
+    }
 
-        ofy().save().entities(entitiesToSave).now();
+    /**
+     * Logs the kind and key of a written entity.
+     *
+     * <p>The full content of the entity is only serialized and logged if FINE level logging is enabled,
+     * as serializing every written entity costs more than the write itself for bulk writes.
+     */
+    void logEntityWrite(String description, E entity, Object content) {
+        Key<E> key = Key.create(entity);
+        log.info(String.format("%s %s of key (id: %d, name: %s)",
+                description, key.getKind(), key.getRaw().getId(), key.getName()));
+        log.fine(() -> description + ": " + JsonUtils.toJson(content));
     }
 
     /**
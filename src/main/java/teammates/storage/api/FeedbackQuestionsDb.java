@@ -3,6 +3,8 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
@@ -87,6 +89,26 @@ public final class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, Feed
         return hasFeedbackQuestionEntitiesForGiverType(feedbackSessionName, courseId, giverType);
     }
 
+    /**
+     * Gets the names of the sessions in a course which have any feedback question for the given giver type.
+     */
+    public Set<String> getFeedbackSessionNamesWithQuestionsForGiverType(
+            String courseId, FeedbackParticipantType giverType) {
+        assert courseId != null;
+        assert giverType != null;
+
+        // only the session names are needed, hence they are projected instead of loading the whole questions
+        return load()
+                .project("feedbackSessionName")
+                .distinct(true)
+                .filter("courseId =", courseId)
+                .filter("giverType =", giverType)
+                .list()
+                .stream()
+                .map(FeedbackQuestion::getFeedbackSessionName)
+                .collect(Collectors.toSet());
+    }
+
     /**
      * Updates a feedback question by {@code FeedbackQuestionAttributes.UpdateOptions}.
      *
@@ -3,18 +3,22 @@ package teammates.storage.api;
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.FeedbackResponsesWriteResults;
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -30,6 +34,11 @@ import teammates.storage.entity.FeedbackResponse;
  */
 public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackResponseAttributes> {
 
+    /**
+     * Maximum number of entities that can be written in a single transaction or batched write.
+     */
+    static final int MAX_ENTITIES_PER_TRANSACTION = 500;
+
     private static final FeedbackResponsesDb instance = new FeedbackResponsesDb();
 
     private FeedbackResponsesDb() {
@@ -236,6 +245,33 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
             throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT);
         }
 
+        AppliedUpdate update = applyUpdate(oldResponse, updateOptions);
+        if (update.isRecreationNeeded) {
+            FeedbackResponseAttributes newAttributes = createEntity(update.newAttributes);
+            deleteEntity(Key.create(FeedbackResponse.class, oldResponse.getId()));
+
+            return newAttributes;
+        }
+        if (!update.hasChanges) {
+            return update.newAttributes;
+        }
+
+        saveEntity(oldResponse);
+
+        return makeAttributes(oldResponse);
+    }
+
+    /**
+     * Applies an update to a response read from the database, without writing anything.
+     *
+     * <p>If the giver/recipient field is changed, the response needs to be recreated
+     * as question-giver-recipient is the primary key; the response to create is returned.
+     * Otherwise, the entity of the response is modified in place if there is any change.
+     *
+     * @throws InvalidParametersException if the updated response is not valid
+     */
+    private AppliedUpdate applyUpdate(FeedbackResponse oldResponse, FeedbackResponseAttributes.UpdateOptions updateOptions)
+            throws InvalidParametersException {
         FeedbackResponseAttributes newAttributes = makeAttributes(oldResponse);
         newAttributes.update(updateOptions);
 
@@ -244,31 +280,9 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
             throw new InvalidParametersException(newAttributes.getInvalidityInfo());
         }
 
-        if (newAttributes.getRecipient().equals(oldResponse.getRecipientEmail())
-                && newAttributes.getGiver().equals(oldResponse.getGiverEmail())) {
-
-            // update only if change
-            boolean hasSameAttributes =
-                    this.<String>hasSameValue(oldResponse.getGiverSection(), newAttributes.getGiverSection())
-                    && this.<String>hasSameValue(oldResponse.getRecipientSection(), newAttributes.getRecipientSection())
-                    && this.<String>hasSameValue(
-                            oldResponse.getAnswer(), newAttributes.getSerializedFeedbackResponseDetail());
-            if (hasSameAttributes) {
-                log.info(String.format(
-                        OPTIMIZED_SAVING_POLICY_APPLIED, FeedbackResponse.class.getSimpleName(), updateOptions));
-                return newAttributes;
-            }
-
-            oldResponse.setGiverSection(newAttributes.getGiverSection());
-            oldResponse.setRecipientSection(newAttributes.getRecipientSection());
-            oldResponse.setAnswer(newAttributes.getSerializedFeedbackResponseDetail());
-
-            saveEntity(oldResponse);
-
-            return makeAttributes(oldResponse);
-        } else {
-            // need to recreate the entity
-            newAttributes = FeedbackResponseAttributes
+        if (!newAttributes.getRecipient().equals(oldResponse.getRecipientEmail())
+                || !newAttributes.getGiver().equals(oldResponse.getGiverEmail())) {
+            FeedbackResponseAttributes recreatedAttributes = FeedbackResponseAttributes
                     .builder(newAttributes.getFeedbackQuestionId(), newAttributes.getGiver(),
                              newAttributes.getRecipient())
                     .withCourseId(newAttributes.getCourseId())
@@ -277,11 +291,180 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
                     .withGiverSection(newAttributes.getGiverSection())
                     .withRecipientSection(newAttributes.getRecipientSection())
                     .build();
-            newAttributes = createEntity(newAttributes);
-            deleteEntity(Key.create(FeedbackResponse.class, oldResponse.getId()));
+            return new AppliedUpdate(recreatedAttributes, true, true);
+        }
 
-            return newAttributes;
+        // update only if change
+        boolean hasSameAttributes =
+                this.<String>hasSameValue(oldResponse.getGiverSection(), newAttributes.getGiverSection())
+                && this.<String>hasSameValue(oldResponse.getRecipientSection(), newAttributes.getRecipientSection())
+                && this.<String>hasSameValue(
+                        oldResponse.getAnswer(), newAttributes.getSerializedFeedbackResponseDetail());
+        if (hasSameAttributes) {
+            log.info(String.format(
+                    OPTIMIZED_SAVING_POLICY_APPLIED, FeedbackResponse.class.getSimpleName(), updateOptions));
+            return new AppliedUpdate(newAttributes, false, false);
+        }
+
+        oldResponse.setGiverSection(newAttributes.getGiverSection());
+        oldResponse.setRecipientSection(newAttributes.getRecipientSection());
+        oldResponse.setAnswer(newAttributes.getSerializedFeedbackResponseDetail());
+
+        return new AppliedUpdate(newAttributes, false, true);
+    }
+
+    /**
+     * Creates and updates feedback responses with batched reads and writes to the database.
+     *
+     * <p>Each response is validated and written as in {@link #createEntity} and
+     * {@link #updateFeedbackResponse(FeedbackResponseAttributes.UpdateOptions)} respectively.
+     * A response which cannot be written is reported in the results and does not prevent
+     * the other responses from being written.
+     *
+     * <p>If {@code isTransactional} is true and the batch fits in a single transaction,
+     * all reads and writes are done in that transaction; otherwise the writes are only batched.
+     *
+     * @return the responses written and the errors of the responses not written
+     */
+    public FeedbackResponsesWriteResults putFeedbackResponses(
+            List<FeedbackResponseAttributes> responsesToCreate,
+            List<FeedbackResponseAttributes.UpdateOptions> responsesToUpdate, boolean isTransactional) {
+        assert responsesToCreate != null;
+        assert responsesToUpdate != null;
+
+        // a response recreated due to change of giver/recipient needs one save and one delete
+        boolean canFitInTransaction =
+                responsesToCreate.size() + 2 * responsesToUpdate.size() <= MAX_ENTITIES_PER_TRANSACTION;
+        if (isTransactional && canFitInTransaction) {
+            return ofy().transact(() -> writeFeedbackResponses(responsesToCreate, responsesToUpdate));
         }
+        return writeFeedbackResponses(responsesToCreate, responsesToUpdate);
+    }
+
+    private FeedbackResponsesWriteResults writeFeedbackResponses(
+            List<FeedbackResponseAttributes> responsesToCreate,
+            List<FeedbackResponseAttributes.UpdateOptions> responsesToUpdate) {
+        FeedbackResponsesWriteResults results = new FeedbackResponsesWriteResults();
+
+        Map<String, FeedbackResponse> oldResponses = load().ids(responsesToUpdate.stream()
+                .map(FeedbackResponseAttributes.UpdateOptions::getFeedbackResponseId)
+                .collect(Collectors.toList()));
+
+        // keyed by the ID of the response after update, which differs from the old ID if the response is recreated
+        Map<String, FeedbackResponseAttributes> previousVersions = new LinkedHashMap<>();
+        Map<String, FeedbackResponseAttributes> unchangedResponses = new HashMap<>();
+        Map<String, FeedbackResponse> responsesToSave = new LinkedHashMap<>();
+        List<FeedbackResponseAttributes> responsesToRecreate = new ArrayList<>();
+        List<Key<FeedbackResponse>> keysToDelete = new ArrayList<>();
+
+        for (FeedbackResponseAttributes.UpdateOptions updateOptions : responsesToUpdate) {
+            FeedbackResponse oldResponse = oldResponses.get(updateOptions.getFeedbackResponseId());
+            if (oldResponse == null) {
+                results.addError(updateOptions.getFeedbackResponseId(),
+                        new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT));
+                continue;
+            }
+
+            FeedbackResponseAttributes oldAttributes = makeAttributes(oldResponse);
+            AppliedUpdate update;
+            try {
+                update = applyUpdate(oldResponse, updateOptions);
+            } catch (InvalidParametersException e) {
+                results.addError(oldResponse.getId(), e);
+                continue;
+            }
+
+            if (update.isRecreationNeeded) {
+                String recreatedId = getIdOf(update.newAttributes);
+                if (oldResponses.containsKey(recreatedId) || previousVersions.containsKey(recreatedId)) {
+                    results.addError(recreatedId, new EntityAlreadyExistsException(
+                            String.format(ERROR_CREATE_ENTITY_ALREADY_EXISTS, update.newAttributes.toString())));
+                    continue;
+                }
+                responsesToRecreate.add(update.newAttributes);
+                previousVersions.put(recreatedId, oldAttributes);
+                continue;
+            }
+
+            previousVersions.put(oldResponse.getId(), oldAttributes);
+            if (!update.hasChanges) {
+                unchangedResponses.put(oldResponse.getId(), update.newAttributes);
+                continue;
+            }
+
+            logEntityWrite("Entity saved", oldResponse, oldResponse);
+            responsesToSave.put(oldResponse.getId(), oldResponse);
+        }
+
+        List<FeedbackResponseAttributes> candidatesToCreate = new ArrayList<>(responsesToCreate);
+        candidatesToCreate.addAll(responsesToRecreate);
+        for (FeedbackResponseAttributes candidate : candidatesToCreate) {
+            candidate.sanitizeForSaving();
+        }
+        Set<String> existingIds = new HashSet<>(load().ids(candidatesToCreate.stream()
+                .filter(FeedbackResponseAttributes::isValid)
+                .map(this::getIdOf)
+                .collect(Collectors.toList()))
+                .keySet());
+
+        List<FeedbackResponse> createdResponses = new ArrayList<>();
+        for (int i = 0; i < candidatesToCreate.size(); i++) {
+            FeedbackResponseAttributes candidate = candidatesToCreate.get(i);
+            boolean isRecreation = i >= responsesToCreate.size();
+            String id = getIdOf(candidate);
+
+            Exception error = null;
+            if (!candidate.isValid()) {
+                error = new InvalidParametersException(candidate.getInvalidityInfo());
+            } else if (!existingIds.add(id)) {
+                // the ID is reserved so that a duplicated response in the same batch is detected as well
+                error = new EntityAlreadyExistsException(
+                        String.format(ERROR_CREATE_ENTITY_ALREADY_EXISTS, candidate.toString()));
+            }
+            if (error != null) {
+                results.addError(id, error);
+                if (isRecreation) {
+                    previousVersions.remove(id);
+                }
+                continue;
+            }
+
+            FeedbackResponse newResponse = candidate.toEntity();
+            logEntityWrite("Entity created", newResponse, candidate);
+            responsesToSave.put(id, newResponse);
+
+            if (isRecreation) {
+                keysToDelete.add(Key.create(FeedbackResponse.class, previousVersions.get(id).getId()));
+            } else {
+                createdResponses.add(newResponse);
+            }
+        }
+
+        List<FeedbackResponse> entitiesToSave = new ArrayList<>(responsesToSave.values());
+        for (int i = 0; i < entitiesToSave.size(); i += MAX_ENTITIES_PER_TRANSACTION) {
+            int end = Math.min(i + MAX_ENTITIES_PER_TRANSACTION, entitiesToSave.size());
+            ofy().save().entities(entitiesToSave.subList(i, end)).now();
+        }
+        if (!keysToDelete.isEmpty()) {
+            deleteEntity(keysToDelete);
+        }
+
+        // created responses are reported before updated ones, as when they are written one by one
+        for (FeedbackResponse createdResponse : createdResponses) {
+            results.addCreatedResponse(makeAttributes(createdResponse));
+        }
+        previousVersions.forEach((id, previousVersion) -> {
+            FeedbackResponse savedResponse = responsesToSave.get(id);
+            FeedbackResponseAttributes updatedResponse =
+                    savedResponse == null ? unchangedResponses.get(id) : makeAttributes(savedResponse);
+            results.addUpdatedResponse(previousVersion, updatedResponse);
+        });
+
+        return results;
+    }
+
+    private String getIdOf(FeedbackResponseAttributes response) {
+        return FeedbackResponse.generateId(response.getFeedbackQuestionId(), response.getGiver(), response.getRecipient());
     }
 
     /**
@@ -442,4 +625,22 @@ public final class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, Feed
                 .count();
     }
 
+    /**
+     * The outcome of applying an update to a response read from the database.
+     */
+    private static final class AppliedUpdate {
+
+        /** The response after update, or the response to create if it needs to be recreated. */
+        private final FeedbackResponseAttributes newAttributes;
+        private final boolean isRecreationNeeded;
+        private final boolean hasChanges;
+
+        private AppliedUpdate(FeedbackResponseAttributes newAttributes, boolean isRecreationNeeded, boolean hasChanges) {
+            this.newAttributes = newAttributes;
+            this.isRecreationNeeded = isRecreationNeeded;
+            this.hasChanges = hasChanges;
+        }
+
+    }
+
 }
@@ -0,0 +1,219 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.LoadType;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.attributes.FeedbackSessionSubmissionSummaryAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.storage.entity.FeedbackSessionSubmissionSummary;
+
+/**
+ * Handles CRUD operations for submission summaries of feedback sessions.
+ *
+ * @see FeedbackSessionSubmissionSummary
+ * @see FeedbackSessionSubmissionSummaryAttributes
+ */
+public final class FeedbackSessionSubmissionSummariesDb
+        extends EntitiesDb<FeedbackSessionSubmissionSummary, FeedbackSessionSubmissionSummaryAttributes> {
+
+    private static final FeedbackSessionSubmissionSummariesDb instance = new FeedbackSessionSubmissionSummariesDb();
+
+    private FeedbackSessionSubmissionSummariesDb() {
+        // prevent initialization
+    }
+
+    public static FeedbackSessionSubmissionSummariesDb inst() {
+        return instance;
+    }
+
+    /**
+     * Gets the submission summary of a feedback session.
+     *
+     * @return null if there is no summary for the session
+     */
+    public FeedbackSessionSubmissionSummaryAttributes getSubmissionSummary(String courseId, String feedbackSessionName) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+
+        return makeAttributesOrNull(getSubmissionSummaryEntity(courseId, feedbackSessionName));
+    }
+
+    /**
+     * Gets the submission summaries of some feedback sessions of a course in a single batch.
+     *
+     * @return the summaries by the feedback session name; sessions without a summary are left out
+     */
+    public Map<String, FeedbackSessionSubmissionSummaryAttributes> getSubmissionSummaries(
+            String courseId, Collection<String> feedbackSessionNames) {
+        assert courseId != null;
+        assert feedbackSessionNames != null;
+
+        List<String> ids = feedbackSessionNames.stream()
+                .map(feedbackSessionName -> FeedbackSessionSubmissionSummary.generateId(courseId, feedbackSessionName))
+                .collect(Collectors.toList());
+        Map<String, FeedbackSessionSubmissionSummaryAttributes> summaries = new HashMap<>();
+        for (FeedbackSessionSubmissionSummary summary : load().ids(ids).values()) {
+            summaries.put(summary.getFeedbackSessionName(), makeAttributes(summary));
+        }
+        return summaries;
+    }
+
+    /**
+     * Adds givers to the submission summary of a feedback session.
+     *
+     * <p>Nothing is done if there is no summary for the session, as it will be built in full when it is next read.
+     * The summary is only written if any of the givers is not in it yet.
+     */
+    public void addGiversToSubmissionSummary(String courseId, String feedbackSessionName, Set<String> givers) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+        assert givers != null;
+
+        FeedbackSessionSubmissionSummary summary = getSubmissionSummaryEntity(courseId, feedbackSessionName);
+        if (summary == null || summary.getGiverSet().containsAll(givers)) {
+            return;
+        }
+
+        ofy().transact(() -> {
+            FeedbackSessionSubmissionSummary summaryInTransaction =
+                    getSubmissionSummaryEntity(courseId, feedbackSessionName);
+            if (summaryInTransaction == null) {
+                return;
+            }
+            Set<String> giverSet = summaryInTransaction.getGiverSet();
+            if (giverSet.addAll(givers)) {
+                summaryInTransaction.setGiverSet(giverSet);
+                saveEntity(summaryInTransaction);
+            }
+        });
+    }
+
+    /**
+     * Removes a giver from the submission summary of a feedback session.
+     *
+     * <p>The caller is responsible for checking that the giver no longer has any response in the session.
+     */
+    public void removeGiverFromSubmissionSummary(String courseId, String feedbackSessionName, String giver) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+        assert giver != null;
+
+        FeedbackSessionSubmissionSummary summary = getSubmissionSummaryEntity(courseId, feedbackSessionName);
+        if (summary == null || !summary.getGiverSet().contains(giver)) {
+            return;
+        }
+
+        ofy().transact(() -> {
+            FeedbackSessionSubmissionSummary summaryInTransaction =
+                    getSubmissionSummaryEntity(courseId, feedbackSessionName);
+            if (summaryInTransaction == null) {
+                return;
+            }
+            Set<String> giverSet = summaryInTransaction.getGiverSet();
+            if (giverSet.remove(giver)) {
+                summaryInTransaction.setGiverSet(giverSet);
+                saveEntity(summaryInTransaction);
+            }
+        });
+    }
+
+    /**
+     * Merges a submission summary, e.g. one rebuilt from the responses, into the stored summary of the session.
+     *
+     * <p>The givers in the summary are added to those in the stored summary, which is created if it does not
+     * exist yet. This is done in a transaction, so that givers added to the stored summary after the given one
+     * was built are not overwritten.
+     *
+     * @return true if the stored summary has been created
+     * @throws InvalidParametersException if the summary is not valid
+     */
+    public boolean mergeSubmissionSummary(FeedbackSessionSubmissionSummaryAttributes summary)
+            throws InvalidParametersException {
+        assert summary != null;
+
+        summary.sanitizeForSaving();
+        if (!summary.isValid()) {
+            throw new InvalidParametersException(summary.getInvalidityInfo());
+        }
+
+        return ofy().transact(() -> {
+            FeedbackSessionSubmissionSummary summaryInTransaction =
+                    getSubmissionSummaryEntity(summary.getCourseId(), summary.getFeedbackSessionName());
+            if (summaryInTransaction == null) {
+                saveEntity(summary.toEntity());
+                return true;
+            }
+            Set<String> giverSet = summaryInTransaction.getGiverSet();
+            if (giverSet.addAll(summary.getGiverSet())) {
+                summaryInTransaction.setGiverSet(giverSet);
+                saveEntity(summaryInTransaction);
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Deletes the submission summary of a feedback session, so that it is built in full when it is next read.
+     */
+    public void deleteSubmissionSummary(String courseId, String feedbackSessionName) {
+        assert courseId != null;
+        assert feedbackSessionName != null;
+
+        deleteEntity(Key.create(FeedbackSessionSubmissionSummary.class,
+                FeedbackSessionSubmissionSummary.generateId(courseId, feedbackSessionName)));
+    }
+
+    /**
+     * Deletes submission summaries using {@link AttributesDeletionQuery}.
+     *
+     * <p>Summaries are deleted by course, or by course and feedback session.
+     */
+    public void deleteSubmissionSummaries(AttributesDeletionQuery query) {
+        assert query != null;
+        assert query.isCourseIdPresent();
+
+        Query<FeedbackSessionSubmissionSummary> entitiesToDelete =
+                load().project().filter("courseId =", query.getCourseId());
+        if (query.isFeedbackSessionNamePresent()) {
+            entitiesToDelete = entitiesToDelete.filter("feedbackSessionName =", query.getFeedbackSessionName());
+        }
+
+        deleteEntity(entitiesToDelete.keys().list());
+    }
+
+    private FeedbackSessionSubmissionSummary getSubmissionSummaryEntity(String courseId, String feedbackSessionName) {
+        return load().id(FeedbackSessionSubmissionSummary.generateId(courseId, feedbackSessionName)).now();
+    }
+
+    @Override
+    LoadType<FeedbackSessionSubmissionSummary> load() {
+        return ofy().load().type(FeedbackSessionSubmissionSummary.class);
+    }
+
+    @Override
+    boolean hasExistingEntities(FeedbackSessionSubmissionSummaryAttributes entityToCreate) {
+        Key<FeedbackSessionSubmissionSummary> keyToFind = Key.create(FeedbackSessionSubmissionSummary.class,
+                FeedbackSessionSubmissionSummary.generateId(
+                        entityToCreate.getCourseId(), entityToCreate.getFeedbackSessionName()));
+        return !load().filterKey(keyToFind).keys().list().isEmpty();
+    }
+
+    @Override
+    FeedbackSessionSubmissionSummaryAttributes makeAttributes(FeedbackSessionSubmissionSummary entity) {
+        assert entity != null;
+
+        return FeedbackSessionSubmissionSummaryAttributes.valueOf(entity);
+    }
+
+}
@@ -46,27 +46,16 @@ public final class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, Feedba
      * to not return excessive amount of results.
      */
     public List<FeedbackSessionAttributes> getAllOngoingSessions(Instant rangeStart, Instant rangeEnd) {
-        List<FeedbackSession> endEntities = load()
+        // the datastore only allows inequality filters on a single property per query,
+        // hence the start time is filtered in memory on the sessions ending in the window
+        Instant earliestStartTime = rangeStart.minus(Const.FEEDBACK_SESSIONS_SEARCH_WINDOW);
+        List<FeedbackSession> ongoingSessions = load()
                 .filter("endTime >", rangeStart)
-                .filter("endTime <",
-                        Instant.ofEpochMilli(rangeEnd.toEpochMilli()).plus(Const.FEEDBACK_SESSIONS_SEARCH_WINDOW))
-                .list();
-
-        List<FeedbackSession> startEntities = load()
-                .filter("startTime <", rangeEnd)
-                .filter("startTime >",
-                        Instant.ofEpochMilli(rangeStart.toEpochMilli()).minus(Const.FEEDBACK_SESSIONS_SEARCH_WINDOW))
-                .list();
-
-        List<String> startEntitiesIds = startEntities.stream()
-                .map(session -> session.getCourseId() + "::" + session.getFeedbackSessionName())
-                .collect(Collectors.toList());
-
-        List<FeedbackSession> ongoingSessions = endEntities.stream()
-                .filter(session -> {
-                    String id = session.getCourseId() + "::" + session.getFeedbackSessionName();
-                    return startEntitiesIds.contains(id);
-                })
+                .filter("endTime <", rangeEnd.plus(Const.FEEDBACK_SESSIONS_SEARCH_WINDOW))
+                .list()
+                .stream()
+                .filter(session -> session.getStartTime().isBefore(rangeEnd)
+                        && session.getStartTime().isAfter(earliestStartTime))
                 .collect(Collectors.toList());
 
         return makeAttributes(ongoingSessions);
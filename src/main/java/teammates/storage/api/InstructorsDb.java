@@ -55,6 +55,13 @@ public final class InstructorsDb extends EntitiesDb<Instructor, InstructorAttrib
         getSearchManager().putDocument(instructor);
     }
 
+    /**
+     * Creates or updates search documents for the given instructors in a single batch.
+     */
+    public void putDocuments(Collection<InstructorAttributes> instructors) throws SearchServiceException {
+        getSearchManager().putDocuments(instructors);
+    }
+
     /**
      * Removes search document for the given instructor by using {@code instructorUniqueId}.
      */
@@ -1,11 +1,14 @@
 package teammates.storage.api;
 
+import java.util.function.Supplier;
+
 import javax.servlet.ServletContextEvent;
 import javax.servlet.ServletContextListener;
 
 import com.google.cloud.datastore.DatastoreOptions;
 import com.googlecode.objectify.ObjectifyFactory;
 import com.googlecode.objectify.ObjectifyService;
+import com.googlecode.objectify.util.Closeable;
 
 import teammates.common.util.Config;
 import teammates.storage.entity.Account;
@@ -18,6 +21,7 @@ import teammates.storage.entity.FeedbackQuestion;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionSubmissionSummary;
 import teammates.storage.entity.Instructor;
 import teammates.storage.entity.Notification;
 import teammates.storage.entity.UsageStatistics;
@@ -46,6 +50,7 @@ public class OfyHelper implements ServletContextListener {
         ObjectifyService.register(FeedbackResponse.class);
         ObjectifyService.register(FeedbackResponseComment.class);
         ObjectifyService.register(FeedbackSession.class);
+        ObjectifyService.register(FeedbackSessionSubmissionSummary.class);
         ObjectifyService.register(Instructor.class);
         ObjectifyService.register(AccountRequest.class);
         ObjectifyService.register(UsageStatistics.class);
@@ -55,6 +60,29 @@ public class OfyHelper implements ServletContextListener {
         ObjectifyService.factory().getTranslators().add(new BaseEntity.InstantTranslatorFactory());
     }
 
+    /**
+     * Runs the given work in a new datastore session.
+     *
+     * <p>This is needed for datastore access outside of any request, e.g. in a background thread,
+     * as sessions are otherwise only started for incoming requests.
+     */
+    public static <E extends Exception> void runInNewSession(SessionWork<E> work) throws E {
+        try (Closeable session = ObjectifyService.begin()) {
+            work.run();
+        }
+    }
+
+    /**
+     * Gets the result of the given work run in a new datastore session.
+     *
+     * @see #runInNewSession(SessionWork)
+     */
+    public static <T> T getInNewSession(Supplier<T> work) {
+        try (Closeable session = ObjectifyService.begin()) {
+            return work.get();
+        }
+    }
+
     @Override
     public void contextInitialized(ServletContextEvent event) {
         // Invoked by Jetty at application startup.
@@ -66,4 +94,20 @@ public class OfyHelper implements ServletContextListener {
     public void contextDestroyed(ServletContextEvent event) {
         // Nothing to do
     }
+
+    /**
+     * Work to be run in a datastore session.
+     *
+     * @param <E> type of exception which can be thrown by the work
+     */
+    @FunctionalInterface
+    public interface SessionWork<E extends Exception> {
+
+        /**
+         * Runs the work.
+         */
+        void run() throws E;
+
+    }
+
 }
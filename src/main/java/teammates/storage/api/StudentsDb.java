@@ -59,6 +59,13 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         getSearchManager().putDocument(student);
     }
 
+    /**
+     * Creates or updates search documents for the given students in a single batch.
+     */
+    public void putDocuments(Collection<StudentAttributes> students) throws SearchServiceException {
+        getSearchManager().putDocuments(students);
+    }
+
     /**
      * Searches for students.
      *
@@ -132,6 +139,51 @@ public final class StudentsDb extends EntitiesDb<CourseStudent, StudentAttribute
         return existingStudentEmailAddresses.containsAll(studentEmailAddresses);
     }
 
+    /**
+     * Creates the given students in one batch, skipping those that already exist.
+     *
+     * <p>Unlike {@link #putEntities(Collection)}, existing students (e.g. those who have joined the course)
+     * are not overwritten. The registration keys are not checked for uniqueness.
+     *
+     * @return the students created; students that already exist are not included
+     * @throws InvalidParametersException if any of the students is not valid
+     */
+    public List<StudentAttributes> createStudentsIfAbsent(Collection<StudentAttributes> studentsToCreate)
+            throws InvalidParametersException {
+        assert studentsToCreate != null;
+
+        for (StudentAttributes student : studentsToCreate) {
+            student.sanitizeForSaving();
+
+            if (!student.isValid()) {
+                throw new InvalidParametersException(student.getInvalidityInfo());
+            }
+        }
+
+        Set<String> existingIds = load()
+                .ids(studentsToCreate.stream()
+                        .map(student -> CourseStudent.generateId(student.getEmail(), student.getCourse()))
+                        .collect(Collectors.toList()))
+                .keySet();
+
+        List<StudentAttributes> absentStudents = studentsToCreate.stream()
+                .filter(student -> !existingIds.contains(CourseStudent.generateId(student.getEmail(), student.getCourse())))
+                .collect(Collectors.toList());
+        if (absentStudents.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<CourseStudent> entities = absentStudents.stream()
+                .map(StudentAttributes::toEntity)
+                .collect(Collectors.toList());
+        ofy().save().entities(entities).now();
+        for (int i = 0; i < entities.size(); i++) {
+            logEntityWrite("Entity created", entities.get(i), absentStudents.get(i));
+        }
+
+        return makeAttributes(entities);
+    }
+
     /**
      * Gets a student by unique ID courseId-email.
      */
@@ -0,0 +1,254 @@
+package teammates.storage.entity;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map of user emails to deadlines, backed by a compact binary encoding.
+ *
+ * <p>The encoding (version 1) consists of:
+ * <ul>
+ * <li>the version byte;</li>
+ * <li>the number of entries as a varint;</li>
+ * <li>the emails in ascending order of their UTF-8 bytes, each as the varint length of its bytes followed by the bytes;</li>
+ * <li>the deadlines in the same order, each as the zigzag varint difference of its epoch second from that of
+ * the previous deadline (or from 0 for the first deadline), followed by its nano-of-second as a varint.</li>
+ * </ul>
+ *
+ * <p>The encoded bytes are only indexed when the map is first accessed.
+ * Lookups are done by binary search over the encoded emails,
+ * and email strings are only created for the entries which are iterated over.
+ */
+public final class EncodedDeadlines extends AbstractMap<String, Instant> {
+
+    static final byte VERSION = 1;
+
+    private final byte[] data;
+    private final int size;
+    private final int entriesOffset;
+
+    private volatile Index index;
+
+    private EncodedDeadlines(byte[] data) {
+        if (data.length == 0 || data[0] != VERSION) {
+            throw new IllegalArgumentException("Unsupported deadlines encoding version");
+        }
+        this.data = data;
+        Reader reader = new Reader(data, 1);
+        this.size = (int) reader.readVarint();
+        this.entriesOffset = reader.position;
+    }
+
+    /**
+     * Encodes the given deadlines.
+     */
+    public static byte[] encode(Map<String, Instant> deadlines) {
+        if (deadlines instanceof EncodedDeadlines) {
+            return ((EncodedDeadlines) deadlines).data.clone();
+        }
+
+        byte[][] emails = new byte[deadlines.size()][];
+        Instant[] instants = new Instant[deadlines.size()];
+        Integer[] order = new Integer[deadlines.size()];
+        int i = 0;
+        for (Map.Entry<String, Instant> entry : deadlines.entrySet()) {
+            emails[i] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            instants[i] = entry.getValue();
+            order[i] = i;
+            i++;
+        }
+        Arrays.sort(order, (a, b) -> Arrays.compareUnsigned(emails[a], emails[b]));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(VERSION);
+        writeVarint(out, order.length);
+        for (int entry : order) {
+            writeVarint(out, emails[entry].length);
+            out.write(emails[entry], 0, emails[entry].length);
+        }
+        long previousEpochSecond = 0;
+        for (int entry : order) {
+            long epochSecond = instants[entry].getEpochSecond();
+            writeVarint(out, zigzag(epochSecond - previousEpochSecond));
+            writeVarint(out, instants[entry].getNano());
+            previousEpochSecond = epochSecond;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes deadlines encoded by {@link #encode(Map)}.
+     *
+     * @throws IllegalArgumentException if the encoding version is not supported
+     */
+    public static EncodedDeadlines decode(byte[] data) {
+        return new EncodedDeadlines(data);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Instant get(Object key) {
+        int i = indexOf(key);
+        return i < 0 ? null : getIndex().getDeadline(i);
+    }
+
+    @Override
+    public Set<Map.Entry<String, Instant>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, Instant>> iterator() {
+                Index currentIndex = getIndex();
+                return new Iterator<>() {
+                    private int next;
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < size;
+                    }
+
+                    @Override
+                    public Map.Entry<String, Instant> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        int i = next++;
+                        return new SimpleImmutableEntry<>(currentIndex.getEmail(i), currentIndex.getDeadline(i));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof String) || size == 0) {
+            return -1;
+        }
+        byte[] email = ((String) key).getBytes(StandardCharsets.UTF_8);
+        Index currentIndex = getIndex();
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int from = currentIndex.emailOffsets[mid];
+            int comparison = Arrays.compareUnsigned(
+                    data, from, from + currentIndex.emailLengths[mid], email, 0, email.length);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private Index getIndex() {
+        Index currentIndex = index;
+        if (currentIndex == null) {
+            // concurrent callers may each build an index, but they are all the same
+            currentIndex = new Index();
+            index = currentIndex;
+        }
+        return currentIndex;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.write((int) (remaining & 0x7F | 0x80));
+            remaining >>>= 7;
+        }
+        out.write((int) remaining);
+    }
+
+    /**
+     * The positions of the emails and the decoded deadlines in the encoded bytes.
+     */
+    private final class Index {
+        private final int[] emailOffsets = new int[size];
+        private final int[] emailLengths = new int[size];
+        private final long[] epochSeconds = new long[size];
+        private final int[] nanos = new int[size];
+
+        Index() {
+            Reader reader = new Reader(data, entriesOffset);
+            for (int i = 0; i < size; i++) {
+                emailLengths[i] = (int) reader.readVarint();
+                emailOffsets[i] = reader.position;
+                reader.position += emailLengths[i];
+            }
+            long epochSecond = 0;
+            for (int i = 0; i < size; i++) {
+                epochSecond += unzigzag(reader.readVarint());
+                epochSeconds[i] = epochSecond;
+                nanos[i] = (int) reader.readVarint();
+            }
+        }
+
+        String getEmail(int i) {
+            return new String(data, emailOffsets[i], emailLengths[i], StandardCharsets.UTF_8);
+        }
+
+        Instant getDeadline(int i) {
+            return Instant.ofEpochSecond(epochSeconds[i], nanos[i]);
+        }
+    }
+
+    private static class Reader {
+        private final byte[] data;
+        private int position;
+
+        Reader(byte[] data, int position) {
+            this.data = data;
+            this.position = position;
+        }
+
+        long readVarint() {
+            long value = 0;
+            int shift = 0;
+            while (true) {
+                if (position >= data.length || shift > 63) {
+                    throw new IllegalArgumentException("Malformed deadlines encoding");
+                }
+                byte b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+                shift += 7;
+            }
+        }
+    }
+
+}
@@ -1,15 +1,25 @@
 package teammates.storage.entity;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.Map;
 
 import com.googlecode.objectify.annotation.Entity;
 import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Ignore;
 import com.googlecode.objectify.annotation.Index;
-import com.googlecode.objectify.annotation.Serialize;
 import com.googlecode.objectify.annotation.Translate;
 import com.googlecode.objectify.annotation.Unindex;
 
+import teammates.common.util.Config;
+
 /**
  * Represents an instructor-created Feedback Session.
  */
@@ -76,13 +86,41 @@ public class FeedbackSession extends BaseEntity {
 
     private boolean isPublishedEmailEnabled;
 
+    /**
+     * Deadline extensions of students in the legacy Java serialization format, as once written by {@code @Serialize}.
+     *
+     * <p>It is kept as raw bytes, so that it is only deserialized for sessions which are not migrated to
+     * {@link #encodedStudentDeadlines} yet. It is only written if {@link Config#WRITE_LEGACY_DEADLINES} is set,
+     * so that instances which only read this format, e.g. after a rollback, see the same deadlines.
+     */
+    @Unindex
+    private byte[] studentDeadlines;
+
+    /**
+     * Deadline extensions of instructors in the legacy Java serialization format, as once written by {@code @Serialize}.
+     *
+     * @see #studentDeadlines
+     */
+    @Unindex
+    private byte[] instructorDeadlines;
+
+    /**
+     * Deadline extensions of students, encoded by {@link EncodedDeadlines}.
+     */
     @Unindex
-    @Serialize
-    private Map<String, Instant> studentDeadlines;
+    private byte[] encodedStudentDeadlines;
 
+    /**
+     * Deadline extensions of instructors, encoded by {@link EncodedDeadlines}.
+     */
     @Unindex
-    @Serialize
-    private Map<String, Instant> instructorDeadlines;
+    private byte[] encodedInstructorDeadlines;
+
+    @Ignore
+    private Map<String, Instant> decodedStudentDeadlines;
+
+    @Ignore
+    private Map<String, Instant> decodedInstructorDeadlines;
 
     @SuppressWarnings("unused")
     private FeedbackSession() {
@@ -116,8 +154,8 @@ public class FeedbackSession extends BaseEntity {
         this.isOpeningEmailEnabled = isOpeningEmailEnabled;
         this.isClosingEmailEnabled = isClosingEmailEnabled;
         this.isPublishedEmailEnabled = isPublishedEmailEnabled;
-        this.studentDeadlines = studentDeadlines;
-        this.instructorDeadlines = instructorDeadlines;
+        setStudentDeadlines(studentDeadlines);
+        setInstructorDeadlines(instructorDeadlines);
         this.feedbackSessionId = generateId(this.feedbackSessionName, this.courseId);
     }
 
@@ -290,19 +328,81 @@ public class FeedbackSession extends BaseEntity {
     }
 
     public Map<String, Instant> getStudentDeadlines() {
-        return studentDeadlines;
+        if (decodedStudentDeadlines == null) {
+            decodedStudentDeadlines = decodeDeadlines(encodedStudentDeadlines, studentDeadlines);
+        }
+        return decodedStudentDeadlines;
     }
 
     public void setStudentDeadlines(Map<String, Instant> studentDeadlines) {
-        this.studentDeadlines = studentDeadlines;
+        this.encodedStudentDeadlines = encodeDeadlines(studentDeadlines);
+        this.studentDeadlines = serializeLegacyDeadlines(studentDeadlines);
+        this.decodedStudentDeadlines = null;
     }
 
     public Map<String, Instant> getInstructorDeadlines() {
-        return instructorDeadlines;
+        if (decodedInstructorDeadlines == null) {
+            decodedInstructorDeadlines = decodeDeadlines(encodedInstructorDeadlines, instructorDeadlines);
+        }
+        return decodedInstructorDeadlines;
     }
 
     public void setInstructorDeadlines(Map<String, Instant> instructorDeadlines) {
-        this.instructorDeadlines = instructorDeadlines;
+        this.encodedInstructorDeadlines = encodeDeadlines(instructorDeadlines);
+        this.instructorDeadlines = serializeLegacyDeadlines(instructorDeadlines);
+        this.decodedInstructorDeadlines = null;
+    }
+
+    private static byte[] encodeDeadlines(Map<String, Instant> deadlines) {
+        return deadlines == null ? null : EncodedDeadlines.encode(deadlines);
+    }
+
+    private static Map<String, Instant> decodeDeadlines(byte[] encodedDeadlines, byte[] legacyDeadlines) {
+        if (encodedDeadlines != null) {
+            return EncodedDeadlines.decode(encodedDeadlines);
+        }
+        return legacyDeadlines == null ? null : deserializeLegacyDeadlines(legacyDeadlines);
+    }
+
+    private static byte[] serializeLegacyDeadlines(Map<String, Instant> deadlines) {
+        // the given map, e.g. EncodedDeadlines, need not be serializable
+        return deadlines == null || !Config.WRITE_LEGACY_DEADLINES ? null : serialize(new HashMap<>(deadlines));
+    }
+
+    private static byte[] serialize(Serializable value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Instant> deserializeLegacyDeadlines(byte[] legacyDeadlines) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(legacyDeadlines))) {
+            return (Map<String, Instant>) in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns true if any of the deadline extensions is stored in the legacy Java serialization format only.
+     */
+    public boolean hasUnencodedDeadlines() {
+        return studentDeadlines != null && encodedStudentDeadlines == null
+                || instructorDeadlines != null && encodedInstructorDeadlines == null;
+    }
+
+    /**
+     * Returns true if any of the deadline extensions is stored in the legacy Java serialization format.
+     */
+    public boolean hasLegacyDeadlines() {
+        return studentDeadlines != null || instructorDeadlines != null;
     }
 
     @Override
@@ -323,8 +423,8 @@ public class FeedbackSession extends BaseEntity {
                 + ", isOpeningEmailEnabled=" + isOpeningEmailEnabled
                 + ", isClosingEmailEnabled=" + isClosingEmailEnabled
                 + ", isPublishedEmailEnabled=" + isPublishedEmailEnabled
-                + ", studentDeadlines=" + studentDeadlines
-                + ", instructorDeadlines=" + instructorDeadlines
+                + ", studentDeadlines=" + getStudentDeadlines()
+                + ", instructorDeadlines=" + getInstructorDeadlines()
                 + "]";
     }
 
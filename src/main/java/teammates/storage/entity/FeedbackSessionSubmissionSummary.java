@@ -0,0 +1,110 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.OnSave;
+import com.googlecode.objectify.annotation.Translate;
+import com.googlecode.objectify.annotation.Unindex;
+
+/**
+ * Represents the set of givers who have submitted at least one response in a feedback session.
+ *
+ * <p>This is kept up to date as responses are created and deleted, so that the submission statistics
+ * of a session can be read without going through all of its responses.
+ */
+@Entity
+@Index
+public class FeedbackSessionSubmissionSummary extends BaseEntity {
+
+    /**
+     * The unique id of the entity.
+     *
+     * @see #generateId(String, String)
+     */
+    @Id
+    private String id;
+
+    private String courseId;
+
+    private String feedbackSessionName;
+
+    /**
+     * Identifiers of the givers, in the same form as {@code giverEmail} of {@link FeedbackResponse}.
+     */
+    @Unindex
+    private Set<String> giverSet = new HashSet<>();
+
+    @Translate(InstantTranslatorFactory.class)
+    private Instant updatedAt;
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionSubmissionSummary() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionSubmissionSummary(String courseId, String feedbackSessionName, Set<String> giverSet) {
+        this.setCourseId(courseId);
+        this.setFeedbackSessionName(feedbackSessionName);
+        this.setGiverSet(giverSet);
+        this.id = generateId(this.courseId, this.feedbackSessionName);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public void setCourseId(String courseId) {
+        this.courseId = courseId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public void setFeedbackSessionName(String feedbackSessionName) {
+        this.feedbackSessionName = feedbackSessionName;
+    }
+
+    public Set<String> getGiverSet() {
+        // an empty set is not stored by the datastore
+        return giverSet == null ? new HashSet<>() : giverSet;
+    }
+
+    public void setGiverSet(Set<String> giverSet) {
+        this.giverSet = giverSet;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * Updates the updatedAt timestamp when saving.
+     */
+    @OnSave
+    public void updateLastUpdatedTimestamp() {
+        setUpdatedAt(Instant.now());
+    }
+
+    /**
+     * Generates a unique ID for the summary of a feedback session.
+     */
+    public static String generateId(String courseId, String feedbackSessionName) {
+        // Format: courseId%feedbackSessionName
+        return courseId + '%' + feedbackSessionName;
+    }
+
+}
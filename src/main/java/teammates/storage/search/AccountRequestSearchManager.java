@@ -27,6 +27,11 @@ public class AccountRequestSearchManager extends SearchManager<AccountRequestAtt
         return "accountrequests";
     }
 
+    @Override
+    String getDocumentId(AccountRequestAttributes accountRequest) {
+        return accountRequest.getEmail() + '%' + accountRequest.getInstitute();
+    }
+
     @Override
     AccountRequestSearchDocument createDocument(AccountRequestAttributes accountRequest) {
         return new AccountRequestSearchDocument(accountRequest);
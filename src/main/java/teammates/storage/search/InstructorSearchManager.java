@@ -1,7 +1,10 @@
 package teammates.storage.search;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.solr.client.solrj.SolrQuery;
 import org.apache.solr.client.solrj.response.QueryResponse;
@@ -30,12 +33,28 @@ public class InstructorSearchManager extends SearchManager<InstructorAttributes>
         return "instructors";
     }
 
+    @Override
+    String getDocumentId(InstructorAttributes instructor) {
+        return instructor.getEmail() + "%" + instructor.getCourseId();
+    }
+
     @Override
     InstructorSearchDocument createDocument(InstructorAttributes instructor) {
         CourseAttributes course = coursesDb.getCourse(instructor.getCourseId());
         return new InstructorSearchDocument(instructor, course);
     }
 
+    @Override
+    List<SearchDocument<InstructorAttributes>> createDocuments(List<InstructorAttributes> instructors) {
+        Map<String, CourseAttributes> courses = new HashMap<>();
+        List<SearchDocument<InstructorAttributes>> documents = new ArrayList<>();
+        for (InstructorAttributes instructor : instructors) {
+            CourseAttributes course = courses.computeIfAbsent(instructor.getCourseId(), coursesDb::getCourse);
+            documents.add(new InstructorSearchDocument(instructor, course));
+        }
+        return documents;
+    }
+
     @Override
     InstructorAttributes getAttributeFromDocument(SolrDocument document) {
         String courseId = (String) document.getFirstValue("courseId");
@@ -0,0 +1,332 @@
+package teammates.storage.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.datatransfer.attributes.EntityAttributes;
+import teammates.common.exception.SearchServiceException;
+import teammates.common.util.Logger;
+
+/**
+ * Buffers entities whose search documents are to be put into the search service, and puts them in batches
+ * from a background thread.
+ *
+ * <p>Entities are keyed by their document ID; an entity which is added again before the buffer is flushed
+ * replaces the previous version, so that only the latest version is indexed.
+ *
+ * <p>A flush starts as soon as an entity is added to an empty buffer, so an entity added while nothing else
+ * is pending is indexed at once. Entities added while a flush is putting documents are pending until it is done,
+ * and are then put together in the next flush. Adding an entity waits until it is indexed and fails if
+ * the batch containing it fails, so that the caller, e.g. a task queue worker, can still retry.
+ *
+ * @param <T> type of entity to be indexed
+ */
+class SearchIndexingBuffer<T extends EntityAttributes<?>> {
+
+    /**
+     * Time to wait for a flush, before giving up on an entity being indexed.
+     */
+    static final long FLUSH_TIMEOUT_MILLIS = 30 * 1000L;
+
+    private static final Logger log = Logger.getLogger();
+
+    private final String name;
+    private final DocumentsWriter<T> writer;
+    private final int maxBatchSize;
+    private final ExecutorService executor;
+
+    private final Object pendingLock = new Object();
+    private final Object flushLock = new Object();
+    private Map<String, PendingEntity<T>> pendingEntities = new LinkedHashMap<>();
+
+    private final AtomicLong addedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong indexedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong maxLatencyMillis = new AtomicLong();
+
+    SearchIndexingBuffer(String name, DocumentsWriter<T> writer, int maxBatchSize) {
+        assert maxBatchSize > 0;
+
+        this.name = name;
+        this.writer = writer;
+        this.maxBatchSize = maxBatchSize;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "search-indexing-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Adds an entity to be indexed, replacing any pending version of the same entity,
+     * and waits until it is indexed.
+     *
+     * @throws SearchServiceException if the entity fails to be indexed or is not indexed in time
+     */
+    void addAndWait(String documentId, T attributes) throws SearchServiceException {
+        CompletableFuture<Void> indexed = add(documentId, attributes);
+        try {
+            indexed.get(FLUSH_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof SearchServiceException) {
+                throw (SearchServiceException) e.getCause();
+            }
+            throw new SearchServiceException(e.getCause(), HttpStatus.SC_BAD_GATEWAY);
+        } catch (TimeoutException e) {
+            throw new SearchServiceException("Timed out waiting for the " + name + " document "
+                    + documentId + " to be indexed", e, HttpStatus.SC_GATEWAY_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SearchServiceException(e, HttpStatus.SC_SERVICE_UNAVAILABLE);
+        }
+    }
+
+    /**
+     * Adds an entity to be indexed, replacing any pending version of the same entity.
+     *
+     * @return a future which completes when the entity is indexed, or completes exceptionally
+     *         if the batch containing the entity fails to be indexed
+     */
+    CompletableFuture<Void> add(String documentId, T attributes) {
+        CompletableFuture<Void> indexed = new CompletableFuture<>();
+        int pendingCount;
+        synchronized (pendingLock) {
+            PendingEntity<T> previous = pendingEntities.remove(documentId);
+            PendingEntity<T> pendingEntity = new PendingEntity<>(attributes,
+                    previous == null ? System.currentTimeMillis() : previous.addedAt);
+            if (previous != null) {
+                // the callers waiting for the previous version are done once the latest version is indexed
+                pendingEntity.waiters.addAll(previous.waiters);
+                coalescedCount.incrementAndGet();
+            }
+            pendingEntity.waiters.add(indexed);
+            pendingEntities.put(documentId, pendingEntity);
+            pendingCount = pendingEntities.size();
+        }
+        addedCount.incrementAndGet();
+
+        if (executor.isShutdown()) {
+            // there is no background flushing any more; index the entity on the calling thread instead
+            flush();
+        } else if (pendingCount == 1) {
+            // the buffer was empty, so no flush is queued for it yet; this one runs at once,
+            // or right after the flush in progress if there is one
+            try {
+                executor.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // the buffer has just been shut down
+                flush();
+            }
+        }
+        return indexed;
+    }
+
+    /**
+     * Discards the pending entities with the given document IDs and deletes their documents.
+     *
+     * <p>No flush runs in between, so that a document which is being flushed cannot be put back
+     * after it is deleted.
+     */
+    <E extends Exception> void discardAndDelete(Collection<String> documentIds, DocumentsDeleter<E> deleter) throws E {
+        synchronized (flushLock) {
+            discard(documentIds);
+            deleter.deleteDocuments();
+        }
+    }
+
+    /**
+     * Discards the pending entities with the given document IDs, e.g. when the entities are deleted.
+     */
+    void discard(Collection<String> documentIds) {
+        List<PendingEntity<T>> discarded = new ArrayList<>();
+        synchronized (pendingLock) {
+            for (String documentId : documentIds) {
+                PendingEntity<T> pendingEntity = pendingEntities.remove(documentId);
+                if (pendingEntity != null) {
+                    discarded.add(pendingEntity);
+                }
+            }
+        }
+        // there is nothing left to index for the callers waiting for the discarded entities
+        discarded.forEach(pendingEntity -> pendingEntity.waiters.forEach(waiter -> waiter.complete(null)));
+    }
+
+    /**
+     * Puts the pending entities into the search service, in batches of at most {@code maxBatchSize}.
+     */
+    void flush() {
+        synchronized (flushLock) {
+            Map<String, PendingEntity<T>> batch = takeBatch();
+            while (!batch.isEmpty()) {
+                putBatch(batch);
+                batch = takeBatch();
+            }
+        }
+    }
+
+    private Map<String, PendingEntity<T>> takeBatch() {
+        synchronized (pendingLock) {
+            if (pendingEntities.size() <= maxBatchSize) {
+                Map<String, PendingEntity<T>> batch = pendingEntities;
+                pendingEntities = new LinkedHashMap<>();
+                return batch;
+            }
+
+            Map<String, PendingEntity<T>> batch = new LinkedHashMap<>();
+            for (Map.Entry<String, PendingEntity<T>> entry : pendingEntities.entrySet()) {
+                if (batch.size() == maxBatchSize) {
+                    break;
+                }
+                batch.put(entry.getKey(), entry.getValue());
+            }
+            batch.keySet().forEach(pendingEntities::remove);
+            return batch;
+        }
+    }
+
+    private void putBatch(Map<String, PendingEntity<T>> batch) {
+        List<T> attributesList = new ArrayList<>();
+        long oldestAddedAt = Long.MAX_VALUE;
+        for (PendingEntity<T> pendingEntity : batch.values()) {
+            attributesList.add(pendingEntity.attributes);
+            oldestAddedAt = Math.min(oldestAddedAt, pendingEntity.addedAt);
+        }
+
+        long startTime = System.currentTimeMillis();
+        try {
+            writer.putDocuments(attributesList);
+        } catch (SearchServiceException | RuntimeException e) {
+            // the entities are not retried here; the failure is passed on to the callers, which can retry
+            log.warning(String.format("Failed to index %d %s document(s)", batch.size(), name), e);
+            failedCount.addAndGet(batch.size());
+            batch.values().forEach(pendingEntity ->
+                    pendingEntity.waiters.forEach(waiter -> waiter.completeExceptionally(e)));
+            return;
+        }
+        long endTime = System.currentTimeMillis();
+
+        long latencyMillis = endTime - oldestAddedAt;
+        maxLatencyMillis.accumulateAndGet(latencyMillis, Math::max);
+        indexedCount.addAndGet(batch.size());
+        batchCount.incrementAndGet();
+        batch.values().forEach(pendingEntity -> pendingEntity.waiters.forEach(waiter -> waiter.complete(null)));
+
+        log.info(String.format("Indexed %d %s document(s) in %d ms, %d ms after the oldest was added "
+                + "(total indexed: %d, coalesced: %d, failed: %d)",
+                batch.size(), name, endTime - startTime, latencyMillis,
+                indexedCount.get(), coalescedCount.get(), failedCount.get()));
+    }
+
+    /**
+     * Stops the background flushing and puts all pending entities into the search service.
+     *
+     * <p>Entities added after this are indexed on the thread which adds them.
+     */
+    void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warning("Timed out waiting for the background indexing of " + name + " documents to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    int getPendingCount() {
+        synchronized (pendingLock) {
+            return pendingEntities.size();
+        }
+    }
+
+    long getAddedCount() {
+        return addedCount.get();
+    }
+
+    /**
+     * Gets the number of entities which replace a pending version of the same entity.
+     */
+    long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    long getIndexedCount() {
+        return indexedCount.get();
+    }
+
+    /**
+     * Gets the number of entities in batches which fail to be indexed.
+     */
+    long getFailedCount() {
+        return failedCount.get();
+    }
+
+    long getBatchCount() {
+        return batchCount.get();
+    }
+
+    /**
+     * Gets the longest time between an entity being added and it being indexed.
+     */
+    long getMaxLatencyMillis() {
+        return maxLatencyMillis.get();
+    }
+
+    /**
+     * Puts the search documents of a batch of entities into the search service.
+     *
+     * @param <T> type of entity to be indexed
+     */
+    @FunctionalInterface
+    interface DocumentsWriter<T> {
+
+        /**
+         * Puts the search documents of the given entities into the search service.
+         */
+        void putDocuments(List<T> attributesList) throws SearchServiceException;
+
+    }
+
+    /**
+     * Deletes search documents from the search service.
+     *
+     * @param <E> type of exception which can be thrown by the deletion
+     */
+    @FunctionalInterface
+    interface DocumentsDeleter<E extends Exception> {
+
+        /**
+         * Deletes the search documents.
+         */
+        void deleteDocuments() throws E;
+
+    }
+
+    private static class PendingEntity<T> {
+        private final T attributes;
+        private final long addedAt;
+        private final List<CompletableFuture<Void>> waiters = new ArrayList<>();
+
+        PendingEntity(T attributes, long addedAt) {
+            this.attributes = attributes;
+            this.addedAt = addedAt;
+        }
+    }
+
+}
@@ -3,9 +3,9 @@ package teammates.storage.search;
 import java.io.IOException;
 import java.net.SocketTimeoutException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 import org.apache.commons.lang.StringUtils;
 import org.apache.http.HttpStatus;
@@ -22,6 +22,7 @@ import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
 import teammates.common.util.StringHelper;
+import teammates.storage.api.OfyHelper;
 
 /**
  * Acts as a proxy to search service.
@@ -39,7 +40,7 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
     private static final String ERROR_SEARCH_NOT_IMPLEMENTED =
             "Search service is not implemented";
     private static final String ERROR_PUT_DOCUMENT =
-            "Failed to put document %s into Solr. Root cause: %s ";
+            "Failed to put document(s) %s into Solr. Root cause: %s ";
     private static final String ERROR_RESET_COLLECTION =
             "Failed to reset collections. Root cause: %s ";
 
@@ -48,6 +49,7 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
 
     private final HttpSolrClient client;
     private final boolean isResetAllowed;
+    private volatile SearchIndexingBuffer<T> indexingBuffer;
 
     SearchManager(String searchServiceHost, boolean isResetAllowed) {
         this.isResetAllowed = Config.IS_DEV_SERVER && isResetAllowed;
@@ -98,39 +100,128 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
         }
     }
 
+    /**
+     * Makes {@link #putDocument(EntityAttributes)} add the entity to an in-process buffer
+     * which is flushed in the background, instead of putting the document by itself.
+     *
+     * @see SearchIndexingBuffer
+     */
+    void enableIndexingBuffer(int maxBatchSize) {
+        if (client == null || indexingBuffer != null) {
+            return;
+        }
+        // the buffer is flushed outside of any request, hence a new datastore session is needed
+        indexingBuffer = new SearchIndexingBuffer<>(getCollectionName(),
+                attributesList -> OfyHelper.runInNewSession(() -> putDocuments(attributesList)),
+                maxBatchSize);
+    }
+
+    /**
+     * Puts all entities pending in the indexing buffer, if any, into the search service.
+     */
+    void drainIndexingBuffer() {
+        if (indexingBuffer != null) {
+            indexingBuffer.shutdown();
+        }
+    }
+
+    SearchIndexingBuffer<T> getIndexingBuffer() {
+        return indexingBuffer;
+    }
+
     abstract String getCollectionName();
 
+    abstract String getDocumentId(T attribute);
+
     abstract SearchDocument<T> createDocument(T attribute);
 
+    /**
+     * Creates the search documents for the given entities.
+     *
+     * <p>Subclasses can override this to share the lookups needed by the documents of the same batch.
+     */
+    List<SearchDocument<T>> createDocuments(List<T> attributesList) {
+        List<SearchDocument<T>> documents = new ArrayList<>();
+        for (T attributes : attributesList) {
+            documents.add(createDocument(attributes));
+        }
+        return documents;
+    }
+
     /**
      * Creates or updates search document for the given entity.
+     *
+     * <p>If the indexing buffer is enabled, the document is put together with the other pending documents
+     * and updates to the same entity in quick succession are indexed only once.
+     * Either way, this returns only after the document is put, and throws if it fails to be put.
      */
     public void putDocument(T attributes) throws SearchServiceException {
+        SearchIndexingBuffer<T> buffer = indexingBuffer;
+        if (buffer == null || attributes == null) {
+            putDocuments(Collections.singletonList(attributes));
+            return;
+        }
+        buffer.addAndWait(getDocumentId(attributes), attributes);
+    }
+
+    /**
+     * Creates or updates search documents for the given entities.
+     *
+     * <p>All documents are sent to Solr in a single request and made searchable by a single soft commit.
+     * Persisting the index to disk is left to the auto commit of Solr.
+     */
+    public void putDocuments(Collection<T> attributesList) throws SearchServiceException {
         if (client == null) {
             log.warning(ERROR_SEARCH_NOT_IMPLEMENTED);
             return;
         }
 
-        if (attributes == null) {
+        List<T> nonNullAttributesList = new ArrayList<>();
+        for (T attributes : attributesList) {
+            if (attributes != null) {
+                nonNullAttributesList.add(attributes);
+            }
+        }
+        if (nonNullAttributesList.isEmpty()) {
             return;
         }
 
-        Map<String, Object> searchableFields = createDocument(attributes).getSearchableFields();
-        SolrInputDocument document = new SolrInputDocument();
-        searchableFields.forEach((key, value) -> document.addField(key, value));
+        List<SolrInputDocument> documents = new ArrayList<>();
+        for (SearchDocument<T> searchDocument : createDocuments(nonNullAttributesList)) {
+            SolrInputDocument document = new SolrInputDocument();
+            searchDocument.getSearchableFields().forEach((key, value) -> document.addField(key, value));
+            documents.add(document);
+        }
 
         try {
-            client.add(getCollectionName(), Collections.singleton(document));
-            client.commit(getCollectionName());
+            client.add(getCollectionName(), documents);
+            softCommit();
         } catch (SolrServerException e) {
-            log.severe(String.format(ERROR_PUT_DOCUMENT, document, e.getRootCause()), e);
+            log.severe(String.format(ERROR_PUT_DOCUMENT, getDocumentIds(documents), e.getRootCause()), e);
             throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
         } catch (IOException e) {
-            log.severe(String.format(ERROR_PUT_DOCUMENT, document, e.getCause()), e);
+            log.severe(String.format(ERROR_PUT_DOCUMENT, getDocumentIds(documents), e.getCause()), e);
             throw new SearchServiceException(e, HttpStatus.SC_BAD_GATEWAY);
         }
     }
 
+    private List<Object> getDocumentIds(List<SolrInputDocument> documents) {
+        List<Object> ids = new ArrayList<>();
+        for (SolrInputDocument document : documents) {
+            ids.add(document.getFieldValue("id"));
+        }
+        return ids;
+    }
+
+    /**
+     * Makes the changes to the collection searchable without the cost of flushing the index to disk.
+     *
+     * <p>The changes are kept in the update log of Solr in the meantime, hence they survive a restart.
+     */
+    private void softCommit() throws SolrServerException, IOException {
+        client.commit(getCollectionName(), false, true, true);
+    }
+
     /**
      * Removes search documents based on the given keys.
      */
@@ -144,9 +235,19 @@ abstract class SearchManager<T extends EntityAttributes<?>> {
             return;
         }
 
+        SearchIndexingBuffer<T> buffer = indexingBuffer;
+        if (buffer == null) {
+            deleteDocumentsById(keys);
+            return;
+        }
+        // pending or in-flight documents of the deleted entities must not be put back afterwards
+        buffer.discardAndDelete(keys, () -> deleteDocumentsById(keys));
+    }
+
+    private void deleteDocumentsById(List<String> keys) {
         try {
             client.deleteById(getCollectionName(), keys);
-            client.commit(getCollectionName());
+            softCommit();
         } catch (SolrServerException e) {
             log.severe(String.format(ERROR_DELETE_DOCUMENT, keys, e.getRootCause()), e);
         } catch (IOException e) {
@@ -10,18 +10,27 @@ import teammates.common.util.Config;
  */
 public class SearchManagerStarter implements ServletContextListener {
 
+    private static final int INDEXING_BUFFER_MAX_BATCH_SIZE = 100;
+
     @Override
     public void contextInitialized(ServletContextEvent event) {
         // Invoked by Jetty at application startup.
-        SearchManagerFactory.registerInstructorSearchManager(new InstructorSearchManager(Config.SEARCH_SERVICE_HOST, false));
-        SearchManagerFactory.registerStudentSearchManager(new StudentSearchManager(Config.SEARCH_SERVICE_HOST, false));
+        InstructorSearchManager instructorSearchManager = new InstructorSearchManager(Config.SEARCH_SERVICE_HOST, false);
+        StudentSearchManager studentSearchManager = new StudentSearchManager(Config.SEARCH_SERVICE_HOST, false);
+        instructorSearchManager.enableIndexingBuffer(INDEXING_BUFFER_MAX_BATCH_SIZE);
+        studentSearchManager.enableIndexingBuffer(INDEXING_BUFFER_MAX_BATCH_SIZE);
+
+        SearchManagerFactory.registerInstructorSearchManager(instructorSearchManager);
+        SearchManagerFactory.registerStudentSearchManager(studentSearchManager);
         SearchManagerFactory.registerAccountRequestSearchManager(
                 new AccountRequestSearchManager(Config.SEARCH_SERVICE_HOST, false));
     }
 
     @Override
     public void contextDestroyed(ServletContextEvent event) {
-        // Nothing to do
+        // Invoked by Jetty at application shutdown, before the datastore is shut down.
+        SearchManagerFactory.getInstructorSearchManager().drainIndexingBuffer();
+        SearchManagerFactory.getStudentSearchManager().drainIndexingBuffer();
     }
 
 }
@@ -2,7 +2,9 @@ package teammates.storage.search;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.apache.solr.client.solrj.SolrQuery;
@@ -34,12 +36,28 @@ public class StudentSearchManager extends SearchManager<StudentAttributes> {
         return "students";
     }
 
+    @Override
+    String getDocumentId(StudentAttributes student) {
+        return student.getId();
+    }
+
     @Override
     StudentSearchDocument createDocument(StudentAttributes student) {
         CourseAttributes course = coursesDb.getCourse(student.getCourse());
         return new StudentSearchDocument(student, course);
     }
 
+    @Override
+    List<SearchDocument<StudentAttributes>> createDocuments(List<StudentAttributes> students) {
+        Map<String, CourseAttributes> courses = new HashMap<>();
+        List<SearchDocument<StudentAttributes>> documents = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            CourseAttributes course = courses.computeIfAbsent(student.getCourse(), coursesDb::getCourse);
+            documents.add(new StudentSearchDocument(student, course));
+        }
+        return documents;
+    }
+
     @Override
     StudentAttributes getAttributeFromDocument(SolrDocument document) {
         String courseId = (String) document.getFirstValue("courseId");
@@ -28,6 +28,7 @@ public enum ResourceEndpoints {
     INSTRUCTOR_PRIVILEGE(ResourceURIs.INSTRUCTOR_PRIVILEGE),
     INSTRUCTOR_KEY(ResourceURIs.INSTRUCTOR_KEY),
     RESULT(ResourceURIs.RESULT),
+    RESULT_STATISTICS(ResourceURIs.RESULT_STATISTICS),
     STUDENTS(ResourceURIs.STUDENTS),
     STUDENT(ResourceURIs.STUDENT),
     STUDENT_KEY(ResourceURIs.STUDENT_KEY),
@@ -1,5 +1,9 @@
 package teammates.ui.output;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import javax.annotation.Nullable;
 
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -22,13 +26,26 @@ public class FeedbackResponseData extends ApiOutput {
     @Nullable
     private FeedbackResponseCommentData giverComment;
 
-    public FeedbackResponseData(FeedbackResponseAttributes feedbackResponseAttributes) {
-        this.feedbackResponseId = StringHelper.encrypt(feedbackResponseAttributes.getId());
+    private FeedbackResponseData(FeedbackResponseAttributes feedbackResponseAttributes, String encryptedResponseId) {
+        this.feedbackResponseId = encryptedResponseId;
         this.giverIdentifier = feedbackResponseAttributes.getGiver();
         this.recipientIdentifier = feedbackResponseAttributes.getRecipient();
         this.responseDetails = feedbackResponseAttributes.getResponseDetailsCopy();
     }
 
+    /**
+     * Creates the API outputs of the given responses, encrypting their IDs in a single batch.
+     */
+    public static List<FeedbackResponseData> of(List<FeedbackResponseAttributes> responses) {
+        List<String> encryptedResponseIds = StringHelper.encryptAll(
+                responses.stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toList()));
+        List<FeedbackResponseData> responsesData = new ArrayList<>(responses.size());
+        for (int i = 0; i < responses.size(); i++) {
+            responsesData.add(new FeedbackResponseData(responses.get(i), encryptedResponseIds.get(i)));
+        }
+        return responsesData;
+    }
+
     public String getFeedbackResponseId() {
         return feedbackResponseId;
     }
@@ -2,7 +2,6 @@ package teammates.ui.output;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 
@@ -14,7 +13,7 @@ public class FeedbackResponsesData extends ApiOutput {
     private List<FeedbackResponseData> responses;
 
     public FeedbackResponsesData(List<FeedbackResponseAttributes> responses) {
-        this.responses = responses.stream().map(FeedbackResponseData::new).collect(Collectors.toList());
+        this.responses = FeedbackResponseData.of(responses);
     }
 
     public FeedbackResponsesData() {
@@ -0,0 +1,45 @@
+package teammates.ui.output;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * API output format for the statistics of the responses to the questions of a session.
+ */
+public class SessionResultStatisticsData extends ApiOutput {
+
+    private final List<QuestionStatisticsOutput> questions = new ArrayList<>();
+
+    public SessionResultStatisticsData(Map<String, String> statisticsPerQuestion) {
+        statisticsPerQuestion.forEach((questionId, questionStatistics) ->
+                questions.add(new QuestionStatisticsOutput(questionId, questionStatistics)));
+    }
+
+    public List<QuestionStatisticsOutput> getQuestions() {
+        return questions;
+    }
+
+    /**
+     * API output format for the statistics of the responses to a question.
+     */
+    public static class QuestionStatisticsOutput {
+
+        private final String feedbackQuestionId;
+        private final String questionStatistics;
+
+        private QuestionStatisticsOutput(String feedbackQuestionId, String questionStatistics) {
+            this.feedbackQuestionId = feedbackQuestionId;
+            this.questionStatistics = questionStatistics;
+        }
+
+        public String getFeedbackQuestionId() {
+            return feedbackQuestionId;
+        }
+
+        public String getQuestionStatistics() {
+            return questionStatistics;
+        }
+    }
+
+}
@@ -7,6 +7,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
@@ -40,94 +42,120 @@ public class SessionResultsData extends ApiOutput {
      * Factory method to construct API output for instructor.
      */
     public static SessionResultsData initForInstructor(SessionResultsBundle bundle) {
-        SessionResultsData sessionResultsData = new SessionResultsData();
-
-        Map<String, List<FeedbackResponseAttributes>> questionsWithResponses =
-                bundle.getQuestionResponseMap();
-
-        questionsWithResponses.forEach((questionId, responses) -> {
-            FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
-            FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
-            QuestionOutput qnOutput = new QuestionOutput(question,
-                    questionDetails.getQuestionResultStatisticsJson(question, null, bundle), false, false);
-            // put normal responses
-            List<ResponseOutput> allResponses = buildResponsesForInstructor(responses, bundle, false);
-            qnOutput.allResponses.addAll(allResponses);
-
-            // put missing responses
-            List<FeedbackResponseAttributes> missingResponses = bundle.getQuestionMissingResponseMap().get(questionId);
-            qnOutput.allResponses.addAll(buildResponsesForInstructor(missingResponses, bundle, true));
-
-            sessionResultsData.questions.add(qnOutput);
-        });
-
-        return sessionResultsData;
+        return initForQuestionOutputs(getQuestionOutputsForInstructor(bundle));
     }
 
     /**
      * Factory method to construct API output for student.
      */
     public static SessionResultsData initForStudent(SessionResultsBundle bundle, StudentAttributes student) {
+        return initForQuestionOutputs(getQuestionOutputsForStudent(bundle, student));
+    }
+
+    /**
+     * Factory method to construct API output from already built question outputs.
+     */
+    public static SessionResultsData initForQuestionOutputs(Iterable<QuestionOutput> questionOutputs) {
         SessionResultsData sessionResultsData = new SessionResultsData();
+        questionOutputs.forEach(sessionResultsData.questions::add);
+        return sessionResultsData;
+    }
 
-        Map<String, List<FeedbackResponseAttributes>> questionsWithResponses =
-                bundle.getQuestionResponseMap();
-        questionsWithResponses.forEach((questionId, responses) -> {
-            FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
-            FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
-            // check if question has comments (on any responses) not visible for preview
-            boolean hasCommentNotVisibleForPreview = bundle.getQuestionsWithCommentNotVisibleForPreview()
-                    .contains(questionId);
-            QuestionOutput qnOutput = new QuestionOutput(question,
-                    questionDetails.getQuestionResultStatisticsJson(question, student.getEmail(), bundle),
-                    false, hasCommentNotVisibleForPreview);
-            Map<String, List<ResponseOutput>> otherResponsesMap = new HashMap<>();
-
-            qnOutput.getFeedbackQuestion().hideInformationForStudent();
-
-            if (questionDetails.isIndividualResponsesShownToStudents()) {
-                for (FeedbackResponseAttributes response : responses) {
-                    boolean isUserInstructor = Const.USER_TEAM_FOR_INSTRUCTOR.equals(student.getTeam());
-
-                    boolean isUserGiver = student.getEmail().equals(response.getGiver())
-                            && (isUserInstructor && question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
-                            || !isUserInstructor && question.getGiverType() != FeedbackParticipantType.INSTRUCTORS);
-                    boolean isUserRecipient = student.getEmail().equals(response.getRecipient())
-                            && (isUserInstructor && question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS
-                            || !isUserInstructor && question.getRecipientType() != FeedbackParticipantType.INSTRUCTORS);
-                    ResponseOutput responseOutput = buildSingleResponseForStudent(response, bundle, student);
-
-                    if (isUserRecipient) {
-                        qnOutput.responsesToSelf.add(responseOutput);
-                    }
-
-                    if (isUserGiver) {
-                        qnOutput.responsesFromSelf.add(responseOutput);
-                    }
-
-                    if (!isUserRecipient && !isUserGiver) {
-                        // we don't need care about the keys of the map here
-                        // as only the values of the map will be used
-                        otherResponsesMap.computeIfAbsent(response.getRecipient(), k -> new ArrayList<>())
-                                .add(responseOutput);
-                    }
-
-                    qnOutput.allResponses.add(responseOutput);
+    /**
+     * Gets the question outputs for instructor in the same order as {@link #initForInstructor(SessionResultsBundle)}.
+     *
+     * <p>Each question output is only built when it is reached during iteration,
+     * so that the output for the whole session need not be held in memory at once.
+     */
+    public static Iterable<QuestionOutput> getQuestionOutputsForInstructor(SessionResultsBundle bundle) {
+        return () -> bundle.getQuestionResponseMap().entrySet().stream()
+                .map(entry -> buildQuestionOutputForInstructor(entry.getKey(), entry.getValue(), bundle))
+                .iterator();
+    }
+
+    /**
+     * Gets the question outputs for student in the same order as
+     * {@link #initForStudent(SessionResultsBundle, StudentAttributes)}.
+     *
+     * <p>Each question output is only built when it is reached during iteration,
+     * so that the output for the whole session need not be held in memory at once.
+     */
+    public static Iterable<QuestionOutput> getQuestionOutputsForStudent(
+            SessionResultsBundle bundle, StudentAttributes student) {
+        return () -> Stream.concat(
+                bundle.getQuestionResponseMap().entrySet().stream()
+                        .map(entry -> buildQuestionOutputForStudent(entry.getKey(), entry.getValue(), bundle, student)),
+                bundle.getQuestionsNotVisibleForPreviewMap().values().stream()
+                        .map(question -> new QuestionOutput(question, "", true, false)))
+                .iterator();
+    }
+
+    private static QuestionOutput buildQuestionOutputForInstructor(
+            String questionId, List<FeedbackResponseAttributes> responses, SessionResultsBundle bundle) {
+        FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
+        FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
+        QuestionOutput qnOutput = new QuestionOutput(question,
+                questionDetails.getQuestionResultStatisticsJson(question, null, bundle), false, false);
+        // put normal responses
+        List<ResponseOutput> allResponses = buildResponsesForInstructor(responses, bundle, false);
+        qnOutput.allResponses.addAll(allResponses);
+
+        // put missing responses, which are only generated now so that those of other questions are not held in memory
+        qnOutput.allResponses.addAll(buildResponsesForInstructor(bundle.getMissingResponses(questionId), bundle, true));
+        encryptResponseIds(qnOutput.allResponses);
+
+        return qnOutput;
+    }
+
+    private static QuestionOutput buildQuestionOutputForStudent(String questionId,
+            List<FeedbackResponseAttributes> responses, SessionResultsBundle bundle, StudentAttributes student) {
+        FeedbackQuestionAttributes question = bundle.getQuestionsMap().get(questionId);
+        FeedbackQuestionDetails questionDetails = question.getQuestionDetailsCopy();
+        // check if question has comments (on any responses) not visible for preview
+        boolean hasCommentNotVisibleForPreview = bundle.getQuestionsWithCommentNotVisibleForPreview()
+                .contains(questionId);
+        QuestionOutput qnOutput = new QuestionOutput(question,
+                questionDetails.getQuestionResultStatisticsJson(question, student.getEmail(), bundle),
+                false, hasCommentNotVisibleForPreview);
+        Map<String, List<ResponseOutput>> otherResponsesMap = new HashMap<>();
+
+        qnOutput.getFeedbackQuestion().hideInformationForStudent();
+
+        if (questionDetails.isIndividualResponsesShownToStudents()) {
+            for (FeedbackResponseAttributes response : responses) {
+                boolean isUserInstructor = Const.USER_TEAM_FOR_INSTRUCTOR.equals(student.getTeam());
+
+                boolean isUserGiver = student.getEmail().equals(response.getGiver())
+                        && (isUserInstructor && question.getGiverType() == FeedbackParticipantType.INSTRUCTORS
+                        || !isUserInstructor && question.getGiverType() != FeedbackParticipantType.INSTRUCTORS);
+                boolean isUserRecipient = student.getEmail().equals(response.getRecipient())
+                        && (isUserInstructor && question.getRecipientType() == FeedbackParticipantType.INSTRUCTORS
+                        || !isUserInstructor && question.getRecipientType() != FeedbackParticipantType.INSTRUCTORS);
+                ResponseOutput responseOutput = buildSingleResponseForStudent(response, bundle, student);
+
+                if (isUserRecipient) {
+                    qnOutput.responsesToSelf.add(responseOutput);
+                }
+
+                if (isUserGiver) {
+                    qnOutput.responsesFromSelf.add(responseOutput);
                 }
-            }
-            qnOutput.otherResponses.addAll(otherResponsesMap.values());
 
-            sessionResultsData.questions.add(qnOutput);
-        });
+                if (!isUserRecipient && !isUserGiver) {
+                    // we don't need care about the keys of the map here
+                    // as only the values of the map will be used
+                    otherResponsesMap.computeIfAbsent(response.getRecipient(), k -> new ArrayList<>())
+                            .add(responseOutput);
+                }
 
-        Map<String, FeedbackQuestionAttributes> questionsWithResponsesNotVisibleForPreview =
-                bundle.getQuestionsNotVisibleForPreviewMap();
-        questionsWithResponsesNotVisibleForPreview.forEach((questionId, question) -> {
-            QuestionOutput qnOutput = new QuestionOutput(question, "", true, false);
-            sessionResultsData.questions.add(qnOutput);
-        });
+                qnOutput.allResponses.add(responseOutput);
+            }
+        }
+        qnOutput.otherResponses.addAll(otherResponsesMap.values());
+        // the other lists of responses hold the same response outputs
+        encryptResponseIds(qnOutput.allResponses);
 
-        return sessionResultsData;
+        return qnOutput;
     }
 
     private static ResponseOutput buildSingleResponseForStudent(
@@ -199,13 +227,24 @@ public class SessionResultsData extends ApiOutput {
                 .build();
     }
 
+    /**
+     * Replaces the plaintext response IDs of the response outputs by the encrypted ones, in a single batch.
+     */
+    private static void encryptResponseIds(List<ResponseOutput> responses) {
+        List<String> encryptedIds = StringHelper.encryptAll(
+                responses.stream().map(response -> response.responseId).collect(Collectors.toList()));
+        for (int i = 0; i < responses.size(); i++) {
+            responses.get(i).responseId = encryptedIds.get(i);
+        }
+    }
+
     private static String removeAnonymousHash(String identifier) {
         return identifier.replaceAll(Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT + " (student|instructor|team) "
                 + REGEX_ANONYMOUS_PARTICIPANT_HASH, Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT + " $1");
     }
 
     private static List<ResponseOutput> buildResponsesForInstructor(
-            List<FeedbackResponseAttributes> responses, SessionResultsBundle bundle, boolean areMissingResponses) {
+            Iterable<FeedbackResponseAttributes> responses, SessionResultsBundle bundle, boolean areMissingResponses) {
         List<ResponseOutput> output = new ArrayList<>();
 
         for (FeedbackResponseAttributes response : responses) {
@@ -553,8 +592,11 @@ public class SessionResultsData extends ApiOutput {
                 return this;
             }
 
+            /**
+             * Sets the plaintext ID of the response, which is encrypted once the output of its question is built.
+             */
             Builder withResponseId(String responseId) {
-                responseOutput.responseId = StringHelper.encrypt(responseId);
+                responseOutput.responseId = responseId;
                 return this;
             }
 
@@ -1,6 +1,7 @@
 package teammates.ui.webapi;
 
 import java.lang.reflect.Type;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.servlet.http.HttpServletRequest;
@@ -54,6 +55,9 @@ public abstract class Action {
     // buffer to store the request body
     private String requestBody;
 
+    // parameters of the task, if the action is run from the in-process task queue instead of an HTTP request
+    private Map<String, String> taskParams;
+
     /**
      * Initializes the action object based on the HTTP request.
      */
@@ -62,6 +66,16 @@ public abstract class Action {
         initAuthInfo();
     }
 
+    /**
+     * Initializes the action object to run a task from the in-process task queue, i.e. without an HTTP request.
+     */
+    void initForTask(String queueName, Map<String, String> params, String requestBody) {
+        this.taskParams = params;
+        this.requestBody = requestBody == null ? "" : requestBody;
+        userInfo = userProvision.getAdminOnlyUser("AppEngine-" + queueName);
+        authType = AuthType.LOGGED_IN;
+    }
+
     public void setUserProvision(UserProvision userProvision) {
         this.userProvision = userProvision;
     }
@@ -165,6 +179,9 @@ public abstract class Action {
      * Returns the first value for the specified parameter in the HTTP request, or null if such parameter is not found.
      */
     String getRequestParamValue(String paramName) {
+        if (taskParams != null) {
+            return taskParams.get(paramName);
+        }
         return req.getParameter(paramName);
     }
 
@@ -172,7 +189,7 @@ public abstract class Action {
      * Returns the first value for the specified parameter expected to be present in the HTTP request.
      */
     String getNonNullRequestParamValue(String paramName) {
-        String value = req.getParameter(paramName);
+        String value = getRequestParamValue(paramName);
         if (value == null) {
             throw new InvalidHttpParameterException(String.format("The [%s] HTTP parameter is null.", paramName));
         }
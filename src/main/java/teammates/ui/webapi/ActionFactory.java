@@ -69,6 +69,7 @@ public final class ActionFactory {
         map(ResourceURIs.RESPONSE_COMMENT, PUT, UpdateFeedbackResponseCommentAction.class);
         map(ResourceURIs.RESPONSE_COMMENT, DELETE, DeleteFeedbackResponseCommentAction.class);
         map(ResourceURIs.RESULT, GET, GetSessionResultsAction.class);
+        map(ResourceURIs.RESULT_STATISTICS, GET, GetSessionResultStatisticsAction.class);
         map(ResourceURIs.LOGIN_EMAIL, POST, SendLoginEmailAction.class);
 
         //STUDENTS APIs
@@ -148,10 +149,14 @@ public final class ActionFactory {
         map(CronJobURIs.AUTOMATED_FEEDBACK_OPENING_SOON_REMINDERS, GET,
                 FeedbackSessionOpeningSoonRemindersAction.class);
         map(CronJobURIs.AUTOMATED_USAGE_STATISTICS_COLLECTION, GET, CalculateUsageStatisticsAction.class);
+        map(CronJobURIs.AUTOMATED_SUBMISSION_SUMMARIES_REBUILD, GET, RebuildSubmissionSummariesAction.class);
 
         // Task queue workers; use POST request
         // Reference: https://cloud.google.com/tasks/docs/creating-appengine-tasks
 
+        map(TaskQueue.FEEDBACK_SESSION_OPENING_EMAIL_WORKER_URL, POST, FeedbackSessionOpeningEmailWorkerAction.class);
+        map(TaskQueue.FEEDBACK_SESSION_CLOSING_EMAIL_WORKER_URL, POST, FeedbackSessionClosingEmailWorkerAction.class);
+        map(TaskQueue.FEEDBACK_SESSION_CLOSED_EMAIL_WORKER_URL, POST, FeedbackSessionClosedEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL, POST, FeedbackSessionPublishedEmailWorkerAction.class);
         map(TaskQueue.FEEDBACK_SESSION_RESEND_PUBLISHED_EMAIL_WORKER_URL, POST,
                 FeedbackSessionResendPublishedEmailWorkerAction.class);
@@ -162,10 +167,12 @@ public final class ActionFactory {
                 FeedbackSessionUnpublishedEmailWorkerAction.class);
         map(TaskQueue.INSTRUCTOR_COURSE_JOIN_EMAIL_WORKER_URL, POST, InstructorCourseJoinEmailWorkerAction.class);
         map(TaskQueue.SEND_EMAIL_WORKER_URL, POST, SendEmailWorkerAction.class);
+        map(TaskQueue.SEND_EMAIL_BATCH_WORKER_URL, POST, SendEmailBatchWorkerAction.class);
         map(TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, POST, StudentCourseJoinEmailWorkerAction.class);
         map(TaskQueue.ACCOUNT_REQUEST_SEARCH_INDEXING_WORKER_URL, POST, AccountRequestSearchIndexingWorkerAction.class);
         map(TaskQueue.INSTRUCTOR_SEARCH_INDEXING_WORKER_URL, POST, InstructorSearchIndexingWorkerAction.class);
         map(TaskQueue.STUDENT_SEARCH_INDEXING_WORKER_URL, POST, StudentSearchIndexingWorkerAction.class);
+        map(TaskQueue.STUDENTS_SEARCH_INDEXING_WORKER_URL, POST, StudentsSearchIndexingWorkerAction.class);
 
     }
 
@@ -188,7 +195,7 @@ public final class ActionFactory {
         return getAction(uri, method);
     }
 
-    private static Action getAction(String uri, String method) throws ActionMappingException {
+    static Action getAction(String uri, String method) throws ActionMappingException {
         if (!ACTION_MAPPINGS.containsKey(uri)) {
             throw new ActionMappingException("Resource with URI " + uri + " is not found.", HttpStatus.SC_NOT_FOUND);
         }
@@ -1,5 +1,8 @@
 package teammates.ui.webapi;
 
+import java.util.List;
+
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -213,9 +216,11 @@ abstract class BasicFeedbackSubmissionAction extends Action {
 
     /**
      * Gets the section of a recipient.
+     *
+     * @param courseRoster the roster of the course, which is used to look up the recipient
      */
     String getRecipientSection(
-            String courseId, FeedbackParticipantType giverType, FeedbackParticipantType recipientType,
+            CourseRoster courseRoster, FeedbackParticipantType giverType, FeedbackParticipantType recipientType,
             String recipientIdentifier) {
         switch (recipientType) {
         case SELF:
@@ -225,10 +230,10 @@ abstract class BasicFeedbackSubmissionAction extends Action {
                 return Const.DEFAULT_SECTION;
             case TEAMS:
             case TEAMS_IN_SAME_SECTION:
-                return logic.getSectionForTeam(courseId, recipientIdentifier);
+                return getSectionForTeam(courseRoster, recipientIdentifier);
             case STUDENTS:
             case STUDENTS_IN_SAME_SECTION:
-                StudentAttributes student = logic.getStudentForEmail(courseId, recipientIdentifier);
+                StudentAttributes student = courseRoster.getStudentForEmail(recipientIdentifier);
                 return student == null ? Const.DEFAULT_SECTION : student.getSection();
             default:
                 assert false : "Invalid giver type " + giverType + " for recipient type " + recipientType;
@@ -241,13 +246,13 @@ abstract class BasicFeedbackSubmissionAction extends Action {
         case TEAMS_EXCLUDING_SELF:
         case TEAMS_IN_SAME_SECTION:
         case OWN_TEAM:
-            return logic.getSectionForTeam(courseId, recipientIdentifier);
+            return getSectionForTeam(courseRoster, recipientIdentifier);
         case STUDENTS:
         case STUDENTS_EXCLUDING_SELF:
         case STUDENTS_IN_SAME_SECTION:
         case OWN_TEAM_MEMBERS:
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            StudentAttributes student = logic.getStudentForEmail(courseId, recipientIdentifier);
+            StudentAttributes student = courseRoster.getStudentForEmail(recipientIdentifier);
             return student == null ? Const.DEFAULT_SECTION : student.getSection();
         default:
             assert false : "Unknown recipient type " + recipientType;
@@ -255,4 +260,12 @@ abstract class BasicFeedbackSubmissionAction extends Action {
         }
     }
 
+    private String getSectionForTeam(CourseRoster courseRoster, String teamName) {
+        List<StudentAttributes> teamMembers = courseRoster.getTeamToMembersTable().get(teamName);
+        if (teamMembers == null || teamMembers.isEmpty()) {
+            return Const.DEFAULT_SECTION;
+        }
+        return teamMembers.get(0).getSection();
+    }
+
 }
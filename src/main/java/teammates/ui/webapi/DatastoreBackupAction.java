@@ -1,24 +1,20 @@
 package teammates.ui.webapi;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 import org.apache.http.HttpStatus;
-import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
+import org.apache.http.util.EntityUtils;
 
 import com.google.auth.oauth2.GoogleCredentials;
 
 import teammates.common.util.Config;
 import teammates.common.util.Const;
+import teammates.common.util.HttpRequest;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 
@@ -66,16 +62,16 @@ class DatastoreBackupAction extends AdminOnlyAction {
         StringEntity entity = new StringEntity(JsonUtils.toCompactJson(body), Const.ENCODING);
         post.setEntity(entity);
 
-        try (CloseableHttpClient client = HttpClients.createDefault();
-                CloseableHttpResponse resp = client.execute(post);
-                BufferedReader br = new BufferedReader(
-                        new InputStreamReader(resp.getEntity().getContent(), Const.ENCODING))) {
-            String output = br.lines().collect(Collectors.joining(System.lineSeparator()));
-            if (resp.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
-                log.info("Backup request successful:" + System.lineSeparator() + output);
-            } else {
-                log.severe("Backup request failure:" + System.lineSeparator() + output);
-            }
+        try {
+            HttpRequest.execute(post, resp -> {
+                String output = EntityUtils.toString(resp.getEntity(), Const.ENCODING);
+                if (resp.getStatusLine().getStatusCode() == HttpStatus.SC_OK) {
+                    log.info("Backup request successful:" + System.lineSeparator() + output);
+                } else {
+                    log.severe("Backup request failure:" + System.lineSeparator() + output);
+                }
+                return null;
+            });
         } catch (IOException e) {
             log.severe("Backup request failure: " + e.getMessage());
         }
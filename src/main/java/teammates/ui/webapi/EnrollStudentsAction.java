@@ -2,17 +2,13 @@ package teammates.ui.webapi;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.StudentsEnrollmentResults;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EnrollException;
-import teammates.common.exception.EntityAlreadyExistsException;
-import teammates.common.exception.EntityDoesNotExistException;
-import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
-import teammates.common.util.RequestTracer;
 import teammates.ui.output.EnrollStudentsData;
 import teammates.ui.output.StudentsData;
 import teammates.ui.request.InvalidHttpRequestBodyException;
@@ -23,7 +19,7 @@ import teammates.ui.request.StudentsEnrollRequest;
  *
  * <p>Create the students who are not in the course.
  *
- * <p>Update the students who are already existed.
+ * <p>Update the students who are already existed, if any of their details is changed.
  *
  * <p>Return all students who are successfully enrolled.
  */
@@ -61,52 +57,26 @@ class EnrollStudentsAction extends Action {
                     .build());
         });
 
+        StudentsEnrollmentResults enrollmentResults;
         try {
-            logic.validateSectionsAndTeams(studentsToEnroll, courseId);
+            enrollmentResults = logic.enrollStudents(courseId, studentsToEnroll);
         } catch (EnrollException e) {
             throw new InvalidOperationException(e);
         }
 
-        List<StudentAttributes> existingStudents = logic.getStudentsForCourse(courseId);
+        // Unchanged students need not be indexed again.
+        List<String> emailsToIndex = enrollmentResults.getRows().stream()
+                .filter(row -> row.getStatus() == StudentsEnrollmentResults.Status.CREATED
+                        || row.getStatus() == StudentsEnrollmentResults.Status.UPDATED)
+                .map(StudentsEnrollmentResults.Row::getEmail)
+                .collect(Collectors.toList());
+        taskQueuer.scheduleStudentsForSearchIndexing(courseId, emailsToIndex);
 
-        Set<String> existingStudentsEmail =
-                existingStudents.stream().map(StudentAttributes::getEmail).collect(Collectors.toSet());
-        List<StudentAttributes> enrolledStudents = new ArrayList<>();
-        List<EnrollStudentsData.EnrollErrorResults> failToEnrollStudents = new ArrayList<>();
-        for (StudentAttributes student : studentsToEnroll) {
-            RequestTracer.checkRemainingTime();
-            if (existingStudentsEmail.contains(student.getEmail())) {
-                // The student has been enrolled in the course.
-                StudentAttributes.UpdateOptions updateOptions =
-                        StudentAttributes.updateOptionsBuilder(student.getCourse(), student.getEmail())
-                                .withName(student.getName())
-                                .withSectionName(student.getSection())
-                                .withTeamName(student.getTeam())
-                                .withComment(student.getComments())
-                                .build();
-                try {
-                    StudentAttributes updatedStudent = logic.updateStudentCascade(updateOptions);
-                    taskQueuer.scheduleStudentForSearchIndexing(updatedStudent.getCourse(), updatedStudent.getEmail());
-                    enrolledStudents.add(updatedStudent);
-                } catch (InvalidParametersException | EntityDoesNotExistException
-                        | EntityAlreadyExistsException exception) {
-                    // Unsuccessfully enrolled students will not be returned.
-                    failToEnrollStudents.add(new EnrollStudentsData.EnrollErrorResults(student.getEmail(),
-                            exception.getMessage()));
-                }
-            } else {
-                // The student is new.
-                try {
-                    StudentAttributes newStudent = logic.createStudent(student);
-                    taskQueuer.scheduleStudentForSearchIndexing(newStudent.getCourse(), newStudent.getEmail());
-                    enrolledStudents.add(newStudent);
-                } catch (InvalidParametersException | EntityAlreadyExistsException exception) {
-                    // Unsuccessfully enrolled students will not be returned.
-                    failToEnrollStudents.add(new EnrollStudentsData.EnrollErrorResults(student.getEmail(),
-                            exception.getMessage()));
-                }
-            }
-        }
+        // Unsuccessfully enrolled students will not be returned.
+        List<StudentAttributes> enrolledStudents = enrollmentResults.getEnrolledStudents();
+        List<EnrollStudentsData.EnrollErrorResults> failToEnrollStudents = enrollmentResults.getFailedRows().stream()
+                .map(row -> new EnrollStudentsData.EnrollErrorResults(row.getEmail(), row.getErrorMessage()))
+                .collect(Collectors.toList());
         return new JsonResult(new EnrollStudentsData(new StudentsData(enrolledStudents), failToEnrollStudents));
     }
 }
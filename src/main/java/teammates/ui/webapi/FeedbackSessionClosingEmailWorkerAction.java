@@ -0,0 +1,36 @@
+package teammates.ui.webapi;
+
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.EmailWrapper;
+
+/**
+ * Task queue worker action: prepares session closing reminder for a particular session to be sent.
+ *
+ * <p>The emails are not prepared again if they have been sent, e.g. when the task is retried.
+ */
+class FeedbackSessionClosingEmailWorkerAction extends FeedbackSessionStageEmailWorkerAction {
+
+    @Override
+    String getStage() {
+        return "closing";
+    }
+
+    @Override
+    boolean isEmailSent(FeedbackSessionAttributes session) {
+        return session.isSentClosingEmail();
+    }
+
+    @Override
+    List<EmailWrapper> generateEmails(FeedbackSessionAttributes session) {
+        return emailGenerator.generateFeedbackSessionClosingEmails(session);
+    }
+
+    @Override
+    FeedbackSessionAttributes.UpdateOptions.Builder withEmailSent(
+            FeedbackSessionAttributes.UpdateOptions.Builder updateOptionsBuilder) {
+        return updateOptionsBuilder.withSentClosingEmail(true);
+    }
+
+}
@@ -16,6 +16,9 @@ import teammates.common.util.RequestTracer;
 
 /**
  * Cron job: schedules feedback session closing emails to be sent.
+ *
+ * <p>The emails of each session are prepared by a separate task,
+ * while the emails for deadline extensions closing soon are prepared directly.
  */
 class FeedbackSessionClosingRemindersAction extends AdminOnlyAction {
 
@@ -23,21 +26,12 @@ class FeedbackSessionClosingRemindersAction extends AdminOnlyAction {
 
     @Override
     public JsonResult execute() {
+        long startTime = System.currentTimeMillis();
         List<FeedbackSessionAttributes> sessions = logic.getFeedbackSessionsClosingWithinTimeLimit();
 
         for (FeedbackSessionAttributes session : sessions) {
             RequestTracer.checkRemainingTime();
-            List<EmailWrapper> emailsToBeSent = emailGenerator.generateFeedbackSessionClosingEmails(session);
-            try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
-                logic.updateFeedbackSession(
-                        FeedbackSessionAttributes
-                                .updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId())
-                                .withSentClosingEmail(true)
-                                .build());
-            } catch (Exception e) {
-                log.severe("Unexpected error", e);
-            }
+            taskQueuer.scheduleFeedbackSessionClosingEmail(session.getCourseId(), session.getFeedbackSessionName());
         }
 
         // group deadline extensions by courseId and feedbackSessionName
@@ -47,6 +41,7 @@ class FeedbackSessionClosingRemindersAction extends AdminOnlyAction {
                         .collect(Collectors.groupingBy(de -> de.getCourseId() + "%" + de.getFeedbackSessionName()))
                         .values();
 
+        int numberOfExtensionEmails = 0;
         for (var deadlineExtensions : groupedDeadlineExtensions) {
             RequestTracer.checkRemainingTime();
             String feedbackSessionName = deadlineExtensions.get(0).getFeedbackSessionName();
@@ -74,8 +69,12 @@ class FeedbackSessionClosingRemindersAction extends AdminOnlyAction {
             } catch (InvalidParametersException | EntityDoesNotExistException e) {
                 log.severe("Unexpected error", e);
             }
+            numberOfExtensionEmails += emailsToBeSent.size();
         }
 
+        log.info("Scheduled session closing emails for " + sessions.size() + " sessions and "
+                + numberOfExtensionEmails + " emails for deadline extensions in "
+                + (System.currentTimeMillis() - startTime) + " ms");
         return new JsonResult("Successful");
     }
 
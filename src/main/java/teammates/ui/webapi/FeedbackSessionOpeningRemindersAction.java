@@ -3,12 +3,13 @@ package teammates.ui.webapi;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
-import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
 
 /**
  * Cron job: schedules feedback session opening emails to be sent.
+ *
+ * <p>The emails of each session are prepared by a separate task.
  */
 class FeedbackSessionOpeningRemindersAction extends AdminOnlyAction {
 
@@ -16,22 +17,16 @@ class FeedbackSessionOpeningRemindersAction extends AdminOnlyAction {
 
     @Override
     public JsonResult execute() {
+        long startTime = System.currentTimeMillis();
         List<FeedbackSessionAttributes> sessions = logic.getFeedbackSessionsWhichNeedOpenEmailsToBeSent();
 
         for (FeedbackSessionAttributes session : sessions) {
             RequestTracer.checkRemainingTime();
-            List<EmailWrapper> emailsToBeSent = emailGenerator.generateFeedbackSessionOpeningEmails(session);
-            try {
-                taskQueuer.scheduleEmailsForSending(emailsToBeSent);
-                logic.updateFeedbackSession(
-                        FeedbackSessionAttributes
-                                .updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId())
-                                .withSentOpenEmail(true)
-                                .build());
-            } catch (Exception e) {
-                log.severe("Unexpected error", e);
-            }
+            taskQueuer.scheduleFeedbackSessionOpeningEmail(session.getCourseId(), session.getFeedbackSessionName());
         }
+
+        log.info("Scheduled session opening emails for " + sessions.size() + " sessions in "
+                + (System.currentTimeMillis() - startTime) + " ms");
         return new JsonResult("Successful");
     }
 
@@ -25,6 +25,7 @@ class FeedbackSessionPublishedEmailWorkerAction extends AdminOnlyAction {
                        + " for course: " + courseId + " could not be fetched.");
             return new JsonResult("Failure");
         }
+        long startTime = System.currentTimeMillis();
         List<EmailWrapper> emailsToBeSent = emailGenerator.generateFeedbackSessionPublishedEmails(session);
         try {
             taskQueuer.scheduleEmailsForSending(emailsToBeSent);
@@ -36,6 +37,8 @@ class FeedbackSessionPublishedEmailWorkerAction extends AdminOnlyAction {
         } catch (Exception e) {
             log.severe("Unexpected error", e);
         }
+        log.info("Generated " + emailsToBeSent.size() + " session published emails for " + feedbackSessionName
+                + " in course " + courseId + " in " + (System.currentTimeMillis() - startTime) + " ms");
         return new JsonResult("Successful");
     }
 
@@ -3,21 +3,30 @@ package teammates.ui.webapi;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Logger;
 import teammates.common.util.RequestTracer;
 
 /**
  * Cron job: schedules feedback session published emails to be sent.
+ *
+ * <p>The emails of each session are prepared by a separate task.
  */
 class FeedbackSessionPublishedRemindersAction extends AdminOnlyAction {
 
+    private static final Logger log = Logger.getLogger();
+
     @Override
     public JsonResult execute() {
+        long startTime = System.currentTimeMillis();
         List<FeedbackSessionAttributes> sessions =
                 logic.getFeedbackSessionsWhichNeedAutomatedPublishedEmailsToBeSent();
         for (FeedbackSessionAttributes session : sessions) {
             RequestTracer.checkRemainingTime();
             taskQueuer.scheduleFeedbackSessionPublishedEmail(session.getCourseId(), session.getFeedbackSessionName());
         }
+
+        log.info("Scheduled session published emails for " + sessions.size() + " sessions in "
+                + (System.currentTimeMillis() - startTime) + " ms");
         return new JsonResult("Successful");
     }
 
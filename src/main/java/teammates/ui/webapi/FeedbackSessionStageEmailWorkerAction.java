@@ -0,0 +1,72 @@
+package teammates.ui.webapi;
+
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: prepares the emails of a stage of a particular session, e.g. its opening, to be sent.
+ *
+ * <p>The session is marked as having sent the emails once they are scheduled,
+ * so that they are not prepared again, e.g. when the task is retried.
+ */
+abstract class FeedbackSessionStageEmailWorkerAction extends AdminOnlyAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * Gets the stage of the session which the emails are for, e.g. "opening".
+     */
+    abstract String getStage();
+
+    /**
+     * Checks whether the emails of the stage have been sent for the session.
+     */
+    abstract boolean isEmailSent(FeedbackSessionAttributes session);
+
+    /**
+     * Generates the emails of the stage for the session.
+     */
+    abstract List<EmailWrapper> generateEmails(FeedbackSessionAttributes session);
+
+    /**
+     * Marks the session as having sent the emails of the stage.
+     */
+    abstract FeedbackSessionAttributes.UpdateOptions.Builder withEmailSent(
+            FeedbackSessionAttributes.UpdateOptions.Builder updateOptionsBuilder);
+
+    @Override
+    public JsonResult execute() {
+        String feedbackSessionName = getNonNullRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+        String courseId = getNonNullRequestParamValue(ParamsNames.COURSE_ID);
+
+        FeedbackSessionAttributes session = logic.getFeedbackSession(feedbackSessionName, courseId);
+        if (session == null) {
+            log.severe("Feedback session object for feedback session name: " + feedbackSessionName
+                       + " for course: " + courseId + " could not be fetched.");
+            return new JsonResult("Failure");
+        }
+        if (isEmailSent(session)) {
+            return new JsonResult("Session " + getStage() + " emails have already been sent");
+        }
+
+        long startTime = System.currentTimeMillis();
+        List<EmailWrapper> emailsToBeSent = generateEmails(session);
+        try {
+            taskQueuer.scheduleEmailsForSending(emailsToBeSent);
+            logic.updateFeedbackSession(withEmailSent(
+                    FeedbackSessionAttributes
+                            .updateOptionsBuilder(session.getFeedbackSessionName(), session.getCourseId()))
+                    .build());
+        } catch (Exception e) {
+            log.severe("Unexpected error", e);
+        }
+        log.info("Generated " + emailsToBeSent.size() + " session " + getStage() + " emails for " + feedbackSessionName
+                + " in course " + courseId + " in " + (System.currentTimeMillis() - startTime) + " ms");
+        return new JsonResult("Successful");
+    }
+
+}
@@ -1,6 +1,5 @@
 package teammates.ui.webapi;
 
-import java.util.LinkedList;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
@@ -79,17 +78,15 @@ class GetFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
             throw new InvalidHttpParameterException("Unknown intent " + intent);
         }
 
-        List<FeedbackResponseData> responsesData = new LinkedList<>();
+        List<FeedbackResponseData> responsesData = FeedbackResponseData.of(responses);
 
-        responses.forEach(response -> {
-            FeedbackResponseData data = new FeedbackResponseData(response);
+        for (int i = 0; i < responses.size(); i++) {
             FeedbackResponseCommentAttributes comment = logic
-                    .getFeedbackResponseCommentForResponseFromParticipant(response.getId());
+                    .getFeedbackResponseCommentForResponseFromParticipant(responses.get(i).getId());
             if (comment != null) {
-                data.setGiverComment(new FeedbackResponseCommentData(comment));
+                responsesData.get(i).setGiverComment(new FeedbackResponseCommentData(comment));
             }
-            responsesData.add(data);
-        });
+        }
         FeedbackResponsesData result = new FeedbackResponsesData();
         if (!responsesData.isEmpty()) {
             result.setResponses(responsesData);
@@ -74,11 +74,12 @@ class GetFeedbackSessionsAction extends Action {
         if (courseId == null) {
             if (entityType.equals(Const.EntityType.STUDENT)) {
                 List<StudentAttributes> students = logic.getStudentsForGoogleId(userInfo.getId());
+                Map<String, List<FeedbackSessionAttributes>> courseIdToSessions = logic.getFeedbackSessionsForCourses(
+                        students.stream().map(StudentAttributes::getCourse).distinct().collect(Collectors.toList()));
                 feedbackSessionAttributes = new ArrayList<>();
                 for (StudentAttributes student : students) {
-                    String studentCourseId = student.getCourse();
                     String emailAddress = student.getEmail();
-                    List<FeedbackSessionAttributes> sessions = logic.getFeedbackSessionsForCourse(studentCourseId);
+                    List<FeedbackSessionAttributes> sessions = courseIdToSessions.get(student.getCourse());
 
                     sessions = sessions.stream()
                         .map(session -> session.getCopyForStudent(emailAddress))
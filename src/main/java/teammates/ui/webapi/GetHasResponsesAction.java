@@ -3,6 +3,8 @@ package teammates.ui.webapi;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -98,15 +100,17 @@ class GetHasResponsesAction extends Action {
             List<FeedbackSessionAttributes> feedbackSessions = logic.getFeedbackSessionsForCourse(courseId);
             StudentAttributes student = logic.getStudentForGoogleId(courseId, userInfo.getId());
 
+            // Skip invisible sessions.
+            List<FeedbackSessionAttributes> visibleSessions = feedbackSessions.stream()
+                    .filter(FeedbackSessionAttributes::isVisible)
+                    .collect(Collectors.toList());
+            Set<String> attemptedSessions = logic.getFeedbackSessionsAttemptedByStudent(
+                    courseId, visibleSessions, student.getEmail(), student.getTeam());
+
             Map<String, Boolean> sessionsHasResponses = new HashMap<>();
-            for (FeedbackSessionAttributes feedbackSession : feedbackSessions) {
-                if (!feedbackSession.isVisible()) {
-                    // Skip invisible sessions.
-                    continue;
-                }
-                boolean hasResponses = logic.isFeedbackSessionAttemptedByStudent(
-                        feedbackSession, student.getEmail(), student.getTeam());
-                sessionsHasResponses.put(feedbackSession.getFeedbackSessionName(), hasResponses);
+            for (FeedbackSessionAttributes feedbackSession : visibleSessions) {
+                String sessionName = feedbackSession.getFeedbackSessionName();
+                sessionsHasResponses.put(sessionName, attemptedSessions.contains(sessionName));
             }
             return new JsonResult(new HasResponsesData(sessionsHasResponses));
         }
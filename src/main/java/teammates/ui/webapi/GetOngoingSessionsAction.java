@@ -81,12 +81,13 @@ class GetOngoingSessionsAction extends AdminOnlyAction {
             courseIdToFeedbackSessionsMap.computeIfAbsent(courseId, k -> new ArrayList<>()).add(fs);
         }
 
+        Map<String, String> courseInstitutes = logic.getCourseInstitutes(new ArrayList<>(courseIds));
         Map<String, List<OngoingSession>> instituteToFeedbackSessionsMap = new HashMap<>();
         for (String courseId : courseIds) {
             List<InstructorAttributes> instructors = logic.getInstructorsForCourse(courseId);
             AccountAttributes account = getRegisteredInstructorAccountFromInstructors(instructors);
 
-            String institute = logic.getCourseInstitute(courseId);
+            String institute = courseInstitutes.getOrDefault(courseId, Const.UNKNOWN_INSTITUTION);
             List<OngoingSession> sessions = courseIdToFeedbackSessionsMap.get(courseId).stream()
                     .map(session -> new OngoingSession(session, account))
                     .collect(Collectors.toList());
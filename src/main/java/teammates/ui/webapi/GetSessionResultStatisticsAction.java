@@ -0,0 +1,49 @@
+package teammates.ui.webapi;
+
+import java.util.Map;
+
+import teammates.common.datatransfer.FeedbackResultFetchType;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.ui.output.SessionResultStatisticsData;
+
+/**
+ * Gets the statistics of the responses to the questions of a feedback session, without the responses themselves.
+ */
+class GetSessionResultStatisticsAction extends Action {
+
+    @Override
+    AuthType getMinAuthLevel() {
+        return AuthType.LOGGED_IN;
+    }
+
+    @Override
+    void checkSpecificAccessControl() throws UnauthorizedAccessException {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+
+        FeedbackSessionAttributes fs = getNonNullFeedbackSession(feedbackSessionName, courseId);
+        InstructorAttributes instructor = logic.getInstructorForGoogleId(courseId, userInfo.getId());
+        gateKeeper.verifyAccessible(instructor, fs, Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS);
+    }
+
+    @Override
+    public JsonResult execute() {
+        String courseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String feedbackSessionName = getNonNullRequestParamValue(Const.ParamsNames.FEEDBACK_SESSION_NAME);
+        getNonNullFeedbackSession(feedbackSessionName, courseId);
+
+        // Allow additional filter by question ID and section name
+        String questionId = getRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
+        String selectedSection = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_GROUPBYSECTION);
+        FeedbackResultFetchType fetchType = FeedbackResultFetchType.parseFetchType(
+                getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_SECTION_BY_GIVER_RECEIVER));
+
+        InstructorAttributes instructor = logic.getInstructorForGoogleId(courseId, userInfo.getId());
+        Map<String, String> statisticsPerQuestion = logic.getSessionResultStatisticsForCourse(
+                feedbackSessionName, courseId, instructor.getEmail(), questionId, selectedSection, fetchType);
+        return new JsonResult(new SessionResultStatisticsData(statisticsPerQuestion));
+    }
+
+}
@@ -81,7 +81,7 @@ class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
 
             bundle = logic.getSessionResultsForCourse(feedbackSessionName, courseId, instructor.getEmail(),
                     questionId, selectedSection, fetchType);
-            return new JsonResult(SessionResultsData.initForInstructor(bundle));
+            return new SessionResultsJsonResult(SessionResultsData.getQuestionOutputsForInstructor(bundle));
         case INSTRUCTOR_RESULT:
             // Section name filter is not applicable here
             instructor = getInstructorOfCourseFromRequest(courseId);
@@ -94,7 +94,7 @@ class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
                     .withTeamName(Const.USER_TEAM_FOR_INSTRUCTOR)
                     .build();
 
-            return new JsonResult(SessionResultsData.initForStudent(bundle, student));
+            return new SessionResultsJsonResult(SessionResultsData.getQuestionOutputsForStudent(bundle, student));
         case STUDENT_RESULT:
             // Section name filter is not applicable here
             student = getStudentOfCourseFromRequest(courseId);
@@ -102,7 +102,7 @@ class GetSessionResultsAction extends BasicFeedbackSubmissionAction {
             bundle = logic.getSessionResultsForUser(feedbackSessionName, courseId, student.getEmail(),
                     false, questionId, isPreviewResults);
 
-            return new JsonResult(SessionResultsData.initForStudent(bundle, student));
+            return new SessionResultsJsonResult(SessionResultsData.getQuestionOutputsForStudent(bundle, student));
         case INSTRUCTOR_SUBMISSION:
         case STUDENT_SUBMISSION:
             throw new InvalidHttpParameterException("Invalid intent for this action");
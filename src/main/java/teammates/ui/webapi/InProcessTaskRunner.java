@@ -0,0 +1,65 @@
+package teammates.ui.webapi;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+
+import org.apache.http.client.methods.HttpPost;
+
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.api.TaskQueuer;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+
+/**
+ * Setup in web.xml to run the tasks of the in-process task queue with the worker actions directly,
+ * without sending HTTP requests to the worker URLs.
+ *
+ * <p>Also releases the resources held by the task queue service at application shutdown.
+ */
+public class InProcessTaskRunner implements ServletContextListener {
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * Runs the given task with the worker action mapped to its worker URL.
+     *
+     * @return true if the task is done, false if it has failed and should be retried
+     */
+    static boolean runTask(TaskWrapper task) {
+        long startTime = System.currentTimeMillis();
+        int statusCode;
+        try {
+            Action action = ActionFactory.getAction(task.getWorkerUrl(), HttpPost.METHOD_NAME);
+            String requestBody = task.getRequestBody() == null ? null : JsonUtils.toCompactJson(task.getRequestBody());
+            action.initForTask(task.getQueueName(), task.getParamMap(), requestBody);
+            action.checkAccessControl();
+
+            statusCode = action.execute().getStatusCode();
+        } catch (ActionMappingException | InvalidHttpRequestBodyException | InvalidHttpParameterException e) {
+            // Same as tasks from Cloud Tasks, no amount of retry is going to help if the task itself is malformed.
+            log.severe(e.getClass().getSimpleName() + " caught by InProcessTaskRunner: " + e.getMessage(), e);
+            return true;
+        } catch (UnauthorizedAccessException | EntityNotFoundException | InvalidOperationException e) {
+            log.warning(e.getClass().getSimpleName() + " caught by InProcessTaskRunner: " + e.getMessage(), e);
+            return false;
+        }
+
+        log.info("Task to " + task.getWorkerUrl() + " returned " + statusCode
+                + " in " + (System.currentTimeMillis() - startTime) + " ms");
+        return statusCode < 300;
+    }
+
+    @Override
+    public void contextInitialized(ServletContextEvent event) {
+        // Invoked by Jetty at application startup.
+        TaskQueuer.inst().setInProcessTaskHandler(InProcessTaskRunner::runTask);
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent event) {
+        // Invoked by Jetty at application shutdown, before the datastore and search service are shut down.
+        TaskQueuer.inst().shutdown();
+    }
+
+}
@@ -32,6 +32,14 @@ public class JsonResult extends ActionResult {
         this.cookies = new ArrayList<>();
     }
 
+    /**
+     * Creates a result whose output is produced by the subclass,
+     * which must then override both {@link #getOutput()} and {@link #send(HttpServletResponse)}.
+     */
+    JsonResult() {
+        this((ApiOutput) null);
+    }
+
     JsonResult(ApiOutput output, List<Cookie> cookies) {
         this(output);
         this.cookies = cookies;
@@ -54,16 +62,23 @@ public class JsonResult extends ActionResult {
     @Override
     public void send(HttpServletResponse resp) throws IOException {
         output.setRequestId(RequestTracer.getTraceId());
-        for (Cookie cookie : cookies) {
-            cookie.setSecure(!Config.IS_DEV_SERVER);
-            resp.addCookie(cookie);
-        }
+        addCookies(resp);
         resp.setStatus(getStatusCode());
         resp.setContentType("application/json");
         PrintWriter pw = resp.getWriter();
         JsonUtils.toCompactJson(output, pw);
     }
 
+    /**
+     * Adds the cookies of this result into the HTTP response.
+     */
+    void addCookies(HttpServletResponse resp) {
+        for (Cookie cookie : cookies) {
+            cookie.setSecure(!Config.IS_DEV_SERVER);
+            resp.addCookie(cookie);
+        }
+    }
+
     List<Cookie> getCookies() {
         return cookies;
     }
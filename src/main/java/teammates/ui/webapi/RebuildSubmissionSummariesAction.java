@@ -0,0 +1,38 @@
+package teammates.ui.webapi;
+
+import java.time.Instant;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Logger;
+import teammates.common.util.RequestTracer;
+import teammates.common.util.TimeHelper;
+
+/**
+ * Cron job: rebuilds the submission summaries of feedback sessions which have been open in the past day.
+ *
+ * <p>The summaries are maintained as responses are written; rebuilding them adds any giver they have missed,
+ * e.g. one whose response is written while a summary is being built.
+ */
+class RebuildSubmissionSummariesAction extends AdminOnlyAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    public JsonResult execute() {
+        long startTime = System.currentTimeMillis();
+        Instant now = Instant.now();
+        List<FeedbackSessionAttributes> sessions =
+                logic.getAllOngoingSessions(TimeHelper.getInstantDaysOffsetFromNow(-1), now);
+
+        for (FeedbackSessionAttributes session : sessions) {
+            RequestTracer.checkRemainingTime();
+            logic.rebuildSubmissionSummary(session.getCourseId(), session.getFeedbackSessionName());
+        }
+
+        log.info("Rebuilt submission summaries of " + sessions.size() + " sessions in "
+                + (System.currentTimeMillis() - startTime) + " ms");
+        return new JsonResult("Successful");
+    }
+
+}
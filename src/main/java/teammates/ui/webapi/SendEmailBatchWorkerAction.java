@@ -0,0 +1,45 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.util.EmailSendingStatus;
+import teammates.common.util.EmailWrapper;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+import teammates.ui.request.SendEmailBatchRequest;
+
+/**
+ * Task queue worker action: sends a batch of queued emails.
+ */
+class SendEmailBatchWorkerAction extends AdminOnlyAction {
+
+    @Override
+    public JsonResult execute() throws InvalidHttpRequestBodyException {
+        SendEmailBatchRequest emailBatchRequest = getAndValidateRequestBody(SendEmailBatchRequest.class);
+        List<EmailWrapper> emails = emailBatchRequest.getEmails();
+        List<EmailSendingStatus> statuses = emailSender.sendEmails(emails);
+
+        List<EmailWrapper> failedEmails = new ArrayList<>();
+        for (int i = 0; i < emails.size(); i++) {
+            if (!statuses.get(i).isSuccess()) {
+                failedEmails.add(emails.get(i));
+            }
+        }
+
+        if (failedEmails.isEmpty()) {
+            return new JsonResult("Successful");
+        }
+        if (failedEmails.size() == emails.size()) {
+            // No email has been sent, hence the whole batch can be retried safely
+            // Set an arbitrary retry code outside of the range 200-299 so Cloud Tasks will automatically retry upon failure
+            return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
+        }
+
+        // Retrying the whole batch would send the emails which have been sent again
+        taskQueuer.scheduleEmailsForRetry(failedEmails);
+        return new JsonResult("Failed to send " + failedEmails.size() + " emails; rescheduled");
+    }
+
+}
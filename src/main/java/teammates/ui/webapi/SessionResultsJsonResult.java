@@ -0,0 +1,94 @@
+package teammates.ui.webapi;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Iterator;
+
+import javax.servlet.http.HttpServletResponse;
+
+import com.google.gson.stream.JsonWriter;
+
+import teammates.common.util.JsonUtils;
+import teammates.common.util.RequestTracer;
+import teammates.ui.output.SessionResultsData;
+import teammates.ui.output.SessionResultsData.QuestionOutput;
+
+/**
+ * Action result in form of JSON object containing session results.
+ *
+ * <p>The JSON is identical to that of a {@link JsonResult} wrapping the equivalent {@link SessionResultsData},
+ * but it is streamed into the HTTP response one question at a time, so that only the output
+ * of a single question needs to be held in memory at any point.
+ *
+ * <p>Each question is fully serialized before it is written. If building a question fails after the response
+ * has been committed, the client receives a truncated response, which fails to parse, instead of partial results.
+ */
+class SessionResultsJsonResult extends JsonResult {
+
+    private final Iterable<QuestionOutput> questionOutputs;
+
+    SessionResultsJsonResult(Iterable<QuestionOutput> questionOutputs) {
+        super();
+        this.questionOutputs = questionOutputs;
+    }
+
+    /**
+     * Builds the complete {@link SessionResultsData}.
+     *
+     * <p>This defeats the purpose of serializing one question at a time and should only be used
+     * when the output needs to be inspected.
+     */
+    @Override
+    SessionResultsData getOutput() {
+        return SessionResultsData.initForQuestionOutputs(questionOutputs);
+    }
+
+    @Override
+    public void send(HttpServletResponse resp) throws IOException {
+        Iterator<QuestionOutput> iterator = questionOutputs.iterator();
+        // the first question is built before the status is set, so that a failure in loading the results
+        // is reported with an error status as usual
+        String questionJson = iterator.hasNext() ? toJson(iterator.next()) : null;
+
+        addCookies(resp);
+        resp.setStatus(getStatusCode());
+        resp.setContentType("application/json");
+        try {
+            // mirrors the field order of SessionResultsData when serialized as a whole
+            JsonWriter writer = JsonUtils.newCompactJsonWriter(resp.getWriter());
+            writer.beginObject();
+            writer.name("questions");
+            writer.beginArray();
+            while (questionJson != null) {
+                writer.jsonValue(questionJson);
+                questionJson = iterator.hasNext() ? toJson(iterator.next()) : null;
+            }
+            writer.endArray();
+            String requestId = RequestTracer.getTraceId();
+            if (requestId != null) {
+                writer.name("requestId").value(requestId);
+            }
+            writer.endObject();
+            writer.flush();
+        } catch (RuntimeException e) {
+            if (!resp.isCommitted()) {
+                // discards the partial results still in the response buffer, so that the error is sent in their place
+                resp.reset();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Serializes the output of a single question, so that a failure in doing so never leaves
+     * a partially written question in the response.
+     */
+    private static String toJson(QuestionOutput questionOutput) throws IOException {
+        StringWriter json = new StringWriter();
+        JsonWriter writer = JsonUtils.newCompactJsonWriter(json);
+        JsonUtils.toCompactJson(questionOutput, QuestionOutput.class, writer);
+        writer.flush();
+        return json.toString();
+    }
+
+}
@@ -0,0 +1,39 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.SearchServiceException;
+import teammates.ui.request.InvalidHttpRequestBodyException;
+import teammates.ui.request.StudentsSearchIndexingRequest;
+
+/**
+ * Task queue worker action: performs search indexing for a batch of students of a course.
+ */
+public class StudentsSearchIndexingWorkerAction extends AdminOnlyAction {
+
+    @Override
+    public JsonResult execute() throws InvalidHttpRequestBodyException {
+        StudentsSearchIndexingRequest indexingRequest =
+                getAndValidateRequestBody(StudentsSearchIndexingRequest.class);
+        String courseId = indexingRequest.getCourseId();
+
+        List<StudentAttributes> students = new ArrayList<>();
+        for (String email : indexingRequest.getStudentEmails()) {
+            // students deleted since the task was scheduled are skipped when the documents are put
+            students.add(logic.getStudentForEmail(courseId, email));
+        }
+
+        try {
+            logic.putStudentDocuments(students);
+        } catch (SearchServiceException e) {
+            // Set an arbitrary retry code outside of the range 200-299 to trigger automatic retry
+            return new JsonResult("Failure", HttpStatus.SC_BAD_GATEWAY);
+        }
+
+        return new JsonResult("Successful");
+    }
+}
@@ -6,8 +6,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackQuestionRecipient;
+import teammates.common.datatransfer.FeedbackResponsesWriteResults;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -15,9 +17,6 @@ import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
-import teammates.common.exception.EntityAlreadyExistsException;
-import teammates.common.exception.EntityDoesNotExistException;
-import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
@@ -158,6 +157,9 @@ class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
             }
         }
 
+        // the sections of the recipients are saved, hence they must not come from a possibly stale roster
+        CourseRoster courseRoster = logic.getFreshCourseRoster(feedbackQuestion.getCourseId());
+
         List<FeedbackResponseAttributes> feedbackResponsesToValidate = new ArrayList<>();
         List<FeedbackResponseAttributes> feedbackResponsesToAdd = new ArrayList<>();
         List<FeedbackResponseAttributes.UpdateOptions> feedbackResponsesToUpdate = new ArrayList<>();
@@ -167,7 +169,7 @@ class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
             FeedbackResponseDetails responseDetails = responseRequest.getResponseDetails();
 
             if (existingResponsesPerRecipient.containsKey(recipient)) {
-                String recipientSection = getRecipientSection(feedbackQuestion.getCourseId(),
+                String recipientSection = getRecipientSection(courseRoster,
                         feedbackQuestion.getGiverType(),
                         feedbackQuestion.getRecipientType(), recipient);
                 FeedbackResponseAttributes updatedResponse =
@@ -188,7 +190,7 @@ class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
                 FeedbackResponseAttributes feedbackResponse = FeedbackResponseAttributes
                         .builder(feedbackQuestion.getId(), giverIdentifier, recipient)
                         .withGiverSection(giverSection)
-                        .withRecipientSection(getRecipientSection(feedbackQuestion.getCourseId(),
+                        .withRecipientSection(getRecipientSection(courseRoster,
                                 feedbackQuestion.getGiverType(),
                                 feedbackQuestion.getRecipientType(), recipient))
                         .withCourseId(feedbackQuestion.getCourseId())
@@ -235,27 +237,15 @@ class SubmitFeedbackResponsesAction extends BasicFeedbackSubmissionAction {
             logic.deleteFeedbackResponseCascade(feedbackResponseToDelete.getId());
         }
 
-        List<FeedbackResponseAttributes> output = new ArrayList<>();
-
-        for (FeedbackResponseAttributes feedbackResponse : feedbackResponsesToAdd) {
-            try {
-                output.add(logic.createFeedbackResponse(feedbackResponse));
-            } catch (InvalidParametersException | EntityAlreadyExistsException e) {
-                // None of the exceptions should be happening as the responses have been pre-validated
-                log.severe("Encountered exception when creating response: " + e.getMessage(), e);
-            }
-        }
+        FeedbackResponsesWriteResults writeResults =
+                logic.putFeedbackResponsesCascade(feedbackResponsesToAdd, feedbackResponsesToUpdate);
 
-        for (FeedbackResponseAttributes.UpdateOptions feedbackResponse : feedbackResponsesToUpdate) {
-            try {
-                output.add(logic.updateFeedbackResponseCascade(feedbackResponse));
-            } catch (InvalidParametersException | EntityAlreadyExistsException | EntityDoesNotExistException e) {
-                // None of the exceptions should be happening as the responses have been pre-validated
-                log.severe("Encountered exception when updating response: " + e.getMessage(), e);
-            }
-        }
+        // None of the errors should be happening as the responses have been pre-validated
+        writeResults.getErrors().forEach((feedbackResponseId, e) ->
+                log.severe("Encountered exception when writing response " + feedbackResponseId + ": "
+                        + e.getMessage(), e));
 
-        return new JsonResult(new FeedbackResponsesData(output));
+        return new JsonResult(new FeedbackResponsesData(writeResults.getWrittenResponses()));
     }
 
 }
@@ -147,7 +147,12 @@ class UpdateFeedbackSessionAction extends Action {
         emailsToSend.addAll(processDeadlineExtensions(courseId, feedbackSession, oldInstructorDeadlines, instructorDeadlines,
                 true, notifyAboutDeadlines));
 
-        taskQueuer.scheduleEmailsForSending(emailsToSend);
+        try {
+            taskQueuer.scheduleEmailsForSending(emailsToSend);
+        } catch (RuntimeException e) {
+            // the session is already updated, hence the update is not failed for the notifications
+            log.severe("Failed to schedule " + emailsToSend.size() + " deadline extension emails", e);
+        }
 
         return new JsonResult(new FeedbackSessionData(feedbackSession));
     }
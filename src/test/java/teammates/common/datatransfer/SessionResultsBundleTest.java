@@ -3,6 +3,7 @@ package teammates.common.datatransfer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -30,7 +31,8 @@ public class SessionResultsBundleTest extends BaseTestCase {
         SessionResultsBundle bundle =
                 new SessionResultsBundle(
                         responseBundle.feedbackQuestions, new HashMap<>(), new HashSet<>(),
-                        new ArrayList<>(responseBundle.feedbackResponses.values()), new ArrayList<>(),
+                        new ArrayList<>(responseBundle.feedbackResponses.values()),
+                        SessionResultsBundle.MissingResponses.none(),
                         new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(),
                         new CourseRoster(new ArrayList<>(responseBundle.students.values()),
                                 new ArrayList<>(responseBundle.instructors.values())));
@@ -51,7 +53,7 @@ public class SessionResultsBundleTest extends BaseTestCase {
     }
 
     @Test
-    public void testGetQuestionMissingResponseMap() {
+    public void testGetMissingResponses() {
         DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsBundleTest.json");
         populateQuestionAndResponseIds(responseBundle);
 
@@ -59,27 +61,46 @@ public class SessionResultsBundleTest extends BaseTestCase {
         expectedMissingResponses.add(responseBundle.feedbackResponses.get("response1ForQ1S1C1").toString());
         expectedMissingResponses.add(responseBundle.feedbackResponses.get("response2ForQ1S1C1").toString());
 
+        List<String> generatedQuestionIds = new ArrayList<>();
+        SessionResultsBundle.MissingResponses missingResponsesOfAllQuestions =
+                new SessionResultsBundle.MissingResponses() {
+                    @Override
+                    public Iterator<FeedbackResponseAttributes> iterator(FeedbackQuestionAttributes question) {
+                        generatedQuestionIds.add(question.getId());
+                        return responseBundle.feedbackResponses.values().stream()
+                                .filter(response -> response.getFeedbackQuestionId().equals(question.getId()))
+                                .iterator();
+                    }
+
+                    @Override
+                    public boolean isNameVisible(FeedbackResponseAttributes missingResponse, boolean isGiver) {
+                        return isGiver;
+                    }
+                };
+
         SessionResultsBundle bundle =
                 new SessionResultsBundle(
                         responseBundle.feedbackQuestions, new HashMap<>(), new HashSet<>(),
-                        new ArrayList<>(), new ArrayList<>(responseBundle.feedbackResponses.values()),
+                        new ArrayList<>(), missingResponsesOfAllQuestions,
                         new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(),
                         new CourseRoster(new ArrayList<>(responseBundle.students.values()),
                                 new ArrayList<>(responseBundle.instructors.values())));
 
         ______TS("Test question having missing responses");
         FeedbackQuestionAttributes fqa = responseBundle.feedbackQuestions.get("qn1InSession1InCourse1");
-        List<FeedbackResponseAttributes> missingResponses = bundle.getQuestionMissingResponseMap().get(fqa.getId());
-        assertEquals(2, missingResponses.size());
+        assertTrue(generatedQuestionIds.isEmpty());
         List<String> missingResponsesString = new ArrayList<>();
-        missingResponsesString.add(missingResponses.get(0).toString());
-        missingResponsesString.add(missingResponses.get(1).toString());
+        for (FeedbackResponseAttributes missingResponse : bundle.getMissingResponses(fqa.getId())) {
+            missingResponsesString.add(missingResponse.toString());
+            assertTrue(bundle.isResponseGiverVisible(missingResponse));
+            assertFalse(bundle.isResponseRecipientVisible(missingResponse));
+        }
         assertEquals(expectedMissingResponses, missingResponsesString);
+        assertEquals(List.of(fqa.getId()), generatedQuestionIds);
 
         ______TS("Test question having no missing responses");
         fqa = responseBundle.feedbackQuestions.get("qn3InSession1InCourse1");
-        missingResponses = bundle.getQuestionMissingResponseMap().get(fqa.getId());
-        assertEquals(0, missingResponses.size());
+        assertFalse(bundle.getMissingResponses(fqa.getId()).iterator().hasNext());
     }
 
     @Test
@@ -103,7 +124,8 @@ public class SessionResultsBundleTest extends BaseTestCase {
         SessionResultsBundle bundle =
                 new SessionResultsBundle(
                         responseBundle.feedbackQuestions, new HashMap<>(), new HashSet<>(),
-                        new ArrayList<>(responseBundle.feedbackResponses.values()), new ArrayList<>(),
+                        new ArrayList<>(responseBundle.feedbackResponses.values()),
+                        SessionResultsBundle.MissingResponses.none(),
                         responseGiverVisibilityTable, responseRecipientVisibilityTable,
                         new HashMap<>(), new HashMap<>(),
                         new CourseRoster(new ArrayList<>(responseBundle.students.values()),
@@ -133,7 +155,8 @@ public class SessionResultsBundleTest extends BaseTestCase {
         SessionResultsBundle bundle =
                 new SessionResultsBundle(
                         responseBundle.feedbackQuestions, new HashMap<>(), new HashSet<>(),
-                        new ArrayList<>(responseBundle.feedbackResponses.values()), new ArrayList<>(),
+                        new ArrayList<>(responseBundle.feedbackResponses.values()),
+                        SessionResultsBundle.MissingResponses.none(),
                         new HashMap<>(), new HashMap<>(), new HashMap<>(), commentGiverVisibilityTable,
                         new CourseRoster(new ArrayList<>(responseBundle.students.values()),
                                 new ArrayList<>(responseBundle.instructors.values())));
@@ -0,0 +1,59 @@
+package teammates.common.datatransfer.questions;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.TeamEvalResult;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link ContributionResultsCache}.
+ */
+public class ContributionResultsCacheTest extends BaseTestCase {
+
+    private final ContributionResultsCache cache = ContributionResultsCache.inst();
+
+    @Test
+    public void testGetTeamEvalResult_samePoints_shouldReturnCachedResult() {
+        TeamEvalResult result = cache.getTeamEvalResult("question", "Team 1", new int[][] { { 100, 100 }, { 90, 110 } });
+
+        assertSame(result, cache.getTeamEvalResult("question", "Team 1", new int[][] { { 100, 100 }, { 90, 110 } }));
+    }
+
+    @Test
+    public void testGetTeamEvalResult_differentKey_shouldComputeResultAgain() {
+        TeamEvalResult result = cache.getTeamEvalResult("question", "Team 2", new int[][] { { 100, 100 }, { 90, 110 } });
+
+        ______TS("changed points");
+        TeamEvalResult changedResult =
+                cache.getTeamEvalResult("question", "Team 2", new int[][] { { 100, 100 }, { 110, 90 } });
+        assertNotSame(result, changedResult);
+        assertEquals(110, changedResult.claimed[1][0]);
+
+        ______TS("same points for another team or question");
+        assertNotSame(result, cache.getTeamEvalResult("question", "Team 3", new int[][] { { 100, 100 }, { 90, 110 } }));
+        assertNotSame(result, cache.getTeamEvalResult("question2", "Team 2", new int[][] { { 100, 100 }, { 90, 110 } }));
+    }
+
+    @Test
+    public void testGetTeamEvalResult_pointsModifiedByCaller_shouldNotAffectCachedResult() {
+        int[][] submissions = { { 100, 100 }, { 90, 110 } };
+        TeamEvalResult result = cache.getTeamEvalResult("question", "Team 4", submissions);
+
+        submissions[1][0] = 110;
+        submissions[1][1] = 90;
+
+        assertEquals(90, result.claimed[1][0]);
+        assertSame(result, cache.getTeamEvalResult("question", "Team 4", new int[][] { { 100, 100 }, { 90, 110 } }));
+        assertNotSame(result, cache.getTeamEvalResult("question", "Team 4", submissions));
+    }
+
+    @Test
+    public void testGetTeamEvalResult_manyTeams_shouldBeBounded() {
+        for (int i = 0; i <= ContributionResultsCache.MAX_ENTRIES; i++) {
+            cache.getTeamEvalResult("bounded question", "Team " + i, new int[][] { { 100 } });
+        }
+
+        assertEquals(ContributionResultsCache.MAX_ENTRIES, cache.size());
+    }
+
+}
@@ -109,7 +109,8 @@ public class FeedbackContributionQuestionDetailsTest extends BaseTestCase {
         SessionResultsBundle bundle =
                 new SessionResultsBundle(
                         responseBundle.feedbackQuestions, new HashMap<>(), new HashSet<>(),
-                        new ArrayList<>(responseBundle.feedbackResponses.values()), new ArrayList<>(),
+                        new ArrayList<>(responseBundle.feedbackResponses.values()),
+                        SessionResultsBundle.MissingResponses.none(),
                         new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(),
                         new CourseRoster(new ArrayList<>(responseBundle.students.values()),
                                 new ArrayList<>(responseBundle.instructors.values())));
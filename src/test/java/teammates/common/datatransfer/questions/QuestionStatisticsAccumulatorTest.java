@@ -0,0 +1,191 @@
+package teammates.common.datatransfer.questions;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.util.Const;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link QuestionStatisticsAccumulator} and its implementations for each question type.
+ */
+public class QuestionStatisticsAccumulatorTest extends BaseTestCase {
+
+    @Test
+    public void testRankByAverage_sameAverage_shouldShareRank() {
+        Map<String, QuestionStatisticsAccumulator.RunningAverage> averages = new LinkedHashMap<>();
+        averages.put("c", averageOf(3));
+        averages.put("a", averageOf(1, 2));
+        averages.put("b", averageOf(2, 1));
+        averages.put("none", averageOf());
+
+        Map<String, Integer> ranks = QuestionStatisticsAccumulator.rankByAverage(averages);
+
+        assertEquals(3, ranks.size());
+        assertEquals(1, (int) ranks.get("a"));
+        assertEquals(1, (int) ranks.get("b"));
+        assertEquals(3, (int) ranks.get("c"));
+        assertFalse(ranks.containsKey("none"));
+    }
+
+    @Test
+    public void testCreateStatisticsAccumulator_textQuestion_shouldHaveNoStatistics() {
+        assertNull(new FeedbackTextQuestionDetails().createStatisticsAccumulator(null));
+    }
+
+    @Test
+    public void testStatistics_mcqQuestionWithWeights_shouldCountOptionsAndWeights() {
+        FeedbackMcqQuestionDetails questionDetails = new FeedbackMcqQuestionDetails();
+        questionDetails.setMcqChoices(Arrays.asList("A", "B"));
+        questionDetails.setOtherEnabled(true);
+        questionDetails.setHasAssignedWeights(true);
+        questionDetails.setMcqWeights(Arrays.asList(1.0, 2.0));
+        questionDetails.setMcqOtherWeight(3.0);
+
+        QuestionStatisticsAccumulator<?> accumulator = questionDetails.createStatisticsAccumulator(null);
+        accumulator.add(response("giver1", "recipient1", mcqAnswer("A", false)));
+        accumulator.add(response("giver2", "recipient1", mcqAnswer("B", false)));
+        accumulator.add(response("giver3", "recipient2", mcqAnswer("Something else", true)));
+
+        ChoiceQuestionStatisticsAccumulator.ChoiceQuestionStatistics statistics =
+                (ChoiceQuestionStatisticsAccumulator.ChoiceQuestionStatistics) accumulator.getStatistics();
+        assertEquals(3, accumulator.getNumberOfResponses());
+        assertEquals(1, (int) statistics.getAnswerFrequency().get("A"));
+        assertEquals(1, (int) statistics.getAnswerFrequency().get("B"));
+        assertEquals(1, (int) statistics.getAnswerFrequency().get("Other"));
+        assertEquals(33.33, statistics.getPercentagePerOption().get("A"));
+        assertEquals(16.67, statistics.getWeightedPercentagePerOption().get("A"));
+        assertEquals(50.0, statistics.getWeightedPercentagePerOption().get("Other"));
+        assertEquals(3.0, statistics.getPerRecipientResponses().get("recipient1").getTotal());
+        assertEquals(1.5, statistics.getPerRecipientResponses().get("recipient1").getAverage());
+        assertEquals(3.0, statistics.getPerRecipientResponses().get("recipient2").getAverage());
+    }
+
+    @Test
+    public void testStatistics_numericalScaleQuestion_shouldExcludeSelfFromAverageExcludingSelf() {
+        QuestionStatisticsAccumulator<?> accumulator =
+                new FeedbackNumericalScaleQuestionDetails().createStatisticsAccumulator(null);
+        accumulator.add(response("recipient1", "recipient1", numericalScaleAnswer(3)));
+        accumulator.add(response("giver1", "recipient1", numericalScaleAnswer(5)));
+        accumulator.add(response("recipient2", "recipient2", numericalScaleAnswer(2)));
+
+        @SuppressWarnings("unchecked")
+        Map<String, FeedbackNumericalScaleQuestionDetails.NumericalScaleStatistics> statistics =
+                (Map<String, FeedbackNumericalScaleQuestionDetails.NumericalScaleStatistics>)
+                        accumulator.getStatistics();
+        assertEquals(3.0, statistics.get("recipient1").getMin());
+        assertEquals(5.0, statistics.get("recipient1").getMax());
+        assertEquals(4.0, statistics.get("recipient1").getAverage());
+        assertEquals(5.0, statistics.get("recipient1").getAverageExcludingSelf());
+        assertEquals(0.0, statistics.get("recipient2").getAverageExcludingSelf());
+    }
+
+    @Test
+    public void testStatistics_recipientKeyGiven_shouldKeyRecipientAndStillExcludeSelf() {
+        QuestionStatisticsAccumulator<?> accumulator =
+                new FeedbackNumericalScaleQuestionDetails().createStatisticsAccumulator(null);
+        accumulator.add(response("recipient1", "recipient1", numericalScaleAnswer(3)), "Anonymous 1");
+        accumulator.add(response("giver1", "recipient1", numericalScaleAnswer(5)), "Anonymous 1");
+
+        @SuppressWarnings("unchecked")
+        Map<String, FeedbackNumericalScaleQuestionDetails.NumericalScaleStatistics> statistics =
+                (Map<String, FeedbackNumericalScaleQuestionDetails.NumericalScaleStatistics>)
+                        accumulator.getStatistics();
+        assertEquals(1, statistics.size());
+        assertFalse(statistics.containsKey("recipient1"));
+        assertEquals(4.0, statistics.get("Anonymous 1").getAverage());
+        assertEquals(5.0, statistics.get("Anonymous 1").getAverageExcludingSelf());
+        assertFalse(accumulator.getStatisticsJson().contains("recipient1"));
+    }
+
+    @Test
+    public void testStatistics_rankOptionsQuestion_shouldNormaliseRanks() {
+        FeedbackRankOptionsQuestionDetails questionDetails = new FeedbackRankOptionsQuestionDetails();
+        questionDetails.setOptions(Arrays.asList("X", "Y", "Z"));
+
+        QuestionStatisticsAccumulator<?> accumulator = questionDetails.createStatisticsAccumulator(null);
+        accumulator.add(response("giver1", "giver1", rankOptionsAnswer(1, 3, 3)));
+        accumulator.add(response("giver2", "giver2", rankOptionsAnswer(2, 1, Const.POINTS_NOT_SUBMITTED)));
+
+        FeedbackRankOptionsQuestionDetails.RankOptionsStatistics statistics =
+                (FeedbackRankOptionsQuestionDetails.RankOptionsStatistics) accumulator.getStatistics();
+        assertEquals(1.5, statistics.getAverageRankPerOption().get("X"));
+        assertEquals(1.5, statistics.getAverageRankPerOption().get("Y"));
+        assertEquals(2.0, statistics.getAverageRankPerOption().get("Z"));
+        assertEquals(1, (int) statistics.getRankPerOption().get("X"));
+        assertEquals(1, (int) statistics.getRankPerOption().get("Y"));
+        assertEquals(3, (int) statistics.getRankPerOption().get("Z"));
+    }
+
+    @Test
+    public void testStatistics_rubricQuestionWithWeights_shouldCountChoicesAndWeights() {
+        FeedbackRubricQuestionDetails questionDetails = new FeedbackRubricQuestionDetails();
+        questionDetails.setRubricSubQuestions(Arrays.asList("Sub-question 1", "Sub-question 2"));
+        questionDetails.setRubricChoices(Arrays.asList("Choice 1", "Choice 2"));
+        questionDetails.setHasAssignedWeights(true);
+        questionDetails.setRubricWeightsForEachCell(Arrays.asList(Arrays.asList(1.0, 2.0), Arrays.asList(3.0, 4.0)));
+
+        QuestionStatisticsAccumulator<?> accumulator = questionDetails.createStatisticsAccumulator(null);
+        accumulator.add(response("giver1", "recipient1", rubricAnswer(0, 1)));
+        accumulator.add(response("recipient1", "recipient1",
+                rubricAnswer(1, FeedbackRubricQuestionDetails.RUBRIC_ANSWER_NOT_CHOSEN)));
+
+        FeedbackRubricQuestionDetails.RubricStatistics statistics =
+                (FeedbackRubricQuestionDetails.RubricStatistics) accumulator.getStatistics();
+        assertTrue(Arrays.deepEquals(new int[][] { { 1, 1 }, { 0, 1 } }, statistics.getAnswers()));
+        assertTrue(Arrays.deepEquals(new int[][] { { 1, 0 }, { 0, 1 } }, statistics.getAnswersExcludeSelf()));
+        assertTrue(Arrays.deepEquals(new double[][] { { 50, 50 }, { 0, 100 } }, statistics.getPercentages()));
+        assertTrue(Arrays.equals(new double[] { 1.5, 4 }, statistics.getSubQuestionWeightAverage()));
+
+        FeedbackRubricQuestionDetails.RubricRecipientStatistics recipientStatistics =
+                statistics.getPerRecipientStatistics().get("recipient1");
+        assertTrue(Arrays.equals(new double[] { 3, 4 }, recipientStatistics.getSubQuestionTotalChosenWeight()));
+        assertEquals(7.0, recipientStatistics.getOverallWeightedSum());
+        assertEquals(2.33, recipientStatistics.getOverallWeightAverage());
+    }
+
+    private static QuestionStatisticsAccumulator.RunningAverage averageOf(double... values) {
+        QuestionStatisticsAccumulator.RunningAverage average = new QuestionStatisticsAccumulator.RunningAverage();
+        for (double value : values) {
+            average.add(value);
+        }
+        return average;
+    }
+
+    private static FeedbackResponseAttributes response(
+            String giver, String recipient, FeedbackResponseDetails responseDetails) {
+        return FeedbackResponseAttributes.builder("questionId", giver, recipient)
+                .withFeedbackResponseDetails(responseDetails)
+                .build();
+    }
+
+    private static FeedbackMcqResponseDetails mcqAnswer(String answer, boolean isOther) {
+        FeedbackMcqResponseDetails responseDetails = new FeedbackMcqResponseDetails();
+        responseDetails.setAnswer(answer);
+        responseDetails.setOther(isOther);
+        return responseDetails;
+    }
+
+    private static FeedbackNumericalScaleResponseDetails numericalScaleAnswer(double answer) {
+        FeedbackNumericalScaleResponseDetails responseDetails = new FeedbackNumericalScaleResponseDetails();
+        responseDetails.setAnswer(answer);
+        return responseDetails;
+    }
+
+    private static FeedbackRankOptionsResponseDetails rankOptionsAnswer(Integer... ranks) {
+        FeedbackRankOptionsResponseDetails responseDetails = new FeedbackRankOptionsResponseDetails();
+        responseDetails.setAnswers(Arrays.asList(ranks));
+        return responseDetails;
+    }
+
+    private static FeedbackRubricResponseDetails rubricAnswer(Integer... choices) {
+        FeedbackRubricResponseDetails responseDetails = new FeedbackRubricResponseDetails();
+        responseDetails.setAnswer(Arrays.asList(choices));
+        return responseDetails;
+    }
+
+}
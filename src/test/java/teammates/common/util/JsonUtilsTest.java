@@ -1,9 +1,15 @@
 package teammates.common.util;
 
+import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Map;
 
 import org.testng.annotations.Test;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
+
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -103,4 +109,37 @@ public class JsonUtilsTest extends BaseTestCase {
                 + "\"recipientSection\":\"recipientSection\"}",
                 JsonUtils.toCompactJson(fra));
     }
+
+    @Test
+    public void testGetTypeAdapter_shouldBeConsistentWithJsonUtils() throws Exception {
+        FeedbackResponseAttributes fra =
+                FeedbackResponseAttributes.builder(
+                        "questionId", "giver@email.com", "recipient@email.com")
+                .withFeedbackSessionName("Session1")
+                .withCourseId("CS3281")
+                .withResponseDetails(new FeedbackTextResponseDetails("My answer"))
+                .build();
+
+        ______TS("adapters of hot types are pre-resolved and reused");
+
+        TypeAdapter<FeedbackResponseAttributes> adapter = JsonUtils.getTypeAdapter(FeedbackResponseAttributes.class);
+        assertSame(adapter, JsonUtils.getTypeAdapter(FeedbackResponseAttributes.class));
+
+        ______TS("adapters of other types are resolved on demand");
+
+        assertNotNull(JsonUtils.getTypeAdapter(new TypeToken<Map<String, Object>>(){}.getType()));
+
+        ______TS("writing with the adapter produces the same JSON as toCompactJson");
+
+        StringWriter stringWriter = new StringWriter();
+        JsonWriter jsonWriter = JsonUtils.newCompactJsonWriter(stringWriter);
+        JsonUtils.toCompactJson(fra, FeedbackResponseAttributes.class, jsonWriter);
+        jsonWriter.flush();
+
+        assertEquals(JsonUtils.toCompactJson(fra), stringWriter.toString());
+
+        FeedbackResponseAttributes deserialized = adapter.fromJson(stringWriter.toString());
+        assertEquals(JsonUtils.toJson(fra), JsonUtils.toJson(deserialized));
+    }
+
 }
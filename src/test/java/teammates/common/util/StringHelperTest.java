@@ -1,6 +1,7 @@
 package teammates.common.util;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.crypto.Cipher;
@@ -68,6 +69,26 @@ public class StringHelperTest extends BaseTestCase {
 
         decrptedMsg = StringHelper.decrypt(StringHelper.encrypt(msg));
         assertEquals(msg, decrptedMsg);
+
+        ______TS("cipher is still usable after failing to decrypt invalid ciphertext");
+
+        String encryptedMsg = StringHelper.encrypt(msg);
+        assertThrows(InvalidParametersException.class, () -> StringHelper.decrypt(encryptedMsg + "00"));
+        assertEquals(msg, StringHelper.decrypt(encryptedMsg));
+    }
+
+    @Test
+    public void testEncryptAll() throws Exception {
+        List<String> msgs = Arrays.asList("response-1", "response-2", "response-1");
+
+        List<String> encryptedMsgs = StringHelper.encryptAll(msgs);
+
+        assertEquals(3, encryptedMsgs.size());
+        for (int i = 0; i < msgs.size(); i++) {
+            assertEquals(StringHelper.encrypt(msgs.get(i)), encryptedMsgs.get(i));
+            assertEquals(msgs.get(i), StringHelper.decrypt(encryptedMsgs.get(i)));
+        }
+        assertEquals(encryptedMsgs.get(0), encryptedMsgs.get(2));
     }
 
     @Test
@@ -0,0 +1,79 @@
+package teammates.common.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Templates.CompiledTemplate;
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link Templates}.
+ */
+public class TemplatesTest extends BaseTestCase {
+
+    @Test
+    public void testCompile_render() {
+
+        ______TS("variables are replaced, including repeated ones");
+
+        CompiledTemplate template = Templates.compile("Hi ${userName}, see ${url} or ${url}.");
+        Map<String, String> values = new HashMap<>();
+        values.put("${userName}", "Alice");
+        values.put("${url}", "http://example.com");
+
+        assertEquals("Hi Alice, see http://example.com or http://example.com.", template.render(values));
+
+        ______TS("variables without values and text which is not a variable are left as they are");
+
+        template = Templates.compile("${unknown} costs ${ 5 } in ${userName}'s ${");
+
+        assertEquals("${unknown} costs ${ 5 } in Alice's ${", template.render(values));
+
+        ______TS("variables in the values are not replaced");
+
+        values.put("${userName}", "${url}");
+        template = Templates.compile("${userName}");
+
+        assertEquals("${url}", template.render(values));
+
+        ______TS("template without variables");
+
+        assertEquals("", Templates.compile("").render(values));
+        assertEquals("plain text", Templates.compile("plain text").render(values));
+    }
+
+    @Test
+    public void testCompile_emailTemplate_sameAsPopulateTemplate() {
+        String[] keyValuePairs = {
+                "${userName}", "Alice",
+                "${courseName}", "Course &lt;1&gt;",
+                "${courseId}", "CS1101",
+                "${feedbackSessionName}", "Session 1",
+                "${deadline}", "Mon, 01 Jan 2024, 11:59 PM SGT",
+                "${instructorPreamble}", "",
+                "${sessionInstructions}", "<p>Please submit</p>",
+                "${submitUrl}", "http://example.com/submit",
+                "${reportUrl}", "http://example.com/report",
+                "${feedbackAction}", "submit, edit or view",
+                "${additionalContactInformation}", "<p>Contact us</p>",
+        };
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            values.put(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+
+        for (String template : new String[] {
+                EmailTemplates.USER_FEEDBACK_SESSION,
+                EmailTemplates.USER_FEEDBACK_SESSION_OPENING,
+                EmailTemplates.USER_FEEDBACK_SESSION_PUBLISHED,
+                EmailTemplates.USER_FEEDBACK_SESSION_UNPUBLISHED,
+        }) {
+            assertEquals(Templates.populateTemplate(template, keyValuePairs),
+                    Templates.compile(template).render(values));
+        }
+    }
+
+}
@@ -25,6 +25,18 @@ public class MockTaskQueuer extends TaskQueuer {
         tasksAdded.add(task);
     }
 
+    @Override
+    void addDeferredTasks(List<TaskWrapper> tasks, List<Long> countdownTimes) {
+        // countdown time not tested
+        tasksAdded.addAll(tasks);
+    }
+
+    @Override
+    void addDeferredTasks(List<TaskWrapper> tasks, List<Long> countdownTimes) {
+        // countdown time not tested
+        tasksAdded.addAll(tasks);
+    }
+
     /**
      * Gets the tasks added to the queue.
      */
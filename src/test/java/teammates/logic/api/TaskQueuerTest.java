@@ -0,0 +1,126 @@
+package teammates.logic.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.common.util.TaskWrapper;
+import teammates.logic.external.TaskQueueService;
+import teammates.test.BaseTestCase;
+import teammates.ui.request.SendEmailBatchRequest;
+
+/**
+ * SUT: {@link TaskQueuer}.
+ */
+public class TaskQueuerTest extends BaseTestCase {
+
+    @Test
+    public void testScheduleEmailsForSending() {
+        RecordingTaskQueueService service = new RecordingTaskQueueService();
+        TaskQueuer taskQueuer = new TaskQueuer(service);
+
+        ______TS("no emails: no tasks added");
+
+        taskQueuer.scheduleEmailsForSending(new ArrayList<>());
+
+        assertEquals(0, service.numberOfBatches);
+        assertTrue(service.tasks.isEmpty());
+
+        ______TS("multiple emails: added in batches with spread out countdown times");
+
+        taskQueuer.scheduleEmailsForSending(createEmails(120));
+
+        assertEquals(1, service.numberOfBatches);
+        assertEquals(3, service.tasks.size());
+        for (TaskWrapper task : service.tasks) {
+            assertEquals(TaskQueue.SEND_EMAIL_QUEUE_NAME, task.getQueueName());
+            assertEquals(TaskQueue.SEND_EMAIL_BATCH_WORKER_URL, task.getWorkerUrl());
+        }
+        // 50 emails per batch, 5 seconds apart
+        assertEquals(List.of(0L, 250_000L, 500_000L), service.countdownTimes);
+    }
+
+    @Test
+    public void testScheduleEmailsForSending_largeEmails_shouldBatchBySize() {
+        RecordingTaskQueueService service = new RecordingTaskQueueService();
+        TaskQueuer taskQueuer = new TaskQueuer(service);
+
+        // each email takes up a little more than a third of the maximum size of a batch
+        List<EmailWrapper> emails = createEmails(5);
+        String content = "x".repeat(TaskQueuer.SEND_EMAIL_BATCH_MAX_BYTES / 3);
+        emails.forEach(email -> email.setContent(content));
+
+        taskQueuer.scheduleEmailsForSending(emails);
+
+        assertEquals(3, service.tasks.size());
+        List<Integer> batchSizes = new ArrayList<>();
+        for (TaskWrapper task : service.tasks) {
+            batchSizes.add(((SendEmailBatchRequest) task.getRequestBody()).getEmails().size());
+        }
+        assertEquals(List.of(2, 2, 1), batchSizes);
+        // the countdown time of a batch follows the position of its first email
+        assertEquals(List.of(0L, 10_000L, 20_000L), service.countdownTimes);
+
+        ______TS("email larger than the maximum size of a batch: sent by a task of its own");
+
+        service.tasks.clear();
+        service.countdownTimes.clear();
+        emails = createEmails(2);
+        emails.get(0).setContent("x".repeat(TaskQueuer.SEND_EMAIL_BATCH_MAX_BYTES));
+
+        taskQueuer.scheduleEmailsForSending(emails);
+
+        assertEquals(2, service.tasks.size());
+    }
+
+    @Test
+    public void testScheduleEmailsForRetry() {
+        RecordingTaskQueueService service = new RecordingTaskQueueService();
+        TaskQueuer taskQueuer = new TaskQueuer(service);
+
+        taskQueuer.scheduleEmailsForRetry(createEmails(3));
+
+        assertEquals(1, service.numberOfBatches);
+        assertEquals(3, service.tasks.size());
+        for (TaskWrapper task : service.tasks) {
+            assertEquals(TaskQueue.SEND_EMAIL_QUEUE_NAME, task.getQueueName());
+            assertEquals(TaskQueue.SEND_EMAIL_WORKER_URL, task.getWorkerUrl());
+        }
+        assertEquals(List.of(0L, 0L, 0L), service.countdownTimes);
+    }
+
+    private List<EmailWrapper> createEmails(int numberOfEmails) {
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 0; i < numberOfEmails; i++) {
+            EmailWrapper email = new EmailWrapper();
+            email.setRecipient("recipient" + i + "@example.com");
+            email.setType(EmailType.NEW_INSTRUCTOR_ACCOUNT);
+            email.setSubjectFromType("Instructor");
+            emails.add(email);
+        }
+        return emails;
+    }
+
+    private static class RecordingTaskQueueService implements TaskQueueService {
+        private final List<TaskWrapper> tasks = new ArrayList<>();
+        private final List<Long> countdownTimes = new ArrayList<>();
+        private int numberOfBatches;
+
+        @Override
+        public void addDeferredTask(TaskWrapper task, long countdownTime) {
+            tasks.add(task);
+            countdownTimes.add(countdownTime);
+        }
+
+        @Override
+        public void addDeferredTasks(List<TaskWrapper> batchTasks, List<Long> batchCountdownTimes) {
+            numberOfBatches++;
+            TaskQueueService.super.addDeferredTasks(batchTasks, batchCountdownTimes);
+        }
+    }
+
+}
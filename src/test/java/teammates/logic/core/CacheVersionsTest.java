@@ -0,0 +1,59 @@
+package teammates.logic.core;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link CacheVersions}.
+ */
+public class CacheVersionsTest extends BaseTestCase {
+
+    @Test
+    public void testBump_shouldChangeVersionOfKeyOnly() {
+        CacheVersions versions = new CacheVersions(10);
+        long versionOfA = versions.get("a");
+        long versionOfB = versions.get("b");
+
+        versions.bump("a");
+
+        assertTrue(versions.get("a") > versionOfA);
+        assertEquals(versionOfB, versions.get("b"));
+    }
+
+    @Test
+    public void testBump_moreKeysThanLimit_shouldStayBoundedAndNeverReuseVersions() {
+        CacheVersions versions = new CacheVersions(2);
+        versions.bump("a");
+        long versionOfA = versions.get("a");
+
+        versions.bump("b");
+        versions.bump("c");
+
+        assertEquals(2, versions.size());
+        assertTrue(versions.get("a") >= versionOfA);
+
+        ______TS("bumping an evicted key still gives it a new version");
+
+        long evictedVersionOfA = versions.get("a");
+        versions.bump("a");
+
+        assertTrue(versions.get("a") > evictedVersionOfA);
+        assertEquals(2, versions.size());
+    }
+
+    @Test
+    public void testBumpAll_shouldChangeVersionOfAllKeys() {
+        CacheVersions versions = new CacheVersions(10);
+        versions.bump("a");
+        long versionOfA = versions.get("a");
+        long versionOfB = versions.get("b");
+
+        versions.bumpAll();
+
+        assertTrue(versions.get("a") > versionOfA);
+        assertTrue(versions.get("b") > versionOfB);
+        assertEquals(0, versions.size());
+    }
+
+}
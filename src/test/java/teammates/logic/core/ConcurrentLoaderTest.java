@@ -0,0 +1,50 @@
+package teammates.logic.core;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
+
+/**
+ * SUT: {@link ConcurrentLoader}.
+ */
+public class ConcurrentLoaderTest extends BaseTestCaseWithLocalDatabaseAccess {
+
+    @Test
+    public void testLoadEach_manyItems_shouldKeepOrderOfItems() {
+        List<Integer> items = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+
+        assertEquals(items.stream().map(item -> item * 2).collect(Collectors.toList()),
+                ConcurrentLoader.loadEach(items, item -> item * 2));
+    }
+
+    @Test(timeOut = 30 * 1000)
+    public void testLoadEach_nestedLoadsMoreThanPoolSize_shouldNotDeadlock() {
+        // more outer loads than pool threads, each waiting for inner loads
+        List<Integer> items = IntStream.range(0, 16).boxed().collect(Collectors.toList());
+
+        List<Integer> results = ConcurrentLoader.loadEach(items,
+                outer -> ConcurrentLoader.loadEach(List.of(1, 2), inner -> outer * inner).stream()
+                        .mapToInt(Integer::intValue)
+                        .sum());
+
+        assertEquals(items.stream().map(item -> item * 3).collect(Collectors.toList()), results);
+    }
+
+    @Test
+    public void testLoadEach_loadFailing_shouldThrowFailure() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> ConcurrentLoader.loadEach(List.of(1, 2, 3), item -> {
+                    if (item == 2) {
+                        throw new IllegalArgumentException("failed to load " + item);
+                    }
+                    return item;
+                }));
+
+        assertEquals("failed to load 2", e.getMessage());
+    }
+
+}
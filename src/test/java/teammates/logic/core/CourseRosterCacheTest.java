@@ -0,0 +1,97 @@
+package teammates.logic.core;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+
+/**
+ * SUT: {@link CourseRosterCache}.
+ */
+public class CourseRosterCacheTest extends BaseLogicTest {
+
+    private final CourseRosterCache courseRosterCache = CourseRosterCache.inst();
+    private final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+
+    @Test
+    public void testGetCourseRoster() {
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+
+        ______TS("first lookup reads from database");
+
+        long missCount = courseRosterCache.getMissCount();
+        CourseRoster roster = courseRosterCache.getCourseRoster(courseId);
+
+        assertEquals(missCount + 1, courseRosterCache.getMissCount());
+        assertEquals(studentsLogic.getStudentsForCourse(courseId).size(), roster.getStudents().size());
+        assertEquals(instructorsLogic.getInstructorsForCourse(courseId).size(), roster.getInstructors().size());
+
+        ______TS("subsequent lookup is served by the shared tier");
+
+        long sharedHitCount = courseRosterCache.getSharedHitCount();
+
+        assertSame(roster, courseRosterCache.getCourseRoster(courseId));
+        assertEquals(sharedHitCount + 1, courseRosterCache.getSharedHitCount());
+        assertEquals(missCount + 1, courseRosterCache.getMissCount());
+
+        ______TS("fresh lookup always reads from database and replaces the cached roster");
+
+        CourseRoster freshRoster = courseRosterCache.getFreshCourseRoster(courseId);
+
+        assertNotSame(roster, freshRoster);
+        assertEquals(missCount + 2, courseRosterCache.getMissCount());
+        assertEquals(sharedHitCount + 1, courseRosterCache.getSharedHitCount());
+        assertSame(freshRoster, courseRosterCache.getCourseRoster(courseId));
+    }
+
+    @Test
+    public void testInvalidation() throws Exception {
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+        CourseRoster roster = courseRosterCache.getCourseRoster(courseId);
+
+        ______TS("creating a student invalidates the roster");
+
+        StudentAttributes newStudent = StudentAttributes
+                .builder(courseId, "rosterCacheStudent@email.tmt")
+                .withName("Roster Cache Student")
+                .withSectionName("Section 1")
+                .withTeamName("Team 1.1</td></div>'\"")
+                .withComment("")
+                .build();
+        studentsLogic.createStudent(newStudent);
+
+        CourseRoster updatedRoster = courseRosterCache.getCourseRoster(courseId);
+        assertNotSame(roster, updatedRoster);
+        assertTrue(updatedRoster.isStudentInCourse(newStudent.getEmail()));
+
+        ______TS("deleting a student invalidates the roster");
+
+        studentsLogic.deleteStudentCascade(courseId, newStudent.getEmail());
+
+        assertFalse(courseRosterCache.getCourseRoster(courseId).isStudentInCourse(newStudent.getEmail()));
+
+        ______TS("updating an instructor invalidates the roster");
+
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        roster = courseRosterCache.getCourseRoster(courseId);
+        instructorsLogic.updateInstructorByEmail(
+                InstructorAttributes.updateOptionsWithEmailBuilder(courseId, instructor.getEmail())
+                        .withName("New Instructor Name")
+                        .build());
+
+        updatedRoster = courseRosterCache.getCourseRoster(courseId);
+        assertNotSame(roster, updatedRoster);
+        assertEquals("New Instructor Name", updatedRoster.getInstructorForEmail(instructor.getEmail()).getName());
+
+        ______TS("invalidating one course does not affect other courses");
+
+        String otherCourseId = dataBundle.courses.get("typicalCourse2").getId();
+        CourseRoster otherRoster = courseRosterCache.getCourseRoster(otherCourseId);
+        courseRosterCache.invalidate(courseId);
+
+        assertSame(otherRoster, courseRosterCache.getCourseRoster(otherCourseId));
+    }
+
+}
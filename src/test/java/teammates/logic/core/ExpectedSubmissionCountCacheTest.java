@@ -0,0 +1,83 @@
+package teammates.logic.core;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+
+/**
+ * SUT: {@link ExpectedSubmissionCountCache}.
+ */
+public class ExpectedSubmissionCountCacheTest extends BaseLogicTest {
+
+    private final ExpectedSubmissionCountCache expectedSubmissionCountCache = ExpectedSubmissionCountCache.inst();
+    private final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Test
+    public void testGetExpectedTotalSubmission() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+
+        ______TS("first lookup computes the count");
+
+        expectedSubmissionCountCache.invalidate(session.getCourseId(), session.getFeedbackSessionName());
+        long missCount = expectedSubmissionCountCache.getMissCount();
+        int expectedTotal = fsLogic.getExpectedTotalSubmission(session);
+
+        assertEquals(missCount + 1, expectedSubmissionCountCache.getMissCount());
+
+        ______TS("subsequent lookup is served by the cache");
+
+        long hitCount = expectedSubmissionCountCache.getHitCount();
+
+        assertEquals(expectedTotal, fsLogic.getExpectedTotalSubmission(session));
+        assertEquals(hitCount + 1, expectedSubmissionCountCache.getHitCount());
+        assertEquals(missCount + 1, expectedSubmissionCountCache.getMissCount());
+    }
+
+    @Test
+    public void testInvalidation() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        int expectedTotal = fsLogic.getExpectedTotalSubmission(session);
+
+        ______TS("creating a student invalidates the count");
+
+        StudentAttributes newStudent = StudentAttributes
+                .builder(session.getCourseId(), "submissionCountStudent@email.tmt")
+                .withName("Submission Count Student")
+                .withSectionName("Section 1")
+                .withTeamName("Team 1.1</td></div>'\"")
+                .withComment("")
+                .build();
+        studentsLogic.createStudent(newStudent);
+
+        assertEquals(expectedTotal + 1, fsLogic.getExpectedTotalSubmission(session));
+
+        studentsLogic.deleteStudentCascade(session.getCourseId(), newStudent.getEmail());
+
+        assertEquals(expectedTotal, fsLogic.getExpectedTotalSubmission(session));
+
+        ______TS("deleting a question invalidates the count");
+
+        long missCount = expectedSubmissionCountCache.getMissCount();
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestionsForSession(
+                session.getFeedbackSessionName(), session.getCourseId()).get(0);
+        fqLogic.deleteFeedbackQuestionCascade(question.getId());
+        fsLogic.getExpectedTotalSubmission(session);
+
+        assertEquals(missCount + 1, expectedSubmissionCountCache.getMissCount());
+
+        ______TS("invalidating one session does not affect other sessions");
+
+        FeedbackSessionAttributes otherSession = dataBundle.feedbackSessions.get("session2InCourse1");
+        fsLogic.getExpectedTotalSubmission(otherSession);
+        long hitCount = expectedSubmissionCountCache.getHitCount();
+        expectedSubmissionCountCache.invalidate(session.getCourseId(), session.getFeedbackSessionName());
+        fsLogic.getExpectedTotalSubmission(otherSession);
+
+        assertEquals(hitCount + 1, expectedSubmissionCountCache.getHitCount());
+    }
+
+}
@@ -6,6 +6,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -1329,18 +1330,13 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                 : bundle.getQuestionResponseMap().entrySet()) {
             totalResponse += entry.getValue().size();
         }
-        int totalMissingResponse = 0;
-        for (Map.Entry<String, List<FeedbackResponseAttributes>> entry
-                : bundle.getQuestionMissingResponseMap().entrySet()) {
-            totalMissingResponse += entry.getValue().size();
-        }
+        int totalMissingResponse = getTotalMissingResponses(bundle);
         assertEquals(11, totalResponse);
         // student should not see missing responses
         assertEquals(0, totalMissingResponse);
         // student cannot see q6 because there is no viewable response
         assertEquals(7, bundle.getQuestionsMap().size());
         assertEquals(7, bundle.getQuestionResponseMap().size());
-        assertEquals(7, bundle.getQuestionMissingResponseMap().size());
 
         // Test the generated response visibilityTable for userNames.
         Map<String, Boolean> responseGiverVisibilityTable = bundle.getResponseGiverVisibilityTable();
@@ -1391,11 +1387,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                 : bundle.getQuestionResponseMap().entrySet()) {
             totalResponse += entry.getValue().size();
         }
-        totalMissingResponse = 0;
-        for (Map.Entry<String, List<FeedbackResponseAttributes>> entry
-                : bundle.getQuestionMissingResponseMap().entrySet()) {
-            totalMissingResponse += entry.getValue().size();
-        }
+        totalMissingResponse = getTotalMissingResponses(bundle);
         assertEquals(2, totalResponse);
         // student should not see missing responses
         assertEquals(0, totalMissingResponse);
@@ -1403,7 +1395,6 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         // but q6 has no viewable response for the student himself/herself
         assertEquals(1, bundle.getQuestionsMap().size());
         assertEquals(1, bundle.getQuestionResponseMap().size());
-        assertEquals(1, bundle.getQuestionMissingResponseMap().size());
 
         // Test the generated response visibilityTable for userNames.
         responseGiverVisibilityTable = bundle.getResponseGiverVisibilityTable();
@@ -1424,6 +1415,62 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertEquals(0, bundle.getQuestionsWithCommentNotVisibleForPreview().size());
     }
 
+    @Test
+    public void testGetSessionResultsForUser_allQuestions_shouldBeSameAsQuestionsLoadedOneByOne() {
+        DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsTest.json");
+        removeAndRestoreDataBundle(responseBundle);
+
+        FeedbackSessionAttributes session = responseBundle.feedbackSessions.get("standard.session");
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId());
+
+        ______TS("student viewing results");
+
+        StudentAttributes student = responseBundle.students.get("student1InCourse1");
+        verifySameResponsesAsQuestionsLoadedOneByOne(session, questions, student.getEmail(), false);
+
+        ______TS("instructor viewing results");
+
+        InstructorAttributes instructor = responseBundle.instructors.get("instructor1OfCourse1");
+        verifySameResponsesAsQuestionsLoadedOneByOne(session, questions, instructor.getEmail(), true);
+    }
+
+    private void verifySameResponsesAsQuestionsLoadedOneByOne(FeedbackSessionAttributes session,
+            List<FeedbackQuestionAttributes> questions, String userEmail, boolean isInstructor) {
+        SessionResultsBundle bundle = frLogic.getSessionResultsForUser(
+                session.getFeedbackSessionName(), session.getCourseId(), userEmail, isInstructor, null, false);
+
+        Map<String, List<String>> expectedResponseIds = new HashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            SessionResultsBundle questionBundle = frLogic.getSessionResultsForUser(
+                    session.getFeedbackSessionName(), session.getCourseId(), userEmail, isInstructor,
+                    question.getId(), false);
+            questionBundle.getQuestionResponseMap().forEach((questionId, responses) ->
+                    expectedResponseIds.put(questionId, getResponseIds(responses)));
+        }
+        Map<String, List<String>> actualResponseIds = new HashMap<>();
+        bundle.getQuestionResponseMap().forEach((questionId, responses) ->
+                actualResponseIds.put(questionId, getResponseIds(responses)));
+
+        assertEquals(expectedResponseIds, actualResponseIds);
+    }
+
+    private int getTotalMissingResponses(SessionResultsBundle bundle) {
+        int totalMissingResponse = 0;
+        for (String questionId : bundle.getQuestionsMap().keySet()) {
+            Iterator<FeedbackResponseAttributes> missingResponses = bundle.getMissingResponses(questionId).iterator();
+            while (missingResponses.hasNext()) {
+                missingResponses.next();
+                totalMissingResponse++;
+            }
+        }
+        return totalMissingResponse;
+    }
+
+    private List<String> getResponseIds(List<FeedbackResponseAttributes> responses) {
+        return responses.stream().map(FeedbackResponseAttributes::getId).collect(Collectors.toList());
+    }
+
     @Test
     public void testGetSessionResultsForUser_instructor_shouldGenerateCorrectBundle() {
         DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsTest.json");
@@ -1445,18 +1492,13 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                 : bundle.getQuestionResponseMap().entrySet()) {
             totalResponse += entry.getValue().size();
         }
-        int totalMissingResponse = 0;
-        for (Map.Entry<String, List<FeedbackResponseAttributes>> entry
-                : bundle.getQuestionMissingResponseMap().entrySet()) {
-            totalMissingResponse += entry.getValue().size();
-        }
+        int totalMissingResponse = getTotalMissingResponses(bundle);
         assertEquals(2, totalResponse);
         // instructor should not see missing responses
         assertEquals(0, totalMissingResponse);
 
         assertEquals(2, bundle.getQuestionsMap().size());
         assertEquals(2, bundle.getQuestionResponseMap().size());
-        assertEquals(2, bundle.getQuestionMissingResponseMap().size());
 
         // Test the generated response visibilityTable for userNames.
         Map<String, Boolean> responseGiverVisibilityTable = bundle.getResponseGiverVisibilityTable();
@@ -1520,17 +1562,21 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                 : bundle.getQuestionResponseMap().entrySet()) {
             totalResponse += entry.getValue().size();
         }
-        int totalMissingResponse = 0;
-        for (Map.Entry<String, List<FeedbackResponseAttributes>> entry
-                : bundle.getQuestionMissingResponseMap().entrySet()) {
-            totalMissingResponse += entry.getValue().size();
-        }
+        int totalMissingResponse = getTotalMissingResponses(bundle);
         assertEquals(10, totalResponse);
         assertEquals(4, totalMissingResponse);
         // Instructor should still see all questions
         assertEquals(8, bundle.getQuestionsMap().size());
         assertEquals(8, bundle.getQuestionResponseMap().size());
-        assertEquals(8, bundle.getQuestionMissingResponseMap().size());
+
+        // missing responses are generated again on every iteration and are not kept in the visibility tables
+        assertEquals(totalMissingResponse, getTotalMissingResponses(bundle));
+        for (String questionId : bundle.getQuestionsMap().keySet()) {
+            for (FeedbackResponseAttributes missingResponse : bundle.getMissingResponses(questionId)) {
+                assertFalse(bundle.getResponseGiverVisibilityTable().containsKey(missingResponse.getId()));
+                assertFalse(bundle.getResponseRecipientVisibilityTable().containsKey(missingResponse.getId()));
+            }
+        }
 
         // Test the generated response visibilityTable for userNames.
         Map<String, Boolean> responseGiverVisibilityTable = bundle.getResponseGiverVisibilityTable();
@@ -1544,7 +1590,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertTrue(responseGiverVisibilityTable.get(getResponseId("qn4.resp3", responseBundle)));
         assertFalse(responseGiverVisibilityTable.get(getResponseId("qn5.resp1", responseBundle)));
         assertTrue(responseGiverVisibilityTable.get(getResponseId("qn6.resp1", responseBundle)));
-        assertEquals(totalResponse + totalMissingResponse, responseGiverVisibilityTable.size());
+        assertEquals(totalResponse, responseGiverVisibilityTable.size());
 
         Map<String, Boolean> responseRecipientVisibilityTable = bundle.getResponseRecipientVisibilityTable();
         assertFalse(responseRecipientVisibilityTable.get(getResponseId("qn2.resp1", responseBundle)));
@@ -1557,7 +1603,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertTrue(responseRecipientVisibilityTable.get(getResponseId("qn4.resp3", responseBundle)));
         assertTrue(responseRecipientVisibilityTable.get(getResponseId("qn5.resp1", responseBundle)));
         assertTrue(responseRecipientVisibilityTable.get(getResponseId("qn6.resp1", responseBundle)));
-        assertEquals(totalResponse + totalMissingResponse, responseRecipientVisibilityTable.size());
+        assertEquals(totalResponse, responseRecipientVisibilityTable.size());
 
         // no entry in comment visibility table
         Map<Long, Boolean> commentGiverVisibilityTable = bundle.getCommentGiverVisibilityTable();
@@ -1584,17 +1630,12 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                 : bundle.getQuestionResponseMap().entrySet()) {
             totalResponse += entry.getValue().size();
         }
-        int totalMissingResponse = 0;
-        for (Map.Entry<String, List<FeedbackResponseAttributes>> entry
-                : bundle.getQuestionMissingResponseMap().entrySet()) {
-            totalMissingResponse += entry.getValue().size();
-        }
+        int totalMissingResponse = getTotalMissingResponses(bundle);
         assertEquals(7, totalResponse);
         assertEquals(0, totalMissingResponse);
         // Instructor should still see all questions
         assertEquals(8, bundle.getQuestionsMap().size());
         assertEquals(8, bundle.getQuestionResponseMap().size());
-        assertEquals(8, bundle.getQuestionMissingResponseMap().size());
 
         // Test the generated response visibilityTable for userNames.
         Map<String, Boolean> responseGiverVisibilityTable = bundle.getResponseGiverVisibilityTable();
@@ -1602,15 +1643,15 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertTrue(responseGiverVisibilityTable.get(getResponseId("qn4.resp3", responseBundle)));
         assertFalse(responseGiverVisibilityTable.get(getResponseId("qn2.resp3", responseBundle)));
         assertFalse(responseGiverVisibilityTable.get(getResponseId("qn2.resp1", responseBundle)));
-        assertEquals(totalResponse + totalMissingResponse, responseGiverVisibilityTable.size());
+        assertEquals(totalResponse, responseGiverVisibilityTable.size());
 
         Map<String, Boolean> responseRecipientVisibilityTable = bundle.getResponseRecipientVisibilityTable();
         assertFalse(responseRecipientVisibilityTable.get(getResponseId("qn3.resp1", responseBundle)));
         assertTrue(responseRecipientVisibilityTable.get(getResponseId("qn4.resp3", responseBundle)));
         assertFalse(responseRecipientVisibilityTable.get(getResponseId("qn2.resp3", responseBundle)));
         assertFalse(responseRecipientVisibilityTable.get(getResponseId("qn2.resp1", responseBundle)));
-        assertEquals(totalResponse + totalMissingResponse, responseGiverVisibilityTable.size());
-        assertEquals(totalResponse + totalMissingResponse, responseRecipientVisibilityTable.size());
+        assertEquals(totalResponse, responseGiverVisibilityTable.size());
+        assertEquals(totalResponse, responseRecipientVisibilityTable.size());
 
         // no entry in comment visibility table
         Map<Long, Boolean> commentGiverVisibilityTable = bundle.getCommentGiverVisibilityTable();
@@ -1681,6 +1722,39 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
     }
 
 
+    @Test
+    public void testGetSessionResultStatisticsForCourse_recipientNameHidden_shouldAnonymiseRecipients() {
+        FeedbackQuestionAttributes question = questionTypeBundle.feedbackQuestions.get("qn1InSession3InCourse1");
+        InstructorAttributes instructor = questionTypeBundle.instructors.get("instructor1OfCourse1");
+        StudentAttributes student = questionTypeBundle.students.get("student1InCourse1");
+        String anonymousStudent = SessionResultsBundle.getAnonName(FeedbackParticipantType.STUDENTS, student.getEmail());
+
+        ______TS("recipient names visible to instructors: statistics are keyed by recipient");
+
+        String questionId = getQuestionFromDatabase(questionTypeBundle, "qn1InSession3InCourse1").getId();
+        Map<String, String> statistics = frLogic.getSessionResultStatisticsForCourse(
+                question.getFeedbackSessionName(), question.getCourseId(), instructor.getEmail(),
+                questionId, null, FeedbackResultFetchType.BOTH);
+
+        assertEquals(1, statistics.size());
+        assertTrue(statistics.get(questionId).contains(student.getEmail()));
+        assertFalse(statistics.get(questionId).contains(anonymousStudent));
+
+        ______TS("recipient names hidden from instructors: statistics are keyed by anonymised recipient");
+
+        question.setShowRecipientNameTo(new ArrayList<>());
+        removeAndRestoreDataBundle(questionTypeBundle);
+
+        questionId = getQuestionFromDatabase(questionTypeBundle, "qn1InSession3InCourse1").getId();
+        statistics = frLogic.getSessionResultStatisticsForCourse(
+                question.getFeedbackSessionName(), question.getCourseId(), instructor.getEmail(),
+                questionId, null, FeedbackResultFetchType.BOTH);
+
+        assertEquals(1, statistics.size());
+        assertFalse(statistics.get(questionId).contains(student.getEmail()));
+        assertTrue(statistics.get(questionId).contains(anonymousStudent));
+    }
+
     // TODO: check for cases where a person is both a student and an instructor
 
     @Test
@@ -1712,6 +1786,48 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertEquals(4, responseForQuestion.size());
     }
 
+    @Test
+    public void testGetGiverSetThatAnswerFeedbackSession_shouldFollowResponseWrites() throws Exception {
+        FeedbackResponseAttributes existingResponse = getResponseFromDatabase("response1ForQ1S1C1");
+        String courseId = existingResponse.getCourseId();
+        String sessionName = existingResponse.getFeedbackSessionName();
+        String newGiver = "new.giver@gmail.tmt";
+
+        ______TS("giver set is built from the responses when it is first read");
+
+        Set<String> giverSet = frLogic.getGiverSetThatAnswerFeedbackSession(courseId, sessionName);
+        assertTrue(giverSet.contains(existingResponse.getGiver()));
+        assertFalse(giverSet.contains(newGiver));
+
+        ______TS("new giver is added when the giver's first response is created");
+
+        FeedbackResponseAttributes newResponse =
+                FeedbackResponseAttributes.builder(
+                        existingResponse.getFeedbackQuestionId(), newGiver, existingResponse.getRecipient())
+                        .withFeedbackSessionName(sessionName)
+                        .withCourseId(courseId)
+                        .withGiverSection("Section 1")
+                        .withRecipientSection("Section 1")
+                        .withResponseDetails(new FeedbackTextResponseDetails("Response from new giver"))
+                        .build();
+        newResponse = frLogic.createFeedbackResponse(newResponse);
+
+        giverSet = frLogic.getGiverSetThatAnswerFeedbackSession(courseId, sessionName);
+        assertTrue(giverSet.contains(newGiver));
+
+        ______TS("giver is removed when the giver's last response is deleted");
+
+        frLogic.deleteFeedbackResponseCascade(newResponse.getId());
+
+        giverSet = frLogic.getGiverSetThatAnswerFeedbackSession(courseId, sessionName);
+        assertFalse(giverSet.contains(newGiver));
+        assertTrue(giverSet.contains(existingResponse.getGiver()));
+
+        ______TS("rebuilt giver set is the same as the maintained one");
+
+        assertEquals(giverSet, frLogic.rebuildSubmissionSummary(courseId, sessionName));
+    }
+
     private FeedbackQuestionAttributes getQuestionFromDatabase(DataBundle dataBundle, String jsonId) {
         FeedbackQuestionAttributes questionToGet = dataBundle.feedbackQuestions.get(jsonId);
         questionToGet = fqLogic.getFeedbackQuestion(questionToGet.getFeedbackSessionName(),
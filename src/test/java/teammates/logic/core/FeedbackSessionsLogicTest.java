@@ -887,6 +887,41 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         assertEquals(expectedSessionsDeadlineCounts, newSessionsDeadlineCounts);
     }
 
+    @Test
+    public void testGetFeedbackSessionsForCourses_shouldBeSameAsCoursesLoadedOneByOne() {
+        List<String> courseIds = dataBundle.courses.values().stream()
+                .map(CourseAttributes::getId)
+                .collect(Collectors.toList());
+
+        Map<String, List<FeedbackSessionAttributes>> courseIdToSessions = fsLogic.getFeedbackSessionsForCourses(courseIds);
+
+        assertEquals(courseIds, new ArrayList<>(courseIdToSessions.keySet()));
+        for (String courseId : courseIds) {
+            assertEquals(fsLogic.getFeedbackSessionsForCourse(courseId), courseIdToSessions.get(courseId));
+        }
+    }
+
+    @Test
+    public void testGetFeedbackSessionsAttemptedByStudent_shouldBeSameAsSessionsCheckedOneByOne() {
+        String courseId = dataBundle.students.get("student1InCourse1").getCourse();
+        List<FeedbackSessionAttributes> sessions = fsLogic.getFeedbackSessionsForCourse(courseId);
+        assertFalse(sessions.isEmpty());
+
+        for (StudentAttributes student : dataBundle.students.values()) {
+            if (!student.getCourse().equals(courseId)) {
+                continue;
+            }
+            Set<String> expectedAttemptedSessions = sessions.stream()
+                    .filter(session -> fsLogic.isFeedbackSessionAttemptedByStudent(
+                            session, student.getEmail(), student.getTeam()))
+                    .map(FeedbackSessionAttributes::getFeedbackSessionName)
+                    .collect(Collectors.toSet());
+
+            assertEquals(expectedAttemptedSessions, fsLogic.getFeedbackSessionsAttemptedByStudent(
+                    courseId, sessions, student.getEmail(), student.getTeam()));
+        }
+    }
+
     private void testPublishUnpublishFeedbackSession() throws Exception {
 
         ______TS("success: publish");
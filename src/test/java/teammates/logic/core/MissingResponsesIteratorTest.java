@@ -0,0 +1,102 @@
+package teammates.logic.core;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+
+/**
+ * SUT: {@link MissingResponsesIterator}.
+ */
+public class MissingResponsesIteratorTest extends BaseLogicTest {
+
+    private final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Test
+    public void testIterator() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String courseId = session.getCourseId();
+        String sessionName = session.getFeedbackSessionName();
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        CourseRoster roster = new CourseRoster(
+                studentsLogic.getStudentsForCourse(courseId), instructorsLogic.getInstructorsForCourse(courseId));
+        ResultsVisibilityPolicy visibilityPolicy = ResultsVisibilityPolicy.forUser(
+                instructor.getEmail(), true, instructor, null, Collections.emptySet(), roster);
+        List<FeedbackQuestionAttributes> questions = fqLogic.getFeedbackQuestionsForSession(sessionName, courseId);
+        List<FeedbackResponseAttributes> existingResponses =
+                frLogic.getFeedbackResponsesForSessionInSection(sessionName, courseId, null, null);
+
+        ______TS("generates the same pairs as the complete giver recipient map without existing responses");
+
+        Set<String> expectedPairs = new HashSet<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            if (!question.getQuestionDetailsCopy().shouldGenerateMissingResponses(question)) {
+                continue;
+            }
+            ResultsVisibilityPolicy.QuestionPolicy questionPolicy = visibilityPolicy.forQuestion(question);
+            for (Map.Entry<String, Set<String>> giverRecipients
+                    : fqLogic.buildCompleteGiverRecipientMap(question, roster).entrySet()) {
+                for (String recipient : giverRecipients.getValue()) {
+                    FeedbackResponseAttributes pair =
+                            FeedbackResponseAttributes.builder(question.getId(), giverRecipients.getKey(), recipient)
+                                    .withFeedbackSessionName(sessionName)
+                                    .withCourseId(courseId)
+                                    .withGiverSection(roster.getInfoForIdentifier(giverRecipients.getKey())
+                                            .getSectionName())
+                                    .withRecipientSection(roster.getInfoForIdentifier(recipient).getSectionName())
+                                    .build();
+                    if (questionPolicy.isResponseVisible(pair)) {
+                        expectedPairs.add(pair.getId());
+                    }
+                }
+            }
+        }
+        for (FeedbackResponseAttributes existingResponse : existingResponses) {
+            expectedPairs.remove(existingResponse.getId());
+        }
+
+        MissingResponsesIterator iterator = new MissingResponsesIterator(fqLogic, courseId, sessionName,
+                visibilityPolicy, roster, null, questions, existingResponses);
+        Set<String> actualPairs = new HashSet<>();
+        while (iterator.hasNext()) {
+            FeedbackResponseAttributes missingResponse = iterator.next();
+            assertTrue(actualPairs.add(missingResponse.getId()));
+            assertEquals(courseId, missingResponse.getCourseId());
+            assertEquals(sessionName, missingResponse.getFeedbackSessionName());
+        }
+
+        assertFalse(expectedPairs.isEmpty());
+        assertEquals(expectedPairs, actualPairs);
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        ______TS("only generates pairs with the giver or recipient in the section");
+
+        String section = "Section 1";
+        iterator = new MissingResponsesIterator(fqLogic, courseId, sessionName,
+                visibilityPolicy, roster, section, questions, existingResponses);
+        Set<String> sectionPairs = new HashSet<>();
+        while (iterator.hasNext()) {
+            FeedbackResponseAttributes missingResponse = iterator.next();
+            assertTrue(section.equals(missingResponse.getGiverSection())
+                    || section.equals(missingResponse.getRecipientSection()));
+            sectionPairs.add(missingResponse.getId());
+        }
+
+        assertFalse(sectionPairs.isEmpty());
+        assertTrue(actualPairs.containsAll(sectionPairs));
+    }
+
+}
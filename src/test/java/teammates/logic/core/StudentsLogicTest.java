@@ -15,6 +15,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.StudentsEnrollmentResults;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -298,6 +299,74 @@ public class StudentsLogicTest extends BaseLogicTest {
         assertNull(responseToBeDeleted);
     }
 
+    @Test
+    public void testEnrollStudents() throws Exception {
+        StudentAttributes unchangedStudent = dataBundle.students.get("student1InCourse1");
+        String courseId = unchangedStudent.getCourse();
+        StudentAttributes updatedStudent = dataBundle.students.get("student2InCourse1").getCopy();
+        updatedStudent.setName("New Name");
+        StudentAttributes invalidExistingStudent = dataBundle.students.get("student3InCourse1").getCopy();
+        invalidExistingStudent.setTeam("invalid | team % name");
+        StudentAttributes newStudent = StudentAttributes
+                .builder(courseId, "enrollNew@email.tmt")
+                .withName("New Student")
+                .withSectionName(unchangedStudent.getSection())
+                .withTeamName(unchangedStudent.getTeam())
+                .withComment("")
+                .build();
+        StudentAttributes duplicateNewStudent = newStudent.getCopy();
+        StudentAttributes invalidNewStudent = StudentAttributes
+                .builder(courseId, "invalidEmail")
+                .withName("Invalid Student")
+                .withSectionName(unchangedStudent.getSection())
+                .withTeamName(unchangedStudent.getTeam())
+                .withComment("")
+                .build();
+
+        ______TS("typical case: each student is reported in the order of the enrollment list");
+
+        StudentsEnrollmentResults results = studentsLogic.enrollStudents(courseId, List.of(
+                unchangedStudent.getCopy(), updatedStudent, invalidExistingStudent,
+                newStudent, duplicateNewStudent, invalidNewStudent));
+
+        List<StudentsEnrollmentResults.Row> rows = results.getRows();
+        assertEquals(6, rows.size());
+        assertEquals(StudentsEnrollmentResults.Status.UNCHANGED, rows.get(0).getStatus());
+        assertEquals(StudentsEnrollmentResults.Status.UPDATED, rows.get(1).getStatus());
+        assertEquals(StudentsEnrollmentResults.Status.FAILED, rows.get(2).getStatus());
+        assertEquals(StudentsEnrollmentResults.Status.CREATED, rows.get(3).getStatus());
+        assertEquals(StudentsEnrollmentResults.Status.FAILED, rows.get(4).getStatus());
+        assertEquals(String.format(StudentsLogic.ERROR_ENROLL_DUPLICATE_EMAIL, duplicateNewStudent.getEmail()),
+                rows.get(4).getErrorMessage());
+        assertEquals(StudentsEnrollmentResults.Status.FAILED, rows.get(5).getStatus());
+        assertEquals(StringHelper.toString(invalidNewStudent.getInvalidityInfo()), rows.get(5).getErrorMessage());
+
+        assertEquals(3, results.getEnrolledStudents().size());
+        assertEquals(3, results.getFailedRows().size());
+
+        assertEquals("New Name", studentsLogic.getStudentForEmail(courseId, updatedStudent.getEmail()).getName());
+        assertEquals(dataBundle.students.get("student3InCourse1").getTeam(),
+                studentsLogic.getStudentForEmail(courseId, invalidExistingStudent.getEmail()).getTeam());
+        StudentAttributes createdStudent = studentsLogic.getStudentForEmail(courseId, newStudent.getEmail());
+        assertEquals(newStudent.getName(), createdStudent.getName());
+        assertNotNull(createdStudent.getKey());
+        assertNull(studentsLogic.getStudentForEmail(courseId, invalidNewStudent.getEmail()));
+
+        ______TS("failure case: invalid sections or teams should fail the whole enrollment");
+
+        StudentAttributes studentInConflictingTeam = StudentAttributes
+                .builder(courseId, "enrollConflict@email.tmt")
+                .withName("Conflicting Student")
+                .withSectionName("Another Section")
+                .withTeamName(unchangedStudent.getTeam())
+                .withComment("")
+                .build();
+
+        assertThrows(EnrollException.class,
+                () -> studentsLogic.enrollStudents(courseId, List.of(studentInConflictingTeam)));
+        assertNull(studentsLogic.getStudentForEmail(courseId, studentInConflictingTeam.getEmail()));
+    }
+
     @Test
     public void testRegenerateStudentRegistrationKey() throws Exception {
         ______TS("typical regeneration of course student's registration key");
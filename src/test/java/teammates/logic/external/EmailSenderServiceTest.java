@@ -0,0 +1,59 @@
+package teammates.logic.external;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.common.exception.EmailSendingException;
+import teammates.common.util.EmailSendingStatus;
+import teammates.common.util.EmailWrapper;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link EmailSenderService}.
+ */
+public class EmailSenderServiceTest extends BaseTestCase {
+
+    @Test
+    public void testSendEmails_someEmailsFailing_shouldStillSendRemainingEmails() {
+        List<String> sentRecipients = new ArrayList<>();
+        EmailSenderService service = new EmailSenderService() {
+            @Override
+            public Object parseToEmail(EmailWrapper wrapper) {
+                return wrapper;
+            }
+
+            @Override
+            public EmailSendingStatus sendEmail(EmailWrapper wrapper) throws EmailSendingException {
+                if ("checked@example.com".equals(wrapper.getRecipient())) {
+                    throw new EmailSendingException(new Exception("Service unavailable"),
+                            HttpStatus.SC_SERVICE_UNAVAILABLE);
+                }
+                if ("runtime@example.com".equals(wrapper.getRecipient())) {
+                    throw new IllegalStateException("Connection reset");
+                }
+                sentRecipients.add(wrapper.getRecipient());
+                return new EmailSendingStatus(HttpStatus.SC_OK, null);
+            }
+        };
+
+        List<EmailSendingStatus> statuses = service.sendEmails(List.of(createEmail("first@example.com"),
+                createEmail("checked@example.com"), createEmail("runtime@example.com"), createEmail("last@example.com")));
+
+        assertEquals(List.of("first@example.com", "last@example.com"), sentRecipients);
+        assertEquals(4, statuses.size());
+        assertTrue(statuses.get(0).isSuccess());
+        assertEquals(HttpStatus.SC_SERVICE_UNAVAILABLE, statuses.get(1).getStatusCode());
+        assertEquals(HttpStatus.SC_BAD_GATEWAY, statuses.get(2).getStatusCode());
+        assertTrue(statuses.get(3).isSuccess());
+    }
+
+    private EmailWrapper createEmail(String recipient) {
+        EmailWrapper email = new EmailWrapper();
+        email.setRecipient(recipient);
+        return email;
+    }
+
+}
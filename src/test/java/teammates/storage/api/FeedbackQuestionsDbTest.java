@@ -4,6 +4,7 @@ import static teammates.common.util.FieldValidator.PARTICIPANT_TYPE_TEAM_ERROR_M
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.testng.annotations.Test;
 import org.testng.collections.Lists;
@@ -377,6 +378,47 @@ public class FeedbackQuestionsDbTest extends BaseTestCaseWithLocalDatabaseAccess
         deleteFeedbackQuestions(numOfQuestions[0] + numOfQuestions[1] + numOfQuestions[2] + numOfQuestions[3]);
     }
 
+    @Test
+    public void testGetFeedbackSessionNamesWithQuestionsForGiverType() throws Exception {
+        FeedbackQuestionAttributes fqa = getNewFeedbackQuestionAttributes();
+
+        // remove possibly conflicting entity from the database
+        deleteFeedbackQuestion(fqa);
+
+        int[] numOfQuestions = createNewQuestionsForDifferentRecipientTypes();
+        FeedbackQuestionAttributes otherSessionQuestion = getNewFeedbackQuestionAttributes();
+        otherSessionQuestion.setFeedbackSessionName("otherFeedbackSession");
+        otherSessionQuestion.setGiverType(FeedbackParticipantType.STUDENTS);
+        deleteFeedbackQuestion(otherSessionQuestion);
+        fqDb.createEntity(otherSessionQuestion);
+
+        ______TS("sessions with several questions for the giver type are returned once");
+
+        assertEquals(Set.of(fqa.getFeedbackSessionName()),
+                fqDb.getFeedbackSessionNamesWithQuestionsForGiverType(
+                        fqa.getCourseId(), FeedbackParticipantType.INSTRUCTORS));
+        assertEquals(Set.of(fqa.getFeedbackSessionName(), otherSessionQuestion.getFeedbackSessionName()),
+                fqDb.getFeedbackSessionNamesWithQuestionsForGiverType(
+                        fqa.getCourseId(), FeedbackParticipantType.STUDENTS));
+
+        ______TS("no questions for the giver type in the course");
+
+        assertTrue(fqDb.getFeedbackSessionNamesWithQuestionsForGiverType(
+                fqa.getCourseId(), FeedbackParticipantType.RECEIVER).isEmpty());
+        assertTrue(fqDb.getFeedbackSessionNamesWithQuestionsForGiverType(
+                "non-existent course", FeedbackParticipantType.STUDENTS).isEmpty());
+
+        ______TS("null params");
+
+        assertThrows(AssertionError.class,
+                () -> fqDb.getFeedbackSessionNamesWithQuestionsForGiverType(null, FeedbackParticipantType.STUDENTS));
+        assertThrows(AssertionError.class,
+                () -> fqDb.getFeedbackSessionNamesWithQuestionsForGiverType(fqa.getCourseId(), null));
+
+        deleteFeedbackQuestion(otherSessionQuestion);
+        deleteFeedbackQuestions(numOfQuestions[0] + numOfQuestions[1] + numOfQuestions[2] + numOfQuestions[3]);
+    }
+
     @Test
     public void testUpdateFeedbackQuestion_noChangeToQuestion_shouldNotIssueSaveRequest() throws Exception {
         FeedbackQuestionAttributes typicalQuestion = getNewFeedbackQuestionAttributes();
@@ -1,5 +1,7 @@
 package teammates.storage.api;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -14,6 +16,7 @@ import com.google.common.collect.Sets;
 
 import teammates.common.datatransfer.AttributesDeletionQuery;
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackResponsesWriteResults;
 import teammates.common.datatransfer.FeedbackResultFetchType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -24,6 +27,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.JsonUtils;
+import teammates.storage.entity.FeedbackResponse;
 import teammates.test.AssertHelper;
 import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
 import teammates.test.ThreadHelper;
@@ -738,6 +742,66 @@ public class FeedbackResponsesDbTest extends BaseTestCaseWithLocalDatabaseAccess
         frDb.deleteFeedbackResponse(typicalResponse.getId());
     }
 
+    @Test
+    public void testPutFeedbackResponses() throws Exception {
+        FeedbackResponseAttributes newResponse = getNewFeedbackResponseAttributes();
+        deleteResponse(newResponse);
+
+        FeedbackResponseAttributes existingResponse = getResponseAttributes("response3ForQ2S1C1");
+        existingResponse = frDb.getFeedbackResponse(existingResponse.getFeedbackQuestionId(),
+                existingResponse.getGiver(), existingResponse.getRecipient());
+
+        ______TS("creates and updates are written in one batch");
+
+        FeedbackResponsesWriteResults results = frDb.putFeedbackResponses(
+                Collections.singletonList(newResponse),
+                Collections.singletonList(
+                        FeedbackResponseAttributes.updateOptionsBuilder(existingResponse.getId())
+                                .withResponseDetails(new FeedbackTextResponseDetails("Batched answer"))
+                                .build()),
+                true);
+
+        assertTrue(results.getErrors().isEmpty());
+        assertEquals(2, results.getWrittenResponses().size());
+        verifyPresentInDatabase(newResponse);
+        assertNull(results.getPreviousResponse(results.getWrittenResponses().get(0).getId()));
+
+        FeedbackResponseAttributes updatedResponse = results.getWrittenResponses().get(1);
+        assertEquals(existingResponse.getId(), updatedResponse.getId());
+        assertEquals(JsonUtils.toJson(existingResponse),
+                JsonUtils.toJson(results.getPreviousResponse(updatedResponse.getId())));
+        assertEquals("Batched answer",
+                frDb.getFeedbackResponse(existingResponse.getId()).getResponseDetailsCopy().getAnswerString());
+
+        ______TS("invalid and duplicate responses are reported without blocking the others");
+
+        FeedbackResponseAttributes invalidResponse = getNewFeedbackResponseAttributes();
+        invalidResponse.setRecipient("another.recipient@email.tmt");
+        invalidResponse.setCourseId("invalid course id!");
+        FeedbackResponseAttributes anotherResponse = getNewFeedbackResponseAttributes();
+        anotherResponse.setRecipient("third.recipient@email.tmt");
+        deleteResponse(anotherResponse);
+
+        results = frDb.putFeedbackResponses(
+                Arrays.asList(getNewFeedbackResponseAttributes(), invalidResponse, anotherResponse),
+                Collections.singletonList(FeedbackResponseAttributes.updateOptionsBuilder("non-existent").build()),
+                false);
+
+        assertEquals(1, results.getWrittenResponses().size());
+        verifyPresentInDatabase(anotherResponse);
+        assertEquals(3, results.getErrors().size());
+        assertTrue(results.getErrors().get("non-existent") instanceof EntityDoesNotExistException);
+        assertTrue(results.getErrors().get(getIdOf(newResponse)) instanceof EntityAlreadyExistsException);
+        assertTrue(results.getErrors().get(getIdOf(invalidResponse)) instanceof InvalidParametersException);
+
+        deleteResponse(newResponse);
+        deleteResponse(anotherResponse);
+    }
+
+    private String getIdOf(FeedbackResponseAttributes response) {
+        return FeedbackResponse.generateId(response.getFeedbackQuestionId(), response.getGiver(), response.getRecipient());
+    }
+
     private FeedbackResponseAttributes getNewFeedbackResponseAttributes() {
         return FeedbackResponseAttributes.builder(
                 "testFeedbackQuestionId", "giver@email.tmt", "recipient@email.tmt")
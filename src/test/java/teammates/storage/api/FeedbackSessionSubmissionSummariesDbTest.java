@@ -0,0 +1,122 @@
+package teammates.storage.api;
+
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.AttributesDeletionQuery;
+import teammates.common.datatransfer.attributes.FeedbackSessionSubmissionSummaryAttributes;
+import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
+
+/**
+ * SUT: {@link FeedbackSessionSubmissionSummariesDb}.
+ */
+public class FeedbackSessionSubmissionSummariesDbTest extends BaseTestCaseWithLocalDatabaseAccess {
+
+    private static final String VALID_COURSE_ID = "valid-course-id";
+    private static final String VALID_FEEDBACK_SESSION_NAME = "valid feedback session name";
+
+    private final FeedbackSessionSubmissionSummariesDb summariesDb = FeedbackSessionSubmissionSummariesDb.inst();
+
+    @Test
+    public void testAddAndRemoveGivers() throws Exception {
+        String courseId = VALID_COURSE_ID + "-givers";
+
+        ______TS("givers are not added if there is no summary yet");
+
+        summariesDb.addGiversToSubmissionSummary(courseId, VALID_FEEDBACK_SESSION_NAME, Set.of("giver1@gmail.tmt"));
+
+        assertNull(summariesDb.getSubmissionSummary(courseId, VALID_FEEDBACK_SESSION_NAME));
+
+        ______TS("givers are added to an existing summary");
+
+        summariesDb.putEntity(FeedbackSessionSubmissionSummaryAttributes.builder(courseId, VALID_FEEDBACK_SESSION_NAME)
+                .withGiverSet(Set.of("giver1@gmail.tmt"))
+                .build());
+        summariesDb.addGiversToSubmissionSummary(courseId, VALID_FEEDBACK_SESSION_NAME,
+                Set.of("giver1@gmail.tmt", "giver2@gmail.tmt"));
+
+        FeedbackSessionSubmissionSummaryAttributes summary =
+                summariesDb.getSubmissionSummary(courseId, VALID_FEEDBACK_SESSION_NAME);
+        assertEquals(Set.of("giver1@gmail.tmt", "giver2@gmail.tmt"), summary.getGiverSet());
+
+        ______TS("givers are removed from an existing summary");
+
+        summariesDb.removeGiverFromSubmissionSummary(courseId, VALID_FEEDBACK_SESSION_NAME, "giver1@gmail.tmt");
+        summariesDb.removeGiverFromSubmissionSummary(courseId, VALID_FEEDBACK_SESSION_NAME, "non-giver@gmail.tmt");
+
+        summary = summariesDb.getSubmissionSummary(courseId, VALID_FEEDBACK_SESSION_NAME);
+        assertEquals(Set.of("giver2@gmail.tmt"), summary.getGiverSet());
+
+        ______TS("summary without givers");
+
+        summariesDb.removeGiverFromSubmissionSummary(courseId, VALID_FEEDBACK_SESSION_NAME, "giver2@gmail.tmt");
+
+        summary = summariesDb.getSubmissionSummary(courseId, VALID_FEEDBACK_SESSION_NAME);
+        assertTrue(summary.getGiverSet().isEmpty());
+
+        summariesDb.deleteSubmissionSummaries(AttributesDeletionQuery.builder().withCourseId(courseId).build());
+    }
+
+    @Test
+    public void testDeleteSubmissionSummaries() throws Exception {
+        String courseId = VALID_COURSE_ID + "-delete";
+        String otherSessionName = VALID_FEEDBACK_SESSION_NAME + " 2";
+
+        summariesDb.putEntity(FeedbackSessionSubmissionSummaryAttributes.builder(courseId, VALID_FEEDBACK_SESSION_NAME)
+                .withGiverSet(Set.of("giver1@gmail.tmt"))
+                .build());
+        summariesDb.putEntity(FeedbackSessionSubmissionSummaryAttributes.builder(courseId, otherSessionName)
+                .withGiverSet(Set.of("giver1@gmail.tmt"))
+                .build());
+
+        ______TS("delete by session");
+
+        summariesDb.deleteSubmissionSummaries(AttributesDeletionQuery.builder()
+                .withCourseId(courseId)
+                .withFeedbackSessionName(VALID_FEEDBACK_SESSION_NAME)
+                .build());
+
+        assertNull(summariesDb.getSubmissionSummary(courseId, VALID_FEEDBACK_SESSION_NAME));
+        assertNotNull(summariesDb.getSubmissionSummary(courseId, otherSessionName));
+
+        ______TS("delete by course");
+
+        summariesDb.deleteSubmissionSummaries(AttributesDeletionQuery.builder().withCourseId(courseId).build());
+
+        assertNull(summariesDb.getSubmissionSummary(courseId, otherSessionName));
+    }
+
+    @Test
+    public void testMergeAndDeleteSubmissionSummary() throws Exception {
+        String courseId = VALID_COURSE_ID + "-merge";
+
+        ______TS("merge creates the summary if there is none");
+
+        assertTrue(summariesDb.mergeSubmissionSummary(
+                FeedbackSessionSubmissionSummaryAttributes.builder(courseId, VALID_FEEDBACK_SESSION_NAME)
+                        .withGiverSet(Set.of("giver1@gmail.tmt"))
+                        .build()));
+
+        assertEquals(Set.of("giver1@gmail.tmt"),
+                summariesDb.getSubmissionSummary(courseId, VALID_FEEDBACK_SESSION_NAME).getGiverSet());
+
+        ______TS("merge keeps the givers already in the existing summary");
+
+        summariesDb.addGiversToSubmissionSummary(courseId, VALID_FEEDBACK_SESSION_NAME, Set.of("giver2@gmail.tmt"));
+        assertFalse(summariesDb.mergeSubmissionSummary(
+                FeedbackSessionSubmissionSummaryAttributes.builder(courseId, VALID_FEEDBACK_SESSION_NAME)
+                        .withGiverSet(Set.of("giver1@gmail.tmt", "giver3@gmail.tmt"))
+                        .build()));
+
+        assertEquals(Set.of("giver1@gmail.tmt", "giver2@gmail.tmt", "giver3@gmail.tmt"),
+                summariesDb.getSubmissionSummary(courseId, VALID_FEEDBACK_SESSION_NAME).getGiverSet());
+
+        ______TS("delete the summary of a session");
+
+        summariesDb.deleteSubmissionSummary(courseId, VALID_FEEDBACK_SESSION_NAME);
+
+        assertNull(summariesDb.getSubmissionSummary(courseId, VALID_FEEDBACK_SESSION_NAME));
+    }
+
+}
@@ -64,6 +64,50 @@ public class FeedbackSessionsDbTest extends BaseTestCaseWithLocalDatabaseAccess
                 14, actualAttributesList.size());
     }
 
+    @Test
+    public void testGetAllOngoingSessions_sessionOutsideSearchWindow_shouldOnlyReturnSessionsInWindow() throws Exception {
+        FeedbackSessionAttributes longSession = FeedbackSessionAttributes
+                .builder(getNewFeedbackSession().getFeedbackSessionName(), getNewFeedbackSession().getCourseId())
+                .withCreatorEmail("valid@email.com")
+                .withSessionVisibleFromTime(TimeHelperExtension.getInstantTruncatedDaysOffsetFromNow(-40))
+                .withStartTime(TimeHelperExtension.getInstantTruncatedDaysOffsetFromNow(-40))
+                .withEndTime(TimeHelperExtension.getInstantTruncatedDaysOffsetFromNow(10))
+                .withResultsVisibleFromTime(TimeHelperExtension.getInstantTruncatedDaysOffsetFromNow(10))
+                .withGracePeriod(Duration.ofMinutes(5))
+                .withInstructions("Give feedback.")
+                .build();
+        fsDb.createEntity(longSession);
+
+        ______TS("session starting within the search window before the range");
+
+        List<FeedbackSessionAttributes> ongoingSessions = fsDb.getAllOngoingSessions(
+                TimeHelperExtension.getInstantTruncatedDaysOffsetFromNow(-20),
+                TimeHelperExtension.getInstantTruncatedDaysOffsetFromNow(-19));
+
+        assertTrue(ongoingSessions.stream().anyMatch(session -> isSameSession(longSession, session)));
+
+        ______TS("session starting before the search window");
+
+        ongoingSessions = fsDb.getAllOngoingSessions(
+                TimeHelperExtension.getInstantTruncatedDaysOffsetFromNow(0),
+                TimeHelperExtension.getInstantTruncatedDaysOffsetFromNow(1));
+
+        assertFalse(ongoingSessions.stream().anyMatch(session -> isSameSession(longSession, session)));
+
+        ______TS("session ending after the search window");
+
+        ongoingSessions = fsDb.getAllOngoingSessions(
+                TimeHelperExtension.getInstantTruncatedDaysOffsetFromNow(-50),
+                TimeHelperExtension.getInstantTruncatedDaysOffsetFromNow(-45));
+
+        assertFalse(ongoingSessions.stream().anyMatch(session -> isSameSession(longSession, session)));
+    }
+
+    private boolean isSameSession(FeedbackSessionAttributes expected, FeedbackSessionAttributes actual) {
+        return expected.getCourseId().equals(actual.getCourseId())
+                && expected.getFeedbackSessionName().equals(actual.getFeedbackSessionName());
+    }
+
     @Test
     public void testDeleteFeedbackSession() throws Exception {
         FeedbackSessionAttributes fsa = getNewFeedbackSession();
@@ -5,6 +5,7 @@ import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.testng.annotations.Test;
 
@@ -106,6 +107,54 @@ public class StudentsDbTest extends BaseTestCaseWithLocalDatabaseAccess {
         studentsDb.deleteStudent(s.getCourse(), s.getEmail());
     }
 
+    @Test
+    public void testCreateStudentsIfAbsent() throws Exception {
+        StudentAttributes existingStudent = createNewStudent("existing-student@uni.edu");
+        studentsDb.updateStudent(
+                StudentAttributes.updateOptionsBuilder(existingStudent.getCourse(), existingStudent.getEmail())
+                        .withGoogleId("existingGoogleId")
+                        .build());
+        StudentAttributes existingStudentToCreate = existingStudent.getCopy();
+        existingStudentToCreate.setGoogleId("");
+        existingStudentToCreate.setName("overwritten name");
+        StudentAttributes newStudent = StudentAttributes
+                .builder(existingStudent.getCourse(), "absent-student@uni.edu")
+                .withName("absent student")
+                .withComment("")
+                .withTeamName("valid team name")
+                .withSectionName("valid section name")
+                .build();
+        studentsDb.deleteStudent(newStudent.getCourse(), newStudent.getEmail());
+
+        ______TS("fail : invalid params");
+
+        StudentAttributes invalidStudent = newStudent.getCopy();
+        invalidStudent.setCourse("invalid id space");
+        assertThrows(InvalidParametersException.class,
+                () -> studentsDb.createStudentsIfAbsent(List.of(newStudent, invalidStudent)));
+        verifyAbsentInDatabase(newStudent);
+
+        ______TS("success : only absent students are created");
+
+        List<StudentAttributes> createdStudents =
+                studentsDb.createStudentsIfAbsent(List.of(existingStudentToCreate, newStudent));
+
+        assertEquals(1, createdStudents.size());
+        assertEquals(newStudent.getEmail(), createdStudents.get(0).getEmail());
+        verifyPresentInDatabase(newStudent);
+        StudentAttributes retrievedStudent =
+                studentsDb.getStudentForEmail(existingStudent.getCourse(), existingStudent.getEmail());
+        assertEquals(existingStudent.getName(), retrievedStudent.getName());
+        assertEquals("existingGoogleId", retrievedStudent.getGoogleId());
+
+        ______TS("success : no absent students");
+
+        assertTrue(studentsDb.createStudentsIfAbsent(List.of(existingStudentToCreate, newStudent)).isEmpty());
+
+        studentsDb.deleteStudent(existingStudent.getCourse(), existingStudent.getEmail());
+        studentsDb.deleteStudent(newStudent.getCourse(), newStudent.getEmail());
+    }
+
     @Test
     public void testHasExistingStudentsInCourse() throws Exception {
 
@@ -0,0 +1,91 @@
+package teammates.storage.entity;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link EncodedDeadlines}.
+ */
+public class EncodedDeadlinesTest extends BaseTestCase {
+
+    @Test
+    public void testEncodeDecode() {
+
+        ______TS("deadlines are the same after a round trip, including sub-millisecond precision");
+
+        Map<String, Instant> deadlines = new HashMap<>();
+        deadlines.put("alice@example.com", Instant.parse("2027-01-01T23:59:59.123456789Z"));
+        deadlines.put("bob@example.com", Instant.parse("2026-12-31T00:00:00Z"));
+        deadlines.put("émile@example.com", Instant.parse("1969-12-31T23:59:59.5Z"));
+        deadlines.put("Carl@example.com", Instant.parse("2027-01-01T23:59:59.123456789Z"));
+
+        EncodedDeadlines decoded = EncodedDeadlines.decode(EncodedDeadlines.encode(deadlines));
+
+        assertEquals(deadlines, decoded);
+        assertEquals(decoded, deadlines);
+        assertEquals(deadlines.hashCode(), decoded.hashCode());
+
+        ______TS("lookups by email");
+
+        for (Map.Entry<String, Instant> entry : deadlines.entrySet()) {
+            assertTrue(decoded.containsKey(entry.getKey()));
+            assertEquals(entry.getValue(), decoded.get(entry.getKey()));
+        }
+        assertFalse(decoded.containsKey("carl@example.com"));
+        assertNull(decoded.get("unknown@example.com"));
+        assertNull(decoded.get(null));
+        assertEquals(Instant.EPOCH, decoded.getOrDefault("unknown@example.com", Instant.EPOCH));
+
+        ______TS("re-encoding decoded deadlines gives the same bytes");
+
+        assertTrue(Arrays.equals(EncodedDeadlines.encode(deadlines), EncodedDeadlines.encode(decoded)));
+
+        ______TS("empty deadlines");
+
+        EncodedDeadlines empty = EncodedDeadlines.decode(EncodedDeadlines.encode(new HashMap<>()));
+
+        assertTrue(empty.isEmpty());
+        assertNull(empty.get("alice@example.com"));
+
+        ______TS("unsupported encoding version");
+
+        assertThrows(IllegalArgumentException.class, () -> EncodedDeadlines.decode(new byte[] { 0 }));
+        assertThrows(IllegalArgumentException.class, () -> EncodedDeadlines.decode(new byte[0]));
+    }
+
+    @Test
+    public void testEncode_largeCourse_shouldBeSmallerThanJavaSerialization() throws IOException {
+        Map<String, Instant> deadlines = new HashMap<>();
+        Instant endTime = Instant.parse("2027-01-01T16:00:00Z");
+        for (int i = 0; i < 2000; i++) {
+            deadlines.put("student" + i + "@university.edu", endTime.plusSeconds(i % 7 * 86_400L));
+        }
+
+        byte[] encoded = EncodedDeadlines.encode(deadlines);
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(serialized)) {
+            out.writeObject(deadlines);
+        }
+
+        assertTrue(encoded.length < serialized.size());
+
+        EncodedDeadlines decoded = EncodedDeadlines.decode(encoded);
+        List<String> emails = new ArrayList<>(decoded.keySet());
+        for (int i = 1; i < emails.size(); i++) {
+            assertTrue(emails.get(i - 1).compareTo(emails.get(i)) < 0);
+        }
+        assertEquals(deadlines, decoded);
+    }
+
+}
@@ -0,0 +1,58 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Config;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link FeedbackSession}.
+ */
+public class FeedbackSessionTest extends BaseTestCase {
+
+    @Test
+    public void testGetDeadlines_calledRepeatedly_shouldDecodeOnce() {
+        FeedbackSession session = createSession(
+                Map.of("student@email.tmt", Instant.parse("2027-01-01T00:00:00Z")),
+                Map.of("instructor@email.tmt", Instant.parse("2027-01-02T00:00:00Z")));
+
+        Map<String, Instant> studentDeadlines = session.getStudentDeadlines();
+        Map<String, Instant> instructorDeadlines = session.getInstructorDeadlines();
+
+        assertEquals(Map.of("student@email.tmt", Instant.parse("2027-01-01T00:00:00Z")), studentDeadlines);
+        assertEquals(Map.of("instructor@email.tmt", Instant.parse("2027-01-02T00:00:00Z")), instructorDeadlines);
+        assertSame(studentDeadlines, session.getStudentDeadlines());
+        assertSame(instructorDeadlines, session.getInstructorDeadlines());
+
+        ______TS("setting the deadlines replaces the decoded deadlines");
+
+        session.setStudentDeadlines(Map.of());
+
+        assertTrue(session.getStudentDeadlines().isEmpty());
+    }
+
+    @Test
+    public void testSetDeadlines_encodedDeadlines_shouldBeStoredInAllFormats() {
+        FeedbackSession session = createSession(
+                Map.of("student@email.tmt", Instant.parse("2027-01-01T00:00:00Z")), Map.of());
+
+        // the decoded deadlines are not serializable themselves, e.g. when a session is copied by the migration
+        session.setStudentDeadlines(session.getStudentDeadlines());
+
+        assertEquals(Map.of("student@email.tmt", Instant.parse("2027-01-01T00:00:00Z")), session.getStudentDeadlines());
+        assertFalse(session.hasUnencodedDeadlines());
+        assertEquals(Config.WRITE_LEGACY_DEADLINES, session.hasLegacyDeadlines());
+    }
+
+    private FeedbackSession createSession(Map<String, Instant> studentDeadlines,
+            Map<String, Instant> instructorDeadlines) {
+        Instant time = Instant.parse("2026-01-01T00:00:00Z");
+        return new FeedbackSession("session", "course", "creator@email.tmt", "", time, null, time, time,
+                time, time, "UTC", 0, false, false, false, false, false, true, true, true,
+                studentDeadlines, instructorDeadlines);
+    }
+
+}
@@ -0,0 +1,233 @@
+package teammates.storage.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpStatus;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.SearchServiceException;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link SearchIndexingBuffer}.
+ */
+public class SearchIndexingBufferTest extends BaseTestCase {
+
+    private final List<List<StudentAttributes>> writtenBatches = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void testAddAndWait_nothingElsePending_shouldIndexAtOnce() throws Exception {
+        writtenBatches.clear();
+        SearchIndexingBuffer<StudentAttributes> buffer =
+                new SearchIndexingBuffer<>("students", writtenBatches::add, 10);
+
+        StudentAttributes student = getStudent("student@email.tmt", "Name");
+        buffer.addAndWait(student.getId(), student);
+
+        assertEquals(Collections.singletonList(Collections.singletonList(student)), writtenBatches);
+        assertEquals(0, buffer.getPendingCount());
+        assertEquals(1, buffer.getIndexedCount());
+
+        buffer.shutdown();
+    }
+
+    @Test
+    public void testAdd_sameEntityAddedDuringFlush_shouldOnlyIndexLatestVersion() throws Exception {
+        writtenBatches.clear();
+        CountDownLatch flushAllowed = new CountDownLatch(1);
+        SearchIndexingBuffer<StudentAttributes> buffer = createBufferWithFlushInProgress(10, flushAllowed);
+
+        StudentAttributes student = getStudent("student@email.tmt", "Old Name");
+        StudentAttributes updatedStudent = getStudent("student@email.tmt", "New Name");
+        StudentAttributes otherStudent = getStudent("other@email.tmt", "Other Name");
+        buffer.add(student.getId(), student);
+        buffer.add(otherStudent.getId(), otherStudent);
+        buffer.add(updatedStudent.getId(), updatedStudent);
+
+        assertEquals(2, buffer.getPendingCount());
+        assertEquals(4, buffer.getAddedCount());
+        assertEquals(1, buffer.getCoalescedCount());
+
+        flushAllowed.countDown();
+        buffer.shutdown();
+
+        assertEquals(2, writtenBatches.size());
+        assertEquals(Arrays.asList(otherStudent, updatedStudent), writtenBatches.get(1));
+        assertEquals(0, buffer.getPendingCount());
+        assertEquals(3, buffer.getIndexedCount());
+        assertEquals(2, buffer.getBatchCount());
+    }
+
+    @Test
+    public void testShutdown_moreEntitiesThanBatchSize_shouldIndexAllInBatches() throws Exception {
+        writtenBatches.clear();
+        CountDownLatch flushAllowed = new CountDownLatch(1);
+        SearchIndexingBuffer<StudentAttributes> buffer = createBufferWithFlushInProgress(2, flushAllowed);
+
+        for (int i = 0; i < 5; i++) {
+            StudentAttributes student = getStudent("student" + i + "@email.tmt", "Name " + i);
+            buffer.add(student.getId(), student);
+        }
+
+        flushAllowed.countDown();
+        buffer.shutdown();
+
+        assertEquals(0, buffer.getPendingCount());
+        assertEquals(6, buffer.getIndexedCount());
+        assertEquals(6, writtenBatches.stream().mapToInt(List::size).sum());
+        assertTrue(writtenBatches.stream().allMatch(batch -> batch.size() <= 2));
+
+        ______TS("entities added after shutdown are indexed on the calling thread");
+
+        writtenBatches.clear();
+        StudentAttributes lateStudent = getStudent("late@email.tmt", "Late Name");
+        buffer.add(lateStudent.getId(), lateStudent);
+
+        assertEquals(Collections.singletonList(Collections.singletonList(lateStudent)), writtenBatches);
+    }
+
+    @Test
+    public void testFlush_searchServiceFailing_shouldFailWaitingCallers() throws Exception {
+        List<Integer> attemptedBatchSizes = Collections.synchronizedList(new ArrayList<>());
+        SearchIndexingBuffer<StudentAttributes> buffer = new SearchIndexingBuffer<>("students", attributesList -> {
+            attemptedBatchSizes.add(attributesList.size());
+            throw new SearchServiceException("Solr is down", HttpStatus.SC_BAD_GATEWAY);
+        }, 10);
+
+        StudentAttributes student = getStudent("student@email.tmt", "Name");
+        CompletableFuture<Void> indexed = buffer.add(student.getId(), student);
+
+        ExecutionException ee = assertThrows(ExecutionException.class, () -> indexed.get(10, TimeUnit.SECONDS));
+        assertTrue(ee.getCause() instanceof SearchServiceException);
+        assertEquals(Collections.singletonList(1), attemptedBatchSizes);
+
+        ______TS("failed entities are not retried by the buffer, but by the callers");
+
+        assertEquals(0, buffer.getPendingCount());
+        assertEquals(1, buffer.getFailedCount());
+        assertEquals(0, buffer.getIndexedCount());
+
+        ______TS("callers waiting for the entity to be indexed get the failure");
+
+        SearchServiceException sse = assertThrows(SearchServiceException.class,
+                () -> buffer.addAndWait(student.getId(), student));
+        assertEquals(HttpStatus.SC_BAD_GATEWAY, sse.getStatusCode());
+        assertEquals(2, attemptedBatchSizes.size());
+
+        buffer.shutdown();
+    }
+
+    @Test
+    public void testAdd_entityIndexed_shouldCompleteCallersOfAllVersions() throws Exception {
+        writtenBatches.clear();
+        CountDownLatch flushAllowed = new CountDownLatch(1);
+        SearchIndexingBuffer<StudentAttributes> buffer = createBufferWithFlushInProgress(10, flushAllowed);
+
+        StudentAttributes student = getStudent("student@email.tmt", "Old Name");
+        StudentAttributes updatedStudent = getStudent("student@email.tmt", "New Name");
+        CompletableFuture<Void> oldVersionIndexed = buffer.add(student.getId(), student);
+        CompletableFuture<Void> newVersionIndexed = buffer.add(updatedStudent.getId(), updatedStudent);
+
+        flushAllowed.countDown();
+        buffer.shutdown();
+
+        assertTrue(oldVersionIndexed.isDone());
+        assertFalse(oldVersionIndexed.isCompletedExceptionally());
+        assertTrue(newVersionIndexed.isDone());
+        assertFalse(newVersionIndexed.isCompletedExceptionally());
+    }
+
+    @Test
+    public void testDiscardAndDelete_entityBeingFlushed_shouldDeleteAfterFlush() throws Exception {
+        List<String> events = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        CountDownLatch flushAllowed = new CountDownLatch(1);
+        SearchIndexingBuffer<StudentAttributes> buffer = new SearchIndexingBuffer<>("students", attributesList -> {
+            flushStarted.countDown();
+            awaitQuietly(flushAllowed);
+            events.add("put");
+        }, 10);
+
+        StudentAttributes student = getStudent("student@email.tmt", "Name");
+        buffer.add(student.getId(), student);
+        assertTrue(flushStarted.await(10, TimeUnit.SECONDS));
+
+        Thread deleteThread = new Thread(() -> buffer.discardAndDelete(
+                Collections.singletonList(student.getId()), () -> events.add("delete")));
+        deleteThread.start();
+        deleteThread.join(200);
+        assertTrue(events.isEmpty());
+
+        flushAllowed.countDown();
+        deleteThread.join(10 * 1000);
+
+        assertEquals(Arrays.asList("put", "delete"), events);
+
+        buffer.shutdown();
+    }
+
+    @Test
+    public void testDiscard_pendingEntity_shouldNotBeIndexed() throws Exception {
+        writtenBatches.clear();
+        CountDownLatch flushAllowed = new CountDownLatch(1);
+        SearchIndexingBuffer<StudentAttributes> buffer = createBufferWithFlushInProgress(10, flushAllowed);
+
+        StudentAttributes student = getStudent("student@email.tmt", "Name");
+        CompletableFuture<Void> indexed = buffer.add(student.getId(), student);
+        buffer.discard(Collections.singletonList(student.getId()));
+
+        flushAllowed.countDown();
+        buffer.shutdown();
+
+        assertEquals(1, writtenBatches.size());
+        assertFalse(writtenBatches.get(0).contains(student));
+        assertTrue(indexed.isDone());
+        assertFalse(indexed.isCompletedExceptionally());
+        assertEquals(1, buffer.getIndexedCount());
+    }
+
+    /**
+     * Creates a buffer which is in the middle of flushing another entity, until the flush is allowed to finish,
+     * so that the entities added in the meantime stay pending.
+     */
+    private SearchIndexingBuffer<StudentAttributes> createBufferWithFlushInProgress(
+            int maxBatchSize, CountDownLatch flushAllowed) throws InterruptedException {
+        CountDownLatch flushStarted = new CountDownLatch(1);
+        SearchIndexingBuffer<StudentAttributes> buffer = new SearchIndexingBuffer<>("students", attributesList -> {
+            writtenBatches.add(attributesList);
+            flushStarted.countDown();
+            awaitQuietly(flushAllowed);
+        }, maxBatchSize);
+
+        StudentAttributes flushedStudent = getStudent("flushed@email.tmt", "Flushed Name");
+        buffer.add(flushedStudent.getId(), flushedStudent);
+        assertTrue(flushStarted.await(10, TimeUnit.SECONDS));
+        return buffer;
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private StudentAttributes getStudent(String email, String name) {
+        return StudentAttributes.builder("course-id", email)
+                .withName(name)
+                .withSectionName("Section 1")
+                .withTeamName("Team 1")
+                .withComment("")
+                .build();
+    }
+
+}
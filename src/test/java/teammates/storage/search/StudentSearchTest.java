@@ -135,6 +135,33 @@ public class StudentSearchTest extends BaseSearchTest {
                 studentList);
     }
 
+    @Test
+    public void testPutDocuments_batchOfStudents_shouldAllBeSearchable() throws Exception {
+        if (!TestProperties.isSearchServiceActive()) {
+            return;
+        }
+
+        StudentAttributes stu1InCourse1 = studentsDb.updateStudent(
+                StudentAttributes.updateOptionsBuilder(dataBundle.students.get("student1InCourse1").getCourse(),
+                        dataBundle.students.get("student1InCourse1").getEmail())
+                        .withName("Batched Name")
+                        .build());
+        StudentAttributes stu1InCourse2 = studentsDb.updateStudent(
+                StudentAttributes.updateOptionsBuilder(dataBundle.students.get("student1InCourse2").getCourse(),
+                        dataBundle.students.get("student1InCourse2").getEmail())
+                        .withName("Batched Name")
+                        .build());
+
+        // the documents are not updated yet
+        assertEquals(0, studentsDb.searchStudentsInWholeSystem("Batched").size());
+
+        // null entries are skipped
+        studentsDb.putDocuments(Arrays.asList(stu1InCourse1, null, stu1InCourse2));
+
+        List<StudentAttributes> studentList = studentsDb.searchStudentsInWholeSystem("Batched");
+        AssertHelper.assertSameContentIgnoreOrder(Arrays.asList(stu1InCourse1, stu1InCourse2), studentList);
+    }
+
     @Test
     public void testSearchStudents_noSearchService_shouldThrowException() {
         if (TestProperties.isSearchServiceActive()) {
@@ -24,6 +24,7 @@ import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.JsonUtils;
+import teammates.common.util.TaskWrapper;
 import teammates.logic.api.LogicExtension;
 import teammates.logic.api.MockAuthProxy;
 import teammates.logic.api.MockEmailSender;
@@ -35,6 +36,8 @@ import teammates.test.BaseTestCaseWithLocalDatabaseAccess;
 import teammates.test.MockHttpServletRequest;
 import teammates.ui.request.BasicRequest;
 import teammates.ui.request.InvalidHttpRequestBodyException;
+import teammates.ui.request.SendEmailBatchRequest;
+import teammates.ui.request.SendEmailRequest;
 
 /**
  * Base class for all action tests.
@@ -667,6 +670,29 @@ public abstract class BaseActionTest<T extends Action> extends BaseTestCaseWithL
         assertEquals(taskCount, tasksAdded.get(taskName).intValue());
     }
 
+    /**
+     * Returns the list of emails queued for sending as part of the executed action,
+     * whether they are queued in batches or individually.
+     */
+    protected List<EmailWrapper> getEmailsQueued() {
+        List<EmailWrapper> emailsQueued = new ArrayList<>();
+        for (TaskWrapper task : mockTaskQueuer.getTasksAdded()) {
+            if (task.getRequestBody() instanceof SendEmailBatchRequest) {
+                emailsQueued.addAll(((SendEmailBatchRequest) task.getRequestBody()).getEmails());
+            } else if (task.getRequestBody() instanceof SendEmailRequest) {
+                emailsQueued.add(((SendEmailRequest) task.getRequestBody()).getEmail());
+            }
+        }
+        return emailsQueued;
+    }
+
+    /**
+     * Verifies that the executed action results in the specified number of emails being queued for sending.
+     */
+    protected void verifyNumberOfEmailsQueued(int emailCount) {
+        assertEquals(emailCount, getEmailsQueued().size());
+    }
+
     /**
      * Verifies that the executed action does not result in any email being sent.
      */
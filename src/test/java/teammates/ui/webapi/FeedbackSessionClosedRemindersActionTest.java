@@ -1,18 +1,13 @@
 package teammates.ui.webapi;
 
 import java.time.Instant;
-import java.util.List;
 
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
-import teammates.common.util.EmailType;
-import teammates.common.util.EmailWrapper;
-import teammates.common.util.TaskWrapper;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.TimeHelperExtension;
-import teammates.ui.request.SendEmailRequest;
 
 /**
  * SUT: {@link FeedbackSessionClosedRemindersAction}.
@@ -106,18 +101,8 @@ public class FeedbackSessionClosedRemindersActionTest
         action = getAction();
         action.execute();
 
-        // 3 co-owners in course1 x 1 session
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
-
-        String courseName = logic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
-            String expectedSubject = String.format(EmailType.FEEDBACK_CLOSED.getSubject(),
-                    courseName, session1.getFeedbackSessionName());
-            assertEquals(expectedSubject, email.getSubject());
-        }
+        // the emails of each session are prepared by a separate task
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_CLOSED_EMAIL_QUEUE_NAME, 1);
 
         ______TS("1 session closed recently with closed emails sent");
 
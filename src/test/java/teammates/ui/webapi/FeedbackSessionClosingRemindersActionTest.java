@@ -11,11 +11,9 @@ import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.TaskWrapper;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.TimeHelperExtension;
 import teammates.test.ThreadHelper;
-import teammates.ui.request.SendEmailRequest;
 
 /**
  * SUT: {@link FeedbackSessionClosingRemindersAction}.
@@ -112,20 +110,8 @@ public class FeedbackSessionClosingRemindersActionTest
         action = getAction();
         action.execute();
 
-        // 5 students, 5 instructors, and 3 co-owner instructors in course1
-        // 3 students and 2 instructors in session have deadline extensions and should not receive email
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 8);
-
-        String courseName = logic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
-            String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
-                    + String.format(EmailType.FEEDBACK_CLOSING.getSubject(),
-                    courseName, session1.getFeedbackSessionName());
-            assertEquals(expectedSubject, email.getSubject());
-        }
+        // the emails of each session are prepared by a separate task
+        verifySpecifiedTasksAdded(Const.TaskQueue.FEEDBACK_SESSION_CLOSING_EMAIL_QUEUE_NAME, 1);
 
         ______TS("1 session closing soon with emails sent;"
                 + "deadline extensions closing within next 24 hours have emails sent");
@@ -133,8 +119,8 @@ public class FeedbackSessionClosingRemindersActionTest
         session1.setSentClosingEmail(true);
         logic.updateFeedbackSession(
                 FeedbackSessionAttributes
-                        .updateOptionsBuilder(session3.getFeedbackSessionName(), session3.getCourseId())
-                        .withSentClosingEmail(session3.isSentClosingEmail())
+                        .updateOptionsBuilder(session1.getFeedbackSessionName(), session1.getCourseId())
+                        .withSentClosingEmail(session1.isSentClosingEmail())
                         .build());
 
         action = getAction();
@@ -213,12 +199,11 @@ public class FeedbackSessionClosingRemindersActionTest
         // 2 students, 1 instructor with valid deadline extensions within time period
         // 1 student in session with reminders disabled
         // 1 student with outdated deadline, 1 student with deleted deadline
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
+        verifyNumberOfEmailsQueued(3);
 
-        tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (var task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        String courseName = logic.getCourse(session1.getCourseId()).getName();
+        List<EmailWrapper> emailsQueued = getEmailsQueued();
+        for (EmailWrapper email : emailsQueued) {
             String expectedSubjectSession1 = String.format(EmailType.FEEDBACK_CLOSING.getSubject(),
                     courseName, session1.getFeedbackSessionName());
             String expectedSubjectSession3 = String.format(EmailType.FEEDBACK_CLOSING.getSubject(),
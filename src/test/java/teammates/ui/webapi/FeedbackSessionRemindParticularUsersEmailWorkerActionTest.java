@@ -10,9 +10,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.TaskWrapper;
 import teammates.ui.request.FeedbackSessionRemindRequest;
-import teammates.ui.request.SendEmailRequest;
 
 /**
  * SUT: {@link FeedbackSessionRemindParticularUsersEmailWorkerAction}.
@@ -57,13 +55,11 @@ public class FeedbackSessionRemindParticularUsersEmailWorkerActionTest
         action.execute();
 
         // send 3 emails as specified in the submission parameters
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
+        verifyNumberOfEmailsQueued(3);
 
         String courseName = logic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        List<EmailWrapper> emailsQueued = getEmailsQueued();
+        for (EmailWrapper email : emailsQueued) {
             String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
                     + String.format(EmailType.FEEDBACK_SESSION_REMINDER.getSubject(),
                     courseName, session1.getFeedbackSessionName());
@@ -92,13 +88,11 @@ public class FeedbackSessionRemindParticularUsersEmailWorkerActionTest
         action.execute();
 
         // send 2 emails as specified in the submission parameters
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 2);
+        verifyNumberOfEmailsQueued(2);
 
         String courseName = logic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        List<EmailWrapper> emailsQueued = getEmailsQueued();
+        for (EmailWrapper email : emailsQueued) {
             String expectedSubject = String.format(EmailType.FEEDBACK_SESSION_REMINDER.getSubject(),
                     courseName, session1.getFeedbackSessionName());
             assertEquals(expectedSubject, email.getSubject());
@@ -0,0 +1,118 @@
+package teammates.ui.webapi;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+
+/**
+ * SUT: {@link FeedbackSessionStageEmailWorkerAction}, i.e. {@link FeedbackSessionOpeningEmailWorkerAction},
+ * {@link FeedbackSessionClosingEmailWorkerAction} and {@link FeedbackSessionClosedEmailWorkerAction}.
+ */
+public class FeedbackSessionStageEmailWorkerActionTest
+        extends BaseActionTest<FeedbackSessionStageEmailWorkerAction> {
+
+    private static final List<Stage> STAGES = List.of(
+            // 5 students, 5 instructors, and 3 co-owner instructors in course1
+            new Stage(Const.TaskQueue.FEEDBACK_SESSION_OPENING_EMAIL_WORKER_URL, EmailType.FEEDBACK_OPENING, 13,
+                    FeedbackSessionAttributes::isSentOpenEmail,
+                    FeedbackSessionAttributes.UpdateOptions.Builder::withSentOpenEmail),
+            // students and instructors with deadline extensions in course1 are not notified
+            new Stage(Const.TaskQueue.FEEDBACK_SESSION_CLOSING_EMAIL_WORKER_URL, EmailType.FEEDBACK_CLOSING, 8,
+                    FeedbackSessionAttributes::isSentClosingEmail,
+                    FeedbackSessionAttributes.UpdateOptions.Builder::withSentClosingEmail),
+            // 3 co-owner instructors in course1
+            new Stage(Const.TaskQueue.FEEDBACK_SESSION_CLOSED_EMAIL_WORKER_URL, EmailType.FEEDBACK_CLOSED, 3,
+                    FeedbackSessionAttributes::isSentClosedEmail,
+                    FeedbackSessionAttributes.UpdateOptions.Builder::withSentClosedEmail));
+
+    private Stage stage = STAGES.get(0);
+
+    @Override
+    protected String getActionUri() {
+        return stage.workerUrl;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        for (Stage currentStage : STAGES) {
+            stage = currentStage;
+            verifyOnlyAdminCanAccess();
+        }
+    }
+
+    @Override
+    @Test
+    public void testExecute() throws Exception {
+        FeedbackSessionAttributes session1 = typicalBundle.feedbackSessions.get("session1InCourse1");
+        String[] submissionParams = new String[] {
+                ParamsNames.COURSE_ID, session1.getCourseId(),
+                ParamsNames.FEEDBACK_SESSION_NAME, session1.getFeedbackSessionName(),
+        };
+        String courseName = logic.getCourse(session1.getCourseId()).getName();
+
+        for (Stage currentStage : STAGES) {
+            stage = currentStage;
+            logic.updateFeedbackSession(stage.emailSentSetter.apply(
+                    FeedbackSessionAttributes
+                            .updateOptionsBuilder(session1.getFeedbackSessionName(), session1.getCourseId()),
+                    false).build());
+
+            ______TS(stage.emailType + ": emails are prepared and the session is marked as having sent them");
+
+            FeedbackSessionStageEmailWorkerAction action = getAction(submissionParams);
+            action.execute();
+
+            verifyNumberOfEmailsQueued(stage.expectedNumberOfEmails);
+            for (EmailWrapper email : getEmailsQueued()) {
+                String expectedSubject = (email.getIsCopy() ? EmailWrapper.EMAIL_COPY_SUBJECT_PREFIX : "")
+                        + String.format(stage.emailType.getSubject(), courseName, session1.getFeedbackSessionName());
+                assertEquals(expectedSubject, email.getSubject());
+            }
+
+            assertTrue(stage.isEmailSent.test(
+                    logic.getFeedbackSession(session1.getFeedbackSessionName(), session1.getCourseId())));
+
+            ______TS(stage.emailType + ": emails are not prepared again when the task is retried");
+
+            action = getAction(submissionParams);
+            action.execute();
+
+            verifyNoTasksAdded();
+        }
+    }
+
+    private static final class Stage {
+        private final String workerUrl;
+        private final EmailType emailType;
+        private final int expectedNumberOfEmails;
+        private final Predicate<FeedbackSessionAttributes> isEmailSent;
+        private final BiFunction<FeedbackSessionAttributes.UpdateOptions.Builder, Boolean,
+                FeedbackSessionAttributes.UpdateOptions.Builder> emailSentSetter;
+
+        Stage(String workerUrl, EmailType emailType, int expectedNumberOfEmails,
+                Predicate<FeedbackSessionAttributes> isEmailSent,
+                BiFunction<FeedbackSessionAttributes.UpdateOptions.Builder, Boolean,
+                        FeedbackSessionAttributes.UpdateOptions.Builder> emailSentSetter) {
+            this.workerUrl = workerUrl;
+            this.emailType = emailType;
+            this.expectedNumberOfEmails = expectedNumberOfEmails;
+            this.isEmailSent = isEmailSent;
+            this.emailSentSetter = emailSentSetter;
+        }
+    }
+
+}
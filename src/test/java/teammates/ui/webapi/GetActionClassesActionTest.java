@@ -70,6 +70,9 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 FeedbackSessionRemindParticularUsersEmailWorkerAction.class,
                 GetFeedbackResponsesAction.class,
                 SubmitFeedbackResponsesAction.class,
+                FeedbackSessionOpeningEmailWorkerAction.class,
+                FeedbackSessionClosingEmailWorkerAction.class,
+                FeedbackSessionClosedEmailWorkerAction.class,
                 FeedbackSessionPublishedEmailWorkerAction.class,
                 FeedbackSessionClosedRemindersAction.class,
                 SendErrorReportAction.class,
@@ -77,6 +80,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 UnpublishFeedbackSessionAction.class,
                 PublishFeedbackSessionAction.class,
                 GetSessionResultsAction.class,
+                GetSessionResultStatisticsAction.class,
                 GetHasResponsesAction.class,
                 DatastoreBackupAction.class,
                 RestoreCourseAction.class,
@@ -108,6 +112,7 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 RemindFeedbackSessionSubmissionAction.class,
                 FeedbackSessionUnpublishedEmailWorkerAction.class,
                 SendEmailWorkerAction.class,
+                SendEmailBatchWorkerAction.class,
                 GetInstructorsAction.class,
                 PutDataBundleDocumentsAction.class,
                 FeedbackSessionResendPublishedEmailWorkerAction.class,
@@ -125,10 +130,12 @@ public class GetActionClassesActionTest extends BaseActionTest<GetActionClassesA
                 UpdateFeedbackQuestionAction.class,
                 InstructorSearchIndexingWorkerAction.class,
                 StudentSearchIndexingWorkerAction.class,
+                StudentsSearchIndexingWorkerAction.class,
                 AccountRequestSearchIndexingWorkerAction.class,
                 SearchAccountRequestsAction.class,
                 ResetAccountRequestAction.class,
                 CalculateUsageStatisticsAction.class,
+                RebuildSubmissionSummariesAction.class,
                 GetUsageStatisticsAction.class,
                 GetNotificationAction.class,
                 CreateNotificationAction.class,
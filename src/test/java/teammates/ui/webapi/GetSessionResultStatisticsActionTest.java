@@ -0,0 +1,68 @@
+package teammates.ui.webapi;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
+import teammates.ui.output.SessionResultStatisticsData;
+
+/**
+ * SUT: {@link GetSessionResultStatisticsAction}.
+ */
+public class GetSessionResultStatisticsActionTest extends BaseActionTest<GetSessionResultStatisticsAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ResourceURIs.RESULT_STATISTICS;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    protected void testExecute() {
+        InstructorAttributes instructorAttributes = typicalBundle.instructors.get("instructor1OfCourse1");
+        loginAsInstructor(instructorAttributes.getGoogleId());
+
+        ______TS("typical: questions without statistics are not included");
+
+        FeedbackSessionAttributes accessibleFeedbackSession = typicalBundle.feedbackSessions.get("session1InCourse1");
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, accessibleFeedbackSession.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, accessibleFeedbackSession.getCourseId(),
+        };
+
+        GetSessionResultStatisticsAction a = getAction(submissionParams);
+        JsonResult r = getJsonResult(a);
+
+        SessionResultStatisticsData output = (SessionResultStatisticsData) r.getOutput();
+        assertTrue(output.getQuestions().isEmpty());
+
+        ______TS("fail: instructor accesses statistics of non-existent feedback session");
+
+        submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, "nonexistentFeedbackSession",
+                Const.ParamsNames.COURSE_ID, accessibleFeedbackSession.getCourseId(),
+        };
+
+        verifyEntityNotFound(submissionParams);
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        FeedbackSessionAttributes accessibleFeedbackSession = typicalBundle.feedbackSessions.get("session1InCourse1");
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, accessibleFeedbackSession.getFeedbackSessionName(),
+                Const.ParamsNames.COURSE_ID, accessibleFeedbackSession.getCourseId(),
+        };
+        verifyOnlyInstructorsOfTheSameCourseCanAccess(submissionParams);
+        verifyOnlyInstructorsOfTheSameCourseWithCorrectCoursePrivilegeCanAccess(
+                Const.InstructorPermissions.CAN_VIEW_SESSION_IN_SECTIONS, submissionParams);
+    }
+
+}
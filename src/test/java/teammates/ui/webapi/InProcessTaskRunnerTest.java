@@ -0,0 +1,38 @@
+package teammates.ui.webapi;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.TaskWrapper;
+import teammates.test.BaseTestCase;
+
+/**
+ * SUT: {@link InProcessTaskRunner}.
+ */
+public class InProcessTaskRunnerTest extends BaseTestCase {
+
+    @Test
+    public void testRunTask_malformedTask_shouldNotBeRetried() {
+
+        ______TS("worker URL not mapped to any action");
+
+        TaskWrapper task = new TaskWrapper(TaskQueue.SEARCH_INDEXING_QUEUE_NAME,
+                TaskQueue.URI_PREFIX + "/nonExistentWorker", new HashMap<>(), null);
+
+        assertTrue(InProcessTaskRunner.runTask(task));
+
+        ______TS("required parameter missing");
+
+        Map<String, String> paramMap = new HashMap<>();
+        paramMap.put(ParamsNames.COURSE_ID, "course-id");
+        task = new TaskWrapper(TaskQueue.SEARCH_INDEXING_QUEUE_NAME,
+                TaskQueue.STUDENT_SEARCH_INDEXING_WORKER_URL, paramMap, null);
+
+        assertTrue(InProcessTaskRunner.runTask(task));
+    }
+
+}
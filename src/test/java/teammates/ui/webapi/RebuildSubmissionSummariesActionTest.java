@@ -0,0 +1,61 @@
+package teammates.ui.webapi;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.TimeHelper;
+import teammates.ui.output.MessageOutput;
+
+/**
+ * SUT: {@link RebuildSubmissionSummariesAction}.
+ */
+public class RebuildSubmissionSummariesActionTest extends BaseActionTest<RebuildSubmissionSummariesAction> {
+
+    @Override
+    protected String getActionUri() {
+        return Const.CronJobURIs.AUTOMATED_SUBMISSION_SUMMARIES_REBUILD;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return GET;
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+    @Override
+    @Test
+    public void testExecute() throws Exception {
+        FeedbackSessionAttributes session1 = typicalBundle.feedbackSessions.get("session1InCourse1");
+        logic.updateFeedbackSession(
+                FeedbackSessionAttributes
+                        .updateOptionsBuilder(session1.getFeedbackSessionName(), session1.getCourseId())
+                        .withStartTime(TimeHelper.getInstantDaysOffsetFromNow(-2))
+                        .withEndTime(TimeHelper.getInstantDaysOffsetFromNow(1))
+                        .build());
+
+        Set<String> expectedGiverSet = typicalBundle.feedbackResponses.values().stream()
+                .filter(response -> response.getCourseId().equals(session1.getCourseId())
+                        && response.getFeedbackSessionName().equals(session1.getFeedbackSessionName()))
+                .map(FeedbackResponseAttributes::getGiver)
+                .collect(Collectors.toSet());
+
+        RebuildSubmissionSummariesAction action = getAction();
+        JsonResult result = getJsonResult(action);
+        MessageOutput output = (MessageOutput) result.getOutput();
+
+        assertEquals("Successful", output.getMessage());
+        assertEquals(expectedGiverSet,
+                logic.getGiverSetThatAnswerFeedbackSession(session1.getCourseId(), session1.getFeedbackSessionName()));
+    }
+
+}
@@ -0,0 +1,68 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.EmailType;
+import teammates.common.util.EmailWrapper;
+import teammates.ui.output.MessageOutput;
+import teammates.ui.request.SendEmailBatchRequest;
+
+/**
+ * SUT: {@link SendEmailBatchWorkerAction}.
+ */
+public class SendEmailBatchWorkerActionTest extends BaseActionTest<SendEmailBatchWorkerAction> {
+
+    @Override
+    protected String getActionUri() {
+        return TaskQueue.SEND_EMAIL_BATCH_WORKER_URL;
+    }
+
+    @Override
+    protected String getRequestMethod() {
+        return POST;
+    }
+
+    @Override
+    @Test
+    protected void testExecute() {
+
+        ______TS("all emails in the batch are sent");
+
+        List<EmailWrapper> emails = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            EmailWrapper email = new EmailWrapper();
+            email.setRecipient("recipient" + i + "@example.com");
+            email.setSenderEmail("sender@example.com");
+            email.setReplyTo("reply-to@example.com");
+            email.setType(EmailType.NEW_INSTRUCTOR_ACCOUNT);
+            email.setSubjectFromType("Instructor");
+            email.setContent("<p>Welcome</p>");
+            emails.add(email);
+        }
+
+        SendEmailBatchWorkerAction action = getAction(new SendEmailBatchRequest(emails));
+        JsonResult result = getJsonResult(action);
+
+        assertEquals("Successful", ((MessageOutput) result.getOutput()).getMessage());
+        verifyNumberOfEmailsSent(3);
+        for (int i = 0; i < emails.size(); i++) {
+            assertEquals(emails.get(i).getRecipient(), getEmailsSent().get(i).getRecipient());
+        }
+        verifyNoTasksAdded();
+
+        ______TS("empty batch is rejected");
+
+        verifyHttpRequestBodyFailure(new SendEmailBatchRequest(new ArrayList<>()));
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() {
+        verifyOnlyAdminCanAccess();
+    }
+
+}
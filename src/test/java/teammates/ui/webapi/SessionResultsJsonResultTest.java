@@ -0,0 +1,119 @@
+package teammates.ui.webapi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.SessionResultsBundle;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.test.BaseTestCase;
+import teammates.test.MockHttpServletResponse;
+import teammates.ui.output.SessionResultsData;
+import teammates.ui.output.SessionResultsData.QuestionOutput;
+
+/**
+ * SUT: {@link SessionResultsJsonResult}.
+ */
+public class SessionResultsJsonResultTest extends BaseTestCase {
+
+    @Test
+    public void testSend_instructorResults_shouldBeIdenticalToJsonResult() throws Exception {
+        SessionResultsBundle bundle = getSessionResultsBundle();
+
+        assertIdenticalResponses(new JsonResult(SessionResultsData.initForInstructor(bundle)),
+                new SessionResultsJsonResult(SessionResultsData.getQuestionOutputsForInstructor(bundle)));
+    }
+
+    @Test
+    public void testSend_studentResults_shouldBeIdenticalToJsonResult() throws Exception {
+        SessionResultsBundle bundle = getSessionResultsBundle();
+        StudentAttributes student = getTypicalDataBundle().students.get("student1InCourse1");
+
+        assertIdenticalResponses(new JsonResult(SessionResultsData.initForStudent(bundle, student)),
+                new SessionResultsJsonResult(SessionResultsData.getQuestionOutputsForStudent(bundle, student)));
+    }
+
+    @Test
+    public void testSend_emptyResults_shouldBeIdenticalToJsonResult() throws Exception {
+        SessionResultsBundle bundle = new SessionResultsBundle(new HashMap<>(), new HashMap<>(), new HashSet<>(),
+                new ArrayList<>(), SessionResultsBundle.MissingResponses.none(),
+                new HashMap<>(), new HashMap<>(), new HashMap<>(),
+                new HashMap<>(), new CourseRoster(new ArrayList<>(), new ArrayList<>()));
+
+        assertIdenticalResponses(new JsonResult(SessionResultsData.initForInstructor(bundle)),
+                new SessionResultsJsonResult(SessionResultsData.getQuestionOutputsForInstructor(bundle)));
+    }
+
+    @Test
+    public void testSend_failureWhileBuildingQuestion_shouldDiscardUncommittedOutput() {
+        SessionResultsBundle bundle = getSessionResultsBundle();
+        Iterable<QuestionOutput> questionOutputs = SessionResultsData.getQuestionOutputsForInstructor(bundle);
+        Iterable<QuestionOutput> failingQuestionOutputs = () -> new Iterator<QuestionOutput>() {
+            private final Iterator<QuestionOutput> iterator = questionOutputs.iterator();
+            private int count;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public QuestionOutput next() {
+                count++;
+                if (count > 1) {
+                    throw new IllegalStateException("Failed to build question output");
+                }
+                return iterator.next();
+            }
+        };
+        assertTrue(bundle.getQuestionsMap().size() > 1);
+
+        MockHttpServletResponse resp = new MockHttpServletResponse();
+        assertThrows(IllegalStateException.class,
+                () -> new SessionResultsJsonResult(failingQuestionOutputs).send(resp));
+
+        // the partial results are discarded, so that the error can be sent as the whole response instead
+        assertEquals("", resp.getWrittenContent());
+    }
+
+    @Test
+    public void testGetOutput_shouldMaterializeAllQuestions() {
+        SessionResultsBundle bundle = getSessionResultsBundle();
+
+        SessionResultsJsonResult result =
+                new SessionResultsJsonResult(SessionResultsData.getQuestionOutputsForInstructor(bundle));
+
+        assertEquals(bundle.getQuestionsMap().size(), result.getOutput().getQuestions().size());
+    }
+
+    private void assertIdenticalResponses(JsonResult expected, SessionResultsJsonResult actual) throws Exception {
+        MockHttpServletResponse expectedResp = new MockHttpServletResponse();
+        expected.send(expectedResp);
+        MockHttpServletResponse actualResp = new MockHttpServletResponse();
+        actual.send(actualResp);
+
+        assertEquals(expectedResp.getStatus(), actualResp.getStatus());
+        assertEquals(expectedResp.getWrittenContent(), actualResp.getWrittenContent());
+    }
+
+    private SessionResultsBundle getSessionResultsBundle() {
+        DataBundle dataBundle = getTypicalDataBundle();
+        populateQuestionAndResponseIds(dataBundle);
+
+        Map<String, Boolean> visibilityTable = new HashMap<>();
+        dataBundle.feedbackResponses.values().forEach(response -> visibilityTable.put(response.getId(), true));
+
+        return new SessionResultsBundle(dataBundle.feedbackQuestions, new HashMap<>(), new HashSet<>(),
+                new ArrayList<>(dataBundle.feedbackResponses.values()), SessionResultsBundle.MissingResponses.none(),
+                visibilityTable, visibilityTable, new HashMap<>(), new HashMap<>(),
+                new CourseRoster(new ArrayList<>(dataBundle.students.values()),
+                        new ArrayList<>(dataBundle.instructors.values())));
+    }
+
+}
@@ -14,7 +14,6 @@ import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.EmailType;
 import teammates.common.util.EmailWrapper;
-import teammates.common.util.TaskWrapper;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.TimeHelperExtension;
 import teammates.ui.output.FeedbackSessionData;
@@ -22,7 +21,6 @@ import teammates.ui.output.ResponseVisibleSetting;
 import teammates.ui.output.SessionVisibleSetting;
 import teammates.ui.request.FeedbackSessionUpdateRequest;
 import teammates.ui.request.InvalidHttpRequestBodyException;
-import teammates.ui.request.SendEmailRequest;
 
 /**
  * SUT: {@link UpdateFeedbackSessionAction}.
@@ -260,13 +258,11 @@ public class UpdateFeedbackSessionActionTest extends BaseActionTest<UpdateFeedba
                 session.getFeedbackSessionName(), studentCEmailAddress, false));
 
         // Verify correct emails sent
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
+        verifyNumberOfEmailsQueued(3);
+        List<EmailWrapper> emailsQueued = getEmailsQueued();
 
         CourseAttributes course = logic.getCourse(session.getCourseId());
-        for (var task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : emailsQueued) {
             String userEmail = email.getRecipient();
             String expectedSubject = "";
             String oldDeadline = "";
@@ -470,13 +466,11 @@ public class UpdateFeedbackSessionActionTest extends BaseActionTest<UpdateFeedba
                 session.getCourseId(), session.getFeedbackSessionName(), instructorCEmailAddress, true));
 
         // Verify correct emails sent
-        verifySpecifiedTasksAdded(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 3);
-        List<TaskWrapper> tasksAdded = mockTaskQueuer.getTasksAdded();
+        verifyNumberOfEmailsQueued(3);
+        List<EmailWrapper> emailsQueued = getEmailsQueued();
 
         CourseAttributes course = logic.getCourse(session.getCourseId());
-        for (var task : tasksAdded) {
-            SendEmailRequest requestBody = (SendEmailRequest) task.getRequestBody();
-            EmailWrapper email = requestBody.getEmail();
+        for (EmailWrapper email : emailsQueued) {
             String userEmail = email.getRecipient();
             String expectedSubject = "";
             String oldDeadline = "";